@@ -2,6 +2,7 @@ package com.applovin.mediation.adapters;
 
 import android.app.Activity;
 import android.content.Context;
+import android.os.SystemClock;
 import android.text.TextUtils;
 import android.view.View;
 
@@ -35,18 +36,22 @@ import com.applovin.sdk.AppLovinSdkUtils;
 
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
-import static com.applovin.sdk.AppLovinSdkUtils.runOnUiThreadDelayed;
-
 /**
  * Created by Thomas So on December 9 2021
  * <p>
@@ -59,12 +64,16 @@ public class AmazonAdMarketplaceMediationAdapter
     // Ad loader object used for collecting signal in non-maiden requests
     private static final Map<MaxAdFormat, DTBAdLoader> adLoaders = Collections.synchronizedMap( new HashMap<MaxAdFormat, DTBAdLoader>() );
 
-    // NOTE: Will remove for more space-efficient implementation
-    private static final Set<Integer> usedAdLoaders = new HashSet<>();
+    // Ad loaders whose signal has already been consumed - weakly held, since a loader nobody references can no longer be passed back in
+    private static final Set<DTBAdLoader> usedAdLoaders = Collections.newSetFromMap( Collections.synchronizedMap( new WeakHashMap<DTBAdLoader, Boolean>() ) );
 
     // Contains mapping of encoded bid id -> mediation hints / bid info
-    private static final Map<String, MediationHints> mediationHintsCache     = new HashMap<>();
-    private static final Object                      mediationHintsCacheLock = new Object();
+    private static final Map<String, MediationHints> mediationHintsCache = new ConcurrentHashMap<>();
+
+    // Single background sweep that expires mediation hints for bids Amazon lost, instead of one delayed UI thread task per bid
+    private static final long                     MEDIATION_HINTS_SWEEP_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis( 15 );
+    private static final ScheduledExecutorService mediationHintsExpiryExecutor          = createMediationHintsExpiryExecutor();
+    private static final AtomicBoolean            mediationHintsSweepScheduled          = new AtomicBoolean();
 
     private DTBAdView         adView;
     private DTBAdInterstitial interstitialAd;
@@ -119,7 +128,7 @@ public class AmazonAdMarketplaceMediationAdapter
         if ( adResponseObj instanceof DTBAdResponse )
         {
             DTBAdLoader retrievedAdLoader = ( (DTBAdResponse) adResponseObj ).getAdLoader();
-            if ( !usedAdLoaders.contains( retrievedAdLoader.hashCode() ) )
+            if ( !usedAdLoaders.contains( retrievedAdLoader ) )
             {
                 d( "Using ad loader from ad response object: " + retrievedAdLoader );
                 adLoader = retrievedAdLoader;
@@ -133,7 +142,7 @@ public class AmazonAdMarketplaceMediationAdapter
         if ( adErrorObj instanceof AdError )
         {
             DTBAdLoader retrievedAdLoader = ( (AdError) adErrorObj ).getAdLoader();
-            if ( !usedAdLoaders.contains( retrievedAdLoader.hashCode() ) )
+            if ( !usedAdLoaders.contains( retrievedAdLoader ) )
             {
                 d( "Using ad loader from ad error object: " + retrievedAdLoader );
                 adLoader = retrievedAdLoader;
@@ -160,7 +169,7 @@ public class AmazonAdMarketplaceMediationAdapter
                 d( "New loader passed in for " + adFormat + ": " + adLoader + ", replacing current ad loader: " + currentAdLoader );
 
                 adLoaders.put( adFormat, adLoader );
-                usedAdLoaders.add( adLoader.hashCode() );
+                usedAdLoaders.add( adLoader );
 
                 if ( adResponseObj instanceof DTBAdResponse )
                 {
@@ -203,7 +212,7 @@ public class AmazonAdMarketplaceMediationAdapter
                 // Store ad loader for future ad refresh token collection
                 adLoaders.put( adFormat, dtbAdResponse.getAdLoader() );
 
-                usedAdLoaders.add( dtbAdResponse.getAdLoader().hashCode() );
+                usedAdLoaders.add( dtbAdResponse.getAdLoader() );
 
                 d( "Signal collected for ad loader: " + dtbAdResponse.getAdLoader() );
 
@@ -216,7 +225,7 @@ public class AmazonAdMarketplaceMediationAdapter
                 // Store ad loader for future ad refresh token collection
                 adLoaders.put( adFormat, adError.getAdLoader() );
 
-                usedAdLoaders.add( adError.getAdLoader().hashCode() );
+                usedAdLoaders.add( adError.getAdLoader() );
 
                 d( "Signal failed to collect for ad loader: " + adError.getAdLoader() );
 
@@ -232,21 +241,18 @@ public class AmazonAdMarketplaceMediationAdapter
         final String encodedBidId = SDKUtilities.getPricePoint( adResponse );
         if ( AppLovinSdkUtils.isValidString( encodedBidId ) )
         {
-            final MediationHints mediationHints = new MediationHints( SDKUtilities.getBidInfo( adResponse ) );
-
-            synchronized ( mediationHintsCacheLock )
-            {
-                // Store mediation hints for the actual ad request
-                mediationHintsCache.put( encodedBidId, mediationHints );
-            }
-
-            // In the case that Amazon loses the auction - clean up the mediation hints
+            // In the case that Amazon loses the auction - expire the mediation hints
             long mediationHintsCacheCleanupDelaySec = parameters.getServerParameters().getLong( "mediation_hints_cleanup_delay_sec",
                                                                                                 TimeUnit.MINUTES.toSeconds( 5 ) );
             final long mediationHintsCacheCleanupDelayMillis = TimeUnit.SECONDS.toMillis( mediationHintsCacheCleanupDelaySec );
+            final long expirationTimeMillis = ( mediationHintsCacheCleanupDelayMillis > 0 ) ? SystemClock.elapsedRealtime() + mediationHintsCacheCleanupDelayMillis : Long.MAX_VALUE;
+
+            // Store mediation hints for the actual ad request
+            mediationHintsCache.put( encodedBidId, new MediationHints( SDKUtilities.getBidInfo( adResponse ), expirationTimeMillis ) );
+
             if ( mediationHintsCacheCleanupDelayMillis > 0 )
             {
-                runOnUiThreadDelayed( new CleanupMediationHintsTask( encodedBidId, mediationHints ), mediationHintsCacheCleanupDelayMillis );
+                scheduleMediationHintsSweep();
             }
 
             d( "Successfully loaded encoded bid id: " + encodedBidId );
@@ -282,12 +288,7 @@ public class AmazonAdMarketplaceMediationAdapter
             return;
         }
 
-        MediationHints mediationHints;
-        synchronized ( mediationHintsCacheLock )
-        {
-            mediationHints = mediationHintsCache.get( encodedBidId );
-            mediationHintsCache.remove( encodedBidId );
-        }
+        MediationHints mediationHints = takeMediationHints( encodedBidId );
 
         // Paranoia
         if ( mediationHints != null )
@@ -383,12 +384,7 @@ public class AmazonAdMarketplaceMediationAdapter
 
     private boolean loadFullscreenAd(final String encodedBidId, final DTBAdInterstitial interstitial)
     {
-        MediationHints mediationHints;
-        synchronized ( mediationHintsCacheLock )
-        {
-            mediationHints = mediationHintsCache.get( encodedBidId );
-            mediationHintsCache.remove( encodedBidId );
-        }
+        MediationHints mediationHints = takeMediationHints( encodedBidId );
 
         // Paranoia
         if ( mediationHints == null )
@@ -402,6 +398,52 @@ public class AmazonAdMarketplaceMediationAdapter
         return true;
     }
 
+    @Nullable
+    private static MediationHints takeMediationHints(final String encodedBidId)
+    {
+        final MediationHints mediationHints = mediationHintsCache.remove( encodedBidId );
+
+        // The sweep may not have run yet for hints that are already past their expiration
+        if ( mediationHints != null && mediationHints.isExpired( SystemClock.elapsedRealtime() ) ) return null;
+
+        return mediationHints;
+    }
+
+    private static void scheduleMediationHintsSweep()
+    {
+        if ( !mediationHintsSweepScheduled.compareAndSet( false, true ) ) return;
+
+        try
+        {
+            mediationHintsExpiryExecutor.schedule( new ExpireMediationHintsTask(), MEDIATION_HINTS_SWEEP_INTERVAL_MILLIS, TimeUnit.MILLISECONDS );
+        }
+        catch ( RejectedExecutionException ex )
+        {
+            mediationHintsSweepScheduled.set( false );
+        }
+    }
+
+    private static ScheduledExecutorService createMediationHintsExpiryExecutor()
+    {
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor( 1, new ThreadFactory()
+        {
+            @Override
+            public Thread newThread(@NonNull final Runnable runnable)
+            {
+                final Thread thread = new Thread( runnable, "AppLovinSdk:AmazonAdMarketplace-MediationHintsExpiry" );
+                thread.setDaemon( true );
+
+                return thread;
+            }
+        } );
+
+        // Let the sweep thread die between bursts of bids
+        executor.setKeepAliveTime( 30, TimeUnit.SECONDS );
+        executor.allowCoreThreadTimeOut( true );
+
+        return executor;
+    }
+
     private Context getContext(@Nullable Activity activity)
     {
         // NOTE: `activity` can only be null in 11.1.0+, and `getApplicationContext()` is introduced in 11.1.0
@@ -624,10 +666,21 @@ public class AmazonAdMarketplaceMediationAdapter
          */
         private final String id;
 
-        private MediationHints(final String value)
+        /**
+         * The {@link SystemClock#elapsedRealtime()} after which these mediation hints are no longer valid.
+         */
+        private final long expirationTimeMillis;
+
+        private MediationHints(final String value, final long expirationTimeMillis)
         {
             this.id = UUID.randomUUID().toString().toLowerCase( Locale.US );
             this.value = value;
+            this.expirationTimeMillis = expirationTimeMillis;
+        }
+
+        private boolean isExpired(final long nowMillis)
+        {
+            return nowMillis >= expirationTimeMillis;
         }
 
         @Override
@@ -661,30 +714,36 @@ public class AmazonAdMarketplaceMediationAdapter
         }
     }
 
-    private static class CleanupMediationHintsTask
+    private static class ExpireMediationHintsTask
             implements Runnable
     {
-        private final String         encodedBidId;
-        private final MediationHints mediationHints;
-
-        private CleanupMediationHintsTask(final String encodedBidId, final MediationHints mediationHints)
-        {
-            this.encodedBidId = encodedBidId;
-            this.mediationHints = mediationHints;
-        }
-
         @Override
         public void run()
         {
-            synchronized ( mediationHintsCacheLock )
+            // Clear the flag first so hints stored while this sweep runs schedule their own sweep
+            mediationHintsSweepScheduled.set( false );
+
+            final long nowMillis = SystemClock.elapsedRealtime();
+            boolean hasExpiringMediationHints = false;
+
+            for ( final Map.Entry<String, MediationHints> entry : mediationHintsCache.entrySet() )
             {
-                // Check if this is the same mediation hints / bid info as when the cleanup was scheduled
-                MediationHints currentMediationHints = mediationHintsCache.get( encodedBidId );
-                if ( currentMediationHints != null && currentMediationHints.id.equals( mediationHints.id ) )
+                final MediationHints mediationHints = entry.getValue();
+                if ( mediationHints.isExpired( nowMillis ) )
+                {
+                    // Only remove if the entry has not been replaced by newer mediation hints for the same bid id
+                    mediationHintsCache.remove( entry.getKey(), mediationHints );
+                }
+                else if ( mediationHints.expirationTimeMillis != Long.MAX_VALUE )
                 {
-                    mediationHintsCache.remove( encodedBidId );
+                    hasExpiringMediationHints = true;
                 }
             }
+
+            if ( hasExpiringMediationHints )
+            {
+                scheduleMediationHintsSweep();
+            }
         }
     }
 }
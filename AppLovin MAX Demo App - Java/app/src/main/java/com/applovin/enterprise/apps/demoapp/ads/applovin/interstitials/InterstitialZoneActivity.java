@@ -61,7 +61,7 @@ public class InterstitialZoneActivity
     @Override
     public void adReceived(AppLovinAd appLovinAd)
     {
-        logCallback();
+        logCallback( "adReceived" );
         currentAd = appLovinAd;
         showButton.setEnabled( true );
     }
@@ -70,7 +70,7 @@ public class InterstitialZoneActivity
     public void failedToReceiveAd(int errorCode)
     {
         // Look at AppLovinErrorCodes.java for list of error codes
-        logCallback();
+        logCallback( "failedToReceiveAd" );
 
         showButton.setEnabled( true );
     }
@@ -80,27 +80,27 @@ public class InterstitialZoneActivity
     //region Ad Display Listener
 
     @Override
-    public void adDisplayed(AppLovinAd appLovinAd) { logCallback(); }
+    public void adDisplayed(AppLovinAd appLovinAd) { logCallback( "adDisplayed" ); }
 
     @Override
-    public void adHidden(AppLovinAd appLovinAd) { logCallback(); }
+    public void adHidden(AppLovinAd appLovinAd) { logCallback( "adHidden" ); }
 
     //endregion
 
     //region Ad Click Listener
 
     @Override
-    public void adClicked(AppLovinAd appLovinAd) { logCallback(); }
+    public void adClicked(AppLovinAd appLovinAd) { logCallback( "adClicked" ); }
 
     //endregion
 
     //region Ad Video Playback Listener
 
     @Override
-    public void videoPlaybackBegan(AppLovinAd appLovinAd) { logCallback(); }
+    public void videoPlaybackBegan(AppLovinAd appLovinAd) { logCallback( "videoPlaybackBegan" ); }
 
     @Override
-    public void videoPlaybackEnded(AppLovinAd appLovinAd, double percentViewed, boolean wasFullyViewed) { logCallback(); }
+    public void videoPlaybackEnded(AppLovinAd appLovinAd, double percentViewed, boolean wasFullyViewed) { logCallback( "videoPlaybackEnded" ); }
 
     //endregion
 }
@@ -61,7 +61,7 @@ public class InterstitialAdActivity
     public void onAdLoaded(final MaxAd ad)
     {
         // Interstitial ad is ready to be shown. interstitialAd.isReady() will now return 'true'.
-        logCallback();
+        logCallback( "onAdLoaded" );
 
         // Reset retry attempt
         retryAttempt = 0;
@@ -70,7 +70,7 @@ public class InterstitialAdActivity
     @Override
     public void onAdLoadFailed(final String adUnitId, final MaxError maxError)
     {
-        logCallback();
+        logCallback( "onAdLoadFailed" );
 
         // Interstitial ad failed to load. We recommend retrying with exponentially higher delays up to a maximum delay (in this case 64 seconds).
 
@@ -90,22 +90,22 @@ public class InterstitialAdActivity
     @Override
     public void onAdDisplayFailed(final MaxAd ad, final MaxError maxError)
     {
-        logCallback();
+        logCallback( "onAdDisplayFailed" );
 
         // Interstitial ad failed to display. We recommend loading the next ad.
         interstitialAd.loadAd();
     }
 
     @Override
-    public void onAdDisplayed(final MaxAd ad) { logCallback(); }
+    public void onAdDisplayed(final MaxAd ad) { logCallback( "onAdDisplayed" ); }
 
     @Override
-    public void onAdClicked(final MaxAd ad) { logCallback(); }
+    public void onAdClicked(final MaxAd ad) { logCallback( "onAdClicked" ); }
 
     @Override
     public void onAdHidden(final MaxAd ad)
     {
-        logCallback();
+        logCallback( "onAdHidden" );
 
         // Interstitial Ad is hidden. Pre-load the next ad
         interstitialAd.loadAd();
@@ -118,7 +118,7 @@ public class InterstitialAdActivity
     @Override
     public void onAdRevenuePaid(final MaxAd maxAd)
     {
-        logCallback();
+        logCallback( "onAdRevenuePaid" );
 
         AdjustAdRevenue adjustAdRevenue = new AdjustAdRevenue( AdjustConfig.AD_REVENUE_APPLOVIN_MAX );
         adjustAdRevenue.setRevenue( maxAd.getRevenue(), "USD" );
@@ -62,7 +62,7 @@ public class RewardedAdActivity
     public void onAdLoaded(final MaxAd ad)
     {
         // Rewarded ad is ready to be shown. rewardedAd.isReady() will now return 'true'
-        logCallback();
+        logCallback( "onAdLoaded" );
 
         // Reset retry attempt
         retryAttempt = 0;
@@ -71,7 +71,7 @@ public class RewardedAdActivity
     @Override
     public void onAdLoadFailed(final String adUnitId, final MaxError maxError)
     {
-        logCallback();
+        logCallback( "onAdLoadFailed" );
 
         // Rewarded ad failed to load. We recommend retrying with exponentially higher delays up to a maximum delay (in this case 64 seconds).
 
@@ -91,38 +91,38 @@ public class RewardedAdActivity
     @Override
     public void onAdDisplayFailed(final MaxAd ad, final MaxError maxError)
     {
-        logCallback();
+        logCallback( "onAdDisplayFailed" );
 
         // Rewarded ad failed to display. We recommend loading the next ad.
         rewardedAd.loadAd();
     }
 
     @Override
-    public void onAdDisplayed(final MaxAd ad) { logCallback(); }
+    public void onAdDisplayed(final MaxAd ad) { logCallback( "onAdDisplayed" ); }
 
     @Override
-    public void onAdClicked(final MaxAd ad) { logCallback(); }
+    public void onAdClicked(final MaxAd ad) { logCallback( "onAdClicked" ); }
 
     @Override
     public void onAdHidden(final MaxAd ad)
     {
-        logCallback();
+        logCallback( "onAdHidden" );
 
         // Rewarded ad is hidden. Pre-load the the next ad
         rewardedAd.loadAd();
     }
 
     @Override
-    public void onRewardedVideoStarted(final MaxAd ad) { logCallback(); }
+    public void onRewardedVideoStarted(final MaxAd ad) { logCallback( "onRewardedVideoStarted" ); }
 
     @Override
-    public void onRewardedVideoCompleted(final MaxAd ad) { logCallback(); }
+    public void onRewardedVideoCompleted(final MaxAd ad) { logCallback( "onRewardedVideoCompleted" ); }
 
     @Override
     public void onUserRewarded(final MaxAd ad, final MaxReward reward)
     {
         // Rewarded ad was displayed and user should receive the reward.
-        logCallback();
+        logCallback( "onUserRewarded" );
     }
 
     //endregion
@@ -132,7 +132,7 @@ public class RewardedAdActivity
     @Override
     public void onAdRevenuePaid(final MaxAd maxAd)
     {
-        logCallback();
+        logCallback( "onAdRevenuePaid" );
 
         AdjustAdRevenue adjustAdRevenue = new AdjustAdRevenue( AdjustConfig.AD_REVENUE_APPLOVIN_MAX );
         adjustAdRevenue.setRevenue( maxAd.getRevenue(), "USD" );
@@ -50,7 +50,7 @@ public class ManualNativeAdActivity
 
         nativeAdLoader = new MaxNativeAdLoader( "YOUR_AD_UNIT_ID", this );
         nativeAdLoader.setRevenueListener( ad -> {
-            logAnonymousCallback();
+            logCallback( "onAdRevenuePaid" );
 
             AdjustAdRevenue adjustAdRevenue = new AdjustAdRevenue( AdjustConfig.AD_REVENUE_APPLOVIN_MAX );
             adjustAdRevenue.setRevenue( ad.getRevenue(), "USD" );
@@ -65,7 +65,7 @@ public class ManualNativeAdActivity
             @Override
             public void onNativeAdLoaded(@Nullable final MaxNativeAdView nativeAdView, final MaxAd ad)
             {
-                logAnonymousCallback();
+                logCallback( "onNativeAdLoaded" );
 
                 // Cleanup any pre-existing native ad to prevent memory leaks.
                 if ( nativeAd != null )
@@ -84,13 +84,13 @@ public class ManualNativeAdActivity
             @Override
             public void onNativeAdLoadFailed(final String adUnitId, final MaxError error)
             {
-                logAnonymousCallback();
+                logCallback( "onNativeAdLoadFailed" );
             }
 
             @Override
             public void onNativeAdClicked(final MaxAd ad)
             {
-                logAnonymousCallback();
+                logCallback( "onNativeAdClicked" );
             }
         } );
     }
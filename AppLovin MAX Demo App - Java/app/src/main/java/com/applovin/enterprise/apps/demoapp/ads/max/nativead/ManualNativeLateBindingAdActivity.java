@@ -41,7 +41,7 @@ public class ManualNativeLateBindingAdActivity
 
         nativeAdLoader = new MaxNativeAdLoader( "YOUR_AD_UNIT_ID", this );
         nativeAdLoader.setRevenueListener( ad -> {
-            logAnonymousCallback();
+            logCallback( "onAdRevenuePaid" );
 
             AdjustAdRevenue adjustAdRevenue = new AdjustAdRevenue( AdjustConfig.AD_REVENUE_APPLOVIN_MAX );
             adjustAdRevenue.setRevenue( ad.getRevenue(), "USD" );
@@ -56,7 +56,7 @@ public class ManualNativeLateBindingAdActivity
             @Override
             public void onNativeAdLoaded(@Nullable final MaxNativeAdView nativeAdView, final MaxAd ad)
             {
-                logAnonymousCallback();
+                logCallback( "onNativeAdLoaded" );
 
                 // Cleanup any pre-existing native ad to prevent memory leaks.
                 if ( nativeAd != null )
@@ -73,13 +73,13 @@ public class ManualNativeLateBindingAdActivity
             @Override
             public void onNativeAdLoadFailed(final String adUnitId, final MaxError error)
             {
-                logAnonymousCallback();
+                logCallback( "onNativeAdLoadFailed" );
             }
 
             @Override
             public void onNativeAdClicked(final MaxAd ad)
             {
-                logAnonymousCallback();
+                logCallback( "onNativeAdClicked" );
             }
         } );
     }
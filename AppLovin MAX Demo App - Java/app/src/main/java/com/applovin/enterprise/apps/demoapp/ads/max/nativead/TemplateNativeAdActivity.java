@@ -38,7 +38,7 @@ public class TemplateNativeAdActivity
 
         nativeAdLoader = new MaxNativeAdLoader( "YOUR_AD_UNIT_ID", this );
         nativeAdLoader.setRevenueListener( ad -> {
-            logAnonymousCallback();
+            logCallback( "onAdRevenuePaid" );
 
             AdjustAdRevenue adjustAdRevenue = new AdjustAdRevenue( AdjustConfig.AD_REVENUE_APPLOVIN_MAX );
             adjustAdRevenue.setRevenue( ad.getRevenue(), "USD" );
@@ -53,7 +53,7 @@ public class TemplateNativeAdActivity
             @Override
             public void onNativeAdLoaded(@Nullable final MaxNativeAdView nativeAdView, final MaxAd ad)
             {
-                logAnonymousCallback();
+                logCallback( "onNativeAdLoaded" );
 
                 // Cleanup any pre-existing native ad to prevent memory leaks.
                 if ( nativeAd != null )
@@ -72,13 +72,13 @@ public class TemplateNativeAdActivity
             @Override
             public void onNativeAdLoadFailed(final String adUnitId, final MaxError error)
             {
-                logAnonymousCallback();
+                logCallback( "onNativeAdLoadFailed" );
             }
 
             @Override
             public void onNativeAdClicked(final MaxAd ad)
             {
-                logAnonymousCallback();
+                logCallback( "onNativeAdClicked" );
             }
         } );
     }
@@ -2,9 +2,6 @@ package com.applovin.enterprise.apps.demoapp.ui;
 
 import com.applovin.enterprise.apps.demoapp.R;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.recyclerview.widget.DividerItemDecoration;
 import androidx.recyclerview.widget.LinearLayoutManager;
@@ -18,15 +15,14 @@ import androidx.recyclerview.widget.RecyclerView;
 public abstract class BaseAdActivity
         extends AppCompatActivity
 {
-    private       CallbacksRecyclerViewAdapter callbacksAdapter;
-    private final List<String>                 callbacks = new ArrayList<>();
+    private CallbacksRecyclerViewAdapter callbacksAdapter;
 
     /**
      * Setup callbacks RecyclerView adapter and appearance.
      */
     protected void setupCallbacksRecyclerView()
     {
-        callbacksAdapter = new CallbacksRecyclerViewAdapter( callbacks, this );
+        callbacksAdapter = new CallbacksRecyclerViewAdapter( this );
         LinearLayoutManager manager = new LinearLayoutManager( this );
         DividerItemDecoration decoration = new DividerItemDecoration( this, manager.getOrientation() );
 
@@ -39,21 +35,11 @@ public abstract class BaseAdActivity
 
     /**
      * Log ad callbacks in the RecyclerView.
-     * Uses the name of the function that calls this one in the log.
+     *
+     * @param callbackName The name of the callback being logged, e.g. {@code "onAdLoaded"}.
      */
-    protected void logCallback()
-    {
-        String callbackName = new Throwable().getStackTrace()[1].getMethodName();
-        callbacks.add( callbackName );
-
-        callbacksAdapter.notifyItemInserted( callbacks.size() - 1 );
-    }
-
-    protected void logAnonymousCallback()
+    protected void logCallback(final String callbackName)
     {
-        String callbackName = new Throwable().getStackTrace()[2].getMethodName();
-        callbacks.add( callbackName );
-
-        callbacksAdapter.notifyItemInserted( callbacks.size() - 1 );
+        callbacksAdapter.addCallback( callbackName );
     }
 }
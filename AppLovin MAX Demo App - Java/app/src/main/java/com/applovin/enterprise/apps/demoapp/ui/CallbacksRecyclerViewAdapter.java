@@ -1,6 +1,8 @@
 package com.applovin.enterprise.apps.demoapp.ui;
 
 import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -11,25 +13,97 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import com.applovin.enterprise.apps.demoapp.R;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * {@link RecyclerView.Adapter} for the callback RecyclerView in ad activities.
  * <p>
+ * Keeps only the most recent {@link #MAX_CALLBACKS} callbacks in a ring buffer so long-running sessions do not grow the heap, and batches
+ * callbacks logged in the same main looper pass into a single range notification.
+ * <p>
  * Created by Harry Arakkal on 2019-10-21.
  */
 public class CallbacksRecyclerViewAdapter
         extends RecyclerView.Adapter<CallbacksRecyclerViewAdapter.ViewHolder>
 {
-    private final List<String>   callbacks;
+    private static final int MAX_CALLBACKS = 500;
+
+    private final String[]       callbacks = new String[MAX_CALLBACKS];
     private final LayoutInflater layoutInflater;
+    private final Handler        handler   = new Handler( Looper.getMainLooper() );
+
+    // Index of the oldest callback in `callbacks`, and the number of callbacks shown
+    private int firstCallbackIndex;
+    private int callbackCount;
+
+    // Callbacks logged since the last flush - only applied to the ring buffer on the main thread so the item count stays consistent
+    private final List<String> pendingCallbacks = new ArrayList<>();
+    private       boolean      isFlushScheduled;
 
-    CallbacksRecyclerViewAdapter(final List<String> callbacks, final Context context)
+    private final Runnable flushPendingCallbacks = new Runnable()
+    {
+        @Override
+        public void run()
+        {
+            flushPendingCallbacks();
+        }
+    };
+
+    CallbacksRecyclerViewAdapter(final Context context)
     {
-        this.callbacks = callbacks;
         this.layoutInflater = LayoutInflater.from( context );
     }
 
+    void addCallback(final String callbackName)
+    {
+        synchronized ( pendingCallbacks )
+        {
+            // Callbacks past the capacity would be evicted on the next flush anyway
+            if ( pendingCallbacks.size() == MAX_CALLBACKS )
+            {
+                pendingCallbacks.remove( 0 );
+            }
+
+            pendingCallbacks.add( callbackName );
+
+            if ( isFlushScheduled ) return;
+
+            isFlushScheduled = true;
+        }
+
+        handler.post( flushPendingCallbacks );
+    }
+
+    private void flushPendingCallbacks()
+    {
+        synchronized ( pendingCallbacks )
+        {
+            isFlushScheduled = false;
+
+            final int newCallbackCount = pendingCallbacks.size();
+            if ( newCallbackCount == 0 ) return;
+
+            // Evict the oldest callbacks to make room
+            final int evictedCount = Math.max( 0, callbackCount + newCallbackCount - MAX_CALLBACKS );
+            if ( evictedCount > 0 )
+            {
+                firstCallbackIndex = ( firstCallbackIndex + evictedCount ) % MAX_CALLBACKS;
+                callbackCount -= evictedCount;
+                notifyItemRangeRemoved( 0, evictedCount );
+            }
+
+            for ( int i = 0; i < newCallbackCount; i++ )
+            {
+                callbacks[( firstCallbackIndex + callbackCount ) % MAX_CALLBACKS] = pendingCallbacks.get( i );
+                callbackCount++;
+            }
+            pendingCallbacks.clear();
+
+            notifyItemRangeInserted( callbackCount - newCallbackCount, newCallbackCount );
+        }
+    }
+
     @NonNull
     @Override
     public ViewHolder onCreateViewHolder(@NonNull final ViewGroup parent, final int viewType)
@@ -40,13 +114,13 @@ public class CallbacksRecyclerViewAdapter
     @Override
     public void onBindViewHolder(@NonNull final ViewHolder holder, final int position)
     {
-        holder.callbackName.setText( callbacks.get( position ) );
+        holder.callbackName.setText( callbacks[( firstCallbackIndex + position ) % MAX_CALLBACKS] );
     }
 
     @Override
     public int getItemCount()
     {
-        return callbacks.size();
+        return callbackCount;
     }
 
     class ViewHolder
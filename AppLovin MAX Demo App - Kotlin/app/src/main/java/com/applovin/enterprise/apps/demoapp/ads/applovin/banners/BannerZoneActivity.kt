@@ -49,13 +49,13 @@ class BannerZoneActivity : BaseAdActivity(),
 
     override fun adReceived(ad: AppLovinAd?)
     {
-        logCallback()
+        logCallback("adReceived")
     }
 
     override fun failedToReceiveAd(errorCode: Int)
     {
         // Look at AppLovinErrorCodes.java for list of error codes
-        logCallback()
+        logCallback("failedToReceiveAd")
     }
 
     //endregion
@@ -64,12 +64,12 @@ class BannerZoneActivity : BaseAdActivity(),
 
     override fun adDisplayed(ad: AppLovinAd?)
     {
-        logCallback()
+        logCallback("adDisplayed")
     }
 
     override fun adHidden(ad: AppLovinAd?)
     {
-        logCallback()
+        logCallback("adHidden")
     }
 
     //endregion
@@ -78,22 +78,22 @@ class BannerZoneActivity : BaseAdActivity(),
 
     override fun adOpenedFullscreen(ad: AppLovinAd?, adView: AppLovinAdView?)
     {
-        logCallback()
+        logCallback("adOpenedFullscreen")
     }
 
     override fun adClosedFullscreen(ad: AppLovinAd?, adView: AppLovinAdView?)
     {
-        logCallback()
+        logCallback("adClosedFullscreen")
     }
 
     override fun adLeftApplication(ad: AppLovinAd?, adView: AppLovinAdView?)
     {
-        logCallback()
+        logCallback("adLeftApplication")
     }
 
     override fun adFailedToDisplay(ad: AppLovinAd?, adView: AppLovinAdView?, code: AppLovinAdViewDisplayErrorCode?)
     {
-        logCallback()
+        logCallback("adFailedToDisplay")
     }
 
     //endregion
@@ -102,7 +102,7 @@ class BannerZoneActivity : BaseAdActivity(),
 
     override fun adClicked(ad: AppLovinAd?)
     {
-        logCallback()
+        logCallback("adClicked")
     }
 
     //endregion
@@ -35,14 +35,14 @@ class InterstitialBasicIntegrationActivity : BaseAdActivity(),
 
     override fun adReceived(appLovinAd: AppLovinAd)
     {
-        logCallback()
+        logCallback("adReceived")
         showButton.isEnabled = true
     }
 
     override fun failedToReceiveAd(errorCode: Int)
     {
         // Look at AppLovinErrorCodes.java for list of error codes
-        logCallback()
+        logCallback("failedToReceiveAd")
         showButton.isEnabled = true
     }
 
@@ -52,12 +52,12 @@ class InterstitialBasicIntegrationActivity : BaseAdActivity(),
 
     override fun adDisplayed(appLovinAd: AppLovinAd)
     {
-        logCallback()
+        logCallback("adDisplayed")
     }
 
     override fun adHidden(appLovinAd: AppLovinAd)
     {
-        logCallback()
+        logCallback("adHidden")
     }
 
     //endregion
@@ -66,7 +66,7 @@ class InterstitialBasicIntegrationActivity : BaseAdActivity(),
 
     override fun adClicked(appLovinAd: AppLovinAd)
     {
-        logCallback()
+        logCallback("adClicked")
     }
 
     //endregion
@@ -75,12 +75,12 @@ class InterstitialBasicIntegrationActivity : BaseAdActivity(),
 
     override fun videoPlaybackBegan(appLovinAd: AppLovinAd)
     {
-        logCallback()
+        logCallback("videoPlaybackBegan")
     }
 
     override fun videoPlaybackEnded(appLovinAd: AppLovinAd, percentViewed: Double, wasFullyViewed: Boolean)
     {
-        logCallback()
+        logCallback("videoPlaybackEnded")
     }
 
     //endregion
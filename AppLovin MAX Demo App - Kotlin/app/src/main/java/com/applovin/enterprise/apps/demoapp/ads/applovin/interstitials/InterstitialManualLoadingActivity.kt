@@ -42,7 +42,7 @@ class InterstitialManualLoadingActivity : BaseAdActivity(),
 
     override fun adReceived(appLovinAd: AppLovinAd)
     {
-        logCallback()
+        logCallback("adReceived")
         currentAd = appLovinAd
         showButton.isEnabled = true
     }
@@ -50,7 +50,7 @@ class InterstitialManualLoadingActivity : BaseAdActivity(),
     override fun failedToReceiveAd(errorCode: Int)
     {
         // Look at AppLovinErrorCodes.java for list of error codes
-        logCallback()
+        logCallback("failedToReceiveAd")
         showButton.isEnabled = true
     }
 
@@ -60,12 +60,12 @@ class InterstitialManualLoadingActivity : BaseAdActivity(),
 
     override fun adDisplayed(appLovinAd: AppLovinAd)
     {
-        logCallback()
+        logCallback("adDisplayed")
     }
 
     override fun adHidden(appLovinAd: AppLovinAd)
     {
-        logCallback()
+        logCallback("adHidden")
     }
 
     //endregion
@@ -74,7 +74,7 @@ class InterstitialManualLoadingActivity : BaseAdActivity(),
 
     override fun adClicked(appLovinAd: AppLovinAd)
     {
-        logCallback()
+        logCallback("adClicked")
     }
 
     //endregion
@@ -83,12 +83,12 @@ class InterstitialManualLoadingActivity : BaseAdActivity(),
 
     override fun videoPlaybackBegan(appLovinAd: AppLovinAd)
     {
-        logCallback()
+        logCallback("videoPlaybackBegan")
     }
 
     override fun videoPlaybackEnded(appLovinAd: AppLovinAd, percentViewed: Double, wasFullyViewed: Boolean)
     {
-        logCallback()
+        logCallback("videoPlaybackEnded")
     }
 
     //endregion
@@ -41,14 +41,14 @@ class RewardedVideosZoneActivity : BaseAdActivity(),
 
     override fun adReceived(appLovinAd: AppLovinAd)
     {
-        logCallback()
+        logCallback("adReceived")
         showButton.isEnabled = true
     }
 
     override fun failedToReceiveAd(errorCode: Int)
     {
         // Look at AppLovinErrorCodes.java for list of error codes
-        logCallback()
+        logCallback("failedToReceiveAd")
         showButton.isEnabled = true
     }
 
@@ -58,12 +58,12 @@ class RewardedVideosZoneActivity : BaseAdActivity(),
 
     override fun adDisplayed(appLovinAd: AppLovinAd)
     {
-        logCallback()
+        logCallback("adDisplayed")
     }
 
     override fun adHidden(appLovinAd: AppLovinAd)
     {
-        logCallback()
+        logCallback("adHidden")
     }
 
     //endregion
@@ -72,7 +72,7 @@ class RewardedVideosZoneActivity : BaseAdActivity(),
 
     override fun adClicked(appLovinAd: AppLovinAd)
     {
-        logCallback()
+        logCallback("adClicked")
     }
 
     //endregion
@@ -81,12 +81,12 @@ class RewardedVideosZoneActivity : BaseAdActivity(),
 
     override fun videoPlaybackBegan(appLovinAd: AppLovinAd)
     {
-        logCallback()
+        logCallback("videoPlaybackBegan")
     }
 
     override fun videoPlaybackEnded(appLovinAd: AppLovinAd, percentViewed: Double, wasFullyViewed: Boolean)
     {
-        logCallback()
+        logCallback("videoPlaybackEnded")
     }
 
     //endregion
@@ -98,7 +98,7 @@ class RewardedVideosZoneActivity : BaseAdActivity(),
         // AppLovin servers validated the reward. Refresh user balance from your server.  We will also pass the number of coins
         // awarded and the name of the currency.  However, ideally, you should verify this with your server before granting it.
 
-        logCallback()
+        logCallback("userRewardVerified")
 
         // By default we'll show a alert informing your user of the currency & amount earned.
         // If you don't want this, you can turn it off in the Manage Apps UI.
@@ -110,7 +110,7 @@ class RewardedVideosZoneActivity : BaseAdActivity(),
         // don't give them any more currency. By default we'll show them a alert explaining this,
         // though you can change that from the AppLovin dashboard.
 
-        logCallback()
+        logCallback("userOverQuota")
     }
 
     override fun userRewardRejected(appLovinAd: AppLovinAd, map: Map<String, String>)
@@ -119,7 +119,7 @@ class RewardedVideosZoneActivity : BaseAdActivity(),
         // them, for example. Don't grant them any currency. By default we'll show them an alert explaining this,
         // though you can change that from the AppLovin dashboard.
 
-        logCallback()
+        logCallback("userRewardRejected")
     }
 
     override fun validationRequestFailed(appLovinAd: AppLovinAd, responseCode: Int)
@@ -145,7 +145,7 @@ class RewardedVideosZoneActivity : BaseAdActivity(),
                 // Note: This code is only possible when working with rewarded videos.
             }
         }
-        logCallback()
+        logCallback("validationRequestFailed")
     }
 
     //endregion
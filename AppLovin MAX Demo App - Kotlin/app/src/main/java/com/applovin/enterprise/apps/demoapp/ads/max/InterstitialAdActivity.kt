@@ -51,14 +51,14 @@ class InterstitialAdActivity : BaseAdActivity(),
 
     override fun onAdLoaded(ad: MaxAd?) {
         // Interstitial ad is ready to be shown. interstitialAd.isReady() will now return 'true'.
-        logCallback()
+        logCallback("onAdLoaded")
 
         // Reset retry attempt
         retryAttempt = 0.0
     }
 
     override fun onAdLoadFailed(adUnitId: String?, error: MaxError?) {
-        logCallback()
+        logCallback("onAdLoadFailed")
 
         // Interstitial ad failed to load. We recommend retrying with exponentially higher delays up to a maximum delay (in this case 64 seconds).
 
@@ -69,22 +69,22 @@ class InterstitialAdActivity : BaseAdActivity(),
     }
 
     override fun onAdDisplayFailed(ad: MaxAd?, error: MaxError?) {
-        logCallback()
+        logCallback("onAdDisplayFailed")
 
         // Interstitial ad failed to display. We recommend loading the next ad.
         interstitialAd.loadAd()
     }
 
     override fun onAdDisplayed(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdDisplayed")
     }
 
     override fun onAdClicked(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdClicked")
     }
 
     override fun onAdHidden(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdHidden")
 
         // Interstitial Ad is hidden. Pre-load the next ad
         interstitialAd.loadAd()
@@ -95,7 +95,7 @@ class InterstitialAdActivity : BaseAdActivity(),
     //region MAX Ad Revenue Listener
 
     override fun onAdRevenuePaid(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdRevenuePaid")
 
         val adjustAdRevenue = AdjustAdRevenue(AdjustConfig.AD_REVENUE_APPLOVIN_MAX)
         adjustAdRevenue.setRevenue(ad?.revenue, "USD")
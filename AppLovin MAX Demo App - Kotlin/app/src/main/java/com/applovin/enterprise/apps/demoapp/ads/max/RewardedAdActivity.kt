@@ -48,14 +48,14 @@ class RewardedAdActivity : BaseAdActivity(),
 
     override fun onAdLoaded(ad: MaxAd?) {
         // Rewarded ad is ready to be shown. rewardedAd.isReady() will now return 'true'
-        logCallback()
+        logCallback("onAdLoaded")
 
         // Reset retry attempt
         retryAttempt = 0.0
     }
 
     override fun onAdLoadFailed(adUnitId: String?, error: MaxError?) {
-        logCallback()
+        logCallback("onAdLoadFailed")
 
         // Rewarded ad failed to load. We recommend retrying with exponentially higher delays up to a maximum delay (in this case 64 seconds).
 
@@ -66,38 +66,38 @@ class RewardedAdActivity : BaseAdActivity(),
     }
 
     override fun onAdDisplayFailed(ad: MaxAd?, error: MaxError?) {
-        logCallback()
+        logCallback("onAdDisplayFailed")
 
         // Rewarded ad failed to display. We recommend loading the next ad.
         rewardedAd.loadAd()
     }
 
     override fun onAdDisplayed(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdDisplayed")
     }
 
     override fun onAdClicked(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdClicked")
     }
 
     override fun onAdHidden(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdHidden")
 
         // Rewarded ad is hidden. Pre-load the next ad.
         rewardedAd.loadAd()
     }
 
     override fun onRewardedVideoStarted(ad: MaxAd?) {
-        logCallback()
+        logCallback("onRewardedVideoStarted")
     }
 
     override fun onRewardedVideoCompleted(ad: MaxAd?) {
-        logCallback()
+        logCallback("onRewardedVideoCompleted")
     }
 
     override fun onUserRewarded(ad: MaxAd?, reward: MaxReward?) {
         // Rewarded ad was displayed and user should receive the reward.
-        logCallback()
+        logCallback("onUserRewarded")
     }
 
     //endregion
@@ -105,7 +105,7 @@ class RewardedAdActivity : BaseAdActivity(),
     //region MAX Ad Revenue Listener
 
     override fun onAdRevenuePaid(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdRevenuePaid")
 
         val adjustAdRevenue = AdjustAdRevenue(AdjustConfig.AD_REVENUE_APPLOVIN_MAX)
         adjustAdRevenue.setRevenue(ad?.revenue, "USD")
@@ -42,35 +42,35 @@ class LayoutEditorBannerAdActivity : BaseAdActivity(),
     //region MAX Ad Listener
 
     override fun onAdLoaded(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdLoaded")
     }
 
     override fun onAdLoadFailed(adUnitId: String?, error: MaxError?) {
-        logCallback()
+        logCallback("onAdLoadFailed")
     }
 
     override fun onAdHidden(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdHidden")
     }
 
     override fun onAdDisplayFailed(ad: MaxAd?, error: MaxError?) {
-        logCallback()
+        logCallback("onAdDisplayFailed")
     }
 
     override fun onAdDisplayed(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdDisplayed")
     }
 
     override fun onAdClicked(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdClicked")
     }
 
     override fun onAdExpanded(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdExpanded")
     }
 
     override fun onAdCollapsed(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdCollapsed")
     }
 
     //endregion
@@ -78,7 +78,7 @@ class LayoutEditorBannerAdActivity : BaseAdActivity(),
     //region MAX Ad Revenue Listener
 
     override fun onAdRevenuePaid(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdRevenuePaid")
 
         val adjustAdRevenue = AdjustAdRevenue(AdjustConfig.AD_REVENUE_APPLOVIN_MAX)
         adjustAdRevenue.setRevenue(ad?.revenue, "USD")
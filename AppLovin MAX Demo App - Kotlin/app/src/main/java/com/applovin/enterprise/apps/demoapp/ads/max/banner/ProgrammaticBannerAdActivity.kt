@@ -60,35 +60,35 @@ class ProgrammaticBannerAdActivity : BaseAdActivity(),
     //region MAX Ad Listener
 
     override fun onAdLoaded(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdLoaded")
     }
 
     override fun onAdLoadFailed(adUnitId: String?, error: MaxError?) {
-        logCallback()
+        logCallback("onAdLoadFailed")
     }
 
     override fun onAdHidden(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdHidden")
     }
 
     override fun onAdDisplayFailed(ad: MaxAd?, error: MaxError?) {
-        logCallback()
+        logCallback("onAdDisplayFailed")
     }
 
     override fun onAdDisplayed(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdDisplayed")
     }
 
     override fun onAdClicked(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdClicked")
     }
 
     override fun onAdExpanded(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdExpanded")
     }
 
     override fun onAdCollapsed(ad: MaxAd?) {
-        logCallback()
+        logCallback("onAdCollapsed")
     }
 
     //endregion
@@ -97,7 +97,7 @@ class ProgrammaticBannerAdActivity : BaseAdActivity(),
 
     override fun onAdRevenuePaid(ad: MaxAd?)
     {
-        logCallback()
+        logCallback("onAdRevenuePaid")
 
         val adjustAdRevenue = AdjustAdRevenue(AdjustConfig.AD_REVENUE_APPLOVIN_MAX)
         adjustAdRevenue.setRevenue(ad?.revenue, "USD")
@@ -45,7 +45,7 @@ class ManualNativeAdActivity : BaseAdActivity() {
         nativeAdLoader = MaxNativeAdLoader("YOUR_AD_UNIT_ID", this)
         nativeAdLoader.setRevenueListener(object : MaxAdRevenueListener {
             override fun onAdRevenuePaid(ad: MaxAd?) {
-                logCallback()
+                logCallback("onAdRevenuePaid")
 
                 val adjustAdRevenue = AdjustAdRevenue(AdjustConfig.AD_REVENUE_APPLOVIN_MAX)
                 adjustAdRevenue.setRevenue(ad?.revenue, "USD")
@@ -58,7 +58,7 @@ class ManualNativeAdActivity : BaseAdActivity() {
         })
         nativeAdLoader.setNativeAdListener(object : MaxNativeAdListener() {
             override fun onNativeAdLoaded(nativeAdView: MaxNativeAdView?, ad: MaxAd) {
-                logAnonymousCallback()
+                logCallback("onNativeAdLoaded")
 
                 // Cleanup any pre-existing native ad to prevent memory leaks.
                 if (nativeAd != null) {
@@ -74,11 +74,11 @@ class ManualNativeAdActivity : BaseAdActivity() {
             }
 
             override fun onNativeAdLoadFailed(adUnitId: String, error: MaxError) {
-                logAnonymousCallback()
+                logCallback("onNativeAdLoadFailed")
             }
 
             override fun onNativeAdClicked(ad: MaxAd) {
-                logAnonymousCallback()
+                logCallback("onNativeAdClicked")
             }
         })
     }
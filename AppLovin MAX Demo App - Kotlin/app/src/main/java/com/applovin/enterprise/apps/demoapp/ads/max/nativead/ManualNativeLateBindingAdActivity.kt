@@ -36,7 +36,7 @@ class ManualNativeLateBindingAdActivity : BaseAdActivity() {
         nativeAdLoader = MaxNativeAdLoader("2ae08312099b9acb", this)
         nativeAdLoader.setRevenueListener(object : MaxAdRevenueListener {
             override fun onAdRevenuePaid(ad: MaxAd?) {
-                logAnonymousCallback()
+                logCallback("onAdRevenuePaid")
 
                 val adjustAdRevenue = AdjustAdRevenue(AdjustConfig.AD_REVENUE_APPLOVIN_MAX)
                 adjustAdRevenue.setRevenue(ad?.revenue, "USD")
@@ -49,7 +49,7 @@ class ManualNativeLateBindingAdActivity : BaseAdActivity() {
         })
         nativeAdLoader.setNativeAdListener(object : MaxNativeAdListener() {
             override fun onNativeAdLoaded(nativeAdView: MaxNativeAdView?, ad: MaxAd) {
-                logAnonymousCallback()
+                logCallback("onNativeAdLoaded")
 
                 // Cleanup any pre-existing native ad to prevent memory leaks.
                 if (nativeAd != null) {
@@ -63,11 +63,11 @@ class ManualNativeLateBindingAdActivity : BaseAdActivity() {
             }
 
             override fun onNativeAdLoadFailed(adUnitId: String, error: MaxError) {
-                logAnonymousCallback()
+                logCallback("onNativeAdLoadFailed")
             }
 
             override fun onNativeAdClicked(ad: MaxAd) {
-                logAnonymousCallback()
+                logCallback("onNativeAdClicked")
             }
         })
     }
@@ -13,14 +13,13 @@ import kotlinx.android.synthetic.main.activity_interstitial_ad.*
 abstract class BaseAdActivity : AppCompatActivity()
 {
     private lateinit var callbacksAdapter: CallbacksRecyclerViewAdapter
-    private val callbacks: MutableList<String> = mutableListOf()
 
     /**
      * Setup callbacks RecyclerView adapter and appearance.
      */
     protected fun setupCallbacksRecyclerView()
     {
-        callbacksAdapter = CallbacksRecyclerViewAdapter(callbacks, this)
+        callbacksAdapter = CallbacksRecyclerViewAdapter(this)
         val manager = LinearLayoutManager(this)
         val decoration = DividerItemDecoration(this, manager.orientation)
 
@@ -34,21 +33,11 @@ abstract class BaseAdActivity : AppCompatActivity()
 
     /**
      * Log ad callbacks in the RecyclerView.
-     * Uses the name of the function that calls this one in the log.
+     *
+     * @param callbackName The name of the callback being logged, e.g. `"onAdLoaded"`.
      */
-    protected fun logCallback()
+    protected fun logCallback(callbackName: String)
     {
-        val callbackName = Throwable().stackTrace[1].methodName
-        callbacks.add(callbackName)
-
-        callbacksAdapter.notifyItemInserted(callbacks.lastIndex)
-    }
-
-    protected fun logAnonymousCallback()
-    {
-        val callbackName = Throwable().stackTrace[2].methodName
-        callbacks.add(callbackName)
-
-        callbacksAdapter.notifyItemInserted(callbacks.lastIndex)
+        callbacksAdapter.addCallback(callbackName)
     }
 }
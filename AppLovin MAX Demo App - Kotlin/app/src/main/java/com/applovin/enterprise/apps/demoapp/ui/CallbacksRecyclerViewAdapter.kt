@@ -1,6 +1,8 @@
 package com.applovin.enterprise.apps.demoapp.ui
 
 import android.content.Context
+import android.os.Handler
+import android.os.Looper
 import android.view.LayoutInflater
 import android.view.View
 import android.view.ViewGroup
@@ -12,12 +14,75 @@ import com.applovin.enterprise.apps.demoapp.R
 /**
  * [RecyclerView.Adapter] for the callback RecyclerView in ad activities.
  * <p>
+ * Keeps only the most recent [MAX_CALLBACKS] callbacks in a ring buffer so long-running sessions do not grow the heap, and batches
+ * callbacks logged in the same main looper pass into a single range notification.
+ * <p>
  * Created by Harry Arakkal on 2019-10-18.
  */
-class CallbacksRecyclerViewAdapter(private val callbacks: List<String>, context: Context)
+class CallbacksRecyclerViewAdapter(context: Context)
     : RecyclerView.Adapter<CallbacksRecyclerViewAdapter.ViewHolder>()
 {
     private val layoutInflater: LayoutInflater = LayoutInflater.from(context)
+    private val handler = Handler(Looper.getMainLooper())
+
+    private val callbacks = arrayOfNulls<String>(MAX_CALLBACKS)
+
+    // Index of the oldest callback in `callbacks`, and the number of callbacks shown
+    private var firstCallbackIndex = 0
+    private var callbackCount = 0
+
+    // Callbacks logged since the last flush - only applied to the ring buffer on the main thread so the item count stays consistent
+    private val pendingCallbacks = ArrayList<String>()
+    private var isFlushScheduled = false
+
+    private val flushPendingCallbacks = Runnable { flushPendingCallbacks() }
+
+    fun addCallback(callbackName: String)
+    {
+        synchronized(pendingCallbacks) {
+            // Callbacks past the capacity would be evicted on the next flush anyway
+            if (pendingCallbacks.size == MAX_CALLBACKS)
+            {
+                pendingCallbacks.removeAt(0)
+            }
+
+            pendingCallbacks.add(callbackName)
+
+            if (isFlushScheduled) return
+
+            isFlushScheduled = true
+        }
+
+        handler.post(flushPendingCallbacks)
+    }
+
+    private fun flushPendingCallbacks()
+    {
+        synchronized(pendingCallbacks) {
+            isFlushScheduled = false
+
+            val newCallbackCount = pendingCallbacks.size
+            if (newCallbackCount == 0) return
+
+            // Evict the oldest callbacks to make room
+            val evictedCount = maxOf(0, callbackCount + newCallbackCount - MAX_CALLBACKS)
+            if (evictedCount > 0)
+            {
+                firstCallbackIndex = (firstCallbackIndex + evictedCount) % MAX_CALLBACKS
+                callbackCount -= evictedCount
+                notifyItemRangeRemoved(0, evictedCount)
+            }
+
+            for (i in 0 until newCallbackCount)
+            {
+                callbacks[(firstCallbackIndex + callbackCount) % MAX_CALLBACKS] = pendingCallbacks[i]
+                callbackCount++
+            }
+            pendingCallbacks.clear()
+
+            notifyItemRangeInserted(callbackCount - newCallbackCount, newCallbackCount)
+        }
+    }
 
     override fun onCreateViewHolder(parent: ViewGroup, viewType: Int): ViewHolder
     {
@@ -26,16 +91,21 @@ class CallbacksRecyclerViewAdapter(private val callbacks: List<String>, context:
 
     override fun onBindViewHolder(holder: ViewHolder, position: Int)
     {
-        holder.callbackName.text = callbacks[position]
+        holder.callbackName.text = callbacks[(firstCallbackIndex + position) % MAX_CALLBACKS]
     }
 
     override fun getItemCount(): Int
     {
-        return callbacks.count()
+        return callbackCount
     }
 
     inner class ViewHolder(view: View) : RecyclerView.ViewHolder(view)
     {
         val callbackName: TextView = view.findViewById(R.id.callbackName)
     }
+
+    companion object
+    {
+        private const val MAX_CALLBACKS = 500
+    }
 }
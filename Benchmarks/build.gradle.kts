@@ -0,0 +1,48 @@
+plugins {
+    id("java")
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+repositories {
+    mavenCentral()
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_1_8
+    targetCompatibility = JavaVersion.VERSION_1_8
+}
+
+tasks.withType<JavaCompile> {
+    options.encoding = "UTF-8"
+}
+
+// The adapters under benchmark are compiled straight from their modules, against stubs of the Android, AppLovin and network SDK classes they use
+sourceSets {
+    main {
+        java {
+            setSrcDirs(listOf(
+                "src/stubs/java",
+                "../IronSource/src/main/java",
+                "../Mintegral/src/main/java",
+                "../Smaato/src/main/java",
+                "../Tapjoy/src/main/java"
+            ))
+        }
+    }
+}
+
+dependencies {
+    // Not part of the JDK - the benchmarks use it as the baseline for Android's bundled org.json
+    implementation("org.json:json:20231013")
+}
+
+jmh {
+    jmhVersion.set("1.36")
+    resultFormat.set("JSON")
+
+    // e.g. `gradle jmh -Pbenchmarks=RouterBenchmark`
+    val benchmarks = providers.gradleProperty("benchmarks").orNull
+    if (benchmarks != null) {
+        includes.set(listOf(benchmarks))
+    }
+}
@@ -0,0 +1,2 @@
+// Standalone JVM build - the benchmarks do not need the Android toolchain or the network SDKs
+rootProject.name = "benchmarks"
@@ -0,0 +1,112 @@
+package com.applovin.mediation.benchmarks;
+
+import android.os.Bundle;
+
+import com.applovin.mediation.MaxReward;
+import com.applovin.mediation.adapter.MaxAdapterError;
+import com.applovin.mediation.adapter.listeners.MaxInterstitialAdapterListener;
+import com.applovin.mediation.adapter.listeners.MaxNativeAdAdapterListener;
+import com.applovin.mediation.adapter.listeners.MaxRewardedAdapterListener;
+import com.applovin.mediation.nativeAds.MaxNativeAd;
+
+/**
+ * Adapter listener that counts the callbacks it receives and keeps the last native ad, so benchmarks can consume their results.
+ */
+class BenchmarkAdapterListener
+        implements MaxInterstitialAdapterListener, MaxRewardedAdapterListener, MaxNativeAdAdapterListener
+{
+    volatile int         callbackCount;
+    volatile MaxNativeAd nativeAd;
+    volatile Object      lastResult;
+
+    private void onCallback(final Object result)
+    {
+        lastResult = result;
+        callbackCount++;
+    }
+
+    //region MaxInterstitialAdapterListener
+
+    @Override
+    public void onInterstitialAdLoaded() { onCallback( null ); }
+
+    @Override
+    public void onInterstitialAdLoaded(final Bundle extraInfo) { onCallback( extraInfo ); }
+
+    @Override
+    public void onInterstitialAdLoadFailed(final MaxAdapterError adapterError) { onCallback( adapterError ); }
+
+    @Override
+    public void onInterstitialAdDisplayed() { onCallback( null ); }
+
+    @Override
+    public void onInterstitialAdDisplayed(final Bundle extraInfo) { onCallback( extraInfo ); }
+
+    @Override
+    public void onInterstitialAdDisplayFailed(final MaxAdapterError adapterError) { onCallback( adapterError ); }
+
+    @Override
+    public void onInterstitialAdClicked() { onCallback( null ); }
+
+    @Override
+    public void onInterstitialAdHidden() { onCallback( null ); }
+
+    //endregion
+
+    //region MaxRewardedAdapterListener
+
+    @Override
+    public void onRewardedAdLoaded() { onCallback( null ); }
+
+    @Override
+    public void onRewardedAdLoaded(final Bundle extraInfo) { onCallback( extraInfo ); }
+
+    @Override
+    public void onRewardedAdLoadFailed(final MaxAdapterError adapterError) { onCallback( adapterError ); }
+
+    @Override
+    public void onRewardedAdDisplayed() { onCallback( null ); }
+
+    @Override
+    public void onRewardedAdDisplayed(final Bundle extraInfo) { onCallback( extraInfo ); }
+
+    @Override
+    public void onRewardedAdDisplayFailed(final MaxAdapterError adapterError) { onCallback( adapterError ); }
+
+    @Override
+    public void onRewardedAdClicked() { onCallback( null ); }
+
+    @Override
+    public void onRewardedAdHidden() { onCallback( null ); }
+
+    @Override
+    public void onRewardedAdVideoStarted() { onCallback( null ); }
+
+    @Override
+    public void onRewardedAdVideoCompleted() { onCallback( null ); }
+
+    @Override
+    public void onUserRewarded(final MaxReward reward) { onCallback( reward ); }
+
+    //endregion
+
+    //region MaxNativeAdAdapterListener
+
+    @Override
+    public void onNativeAdLoaded(final MaxNativeAd nativeAd, final Bundle extraInfo)
+    {
+        this.nativeAd = nativeAd;
+        onCallback( nativeAd );
+    }
+
+    @Override
+    public void onNativeAdLoadFailed(final MaxAdapterError adapterError) { onCallback( adapterError ); }
+
+    @Override
+    public void onNativeAdDisplayed(final Bundle extraInfo) { onCallback( extraInfo ); }
+
+    @Override
+    public void onNativeAdClicked() { onCallback( null ); }
+
+    //endregion
+}
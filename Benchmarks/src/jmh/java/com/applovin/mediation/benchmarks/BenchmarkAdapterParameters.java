@@ -0,0 +1,101 @@
+package com.applovin.mediation.benchmarks;
+
+import android.os.Bundle;
+
+import com.applovin.mediation.MaxAdFormat;
+import com.applovin.mediation.adapter.parameters.MaxAdapterInitializationParameters;
+import com.applovin.mediation.adapter.parameters.MaxAdapterResponseParameters;
+import com.applovin.mediation.adapter.parameters.MaxAdapterSignalCollectionParameters;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Adapter parameters with the shape of a typical ad response, for driving adapters in benchmarks.
+ */
+class BenchmarkAdapterParameters
+        implements MaxAdapterInitializationParameters, MaxAdapterResponseParameters, MaxAdapterSignalCollectionParameters
+{
+    private final String              placementId;
+    private final String              bidResponse;
+    private final Bundle              serverParameters;
+    private final Map<String, Object> localExtraParameters = new HashMap<>();
+
+    BenchmarkAdapterParameters(final String placementId, final String bidResponse)
+    {
+        this( placementId, bidResponse, createServerParameters() );
+    }
+
+    BenchmarkAdapterParameters(final String placementId, final String bidResponse, final Bundle serverParameters)
+    {
+        this.placementId = placementId;
+        this.bidResponse = bidResponse;
+        this.serverParameters = serverParameters;
+    }
+
+    /**
+     * Returns server parameters with the keys and value types the adapters read during initialization and ad loads.
+     */
+    static Bundle createServerParameters()
+    {
+        final Bundle serverParameters = new Bundle();
+        serverParameters.putString( "app_id", "118690" );
+        serverParameters.putString( "app_key", "7c22942b749fe6a6e361b675e96b3ee9" );
+        serverParameters.putString( "pub_id", "1100042525" );
+        serverParameters.putString( "placement_id", "290653" );
+        serverParameters.putString( "template", "" );
+        serverParameters.putString( "reward_label", "coins" );
+        serverParameters.putInt( "reward_amount", 10 );
+        serverParameters.putInt( "image_task_timeout_seconds", 5 );
+        serverParameters.putLong( "signal_cache_ttl_sec", 60L );
+        serverParameters.putBoolean( "is_muted", true );
+        serverParameters.putBoolean( "https_only", false );
+        serverParameters.putBoolean( "set_mediation_identifier", true );
+        serverParameters.putBoolean( "enable_signal_cache", false );
+        serverParameters.putString( "event_id", "4a7e3b6c-9a58-4c5e-a8c5-5b0d1e2f3a4b" );
+
+        return serverParameters;
+    }
+
+    @Override
+    public String getAdUnitId() { return "benchmark_ad_unit"; }
+
+    @Override
+    public Bundle getServerParameters() { return serverParameters; }
+
+    @Override
+    public Bundle getCustomParameters() { return new Bundle(); }
+
+    @Override
+    public Map<String, Object> getLocalExtraParameters() { return localExtraParameters; }
+
+    @Override
+    public Boolean hasUserConsent() { return true; }
+
+    @Override
+    public Boolean isAgeRestrictedUser() { return false; }
+
+    @Override
+    public Boolean isDoNotSell() { return false; }
+
+    @Override
+    public String getConsentString() { return null; }
+
+    @Override
+    public boolean isTesting() { return false; }
+
+    @Override
+    public String getThirdPartyAdPlacementId() { return placementId; }
+
+    @Override
+    public String getBidResponse() { return bidResponse; }
+
+    @Override
+    public boolean isBidding() { return bidResponse != null; }
+
+    @Override
+    public long getBidExpirationMillis() { return -1L; }
+
+    @Override
+    public MaxAdFormat getAdFormat() { return MaxAdFormat.INTERSTITIAL; }
+}
@@ -0,0 +1,99 @@
+package com.applovin.mediation.benchmarks;
+
+import com.applovin.mediation.adapters.TapjoyMediationAdapter;
+import com.applovin.sdk.AppLovinSdkUtils;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding Tapjoy's bid response into auction data with {@code JSONObject} and {@code AppLovinSdkUtils.toMap()}, as the adapter used to,
+ * against the adapter's single-pass {@code AuctionDataParser}. Payloads are multi-KB auction responses: plain, with escaped strings, and with a
+ * nested value that makes the parser fall back to {@code JSONObject}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BidResponseParsingBenchmark
+{
+    private static final MethodHandle TAPJOY_PARSE_AUCTION_DATA = Reflection.findMethod( Reflection.findClass( TapjoyMediationAdapter.class.getName() + "$AuctionDataParser" ), "parse", String.class );
+
+    private static final String BASE64_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+
+    @Param({ "flat", "escaped", "nested" })
+    public String payload;
+
+    private String bidResponse;
+
+    @Setup
+    public void setUp()
+    {
+        final Random random = new Random( 42 );
+
+        final StringBuilder json = new StringBuilder( 8192 );
+        json.append( "{\"id\":\"" ).append( randomString( random, 36 ) ).append( '"' );
+        json.append( ",\"tj_placement_name\":\"applovin_rewarded\"" );
+        json.append( ",\"tj_auction_id\":\"" ).append( randomString( random, 24 ) ).append( '"' );
+        json.append( ",\"tj_price\":1.8425" );
+        json.append( ",\"tj_currency\":\"USD\"" );
+        json.append( ",\"tj_ttl\":3600" );
+        json.append( ",\"tj_test\":false" );
+        json.append( ",\"tj_data\":\"" ).append( randomString( random, 6144 ) ).append( '"' );
+
+        if ( "escaped".equals( payload ) )
+        {
+            json.append( ",\"tj_click_url\":\"https:\\/\\/rpc.tapjoy.com\\/click?campaign=" ).append( randomString( random, 64 ) ).append( "&name=\\u00c9t\\u00e9\\n\"" );
+            json.append( ",\"tj_adm\":\"<div class=\\\"creative\\\">" ).append( randomString( random, 1024 ) ).append( "<\\/div>\"" );
+        }
+        else if ( "nested".equals( payload ) )
+        {
+            json.append( ",\"tj_ext\":{\"sdk\":\"13.0.1\",\"viewability\":[\"omid\",\"mraid\"]}" );
+        }
+
+        json.append( '}' );
+
+        bidResponse = json.toString();
+    }
+
+    @Benchmark
+    public Map<String, String> jsonObject()
+    {
+        return AppLovinSdkUtils.toMap( new JSONObject( bidResponse ) );
+    }
+
+    @Benchmark
+    public HashMap<String, String> auctionDataParser() throws Throwable
+    {
+        return (HashMap<String, String>) TAPJOY_PARSE_AUCTION_DATA.invokeExact( bidResponse );
+    }
+
+    private static String randomString(final Random random, final int length)
+    {
+        final char[] chars = new char[length];
+        for ( int i = 0; i < length; i++ )
+        {
+            chars[i] = BASE64_ALPHABET.charAt( random.nextInt( BASE64_ALPHABET.length() ) );
+        }
+
+        return new String( chars );
+    }
+}
@@ -0,0 +1,66 @@
+package com.applovin.mediation.benchmarks;
+
+import android.os.Bundle;
+
+import com.applovin.impl.sdk.utils.BundleUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the server parameter reads an adapter makes while loading an ad, through {@link BundleUtils} and through the {@link Bundle} accessors
+ * the adapters also call directly. {@code BundleUtils} is an SDK class, so this runs against the stub that mirrors it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BundleUtilsBenchmark
+{
+    private final Bundle serverParameters = BenchmarkAdapterParameters.createServerParameters();
+
+    /**
+     * The reads of a native ad load: present keys, a missing key with a default, and a boolean.
+     */
+    @Benchmark
+    public void bundleUtilsLoadParameters(final Blackhole blackhole)
+    {
+        blackhole.consume( BundleUtils.getString( "placement_id", serverParameters ) );
+        blackhole.consume( BundleUtils.getString( "template", "", serverParameters ) );
+        blackhole.consume( BundleUtils.getInt( "image_task_timeout_seconds", 10, serverParameters ) );
+        blackhole.consume( BundleUtils.getBoolean( "is_muted", serverParameters ) );
+        blackhole.consume( BundleUtils.getString( "missing_key", "default", serverParameters ) );
+    }
+
+    @Benchmark
+    public void bundleLoadParameters(final Blackhole blackhole)
+    {
+        blackhole.consume( serverParameters.getString( "placement_id" ) );
+        blackhole.consume( serverParameters.getString( "template", "" ) );
+        blackhole.consume( serverParameters.getInt( "image_task_timeout_seconds", 10 ) );
+        blackhole.consume( serverParameters.getBoolean( "is_muted" ) );
+        blackhole.consume( serverParameters.getString( "missing_key", "default" ) );
+    }
+
+    /**
+     * The reads of {@code collectSignal()} with the signal cache enabled, which happen on every auction.
+     */
+    @Benchmark
+    public void bundleUtilsSignalParameters(final Blackhole blackhole)
+    {
+        blackhole.consume( BundleUtils.getBoolean( "enable_signal_cache", false, serverParameters ) );
+        blackhole.consume( BundleUtils.getLong( "signal_cache_ttl_sec", 60L, serverParameters ) );
+    }
+}
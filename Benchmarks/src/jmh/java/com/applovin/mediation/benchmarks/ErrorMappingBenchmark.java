@@ -0,0 +1,106 @@
+package com.applovin.mediation.benchmarks;
+
+import com.applovin.mediation.adapter.MaxAdapterError;
+import com.applovin.mediation.adapters.IronSourceMediationAdapter;
+import com.applovin.mediation.adapters.MintegralMediationAdapter;
+import com.applovin.mediation.adapters.SmaatoMediationAdapter;
+import com.ironsource.mediationsdk.logger.IronSourceError;
+import com.smaato.sdk.banner.widget.BannerError;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@code toMaxError()} mappings that run on every failed load: Mintegral's message classification, ironSource's error code switch and
+ * Smaato's enum switch. Each invocation maps a mix of known and unknown errors.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ErrorMappingBenchmark
+{
+    private static final MethodHandle MINTEGRAL_TO_MAX_ERROR  = Reflection.findMethod( MintegralMediationAdapter.class, "toMaxError", String.class );
+    private static final MethodHandle IRON_SOURCE_TO_MAX_ERROR = Reflection.findMethod( Reflection.findClass( IronSourceMediationAdapter.class.getName() + "$IronSourceRouter" ), "toMaxError", IronSourceError.class );
+    private static final MethodHandle SMAATO_TO_MAX_ERROR      = Reflection.findMethod( SmaatoMediationAdapter.class, "toMaxError", BannerError.class );
+
+    private static final int ERROR_COUNT = 8;
+
+    // Messages as Mintegral reports them, from exact matches to codes embedded in longer messages, plus one that matches nothing
+    private final String[] mintegralErrors = new String[] {
+            "init error",
+            "no ads available can show",
+            "EXCEPTION_RETURN_EMPTY",
+            "Network exception",
+            "load timeout",
+            "EXCEPTION_UNIT_NOT_FOUND: unit 1688233 was not found in app 118690",
+            "v3 is timeout,EXCEPTION_TIMEOUT",
+            "something went wrong while rendering the campaign"
+    };
+
+    private final IronSourceError[] ironSourceErrors = new IronSourceError[] {
+            new IronSourceError( IronSourceError.ERROR_CODE_NO_ADS_TO_SHOW, "No ads to show" ),
+            new IronSourceError( IronSourceError.ERROR_RV_LOAD_NO_FILL, "No fill" ),
+            new IronSourceError( IronSourceError.ERROR_IS_LOAD_NO_FILL, "No fill" ),
+            new IronSourceError( IronSourceError.ERROR_NO_INTERNET_CONNECTION, "No internet connection" ),
+            new IronSourceError( IronSourceError.ERROR_DO_IS_LOAD_TIMED_OUT, "Load timed out" ),
+            new IronSourceError( IronSourceError.ERROR_CODE_INIT_FAILED, "Init failed" ),
+            new IronSourceError( IronSourceError.AUCTION_ERROR_EMPTY_WATERFALL, "Empty waterfall" ),
+            new IronSourceError( 9999, "Unknown error" )
+    };
+
+    private final BannerError[] smaatoErrors = new BannerError[] {
+            BannerError.NO_AD_AVAILABLE,
+            BannerError.INVALID_REQUEST,
+            BannerError.NETWORK_ERROR,
+            BannerError.INTERNAL_ERROR,
+            BannerError.CACHE_LIMIT_REACHED,
+            BannerError.CREATIVE_RESOURCE_EXPIRED,
+            BannerError.AD_UNLOADED,
+            BannerError.NO_AD_AVAILABLE
+    };
+
+    @Benchmark
+    @OperationsPerInvocation(ERROR_COUNT)
+    public void mintegralToMaxError(final Blackhole blackhole) throws Throwable
+    {
+        for ( final String error : mintegralErrors )
+        {
+            blackhole.consume( (MaxAdapterError) MINTEGRAL_TO_MAX_ERROR.invokeExact( error ) );
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ERROR_COUNT)
+    public void ironSourceToMaxError(final Blackhole blackhole) throws Throwable
+    {
+        for ( final IronSourceError error : ironSourceErrors )
+        {
+            blackhole.consume( (MaxAdapterError) IRON_SOURCE_TO_MAX_ERROR.invokeExact( error ) );
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ERROR_COUNT)
+    public void smaatoToMaxError(final Blackhole blackhole) throws Throwable
+    {
+        for ( final BannerError error : smaatoErrors )
+        {
+            blackhole.consume( (MaxAdapterError) SMAATO_TO_MAX_ERROR.invokeExact( error ) );
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.applovin.mediation.benchmarks;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.drawable.BitmapDrawable;
+import android.net.Uri;
+
+import com.applovin.mediation.adapter.listeners.MaxNativeAdAdapterListener;
+import com.applovin.mediation.adapter.parameters.MaxAdapterResponseParameters;
+import com.applovin.mediation.adapters.MintegralMediationAdapter;
+import com.applovin.mediation.adapters.SmaatoMediationAdapter;
+import com.applovin.sdk.AppLovinSdk;
+import com.mbridge.msdk.out.Campaign;
+import com.mbridge.msdk.out.NativeListener;
+import com.smaato.sdk.nativead.NativeAd;
+import com.smaato.sdk.nativead.NativeAdAssets;
+import com.smaato.sdk.nativead.NativeAdRenderer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Measures the assembly of a {@code MaxNativeAd} from a network's loaded native ad, from the network callback to
+ * {@link MaxNativeAdAdapterListener#onNativeAdLoaded}. Mintegral's icon is served from the image pipeline's memory cache, which is warmed in setup,
+ * so the benchmark covers the steady state rather than the first fetch.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NativeAdAssemblyBenchmark
+{
+    private static final long ICON_FETCH_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis( 10 );
+
+    private final AppLovinSdk              sdk      = new AppLovinSdk();
+    private final Context                  context  = new Context();
+    private final BenchmarkAdapterListener listener = new BenchmarkAdapterListener();
+
+    private File iconFile;
+
+    private MintegralMediationAdapter       mintegralAdapter;
+    private NativeListener.NativeAdListener mintegralListener;
+    private List<Campaign>                  mintegralCampaigns;
+
+    private SmaatoMediationAdapter smaatoAdapter;
+    private NativeAd.Listener      smaatoListener;
+    private NativeAd               smaatoNativeAd;
+    private NativeAdRenderer       smaatoRenderer;
+
+    @Setup
+    public void setUp() throws IOException, InterruptedException
+    {
+        iconFile = File.createTempFile( "native-ad-icon", ".png" );
+        ImageIO.write( new BufferedImage( 512, 512, BufferedImage.TYPE_INT_ARGB ), "png", iconFile );
+
+        final BenchmarkAdapterParameters parameters = new BenchmarkAdapterParameters( "290653", "bid_response" );
+        final Class<?>[] listenerParameterTypes = new Class<?>[] { MaxAdapterResponseParameters.class, Context.class, MaxNativeAdAdapterListener.class };
+
+        final Campaign campaign = new Campaign();
+        campaign.setAppName( "Benchmark Game" );
+        campaign.setAppDesc( "A game that exists only to be benchmarked." );
+        campaign.setAdCall( "Install" );
+        campaign.setIconUrl( iconFile.toURI().toString() );
+        campaign.setImageUrl( "https://example.com/main_image.jpg" );
+        mintegralCampaigns = Collections.singletonList( campaign );
+
+        mintegralAdapter = new MintegralMediationAdapter( sdk );
+        mintegralListener = (NativeListener.NativeAdListener) Reflection.newInstance( Reflection.findClass( MintegralMediationAdapter.class.getName() + "$NativeAdListener" ),
+                                                                                       prepend( MintegralMediationAdapter.class, listenerParameterTypes ),
+                                                                                       mintegralAdapter, parameters, context, listener );
+
+        // The first load fetches and decodes the icon on the caching executor - wait for it so measurements hit the memory cache
+        mintegralListener.onAdLoaded( mintegralCampaigns, 0 );
+        final long deadline = System.currentTimeMillis() + ICON_FETCH_TIMEOUT_MILLIS;
+        while ( listener.nativeAd == null )
+        {
+            if ( System.currentTimeMillis() > deadline ) throw new IllegalStateException( "Timed out fetching the native ad icon" );
+
+            Thread.sleep( 10 );
+        }
+
+        // A failed fetch also completes the load, just without an icon - which would leave every measurement fetching it again
+        if ( listener.nativeAd.getIcon() == null ) throw new IllegalStateException( "Failed to fetch the native ad icon" );
+
+        final BitmapDrawable icon = new BitmapDrawable( context.getResources(), Bitmap.createBitmap( 160, 160, Bitmap.Config.ARGB_8888 ) );
+        final BitmapDrawable mainImage = new BitmapDrawable( context.getResources(), Bitmap.createBitmap( 1200, 627, Bitmap.Config.ARGB_8888 ) );
+        final NativeAdAssets assets = new NativeAdAssets( "Benchmark Game",
+                                                          "A game that exists only to be benchmarked.",
+                                                          "Benchmark Studios",
+                                                          "Install",
+                                                          new NativeAdAssets.Image( icon, Uri.parse( "https://example.com/icon.png" ) ),
+                                                          Collections.singletonList( new NativeAdAssets.Image( mainImage, Uri.parse( "https://example.com/main_image.jpg" ) ) ) );
+
+        smaatoAdapter = new SmaatoMediationAdapter( sdk );
+        smaatoListener = (NativeAd.Listener) Reflection.newInstance( Reflection.findClass( SmaatoMediationAdapter.class.getName() + "$NativeAdListener" ),
+                                                                     prepend( SmaatoMediationAdapter.class, listenerParameterTypes ),
+                                                                     smaatoAdapter, parameters, context, listener );
+        smaatoNativeAd = new NativeAd();
+        smaatoRenderer = new NativeAdRenderer( assets );
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        mintegralAdapter.onDestroy();
+        smaatoAdapter.onDestroy();
+
+        iconFile.delete();
+    }
+
+    @Benchmark
+    public Object mintegralNativeAdLoaded()
+    {
+        mintegralListener.onAdLoaded( mintegralCampaigns, 0 );
+        return listener.nativeAd;
+    }
+
+    @Benchmark
+    public Object smaatoNativeAdLoaded()
+    {
+        smaatoListener.onAdLoaded( smaatoNativeAd, smaatoRenderer );
+        return listener.nativeAd;
+    }
+
+    private static Class<?>[] prepend(final Class<?> outerClass, final Class<?>[] parameterTypes)
+    {
+        final Class<?>[] innerClassParameterTypes = new Class<?>[parameterTypes.length + 1];
+        innerClassParameterTypes[0] = outerClass;
+        System.arraycopy( parameterTypes, 0, innerClassParameterTypes, 1, parameterTypes.length );
+
+        return innerClassParameterTypes;
+    }
+}
@@ -0,0 +1,88 @@
+package com.applovin.mediation.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Reaches the private adapter internals under benchmark. Handles are resolved once and held in static finals, so the JIT inlines them like
+ * direct calls.
+ */
+final class Reflection
+{
+    private Reflection() { }
+
+    static Class<?> findClass(final String className)
+    {
+        try
+        {
+            return Class.forName( className );
+        }
+        catch ( ClassNotFoundException ex )
+        {
+            throw new IllegalStateException( ex );
+        }
+    }
+
+    static MethodHandle findMethod(final Class<?> clazz, final String methodName, final Class<?>... parameterTypes)
+    {
+        try
+        {
+            final Method method = clazz.getDeclaredMethod( methodName, parameterTypes );
+            method.setAccessible( true );
+
+            return MethodHandles.lookup().unreflect( method );
+        }
+        catch ( ReflectiveOperationException ex )
+        {
+            throw new IllegalStateException( ex );
+        }
+    }
+
+    static Object getStaticField(final Class<?> clazz, final String fieldName)
+    {
+        try
+        {
+            final Field field = clazz.getDeclaredField( fieldName );
+            field.setAccessible( true );
+
+            return field.get( null );
+        }
+        catch ( ReflectiveOperationException ex )
+        {
+            throw new IllegalStateException( ex );
+        }
+    }
+
+    static Object invoke(final Object target, final String methodName)
+    {
+        try
+        {
+            final Method method = target.getClass().getDeclaredMethod( methodName );
+            method.setAccessible( true );
+
+            return method.invoke( target );
+        }
+        catch ( ReflectiveOperationException ex )
+        {
+            throw new IllegalStateException( ex );
+        }
+    }
+
+    static Object newInstance(final Class<?> clazz, final Class<?>[] parameterTypes, final Object... arguments)
+    {
+        try
+        {
+            final Constructor<?> constructor = clazz.getDeclaredConstructor( parameterTypes );
+            constructor.setAccessible( true );
+
+            return constructor.newInstance( arguments );
+        }
+        catch ( ReflectiveOperationException ex )
+        {
+            throw new IllegalStateException( ex );
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.applovin.mediation.benchmarks;
+
+import android.app.Activity;
+
+import com.applovin.mediation.adapter.MaxInterstitialAdapter;
+import com.applovin.mediation.adapters.IronSourceMediationAdapter;
+import com.applovin.mediation.adapters.MintegralMediationAdapter;
+import com.applovin.mediation.adapters.SmaatoMediationAdapter;
+import com.applovin.sdk.AppLovinSdk;
+import com.ironsource.mediationsdk.sdk.ISDemandOnlyInterstitialListener;
+import com.mbridge.msdk.interstitialvideo.out.InterstitialVideoListener;
+import com.mbridge.msdk.out.MBridgeIds;
+import com.smaato.sdk.interstitial.EventListener;
+import com.smaato.sdk.interstitial.InterstitialAd;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long the routers of networks with a single global listener take to route a load callback to the adapter registered for its
+ * placement, with {@link #placementCount} interstitials loading at once. {@code MediationAdapterRouter} is an SDK class, so the registry lookups
+ * run against its stub, while the identifier building and the per-network callback handling are the adapters' own.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RouterBenchmark
+{
+    @Param({ "1", "16", "128" })
+    public int placementCount;
+
+    private final AppLovinSdk                  sdk      = new AppLovinSdk();
+    private final Activity                     activity = new Activity();
+    private final BenchmarkAdapterListener     listener = new BenchmarkAdapterListener();
+    private final List<MaxInterstitialAdapter> adapters = new ArrayList<>();
+
+    private ISDemandOnlyInterstitialListener ironSourceRouter;
+    private InterstitialVideoListener        mintegralRouter;
+    private EventListener                    smaatoRouter;
+
+    private String[]         instanceIds;
+    private MBridgeIds[]     mBridgeIds;
+    private InterstitialAd[] smaatoAds;
+    private int              placementIndex;
+
+    @Setup
+    public void setUp()
+    {
+        instanceIds = new String[placementCount];
+        mBridgeIds = new MBridgeIds[placementCount];
+        smaatoAds = new InterstitialAd[placementCount];
+
+        for ( int i = 0; i < placementCount; i++ )
+        {
+            final String placementId = "placement_" + i;
+            instanceIds[i] = placementId;
+            mBridgeIds[i] = new MBridgeIds( "290653", placementId );
+            smaatoAds[i] = new InterstitialAd( placementId, "creative_" + i );
+
+            // Register through the adapters' own load paths, as the SDK does
+            final BenchmarkAdapterParameters parameters = new BenchmarkAdapterParameters( placementId, null );
+            load( new IronSourceMediationAdapter( sdk ), parameters );
+            load( new MintegralMediationAdapter( sdk ), parameters );
+            load( new SmaatoMediationAdapter( sdk ), parameters );
+        }
+
+        ironSourceRouter = (ISDemandOnlyInterstitialListener) Reflection.getStaticField( IronSourceMediationAdapter.class, "ROUTER" );
+        mintegralRouter = (InterstitialVideoListener) Reflection.invoke( Reflection.getStaticField( MintegralMediationAdapter.class, "router" ), "getInterstitialListener" );
+        smaatoRouter = (EventListener) Reflection.getStaticField( SmaatoMediationAdapter.class, "ROUTER" );
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        for ( final MaxInterstitialAdapter adapter : adapters )
+        {
+            adapter.onDestroy();
+        }
+
+        adapters.clear();
+    }
+
+    @Benchmark
+    public int ironSourceLoadCallback()
+    {
+        ironSourceRouter.onInterstitialAdReady( instanceIds[nextPlacementIndex()] );
+        return listener.callbackCount;
+    }
+
+    @Benchmark
+    public int mintegralLoadCallback()
+    {
+        mintegralRouter.onVideoLoadSuccess( mBridgeIds[nextPlacementIndex()] );
+        return listener.callbackCount;
+    }
+
+    @Benchmark
+    public int smaatoLoadCallback()
+    {
+        smaatoRouter.onAdLoaded( smaatoAds[nextPlacementIndex()] );
+        return listener.callbackCount;
+    }
+
+    private int nextPlacementIndex()
+    {
+        final int index = placementIndex;
+        placementIndex = ( index + 1 < placementCount ) ? index + 1 : 0;
+
+        return index;
+    }
+
+    private void load(final MaxInterstitialAdapter adapter, final BenchmarkAdapterParameters parameters)
+    {
+        adapter.loadInterstitialAd( parameters, activity, listener );
+        adapters.add( adapter );
+    }
+}
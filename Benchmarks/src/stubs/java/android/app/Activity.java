@@ -0,0 +1,11 @@
+package android.app;
+
+import android.content.Context;
+
+public class Activity
+        extends Context
+{
+    private static final Application application = new Application();
+
+    public final Application getApplication() { return application; }
+}
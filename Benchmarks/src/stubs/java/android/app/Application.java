@@ -0,0 +1,29 @@
+package android.app;
+
+import android.content.Context;
+import android.os.Bundle;
+
+public class Application
+        extends Context
+{
+    public void registerActivityLifecycleCallbacks(final ActivityLifecycleCallbacks callback) { }
+
+    public void unregisterActivityLifecycleCallbacks(final ActivityLifecycleCallbacks callback) { }
+
+    public interface ActivityLifecycleCallbacks
+    {
+        void onActivityCreated(Activity activity, Bundle savedInstanceState);
+
+        void onActivityStarted(Activity activity);
+
+        void onActivityResumed(Activity activity);
+
+        void onActivityPaused(Activity activity);
+
+        void onActivityStopped(Activity activity);
+
+        void onActivitySaveInstanceState(Activity activity, Bundle outState);
+
+        void onActivityDestroyed(Activity activity);
+    }
+}
@@ -0,0 +1,22 @@
+package android.content;
+
+import android.content.res.Resources;
+
+import java.io.File;
+
+/**
+ * Benchmark stub of an Android context. The cache directory lives under {@code java.io.tmpdir}.
+ */
+public class Context
+{
+    private static final Resources resources = new Resources();
+    private static final File      cacheDir  = new File( System.getProperty( "java.io.tmpdir" ), "applovin-benchmarks-cache" );
+
+    public Context getApplicationContext() { return this; }
+
+    public Resources getResources() { return resources; }
+
+    public File getCacheDir() { return cacheDir; }
+
+    public String getPackageName() { return "com.applovin.mediation.benchmarks"; }
+}
@@ -0,0 +1,10 @@
+package android.content.res;
+
+import android.util.DisplayMetrics;
+
+public class Resources
+{
+    private final DisplayMetrics displayMetrics = new DisplayMetrics();
+
+    public DisplayMetrics getDisplayMetrics() { return displayMetrics; }
+}
@@ -0,0 +1,35 @@
+package android.graphics;
+
+/**
+ * Benchmark stub of a decoded bitmap, sized like an ARGB_8888 bitmap on Android.
+ */
+public class Bitmap
+{
+    private final int width;
+    private final int height;
+
+    Bitmap(final int width, final int height)
+    {
+        this.width = width;
+        this.height = height;
+    }
+
+    public static Bitmap createBitmap(final int width, final int height, final Config config) { return new Bitmap( width, height ); }
+
+    public static Bitmap createScaledBitmap(final Bitmap source, final int width, final int height, final boolean filter) { return new Bitmap( width, height ); }
+
+    public int getWidth() { return width; }
+
+    public int getHeight() { return height; }
+
+    public int getByteCount() { return width * height * 4; }
+
+    public void recycle() { }
+
+    public enum Config
+    {
+        ALPHA_8,
+        RGB_565,
+        ARGB_8888
+    }
+}
@@ -0,0 +1,50 @@
+package android.graphics;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Benchmark stub of {@code BitmapFactory} that decodes through {@link ImageIO}, so bounds decoding and downsampling behave like on Android.
+ */
+public class BitmapFactory
+{
+    public static Bitmap decodeByteArray(final byte[] data, final int offset, final int length)
+    {
+        return decodeByteArray( data, offset, length, null );
+    }
+
+    public static Bitmap decodeByteArray(final byte[] data, final int offset, final int length, final Options options)
+    {
+        final BufferedImage image;
+        try
+        {
+            image = ImageIO.read( new ByteArrayInputStream( data, offset, length ) );
+        }
+        catch ( IOException ignored )
+        {
+            return null;
+        }
+
+        if ( image == null ) return null;
+
+        if ( options == null ) return new Bitmap( image.getWidth(), image.getHeight() );
+
+        options.outWidth = image.getWidth();
+        options.outHeight = image.getHeight();
+        if ( options.inJustDecodeBounds ) return null;
+
+        final int sampleSize = Math.max( 1, options.inSampleSize );
+        return new Bitmap( image.getWidth() / sampleSize, image.getHeight() / sampleSize );
+    }
+
+    public static class Options
+    {
+        public boolean inJustDecodeBounds;
+        public int     inSampleSize;
+        public int     outWidth;
+        public int     outHeight;
+    }
+}
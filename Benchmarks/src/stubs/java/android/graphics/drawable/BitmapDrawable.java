@@ -0,0 +1,20 @@
+package android.graphics.drawable;
+
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+
+public class BitmapDrawable
+        extends Drawable
+{
+    private final Bitmap bitmap;
+
+    public BitmapDrawable(final Resources resources, final Bitmap bitmap) { this.bitmap = bitmap; }
+
+    public Bitmap getBitmap() { return bitmap; }
+
+    @Override
+    public int getIntrinsicWidth() { return bitmap.getWidth(); }
+
+    @Override
+    public int getIntrinsicHeight() { return bitmap.getHeight(); }
+}
@@ -0,0 +1,13 @@
+package android.net;
+
+public class Uri
+{
+    private final String uriString;
+
+    private Uri(final String uriString) { this.uriString = uriString; }
+
+    public static Uri parse(final String uriString) { return new Uri( uriString ); }
+
+    @Override
+    public String toString() { return uriString; }
+}
@@ -0,0 +1,114 @@
+package android.os;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Benchmark stub of {@code Bundle}, backed by a {@link HashMap} like the real implementation once unparcelled.
+ */
+public class Bundle
+{
+    private final Map<String, Object> map;
+
+    public Bundle() { map = new HashMap<>(); }
+
+    public Bundle(final int capacity) { map = new HashMap<>( capacity ); }
+
+    public Bundle(final Bundle bundle) { map = new HashMap<>( bundle.map ); }
+
+    public int size() { return map.size(); }
+
+    public boolean isEmpty() { return map.isEmpty(); }
+
+    public boolean containsKey(final String key) { return map.containsKey( key ); }
+
+    public Set<String> keySet() { return map.keySet(); }
+
+    public Object get(final String key) { return map.get( key ); }
+
+    public void remove(final String key) { map.remove( key ); }
+
+    public void putAll(final Bundle bundle) { map.putAll( bundle.map ); }
+
+    public void putString(final String key, final String value) { map.put( key, value ); }
+
+    public void putInt(final String key, final int value) { map.put( key, value ); }
+
+    public void putLong(final String key, final long value) { map.put( key, value ); }
+
+    public void putFloat(final String key, final float value) { map.put( key, value ); }
+
+    public void putDouble(final String key, final double value) { map.put( key, value ); }
+
+    public void putBoolean(final String key, final boolean value) { map.put( key, value ); }
+
+    public void putBundle(final String key, final Bundle value) { map.put( key, value ); }
+
+    public void putStringArrayList(final String key, final ArrayList<String> value) { map.put( key, value ); }
+
+    public String getString(final String key) { return getString( key, null ); }
+
+    public String getString(final String key, final String defaultValue)
+    {
+        final Object value = map.get( key );
+        return ( value instanceof String ) ? (String) value : defaultValue;
+    }
+
+    public int getInt(final String key) { return getInt( key, 0 ); }
+
+    public int getInt(final String key, final int defaultValue)
+    {
+        final Object value = map.get( key );
+        return ( value instanceof Integer ) ? (Integer) value : defaultValue;
+    }
+
+    public long getLong(final String key) { return getLong( key, 0L ); }
+
+    public long getLong(final String key, final long defaultValue)
+    {
+        final Object value = map.get( key );
+        return ( value instanceof Long ) ? (Long) value : defaultValue;
+    }
+
+    public float getFloat(final String key) { return getFloat( key, 0.0f ); }
+
+    public float getFloat(final String key, final float defaultValue)
+    {
+        final Object value = map.get( key );
+        return ( value instanceof Float ) ? (Float) value : defaultValue;
+    }
+
+    public double getDouble(final String key) { return getDouble( key, 0.0 ); }
+
+    public double getDouble(final String key, final double defaultValue)
+    {
+        final Object value = map.get( key );
+        return ( value instanceof Double ) ? (Double) value : defaultValue;
+    }
+
+    public boolean getBoolean(final String key) { return getBoolean( key, false ); }
+
+    public boolean getBoolean(final String key, final boolean defaultValue)
+    {
+        final Object value = map.get( key );
+        return ( value instanceof Boolean ) ? (Boolean) value : defaultValue;
+    }
+
+    public Bundle getBundle(final String key)
+    {
+        final Object value = map.get( key );
+        return ( value instanceof Bundle ) ? (Bundle) value : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public ArrayList<String> getStringArrayList(final String key)
+    {
+        final Object value = map.get( key );
+        return ( value instanceof ArrayList ) ? (ArrayList<String>) value : null;
+    }
+
+    @Override
+    public String toString() { return "Bundle" + map; }
+}
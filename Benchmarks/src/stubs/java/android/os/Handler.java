@@ -0,0 +1,19 @@
+package android.os;
+
+/**
+ * Benchmark stub of {@code Handler}. There is no looper on the JVM, so posted messages are accepted but never run.
+ */
+public class Handler
+{
+    public Handler() { }
+
+    public Handler(final Looper looper) { }
+
+    public final boolean post(final Runnable runnable) { return true; }
+
+    public final boolean postDelayed(final Runnable runnable, final long delayMillis) { return true; }
+
+    public final void removeCallbacks(final Runnable runnable) { }
+
+    public final void removeCallbacksAndMessages(final Object token) { }
+}
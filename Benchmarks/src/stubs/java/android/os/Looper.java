@@ -0,0 +1,12 @@
+package android.os;
+
+public final class Looper
+{
+    private static final Looper mainLooper = new Looper();
+
+    private Looper() { }
+
+    public static Looper getMainLooper() { return mainLooper; }
+
+    public static Looper myLooper() { return mainLooper; }
+}
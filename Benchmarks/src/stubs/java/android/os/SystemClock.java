@@ -0,0 +1,10 @@
+package android.os;
+
+public final class SystemClock
+{
+    private SystemClock() { }
+
+    public static long elapsedRealtime() { return System.nanoTime() / 1000000L; }
+
+    public static long uptimeMillis() { return System.nanoTime() / 1000000L; }
+}
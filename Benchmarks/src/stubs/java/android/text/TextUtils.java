@@ -0,0 +1,14 @@
+package android.text;
+
+public class TextUtils
+{
+    public static boolean isEmpty(final CharSequence text) { return text == null || text.length() == 0; }
+
+    public static boolean equals(final CharSequence a, final CharSequence b)
+    {
+        if ( a == b ) return true;
+        if ( a == null || b == null ) return false;
+
+        return a.toString().equals( b.toString() );
+    }
+}
@@ -0,0 +1,9 @@
+package android.util;
+
+public class DisplayMetrics
+{
+    public float density      = 2.625f;
+    public int   densityDpi   = 420;
+    public int   widthPixels  = 1080;
+    public int   heightPixels = 2340;
+}
@@ -0,0 +1,81 @@
+package android.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Benchmark stub of {@code LruCache} with the same size accounting and eviction order as the framework class.
+ */
+public class LruCache<K, V>
+{
+    private final LinkedHashMap<K, V> map = new LinkedHashMap<>( 0, 0.75f, true );
+    private final int                 maxSize;
+    private       int                 size;
+    private       int                 hitCount;
+    private       int                 missCount;
+
+    public LruCache(final int maxSize) { this.maxSize = maxSize; }
+
+    protected int sizeOf(final K key, final V value) { return 1; }
+
+    public final synchronized V get(final K key)
+    {
+        final V value = map.get( key );
+        if ( value != null )
+        {
+            hitCount++;
+        }
+        else
+        {
+            missCount++;
+        }
+
+        return value;
+    }
+
+    public final synchronized V put(final K key, final V value)
+    {
+        size += sizeOf( key, value );
+
+        final V previous = map.put( key, value );
+        if ( previous != null )
+        {
+            size -= sizeOf( key, previous );
+        }
+
+        trimToSize( maxSize );
+
+        return previous;
+    }
+
+    public final synchronized V remove(final K key)
+    {
+        final V previous = map.remove( key );
+        if ( previous != null )
+        {
+            size -= sizeOf( key, previous );
+        }
+
+        return previous;
+    }
+
+    public final synchronized void evictAll() { trimToSize( -1 ); }
+
+    public final synchronized int size() { return size; }
+
+    public final synchronized int maxSize() { return maxSize; }
+
+    public final synchronized int hitCount() { return hitCount; }
+
+    public final synchronized int missCount() { return missCount; }
+
+    private void trimToSize(final int maxSize)
+    {
+        while ( size > maxSize && !map.isEmpty() )
+        {
+            final Map.Entry<K, V> eldest = map.entrySet().iterator().next();
+            map.remove( eldest.getKey() );
+            size -= sizeOf( eldest.getKey(), eldest.getValue() );
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package android.view;
+
+import android.content.Context;
+
+public class View
+{
+    private final Context context;
+    private       Object  tag;
+
+    public View(final Context context) { this.context = context; }
+
+    public Context getContext() { return context; }
+
+    public Object getTag() { return tag; }
+
+    public void setTag(final Object tag) { this.tag = tag; }
+
+    public void setOnClickListener(final OnClickListener listener) { }
+
+    public interface OnClickListener
+    {
+        void onClick(View view);
+    }
+}
@@ -0,0 +1,22 @@
+package android.view;
+
+import android.content.Context;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ViewGroup
+        extends View
+{
+    private final List<View> children = new ArrayList<>();
+
+    public ViewGroup(final Context context) { super( context ); }
+
+    public void addView(final View child) { children.add( child ); }
+
+    public void removeView(final View child) { children.remove( child ); }
+
+    public void removeAllViews() { children.clear(); }
+
+    public int getChildCount() { return children.size(); }
+}
@@ -0,0 +1,9 @@
+package android.widget;
+
+import android.content.Context;
+
+public class Button
+        extends TextView
+{
+    public Button(final Context context) { super( context ); }
+}
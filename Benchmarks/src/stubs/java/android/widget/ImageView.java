@@ -0,0 +1,20 @@
+package android.widget;
+
+import android.content.Context;
+import android.graphics.drawable.Drawable;
+import android.net.Uri;
+import android.view.View;
+
+public class ImageView
+        extends View
+{
+    private Drawable drawable;
+
+    public ImageView(final Context context) { super( context ); }
+
+    public Drawable getDrawable() { return drawable; }
+
+    public void setImageDrawable(final Drawable drawable) { this.drawable = drawable; }
+
+    public void setImageURI(final Uri uri) { }
+}
@@ -0,0 +1,16 @@
+package android.widget;
+
+import android.content.Context;
+import android.view.View;
+
+public class TextView
+        extends View
+{
+    private CharSequence text;
+
+    public TextView(final Context context) { super( context ); }
+
+    public CharSequence getText() { return text; }
+
+    public void setText(final CharSequence text) { this.text = text; }
+}
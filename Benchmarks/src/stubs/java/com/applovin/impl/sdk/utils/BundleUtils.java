@@ -0,0 +1,85 @@
+package com.applovin.impl.sdk.utils;
+
+import android.os.Bundle;
+
+/**
+ * Benchmark stub of the SDK's {@code BundleUtils}, mirroring its null-safe, default-returning accessors.
+ */
+public class BundleUtils
+{
+    public static String getString(final String key, final Bundle bundle)
+    {
+        return getString( key, null, bundle );
+    }
+
+    public static String getString(final String key, final String defaultValue, final Bundle bundle)
+    {
+        if ( bundle == null ) return defaultValue;
+
+        final Object value = bundle.get( key );
+        return ( value != null ) ? value.toString() : defaultValue;
+    }
+
+    public static int getInt(final String key, final Bundle bundle)
+    {
+        return getInt( key, 0, bundle );
+    }
+
+    public static int getInt(final String key, final int defaultValue, final Bundle bundle)
+    {
+        final Object value = ( bundle != null ) ? bundle.get( key ) : null;
+        if ( value instanceof Number ) return ( (Number) value ).intValue();
+        if ( value instanceof String )
+        {
+            try
+            {
+                return Integer.parseInt( (String) value );
+            }
+            catch ( NumberFormatException ignored ) { }
+        }
+
+        return defaultValue;
+    }
+
+    public static long getLong(final String key, final long defaultValue, final Bundle bundle)
+    {
+        final Object value = ( bundle != null ) ? bundle.get( key ) : null;
+        if ( value instanceof Number ) return ( (Number) value ).longValue();
+        if ( value instanceof String )
+        {
+            try
+            {
+                return Long.parseLong( (String) value );
+            }
+            catch ( NumberFormatException ignored ) { }
+        }
+
+        return defaultValue;
+    }
+
+    public static boolean getBoolean(final String key, final Bundle bundle)
+    {
+        return getBoolean( key, false, bundle );
+    }
+
+    public static boolean getBoolean(final String key, final boolean defaultValue, final Bundle bundle)
+    {
+        final Object value = ( bundle != null ) ? bundle.get( key ) : null;
+        if ( value instanceof Boolean ) return (Boolean) value;
+        if ( value instanceof Number ) return ( (Number) value ).intValue() != 0;
+        if ( value instanceof String ) return Boolean.parseBoolean( (String) value ) || "1".equals( value );
+
+        return defaultValue;
+    }
+
+    public static Bundle getBundle(final String key, final Bundle bundle)
+    {
+        return getBundle( key, null, bundle );
+    }
+
+    public static Bundle getBundle(final String key, final Bundle defaultValue, final Bundle bundle)
+    {
+        final Bundle value = ( bundle != null ) ? bundle.getBundle( key ) : null;
+        return ( value != null ) ? value : defaultValue;
+    }
+}
@@ -0,0 +1,29 @@
+package com.applovin.mediation;
+
+public class MaxAdFormat
+{
+    public static final MaxAdFormat BANNER       = new MaxAdFormat( "BANNER", "Banner" );
+    public static final MaxAdFormat LEADER       = new MaxAdFormat( "LEADER", "Leader" );
+    public static final MaxAdFormat MREC         = new MaxAdFormat( "MREC", "MREC" );
+    public static final MaxAdFormat INTERSTITIAL = new MaxAdFormat( "INTER", "Interstitial" );
+    public static final MaxAdFormat REWARDED     = new MaxAdFormat( "REWARDED", "Rewarded" );
+    public static final MaxAdFormat NATIVE       = new MaxAdFormat( "NATIVE", "Native" );
+
+    private final String label;
+    private final String displayName;
+
+    private MaxAdFormat(final String label, final String displayName)
+    {
+        this.label = label;
+        this.displayName = displayName;
+    }
+
+    public String getLabel() { return label; }
+
+    public String getDisplayName() { return displayName; }
+
+    public boolean isAdViewAd() { return this == BANNER || this == LEADER || this == MREC; }
+
+    @Override
+    public String toString() { return "MaxAdFormat{label='" + label + "'}"; }
+}
@@ -0,0 +1,24 @@
+package com.applovin.mediation;
+
+public class MaxReward
+{
+    public static final String DEFAULT_LABEL  = "";
+    public static final int    DEFAULT_AMOUNT = 0;
+
+    private final int    amount;
+    private final String label;
+
+    private MaxReward(final int amount, final String label)
+    {
+        this.amount = amount;
+        this.label = label;
+    }
+
+    public static MaxReward create(final int amount, final String label) { return new MaxReward( amount, label ); }
+
+    public static MaxReward createDefault() { return new MaxReward( DEFAULT_AMOUNT, DEFAULT_LABEL ); }
+
+    public int getAmount() { return amount; }
+
+    public String getLabel() { return label; }
+}
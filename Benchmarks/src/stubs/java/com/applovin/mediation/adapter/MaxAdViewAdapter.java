@@ -0,0 +1,13 @@
+package com.applovin.mediation.adapter;
+
+import android.app.Activity;
+
+import com.applovin.mediation.MaxAdFormat;
+import com.applovin.mediation.adapter.listeners.MaxAdViewAdapterListener;
+import com.applovin.mediation.adapter.parameters.MaxAdapterResponseParameters;
+
+public interface MaxAdViewAdapter
+        extends MaxAdapter
+{
+    void loadAdViewAd(MaxAdapterResponseParameters parameters, MaxAdFormat adFormat, Activity activity, MaxAdViewAdapterListener listener);
+}
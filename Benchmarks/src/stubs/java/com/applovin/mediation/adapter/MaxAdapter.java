@@ -0,0 +1,31 @@
+package com.applovin.mediation.adapter;
+
+import android.app.Activity;
+
+import com.applovin.mediation.adapter.parameters.MaxAdapterInitializationParameters;
+
+public interface MaxAdapter
+{
+    void initialize(MaxAdapterInitializationParameters parameters, Activity activity, OnCompletionListener onCompletionListener);
+
+    String getSdkVersion();
+
+    String getAdapterVersion();
+
+    void onDestroy();
+
+    interface OnCompletionListener
+    {
+        void onCompletion(InitializationStatus status, String errorMessage);
+    }
+
+    enum InitializationStatus
+    {
+        NOT_INITIALIZED,
+        DOES_NOT_APPLY,
+        INITIALIZING,
+        INITIALIZED_UNKNOWN,
+        INITIALIZED_FAILURE,
+        INITIALIZED_SUCCESS
+    }
+}
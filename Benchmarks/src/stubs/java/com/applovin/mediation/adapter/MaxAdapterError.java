@@ -0,0 +1,88 @@
+package com.applovin.mediation.adapter;
+
+/**
+ * Benchmark stub of {@code MaxAdapterError}. Adapters only map to these errors and pass their codes along, so the codes are illustrative.
+ */
+public class MaxAdapterError
+{
+    public static final int ERROR_CODE_UNSPECIFIED                       = -5200;
+    public static final int ERROR_CODE_NO_FILL                           = 204;
+    public static final int ERROR_CODE_AD_LOAD_FAILED                    = -5201;
+    public static final int ERROR_CODE_AD_DISPLAY_FAILED                 = -5202;
+    public static final int ERROR_CODE_NO_CONNECTION                     = -5203;
+    public static final int ERROR_CODE_SERVER_ERROR                      = -5204;
+    public static final int ERROR_CODE_INTERNAL_ERROR                    = -5205;
+    public static final int ERROR_CODE_SIGNAL_COLLECTION_TIMEOUT         = -5206;
+    public static final int ERROR_CODE_SIGNAL_COLLECTION_NOT_SUPPORTED   = -5207;
+    public static final int ERROR_CODE_INVALID_LOAD_STATE                = -5208;
+    public static final int ERROR_CODE_INVALID_CONFIGURATION             = -5209;
+    public static final int ERROR_CODE_BAD_REQUEST                       = -5210;
+    public static final int ERROR_CODE_NOT_INITIALIZED                   = -5211;
+    public static final int ERROR_CODE_TIMEOUT                           = -5212;
+    public static final int ERROR_CODE_AD_NOT_READY                      = -5213;
+    public static final int ERROR_CODE_AD_EXPIRED                        = -5214;
+    public static final int ERROR_CODE_AD_FREQUENCY_CAPPED               = -5215;
+    public static final int ERROR_CODE_REWARD_ERROR                      = -5216;
+    public static final int ERROR_CODE_MISSING_REQUIRED_NATIVE_AD_ASSETS = -5217;
+    public static final int ERROR_CODE_WEBVIEW_ERROR                     = -5218;
+    public static final int ERROR_CODE_MISSING_ACTIVITY                  = -5219;
+
+    public static final MaxAdapterError UNSPECIFIED                       = new MaxAdapterError( ERROR_CODE_UNSPECIFIED, "Unspecified Error" );
+    public static final MaxAdapterError NO_FILL                           = new MaxAdapterError( ERROR_CODE_NO_FILL, "No Fill" );
+    public static final MaxAdapterError AD_LOAD_FAILED                    = new MaxAdapterError( ERROR_CODE_AD_LOAD_FAILED, "Ad Load Failed" );
+    public static final MaxAdapterError AD_DISPLAY_FAILED                 = new MaxAdapterError( ERROR_CODE_AD_DISPLAY_FAILED, "Ad Display Failed" );
+    public static final MaxAdapterError NO_CONNECTION                     = new MaxAdapterError( ERROR_CODE_NO_CONNECTION, "No Connection" );
+    public static final MaxAdapterError SERVER_ERROR                      = new MaxAdapterError( ERROR_CODE_SERVER_ERROR, "Server Error" );
+    public static final MaxAdapterError INTERNAL_ERROR                    = new MaxAdapterError( ERROR_CODE_INTERNAL_ERROR, "Internal Error" );
+    public static final MaxAdapterError SIGNAL_COLLECTION_TIMEOUT         = new MaxAdapterError( ERROR_CODE_SIGNAL_COLLECTION_TIMEOUT, "Signal Collection Timeout" );
+    public static final MaxAdapterError SIGNAL_COLLECTION_NOT_SUPPORTED   = new MaxAdapterError( ERROR_CODE_SIGNAL_COLLECTION_NOT_SUPPORTED, "Signal Collection Not Supported" );
+    public static final MaxAdapterError INVALID_LOAD_STATE                = new MaxAdapterError( ERROR_CODE_INVALID_LOAD_STATE, "Invalid Load State" );
+    public static final MaxAdapterError INVALID_CONFIGURATION             = new MaxAdapterError( ERROR_CODE_INVALID_CONFIGURATION, "Invalid Configuration" );
+    public static final MaxAdapterError BAD_REQUEST                       = new MaxAdapterError( ERROR_CODE_BAD_REQUEST, "Bad Request" );
+    public static final MaxAdapterError NOT_INITIALIZED                   = new MaxAdapterError( ERROR_CODE_NOT_INITIALIZED, "Not Initialized" );
+    public static final MaxAdapterError TIMEOUT                           = new MaxAdapterError( ERROR_CODE_TIMEOUT, "Timeout" );
+    public static final MaxAdapterError AD_NOT_READY                      = new MaxAdapterError( ERROR_CODE_AD_NOT_READY, "Ad Not Ready" );
+    public static final MaxAdapterError AD_EXPIRED                        = new MaxAdapterError( ERROR_CODE_AD_EXPIRED, "Ad Expired" );
+    public static final MaxAdapterError AD_FREQUENCY_CAPPED               = new MaxAdapterError( ERROR_CODE_AD_FREQUENCY_CAPPED, "Ad Frequency Capped" );
+    public static final MaxAdapterError REWARD_ERROR                      = new MaxAdapterError( ERROR_CODE_REWARD_ERROR, "Reward Error" );
+    public static final MaxAdapterError MISSING_REQUIRED_NATIVE_AD_ASSETS = new MaxAdapterError( ERROR_CODE_MISSING_REQUIRED_NATIVE_AD_ASSETS, "Missing Native Ad Assets" );
+    public static final MaxAdapterError WEBVIEW_ERROR                     = new MaxAdapterError( ERROR_CODE_WEBVIEW_ERROR, "WebView Error" );
+    public static final MaxAdapterError MISSING_ACTIVITY                  = new MaxAdapterError( ERROR_CODE_MISSING_ACTIVITY, "Missing Activity" );
+
+    private final int    errorCode;
+    private final String errorMessage;
+    private final int    thirdPartySdkErrorCode;
+    private final String thirdPartySdkErrorMessage;
+
+    public MaxAdapterError(final int errorCode) { this( errorCode, "" ); }
+
+    public MaxAdapterError(final int errorCode, final String errorMessage) { this( errorCode, errorMessage, 0, "" ); }
+
+    public MaxAdapterError(final MaxAdapterError error, final int thirdPartySdkErrorCode, final String thirdPartySdkErrorMessage)
+    {
+        this( error.getErrorCode(), error.getErrorMessage(), thirdPartySdkErrorCode, thirdPartySdkErrorMessage );
+    }
+
+    public MaxAdapterError(final int errorCode, final String errorMessage, final int thirdPartySdkErrorCode, final String thirdPartySdkErrorMessage)
+    {
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+        this.thirdPartySdkErrorCode = thirdPartySdkErrorCode;
+        this.thirdPartySdkErrorMessage = thirdPartySdkErrorMessage;
+    }
+
+    public int getErrorCode() { return errorCode; }
+
+    public String getErrorMessage() { return errorMessage; }
+
+    public int getThirdPartySdkErrorCode() { return thirdPartySdkErrorCode; }
+
+    public String getThirdPartySdkErrorMessage() { return thirdPartySdkErrorMessage; }
+
+    @Override
+    public String toString()
+    {
+        return "MaxAdapterError{errorCode=" + errorCode + ", errorMessage='" + errorMessage + "', thirdPartySdkErrorCode=" + thirdPartySdkErrorCode
+                + ", thirdPartySdkErrorMessage='" + thirdPartySdkErrorMessage + "'}";
+    }
+}
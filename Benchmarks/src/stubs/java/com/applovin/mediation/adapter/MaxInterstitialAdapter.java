@@ -0,0 +1,14 @@
+package com.applovin.mediation.adapter;
+
+import android.app.Activity;
+
+import com.applovin.mediation.adapter.listeners.MaxInterstitialAdapterListener;
+import com.applovin.mediation.adapter.parameters.MaxAdapterResponseParameters;
+
+public interface MaxInterstitialAdapter
+        extends MaxAdapter
+{
+    void loadInterstitialAd(MaxAdapterResponseParameters parameters, Activity activity, MaxInterstitialAdapterListener listener);
+
+    void showInterstitialAd(MaxAdapterResponseParameters parameters, Activity activity, MaxInterstitialAdapterListener listener);
+}
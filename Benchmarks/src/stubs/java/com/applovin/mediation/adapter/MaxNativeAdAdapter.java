@@ -0,0 +1,12 @@
+package com.applovin.mediation.adapter;
+
+import android.app.Activity;
+
+import com.applovin.mediation.adapter.listeners.MaxNativeAdAdapterListener;
+import com.applovin.mediation.adapter.parameters.MaxAdapterResponseParameters;
+
+public interface MaxNativeAdAdapter
+        extends MaxAdapter
+{
+    void loadNativeAd(MaxAdapterResponseParameters parameters, Activity activity, MaxNativeAdAdapterListener listener);
+}
@@ -0,0 +1,14 @@
+package com.applovin.mediation.adapter;
+
+import android.app.Activity;
+
+import com.applovin.mediation.adapter.listeners.MaxRewardedAdapterListener;
+import com.applovin.mediation.adapter.parameters.MaxAdapterResponseParameters;
+
+public interface MaxRewardedAdapter
+        extends MaxAdapter
+{
+    void loadRewardedAd(MaxAdapterResponseParameters parameters, Activity activity, MaxRewardedAdapterListener listener);
+
+    void showRewardedAd(MaxAdapterResponseParameters parameters, Activity activity, MaxRewardedAdapterListener listener);
+}
@@ -0,0 +1,11 @@
+package com.applovin.mediation.adapter;
+
+import android.app.Activity;
+
+import com.applovin.mediation.adapter.listeners.MaxSignalCollectionListener;
+import com.applovin.mediation.adapter.parameters.MaxAdapterSignalCollectionParameters;
+
+public interface MaxSignalProvider
+{
+    void collectSignal(MaxAdapterSignalCollectionParameters parameters, Activity activity, MaxSignalCollectionListener callback);
+}
@@ -0,0 +1,30 @@
+package com.applovin.mediation.adapter.listeners;
+
+import android.os.Bundle;
+import android.view.View;
+
+import com.applovin.mediation.adapter.MaxAdapterError;
+
+public interface MaxAdViewAdapterListener
+        extends MaxAdapterListener
+{
+    void onAdViewAdLoaded(View adView);
+
+    void onAdViewAdLoaded(View adView, Bundle extraInfo);
+
+    void onAdViewAdLoadFailed(MaxAdapterError adapterError);
+
+    void onAdViewAdDisplayed();
+
+    void onAdViewAdDisplayed(Bundle extraInfo);
+
+    void onAdViewAdDisplayFailed(MaxAdapterError adapterError);
+
+    void onAdViewAdClicked();
+
+    void onAdViewAdHidden();
+
+    void onAdViewAdExpanded();
+
+    void onAdViewAdCollapsed();
+}
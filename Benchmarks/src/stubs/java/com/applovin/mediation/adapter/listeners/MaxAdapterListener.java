@@ -0,0 +1,3 @@
+package com.applovin.mediation.adapter.listeners;
+
+public interface MaxAdapterListener { }
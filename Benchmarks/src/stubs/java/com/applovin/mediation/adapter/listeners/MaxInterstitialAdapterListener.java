@@ -0,0 +1,25 @@
+package com.applovin.mediation.adapter.listeners;
+
+import android.os.Bundle;
+
+import com.applovin.mediation.adapter.MaxAdapterError;
+
+public interface MaxInterstitialAdapterListener
+        extends MaxAdapterListener
+{
+    void onInterstitialAdLoaded();
+
+    void onInterstitialAdLoaded(Bundle extraInfo);
+
+    void onInterstitialAdLoadFailed(MaxAdapterError adapterError);
+
+    void onInterstitialAdDisplayed();
+
+    void onInterstitialAdDisplayed(Bundle extraInfo);
+
+    void onInterstitialAdDisplayFailed(MaxAdapterError adapterError);
+
+    void onInterstitialAdClicked();
+
+    void onInterstitialAdHidden();
+}
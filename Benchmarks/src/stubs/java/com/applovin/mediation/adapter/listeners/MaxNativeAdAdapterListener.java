@@ -0,0 +1,18 @@
+package com.applovin.mediation.adapter.listeners;
+
+import android.os.Bundle;
+
+import com.applovin.mediation.adapter.MaxAdapterError;
+import com.applovin.mediation.nativeAds.MaxNativeAd;
+
+public interface MaxNativeAdAdapterListener
+        extends MaxAdapterListener
+{
+    void onNativeAdLoaded(MaxNativeAd nativeAd, Bundle extraInfo);
+
+    void onNativeAdLoadFailed(MaxAdapterError adapterError);
+
+    void onNativeAdDisplayed(Bundle extraInfo);
+
+    void onNativeAdClicked();
+}
@@ -0,0 +1,32 @@
+package com.applovin.mediation.adapter.listeners;
+
+import android.os.Bundle;
+
+import com.applovin.mediation.MaxReward;
+import com.applovin.mediation.adapter.MaxAdapterError;
+
+public interface MaxRewardedAdapterListener
+        extends MaxAdapterListener
+{
+    void onRewardedAdLoaded();
+
+    void onRewardedAdLoaded(Bundle extraInfo);
+
+    void onRewardedAdLoadFailed(MaxAdapterError adapterError);
+
+    void onRewardedAdDisplayed();
+
+    void onRewardedAdDisplayed(Bundle extraInfo);
+
+    void onRewardedAdDisplayFailed(MaxAdapterError adapterError);
+
+    void onRewardedAdClicked();
+
+    void onRewardedAdHidden();
+
+    void onRewardedAdVideoStarted();
+
+    void onRewardedAdVideoCompleted();
+
+    void onUserRewarded(MaxReward reward);
+}
@@ -0,0 +1,8 @@
+package com.applovin.mediation.adapter.listeners;
+
+public interface MaxSignalCollectionListener
+{
+    void onSignalCollected(String signal);
+
+    void onSignalCollectionFailed(String errorMessage);
+}
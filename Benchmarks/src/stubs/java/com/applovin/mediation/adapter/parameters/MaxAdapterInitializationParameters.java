@@ -0,0 +1,4 @@
+package com.applovin.mediation.adapter.parameters;
+
+public interface MaxAdapterInitializationParameters
+        extends MaxAdapterParameters { }
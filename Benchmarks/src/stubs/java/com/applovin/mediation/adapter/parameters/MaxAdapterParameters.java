@@ -0,0 +1,26 @@
+package com.applovin.mediation.adapter.parameters;
+
+import android.os.Bundle;
+
+import java.util.Map;
+
+public interface MaxAdapterParameters
+{
+    String getAdUnitId();
+
+    Bundle getServerParameters();
+
+    Bundle getCustomParameters();
+
+    Map<String, Object> getLocalExtraParameters();
+
+    Boolean hasUserConsent();
+
+    Boolean isAgeRestrictedUser();
+
+    Boolean isDoNotSell();
+
+    String getConsentString();
+
+    boolean isTesting();
+}
@@ -0,0 +1,13 @@
+package com.applovin.mediation.adapter.parameters;
+
+public interface MaxAdapterResponseParameters
+        extends MaxAdapterParameters
+{
+    String getThirdPartyAdPlacementId();
+
+    String getBidResponse();
+
+    boolean isBidding();
+
+    long getBidExpirationMillis();
+}
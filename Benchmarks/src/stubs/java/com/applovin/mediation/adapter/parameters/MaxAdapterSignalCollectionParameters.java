@@ -0,0 +1,9 @@
+package com.applovin.mediation.adapter.parameters;
+
+import com.applovin.mediation.MaxAdFormat;
+
+public interface MaxAdapterSignalCollectionParameters
+        extends MaxAdapterParameters
+{
+    MaxAdFormat getAdFormat();
+}
@@ -0,0 +1,89 @@
+package com.applovin.mediation.adapters;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.Context;
+
+import com.applovin.impl.sdk.utils.BundleUtils;
+import com.applovin.mediation.MaxReward;
+import com.applovin.mediation.adapter.MaxAdapter;
+import com.applovin.mediation.adapter.listeners.MaxNativeAdAdapterListener;
+import com.applovin.mediation.adapter.parameters.MaxAdapterResponseParameters;
+import com.applovin.sdk.AppLovinSdk;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Benchmark stub of the SDK's adapter base class. Logging is dropped so benchmarks measure the adapter code rather than the console.
+ */
+public abstract class MediationAdapterBase
+        implements MaxAdapter
+{
+    private static final ExecutorService cachingExecutorService = Executors.newCachedThreadPool();
+    private static final Application     applicationContext     = new Application();
+
+    private final AppLovinSdk sdk;
+    private final String      tag;
+    private       MaxReward   reward;
+
+    public MediationAdapterBase(final AppLovinSdk sdk)
+    {
+        this.sdk = sdk;
+        this.tag = getClass().getSimpleName();
+    }
+
+    public void loadNativeAd(final MaxAdapterResponseParameters parameters, final Activity activity, final MaxNativeAdAdapterListener listener) { }
+
+    protected AppLovinSdk getWrappingSdk() { return sdk; }
+
+    protected static Context getApplicationContext() { return applicationContext; }
+
+    protected ExecutorService getCachingExecutorService() { return cachingExecutorService; }
+
+    protected MaxReward configureReward(final MaxAdapterResponseParameters parameters)
+    {
+        final String label = BundleUtils.getString( "reward_label", MaxReward.DEFAULT_LABEL, parameters.getServerParameters() );
+        final int amount = BundleUtils.getInt( "reward_amount", MaxReward.DEFAULT_AMOUNT, parameters.getServerParameters() );
+
+        reward = MaxReward.create( amount, label );
+        return reward;
+    }
+
+    protected MaxReward getReward() { return reward; }
+
+    protected boolean shouldAlwaysRewardUser() { return false; }
+
+    protected String mediationTag() { return "AppLovinSdk_" + AppLovinSdk.VERSION; }
+
+    protected static String getVersionString(final Class<?> clazz, final String fieldName)
+    {
+        try
+        {
+            final Object value = clazz.getField( fieldName ).get( null );
+            return ( value != null ) ? value.toString() : "";
+        }
+        catch ( Throwable ignored )
+        {
+            return "";
+        }
+    }
+
+    protected void log(final String message) { }
+
+    protected void log(final String message, final Throwable throwable) { }
+
+    protected void d(final String message) { }
+
+    protected void e(final String message) { }
+
+    protected void e(final String message, final Throwable throwable) { }
+
+    protected void userError(final String message) { }
+
+    protected void userError(final String message, final Throwable throwable) { }
+
+    public boolean isBeta() { return false; }
+
+    public String getTag() { return tag; }
+}
@@ -0,0 +1,319 @@
+package com.applovin.mediation.adapters;
+
+import android.app.Activity;
+import android.os.Bundle;
+import android.view.View;
+
+import com.applovin.mediation.MaxReward;
+import com.applovin.mediation.adapter.MaxAdapter;
+import com.applovin.mediation.adapter.MaxAdapterError;
+import com.applovin.mediation.adapter.listeners.MaxAdViewAdapterListener;
+import com.applovin.mediation.adapter.listeners.MaxAdapterListener;
+import com.applovin.mediation.adapter.listeners.MaxInterstitialAdapterListener;
+import com.applovin.mediation.adapter.listeners.MaxRewardedAdapterListener;
+import com.applovin.mediation.adapter.parameters.MaxAdapterInitializationParameters;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Benchmark stub of the SDK's router for networks that deliver callbacks through a single global listener. Like the SDK, it keeps one shared
+ * instance per router class and routes each placement's callbacks to the listeners of the adapters registered for it.
+ */
+public abstract class MediationAdapterRouter
+{
+    private static final Map<Class<?>, MediationAdapterRouter> sharedInstances     = new HashMap<>();
+    private static final Object                                sharedInstancesLock = new Object();
+
+    private final Map<String, List<MediationAdapterRouterListenerWrapper>> listeners       = new HashMap<>();
+    private final Object                                                   listenersLock   = new Object();
+    private final Set<MaxAdapter>                                          showingAdapters = Collections.synchronizedSet( new HashSet<MaxAdapter>() );
+
+    protected final String mTag = getClass().getSimpleName();
+
+    abstract void initialize(MaxAdapterInitializationParameters parameters, Activity activity, MaxAdapter.OnCompletionListener onCompletionListener);
+
+    public static MediationAdapterRouter getSharedInstance(final Class<?> routerClass)
+    {
+        synchronized ( sharedInstancesLock )
+        {
+            MediationAdapterRouter router = sharedInstances.get( routerClass );
+            if ( router == null )
+            {
+                try
+                {
+                    final Constructor<?> constructor = routerClass.getDeclaredConstructor();
+                    constructor.setAccessible( true );
+                    router = (MediationAdapterRouter) constructor.newInstance();
+                }
+                catch ( Throwable th )
+                {
+                    throw new IllegalStateException( "Unable to instantiate router " + routerClass, th );
+                }
+
+                sharedInstances.put( routerClass, router );
+            }
+
+            return router;
+        }
+    }
+
+    //region Adapter registration
+
+    public void addInterstitialAdapter(final MaxAdapter adapter, final MaxInterstitialAdapterListener listener, final String placementId)
+    {
+        addAdapter( adapter, listener, placementId );
+    }
+
+    public void addRewardedAdapter(final MaxAdapter adapter, final MaxRewardedAdapterListener listener, final String placementId)
+    {
+        addAdapter( adapter, listener, placementId );
+    }
+
+    public void addAdViewAdapter(final MaxAdapter adapter, final MaxAdViewAdapterListener listener, final String placementId, final View adView)
+    {
+        addAdapter( adapter, listener, placementId );
+    }
+
+    public void addShowingAdapter(final MaxAdapter adapter)
+    {
+        showingAdapters.add( adapter );
+    }
+
+    public void removeAdapter(final MaxAdapter adapter, final String placementId)
+    {
+        showingAdapters.remove( adapter );
+
+        synchronized ( listenersLock )
+        {
+            final List<MediationAdapterRouterListenerWrapper> wrappers = listeners.get( placementId );
+            if ( wrappers == null ) return;
+
+            for ( int i = wrappers.size() - 1; i >= 0; i-- )
+            {
+                if ( wrappers.get( i ).adapter == adapter )
+                {
+                    wrappers.remove( i );
+                }
+            }
+
+            if ( wrappers.isEmpty() )
+            {
+                listeners.remove( placementId );
+            }
+        }
+    }
+
+    private void addAdapter(final MaxAdapter adapter, final MaxAdapterListener listener, final String placementId)
+    {
+        synchronized ( listenersLock )
+        {
+            List<MediationAdapterRouterListenerWrapper> wrappers = listeners.get( placementId );
+            if ( wrappers == null )
+            {
+                wrappers = new ArrayList<>( 1 );
+                listeners.put( placementId, wrappers );
+            }
+
+            wrappers.add( new MediationAdapterRouterListenerWrapper( adapter, listener ) );
+        }
+    }
+
+    private List<MediationAdapterRouterListenerWrapper> getListenerWrappers(final String placementId)
+    {
+        synchronized ( listenersLock )
+        {
+            final List<MediationAdapterRouterListenerWrapper> wrappers = listeners.get( placementId );
+            return ( wrappers != null ) ? new ArrayList<>( wrappers ) : Collections.<MediationAdapterRouterListenerWrapper>emptyList();
+        }
+    }
+
+    //endregion
+
+    //region Ad events
+
+    protected void onAdLoaded(final String placementId)
+    {
+        onAdLoaded( placementId, null );
+    }
+
+    protected void onAdLoaded(final String placementId, final Bundle extraInfo)
+    {
+        for ( final MediationAdapterRouterListenerWrapper wrapper : getListenerWrappers( placementId ) )
+        {
+            if ( wrapper.listener instanceof MaxInterstitialAdapterListener )
+            {
+                ( (MaxInterstitialAdapterListener) wrapper.listener ).onInterstitialAdLoaded( extraInfo );
+            }
+            else if ( wrapper.listener instanceof MaxRewardedAdapterListener )
+            {
+                ( (MaxRewardedAdapterListener) wrapper.listener ).onRewardedAdLoaded( extraInfo );
+            }
+        }
+    }
+
+    protected void onAdLoadFailed(final String placementId, final MaxAdapterError error)
+    {
+        for ( final MediationAdapterRouterListenerWrapper wrapper : getListenerWrappers( placementId ) )
+        {
+            if ( wrapper.listener instanceof MaxInterstitialAdapterListener )
+            {
+                ( (MaxInterstitialAdapterListener) wrapper.listener ).onInterstitialAdLoadFailed( error );
+            }
+            else if ( wrapper.listener instanceof MaxRewardedAdapterListener )
+            {
+                ( (MaxRewardedAdapterListener) wrapper.listener ).onRewardedAdLoadFailed( error );
+            }
+        }
+    }
+
+    protected void onAdDisplayed(final String placementId)
+    {
+        onAdDisplayed( placementId, null );
+    }
+
+    protected void onAdDisplayed(final String placementId, final Bundle extraInfo)
+    {
+        for ( final MediationAdapterRouterListenerWrapper wrapper : getShowingListenerWrappers( placementId ) )
+        {
+            if ( wrapper.listener instanceof MaxInterstitialAdapterListener )
+            {
+                ( (MaxInterstitialAdapterListener) wrapper.listener ).onInterstitialAdDisplayed( extraInfo );
+            }
+            else if ( wrapper.listener instanceof MaxRewardedAdapterListener )
+            {
+                ( (MaxRewardedAdapterListener) wrapper.listener ).onRewardedAdDisplayed( extraInfo );
+            }
+        }
+    }
+
+    protected void onAdDisplayFailed(final String placementId, final MaxAdapterError error)
+    {
+        for ( final MediationAdapterRouterListenerWrapper wrapper : getShowingListenerWrappers( placementId ) )
+        {
+            if ( wrapper.listener instanceof MaxInterstitialAdapterListener )
+            {
+                ( (MaxInterstitialAdapterListener) wrapper.listener ).onInterstitialAdDisplayFailed( error );
+            }
+            else if ( wrapper.listener instanceof MaxRewardedAdapterListener )
+            {
+                ( (MaxRewardedAdapterListener) wrapper.listener ).onRewardedAdDisplayFailed( error );
+            }
+        }
+    }
+
+    protected void onAdClicked(final String placementId)
+    {
+        for ( final MediationAdapterRouterListenerWrapper wrapper : getShowingListenerWrappers( placementId ) )
+        {
+            if ( wrapper.listener instanceof MaxInterstitialAdapterListener )
+            {
+                ( (MaxInterstitialAdapterListener) wrapper.listener ).onInterstitialAdClicked();
+            }
+            else if ( wrapper.listener instanceof MaxRewardedAdapterListener )
+            {
+                ( (MaxRewardedAdapterListener) wrapper.listener ).onRewardedAdClicked();
+            }
+        }
+    }
+
+    protected void onAdHidden(final String placementId)
+    {
+        for ( final MediationAdapterRouterListenerWrapper wrapper : getShowingListenerWrappers( placementId ) )
+        {
+            if ( wrapper.listener instanceof MaxInterstitialAdapterListener )
+            {
+                ( (MaxInterstitialAdapterListener) wrapper.listener ).onInterstitialAdHidden();
+            }
+            else if ( wrapper.listener instanceof MaxRewardedAdapterListener )
+            {
+                ( (MaxRewardedAdapterListener) wrapper.listener ).onRewardedAdHidden();
+            }
+        }
+    }
+
+    protected void onRewardedAdVideoStarted(final String placementId)
+    {
+        for ( final MediationAdapterRouterListenerWrapper wrapper : getShowingListenerWrappers( placementId ) )
+        {
+            if ( wrapper.listener instanceof MaxRewardedAdapterListener )
+            {
+                ( (MaxRewardedAdapterListener) wrapper.listener ).onRewardedAdVideoStarted();
+            }
+        }
+    }
+
+    protected void onRewardedAdVideoCompleted(final String placementId)
+    {
+        for ( final MediationAdapterRouterListenerWrapper wrapper : getShowingListenerWrappers( placementId ) )
+        {
+            if ( wrapper.listener instanceof MaxRewardedAdapterListener )
+            {
+                ( (MaxRewardedAdapterListener) wrapper.listener ).onRewardedAdVideoCompleted();
+            }
+        }
+    }
+
+    protected void onUserRewarded(final String placementId, final MaxReward reward)
+    {
+        for ( final MediationAdapterRouterListenerWrapper wrapper : getShowingListenerWrappers( placementId ) )
+        {
+            if ( wrapper.listener instanceof MaxRewardedAdapterListener )
+            {
+                ( (MaxRewardedAdapterListener) wrapper.listener ).onUserRewarded( reward );
+            }
+        }
+    }
+
+    private List<MediationAdapterRouterListenerWrapper> getShowingListenerWrappers(final String placementId)
+    {
+        final List<MediationAdapterRouterListenerWrapper> wrappers = getListenerWrappers( placementId );
+        for ( int i = wrappers.size() - 1; i >= 0; i-- )
+        {
+            if ( !showingAdapters.contains( wrappers.get( i ).adapter ) )
+            {
+                wrappers.remove( i );
+            }
+        }
+
+        return wrappers;
+    }
+
+    //endregion
+
+    //region Rewards
+
+    protected MaxReward getReward(final String placementId)
+    {
+        return MaxReward.createDefault();
+    }
+
+    protected boolean shouldAlwaysRewardUser(final String placementId)
+    {
+        return false;
+    }
+
+    //endregion
+
+    protected void log(final String message) { }
+
+    protected void log(final String message, final Throwable throwable) { }
+
+    private static class MediationAdapterRouterListenerWrapper
+    {
+        private final MaxAdapter         adapter;
+        private final MaxAdapterListener listener;
+
+        MediationAdapterRouterListenerWrapper(final MaxAdapter adapter, final MaxAdapterListener listener)
+        {
+            this.adapter = adapter;
+            this.listener = listener;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.applovin.mediation.adapters.ironsource;
+
+public final class BuildConfig
+{
+    public static final String VERSION_NAME = "benchmark";
+}
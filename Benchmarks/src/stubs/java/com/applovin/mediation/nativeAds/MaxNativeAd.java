@@ -0,0 +1,180 @@
+package com.applovin.mediation.nativeAds;
+
+import android.graphics.drawable.Drawable;
+import android.net.Uri;
+import android.view.View;
+
+import com.applovin.mediation.MaxAdFormat;
+
+/**
+ * Benchmark stub of {@code MaxNativeAd} and its builder, holding the assembled assets the way the SDK does.
+ */
+public class MaxNativeAd
+{
+    private final MaxAdFormat      format;
+    private final String           title;
+    private final String           advertiser;
+    private final String           body;
+    private final String           callToAction;
+    private final MaxNativeAdImage icon;
+    private final View             iconView;
+    private final View             optionsView;
+    private final View             mediaView;
+    private final MaxNativeAdImage mainImage;
+    private final Double           starRating;
+    private final float            mediaContentAspectRatio;
+
+    public MaxNativeAd(final Builder builder)
+    {
+        format = builder.format;
+        title = builder.title;
+        advertiser = builder.advertiser;
+        body = builder.body;
+        callToAction = builder.callToAction;
+        icon = builder.icon;
+        iconView = builder.iconView;
+        optionsView = builder.optionsView;
+        mediaView = builder.mediaView;
+        mainImage = builder.mainImage;
+        starRating = builder.starRating;
+        mediaContentAspectRatio = builder.mediaContentAspectRatio;
+    }
+
+    public void prepareViewForInteraction(final MaxNativeAdView maxNativeAdView) { }
+
+    public MaxAdFormat getFormat() { return format; }
+
+    public String getTitle() { return title; }
+
+    public String getAdvertiser() { return advertiser; }
+
+    public String getBody() { return body; }
+
+    public String getCallToAction() { return callToAction; }
+
+    public MaxNativeAdImage getIcon() { return icon; }
+
+    public View getIconView() { return iconView; }
+
+    public View getOptionsView() { return optionsView; }
+
+    public View getMediaView() { return mediaView; }
+
+    public MaxNativeAdImage getMainImage() { return mainImage; }
+
+    public Double getStarRating() { return starRating; }
+
+    public float getMediaContentAspectRatio() { return mediaContentAspectRatio; }
+
+    public static class Builder
+    {
+        private MaxAdFormat      format;
+        private String           title;
+        private String           advertiser;
+        private String           body;
+        private String           callToAction;
+        private MaxNativeAdImage icon;
+        private View             iconView;
+        private View             optionsView;
+        private View             mediaView;
+        private MaxNativeAdImage mainImage;
+        private Double           starRating;
+        private float            mediaContentAspectRatio;
+
+        public Builder setAdFormat(final MaxAdFormat format)
+        {
+            this.format = format;
+            return this;
+        }
+
+        public Builder setTitle(final String title)
+        {
+            this.title = title;
+            return this;
+        }
+
+        public Builder setAdvertiser(final String advertiser)
+        {
+            this.advertiser = advertiser;
+            return this;
+        }
+
+        public Builder setBody(final String body)
+        {
+            this.body = body;
+            return this;
+        }
+
+        public Builder setCallToAction(final String callToAction)
+        {
+            this.callToAction = callToAction;
+            return this;
+        }
+
+        public Builder setIcon(final MaxNativeAdImage icon)
+        {
+            this.icon = icon;
+            return this;
+        }
+
+        public Builder setIconView(final View iconView)
+        {
+            this.iconView = iconView;
+            return this;
+        }
+
+        public Builder setOptionsView(final View optionsView)
+        {
+            this.optionsView = optionsView;
+            return this;
+        }
+
+        public Builder setMediaView(final View mediaView)
+        {
+            this.mediaView = mediaView;
+            return this;
+        }
+
+        public Builder setMainImage(final MaxNativeAdImage mainImage)
+        {
+            this.mainImage = mainImage;
+            return this;
+        }
+
+        public Builder setStarRating(final Double starRating)
+        {
+            this.starRating = starRating;
+            return this;
+        }
+
+        public Builder setMediaContentAspectRatio(final float mediaContentAspectRatio)
+        {
+            this.mediaContentAspectRatio = mediaContentAspectRatio;
+            return this;
+        }
+
+        public MaxNativeAd build() { return new MaxNativeAd( this ); }
+    }
+
+    public static class MaxNativeAdImage
+    {
+        private final Drawable drawable;
+        private final Uri      uri;
+
+        public MaxNativeAdImage(final Drawable drawable)
+        {
+            this.drawable = drawable;
+            this.uri = null;
+        }
+
+        public MaxNativeAdImage(final Uri uri)
+        {
+            this.drawable = null;
+            this.uri = uri;
+        }
+
+        public Drawable getDrawable() { return drawable; }
+
+        public Uri getUri() { return uri; }
+    }
+}
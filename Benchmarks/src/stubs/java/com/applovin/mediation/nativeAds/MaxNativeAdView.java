@@ -0,0 +1,45 @@
+package com.applovin.mediation.nativeAds;
+
+import android.content.Context;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.Button;
+import android.widget.FrameLayout;
+import android.widget.ImageView;
+import android.widget.TextView;
+
+public class MaxNativeAdView
+        extends FrameLayout
+{
+    private final TextView    titleTextView         = new TextView( getContext() );
+    private final TextView    advertiserTextView    = new TextView( getContext() );
+    private final TextView    bodyTextView          = new TextView( getContext() );
+    private final Button      callToActionButton    = new Button( getContext() );
+    private final ImageView   iconImageView         = new ImageView( getContext() );
+    private final FrameLayout iconContentView       = new FrameLayout( getContext() );
+    private final FrameLayout optionsContentView    = new FrameLayout( getContext() );
+    private final FrameLayout mediaContentView      = new FrameLayout( getContext() );
+    private final FrameLayout starRatingContentView = new FrameLayout( getContext() );
+
+    public MaxNativeAdView(final Context context) { super( context ); }
+
+    public TextView getTitleTextView() { return titleTextView; }
+
+    public TextView getAdvertiserTextView() { return advertiserTextView; }
+
+    public TextView getBodyTextView() { return bodyTextView; }
+
+    public Button getCallToActionButton() { return callToActionButton; }
+
+    public ImageView getIconImageView() { return iconImageView; }
+
+    public View getIconContentView() { return iconContentView; }
+
+    public ViewGroup getOptionsContentView() { return optionsContentView; }
+
+    public ViewGroup getMediaContentView() { return mediaContentView; }
+
+    public ViewGroup getMediaContentViewGroup() { return mediaContentView; }
+
+    public ViewGroup getStarRatingContentViewGroup() { return starRatingContentView; }
+}
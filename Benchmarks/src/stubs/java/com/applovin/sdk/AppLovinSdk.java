@@ -0,0 +1,16 @@
+package com.applovin.sdk;
+
+/**
+ * Benchmark stub of the AppLovin SDK entry point. Only exposes what the adapters read.
+ */
+public class AppLovinSdk
+{
+    public static final String VERSION      = "11.5.0";
+    public static final int    VERSION_CODE = 11_05_00_99;
+
+    private final AppLovinSdkSettings settings = new AppLovinSdkSettings();
+
+    public AppLovinSdkSettings getSettings() { return settings; }
+
+    public AppLovinSdkConfiguration getConfiguration() { return new AppLovinSdkConfiguration(); }
+}
@@ -0,0 +1,15 @@
+package com.applovin.sdk;
+
+public class AppLovinSdkConfiguration
+{
+    public enum ConsentDialogState
+    {
+        UNKNOWN,
+        APPLIES,
+        DOES_NOT_APPLY
+    }
+
+    public ConsentDialogState getConsentDialogState() { return ConsentDialogState.UNKNOWN; }
+
+    public String getCountryCode() { return "us"; }
+}
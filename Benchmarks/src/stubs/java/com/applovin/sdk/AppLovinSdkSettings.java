@@ -0,0 +1,10 @@
+package com.applovin.sdk;
+
+public class AppLovinSdkSettings
+{
+    private boolean isVerboseLoggingEnabled;
+
+    public boolean isVerboseLoggingEnabled() { return isVerboseLoggingEnabled; }
+
+    public void setVerboseLogging(final boolean isVerboseLoggingEnabled) { this.isVerboseLoggingEnabled = isVerboseLoggingEnabled; }
+}
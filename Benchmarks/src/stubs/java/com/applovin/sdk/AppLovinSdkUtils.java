@@ -0,0 +1,56 @@
+package com.applovin.sdk;
+
+import android.content.Context;
+
+import org.json.JSONObject;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Benchmark stub of {@code AppLovinSdkUtils}. There is no UI thread on the JVM, so UI thread work runs inline on the calling thread.
+ */
+public class AppLovinSdkUtils
+{
+    public static boolean isValidString(final String string)
+    {
+        return string != null && string.length() > 0;
+    }
+
+    public static int dpToPx(final Context context, final int dp)
+    {
+        return (int) Math.ceil( dp * context.getResources().getDisplayMetrics().density );
+    }
+
+    /**
+     * Flattens a JSON object into a map of its values' string forms, like the SDK implementation.
+     */
+    public static Map<String, String> toMap(final JSONObject jsonObject)
+    {
+        final Map<String, String> map = new HashMap<>();
+        final Iterator<String> keys = jsonObject.keys();
+        while ( keys.hasNext() )
+        {
+            final String key = keys.next();
+            map.put( key, String.valueOf( jsonObject.get( key ) ) );
+        }
+
+        return map;
+    }
+
+    public static void runOnUiThread(final Runnable runnable)
+    {
+        runnable.run();
+    }
+
+    public static void runOnUiThread(final boolean forceRunOnUiThread, final Runnable runnable)
+    {
+        runnable.run();
+    }
+
+    public static void runOnUiThreadDelayed(final Runnable runnable, final long delayMillis)
+    {
+        runnable.run();
+    }
+}
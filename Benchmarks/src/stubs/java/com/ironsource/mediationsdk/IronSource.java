@@ -0,0 +1,58 @@
+package com.ironsource.mediationsdk;
+
+import android.app.Activity;
+import android.content.Context;
+
+import com.ironsource.mediationsdk.sdk.ISDemandOnlyInterstitialListener;
+import com.ironsource.mediationsdk.sdk.ISDemandOnlyRewardedVideoListener;
+
+/**
+ * Benchmark stub of the ironSource SDK facade. Ads never load, so benchmarks drive the adapter through its listeners instead.
+ */
+public class IronSource
+{
+    public enum AD_UNIT
+    {
+        REWARDED_VIDEO( "rewardedVideo" ),
+        INTERSTITIAL( "interstitial" ),
+        OFFERWALL( "offerwall" ),
+        BANNER( "banner" );
+
+        private final String value;
+
+        AD_UNIT(final String value) { this.value = value; }
+
+        @Override
+        public String toString() { return value; }
+    }
+
+    public static void initISDemandOnly(final Context context, final String appKey, final AD_UNIT... adUnits) { }
+
+    public static void setMediationType(final String mediationType) { }
+
+    public static void setMetaData(final String key, final String value) { }
+
+    public static void setConsent(final boolean consent) { }
+
+    public static void setAdaptersDebug(final boolean enabled) { }
+
+    public static void setISDemandOnlyInterstitialListener(final ISDemandOnlyInterstitialListener listener) { }
+
+    public static void setISDemandOnlyRewardedVideoListener(final ISDemandOnlyRewardedVideoListener listener) { }
+
+    public static void onResume(final Activity activity) { }
+
+    public static void onPause(final Activity activity) { }
+
+    public static void loadISDemandOnlyInterstitial(final Activity activity, final String instanceId) { }
+
+    public static boolean isISDemandOnlyInterstitialReady(final String instanceId) { return false; }
+
+    public static void showISDemandOnlyInterstitial(final String instanceId) { }
+
+    public static void loadISDemandOnlyRewardedVideo(final Activity activity, final String instanceId) { }
+
+    public static boolean isISDemandOnlyRewardedVideoAvailable(final String instanceId) { return false; }
+
+    public static void showISDemandOnlyRewardedVideo(final String instanceId) { }
+}
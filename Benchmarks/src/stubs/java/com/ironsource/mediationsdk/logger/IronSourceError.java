@@ -0,0 +1,97 @@
+package com.ironsource.mediationsdk.logger;
+
+/**
+ * Benchmark stub of ironSource's error type. The codes are distinct so {@code toMaxError()} switches compile as they do against the SDK, but they are
+ * not the SDK's values.
+ */
+public class IronSourceError
+{
+    public static final int ERROR_CODE_DECRYPT_FAILED              = 501;
+    public static final int ERROR_CODE_NO_CONFIGURATION_AVAILABLE  = 502;
+    public static final int ERROR_CODE_USING_CACHED_CONFIGURATION  = 503;
+    public static final int ERROR_CODE_KEY_NOT_SET                 = 504;
+    public static final int ERROR_CODE_INVALID_KEY_VALUE           = 505;
+    public static final int ERROR_CODE_INIT_FAILED                 = 506;
+    public static final int ERROR_CODE_NO_ADS_TO_SHOW              = 507;
+    public static final int ERROR_CODE_GENERIC                     = 508;
+    public static final int ERROR_NON_EXISTENT_INSTANCE            = 520;
+    public static final int ERROR_NO_INTERNET_CONNECTION           = 521;
+    public static final int ERROR_REACHED_CAP_LIMIT_PER_PLACEMENT  = 522;
+    public static final int ERROR_CAPPED_PER_SESSION               = 523;
+    public static final int ERROR_BN_LOAD_EXCEPTION                = 600;
+    public static final int ERROR_BN_INSTANCE_LOAD_EMPTY_BANNER    = 601;
+    public static final int ERROR_BN_INSTANCE_LOAD_EMPTY_ADAPTER   = 602;
+    public static final int ERROR_BN_RELOAD_SKIP_INVISIBLE         = 603;
+    public static final int ERROR_BN_RELOAD_SKIP_BACKGROUND        = 604;
+    public static final int ERROR_BN_LOAD_NO_CONFIG                = 605;
+    public static final int ERROR_BN_UNSUPPORTED_SIZE              = 606;
+    public static final int ERROR_BN_LOAD_AFTER_INIT_FAILED        = 607;
+    public static final int ERROR_BN_LOAD_AFTER_LONG_INITIATION    = 608;
+    public static final int ERROR_BN_INIT_FAILED_AFTER_LOAD        = 609;
+    public static final int ERROR_BN_LOAD_WHILE_LONG_INITIATION    = 610;
+    public static final int ERROR_BN_INSTANCE_INIT_TIMEOUT         = 611;
+    public static final int ERROR_BN_INSTANCE_INIT_ERROR           = 612;
+    public static final int ERROR_BN_LOAD_NO_FILL                  = 613;
+    public static final int ERROR_BN_LOAD_PLACEMENT_CAPPED         = 614;
+    public static final int ERROR_BN_INSTANCE_LOAD_TIMEOUT         = 615;
+    public static final int ERROR_BN_INSTANCE_RELOAD_TIMEOUT       = 616;
+    public static final int AUCTION_ERROR_REQUEST                  = 1000;
+    public static final int AUCTION_ERROR_RESPONSE_NOT_200         = 1001;
+    public static final int AUCTION_ERROR_PARSE                    = 1002;
+    public static final int AUCTION_ERROR_DECRYPTION               = 1003;
+    public static final int AUCTION_ERROR_EMPTY_WATERFALL          = 1004;
+    public static final int AUCTION_ERROR_NO_CANDIDATES            = 1005;
+    public static final int AUCTION_REQUEST_ERROR_MISSING_PARAMS   = 1006;
+    public static final int AUCTION_ERROR_DECOMPRESSION            = 1007;
+    public static final int AUCTION_ERROR_TIMED_OUT                = 1008;
+    public static final int ERROR_RV_LOAD_SUCCESS_UNEXPECTED       = 1020;
+    public static final int ERROR_RV_LOAD_FAIL_UNEXPECTED          = 1021;
+    public static final int ERROR_RV_LOAD_UNEXPECTED_CALLBACK      = 1022;
+    public static final int ERROR_RV_SHOW_EXCEPTION                = 1023;
+    public static final int ERROR_RV_INIT_EXCEPTION                = 1024;
+    public static final int ERROR_RV_EMPTY_DEFAULT_PLACEMENT       = 1025;
+    public static final int ERROR_RV_LOAD_SUCCESS_WRONG_AUCTION_ID = 1026;
+    public static final int ERROR_RV_LOAD_FAIL_WRONG_AUCTION_ID    = 1027;
+    public static final int ERROR_RV_LOAD_FAILED_NO_CANDIDATES     = 1028;
+    public static final int ERROR_RV_LOAD_NO_FILL                  = 1029;
+    public static final int ERROR_RV_INIT_FAILED_TIMEOUT           = 1030;
+    public static final int ERROR_RV_LOAD_FAIL_DUE_TO_INIT         = 1031;
+    public static final int ERROR_RV_SHOW_CALLED_DURING_SHOW       = 1032;
+    public static final int ERROR_RV_SHOW_CALLED_WRONG_STATE       = 1033;
+    public static final int ERROR_RV_LOAD_DURING_LOAD              = 1034;
+    public static final int ERROR_RV_LOAD_DURING_SHOW              = 1035;
+    public static final int ERROR_RV_EXPIRED_ADS                   = 1036;
+    public static final int ERROR_IS_SHOW_EXCEPTION                = 1040;
+    public static final int ERROR_IS_INIT_EXCEPTION                = 1041;
+    public static final int ERROR_IS_EMPTY_DEFAULT_PLACEMENT       = 1042;
+    public static final int ERROR_IS_LOAD_FAILED_NO_CANDIDATES     = 1043;
+    public static final int ERROR_IS_LOAD_NO_FILL                  = 1044;
+    public static final int ERROR_IS_SHOW_CALLED_DURING_SHOW       = 1045;
+    public static final int ERROR_IS_LOAD_DURING_SHOW              = 1046;
+    public static final int ERROR_DO_RV_LOAD_MISSING_ACTIVITY      = 1060;
+    public static final int ERROR_DO_IS_LOAD_MISSING_ACTIVITY      = 1061;
+    public static final int ERROR_DO_IS_LOAD_TIMED_OUT             = 1062;
+    public static final int ERROR_DO_RV_LOAD_TIMED_OUT             = 1063;
+    public static final int ERROR_DO_IS_LOAD_ALREADY_IN_PROGRESS   = 1064;
+    public static final int ERROR_DO_RV_LOAD_ALREADY_IN_PROGRESS   = 1065;
+    public static final int ERROR_DO_RV_LOAD_DURING_SHOW           = 1066;
+    public static final int ERROR_DO_IS_CALL_LOAD_BEFORE_SHOW      = 1067;
+    public static final int ERROR_DO_RV_CALL_LOAD_BEFORE_SHOW      = 1068;
+    public static final int INIT_ERROR_NO_ADAPTERS_LOADED          = 1100;
+
+    private final int    errorCode;
+    private final String errorMessage;
+
+    public IronSourceError(final int errorCode, final String errorMessage)
+    {
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+    }
+
+    public int getErrorCode() { return errorCode; }
+
+    public String getErrorMessage() { return errorMessage; }
+
+    @Override
+    public String toString() { return "errorCode:" + errorCode + ", errorMessage:" + errorMessage; }
+}
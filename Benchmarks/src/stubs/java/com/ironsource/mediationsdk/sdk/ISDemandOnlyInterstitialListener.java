@@ -0,0 +1,18 @@
+package com.ironsource.mediationsdk.sdk;
+
+import com.ironsource.mediationsdk.logger.IronSourceError;
+
+public interface ISDemandOnlyInterstitialListener
+{
+    void onInterstitialAdReady(String instanceId);
+
+    void onInterstitialAdLoadFailed(String instanceId, IronSourceError ironSourceError);
+
+    void onInterstitialAdOpened(String instanceId);
+
+    void onInterstitialAdClosed(String instanceId);
+
+    void onInterstitialAdShowFailed(String instanceId, IronSourceError ironSourceError);
+
+    void onInterstitialAdClicked(String instanceId);
+}
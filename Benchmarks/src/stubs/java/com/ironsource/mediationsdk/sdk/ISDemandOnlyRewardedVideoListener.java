@@ -0,0 +1,20 @@
+package com.ironsource.mediationsdk.sdk;
+
+import com.ironsource.mediationsdk.logger.IronSourceError;
+
+public interface ISDemandOnlyRewardedVideoListener
+{
+    void onRewardedVideoAdLoadSuccess(String instanceId);
+
+    void onRewardedVideoAdLoadFailed(String instanceId, IronSourceError ironSourceError);
+
+    void onRewardedVideoAdOpened(String instanceId);
+
+    void onRewardedVideoAdClosed(String instanceId);
+
+    void onRewardedVideoAdShowFailed(String instanceId, IronSourceError ironSourceError);
+
+    void onRewardedVideoAdClicked(String instanceId);
+
+    void onRewardedVideoAdRewarded(String instanceId);
+}
@@ -0,0 +1,6 @@
+package com.ironsource.mediationsdk.utils;
+
+public class IronSourceUtils
+{
+    public static String getSDKVersion() { return "benchmark"; }
+}
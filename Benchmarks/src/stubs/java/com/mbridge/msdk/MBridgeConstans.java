@@ -0,0 +1,14 @@
+package com.mbridge.msdk;
+
+public class MBridgeConstans
+{
+    public static boolean DEBUG = false;
+
+    public static final int    IS_SWITCH_ON                     = 1;
+    public static final int    IS_SWITCH_OFF                    = 0;
+    public static final String AUTHORITY_ALL_INFO               = "authority_all_info";
+    public static final int    REWARD_VIDEO_PLAY_MUTE           = 1;
+    public static final int    INTER_ACTIVE_VIDEO_PLAY_NOT_MUTE = 2;
+    public static final String PROPERTIES_AD_NUM                = "ad_num";
+    public static final String NATIVE_VIDEO_SUPPORT             = "native_video_support";
+}
@@ -0,0 +1,26 @@
+package com.mbridge.msdk;
+
+import android.content.Context;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class MBridgeSDK
+{
+    public Map<String, String> getMBConfigurationMap(final String appId, final String appKey)
+    {
+        final Map<String, String> map = new HashMap<>();
+        map.put( "appId", appId );
+        map.put( "appKey", appKey );
+
+        return map;
+    }
+
+    public void init(final Map<String, String> configurationMap, final Context context) { }
+
+    public void setUserPrivateInfoType(final Context context, final String key, final int value) { }
+
+    public void setConsentStatus(final Context context, final int status) { }
+
+    public void setDoNotTrackStatus(final boolean status) { }
+}
@@ -0,0 +1,27 @@
+package com.mbridge.msdk.interstitialvideo.out;
+
+import com.mbridge.msdk.out.MBridgeIds;
+import com.mbridge.msdk.out.RewardInfo;
+
+public interface InterstitialVideoListener
+{
+    void onVideoLoadSuccess(MBridgeIds ids);
+
+    void onLoadSuccess(MBridgeIds ids);
+
+    void onVideoLoadFail(MBridgeIds ids, String errorMessage);
+
+    void onAdShow(MBridgeIds ids);
+
+    void onShowFail(MBridgeIds ids, String errorMessage);
+
+    void onVideoAdClicked(MBridgeIds ids);
+
+    void onAdClose(MBridgeIds ids, RewardInfo rewardInfo);
+
+    void onVideoComplete(MBridgeIds ids);
+
+    void onAdCloseWithIVReward(MBridgeIds ids, RewardInfo rewardInfo);
+
+    void onEndcardShow(MBridgeIds ids);
+}
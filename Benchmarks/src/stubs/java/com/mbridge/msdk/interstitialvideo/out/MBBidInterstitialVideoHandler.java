@@ -0,0 +1,20 @@
+package com.mbridge.msdk.interstitialvideo.out;
+
+import android.content.Context;
+
+public class MBBidInterstitialVideoHandler
+{
+    public MBBidInterstitialVideoHandler(final Context context, final String placementId, final String unitId) { }
+
+    public void setInterstitialVideoListener(final InterstitialVideoListener listener) { }
+
+    public void playVideoMute(final int muteState) { }
+
+    public void loadFromBid(final String bidToken) { }
+
+    public boolean isBidReady() { return false; }
+
+    public void showFromBid() { }
+
+    public String getRequestId() { return null; }
+}
@@ -0,0 +1,20 @@
+package com.mbridge.msdk.interstitialvideo.out;
+
+import android.content.Context;
+
+public class MBInterstitialVideoHandler
+{
+    public MBInterstitialVideoHandler(final Context context, final String placementId, final String unitId) { }
+
+    public void setInterstitialVideoListener(final InterstitialVideoListener listener) { }
+
+    public void playVideoMute(final int muteState) { }
+
+    public void load() { }
+
+    public boolean isReady() { return false; }
+
+    public void show() { }
+
+    public String getRequestId() { return null; }
+}
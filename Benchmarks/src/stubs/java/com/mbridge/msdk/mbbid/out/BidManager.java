@@ -0,0 +1,8 @@
+package com.mbridge.msdk.mbbid.out;
+
+import android.content.Context;
+
+public class BidManager
+{
+    public static String getBuyerUid(final Context context) { return "benchmark-buyer-uid"; }
+}
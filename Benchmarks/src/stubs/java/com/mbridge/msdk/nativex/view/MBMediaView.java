@@ -0,0 +1,17 @@
+package com.mbridge.msdk.nativex.view;
+
+import android.content.Context;
+import android.widget.FrameLayout;
+
+import com.mbridge.msdk.out.Campaign;
+import com.mbridge.msdk.out.OnMBMediaViewListener;
+
+public class MBMediaView
+        extends FrameLayout
+{
+    public MBMediaView(final Context context) { super( context ); }
+
+    public void setNativeAd(final Campaign campaign) { }
+
+    public void setOnMediaViewListener(final OnMBMediaViewListener listener) { }
+}
@@ -0,0 +1,20 @@
+package com.mbridge.msdk.out;
+
+public interface BannerAdListener
+{
+    void onLoadFailed(MBridgeIds ids, String message);
+
+    void onLoadSuccessed(MBridgeIds ids);
+
+    void onLogImpression(MBridgeIds ids);
+
+    void onClick(MBridgeIds ids);
+
+    void onLeaveApp(MBridgeIds ids);
+
+    void showFullScreen(MBridgeIds ids);
+
+    void closeFullScreen(MBridgeIds ids);
+
+    void onCloseBanner(MBridgeIds ids);
+}
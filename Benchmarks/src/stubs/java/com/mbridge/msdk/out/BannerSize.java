@@ -0,0 +1,27 @@
+package com.mbridge.msdk.out;
+
+public class BannerSize
+{
+    public static final int STANDARD_TYPE = 1;
+    public static final int LARGE_TYPE    = 2;
+    public static final int MEDIUM_TYPE   = 3;
+    public static final int SMART_TYPE    = 4;
+    public static final int DEV_SET_TYPE  = 5;
+
+    private final int type;
+    private final int width;
+    private final int height;
+
+    public BannerSize(final int type, final int width, final int height)
+    {
+        this.type = type;
+        this.width = width;
+        this.height = height;
+    }
+
+    public int getType() { return type; }
+
+    public int getWidth() { return width; }
+
+    public int getHeight() { return height; }
+}
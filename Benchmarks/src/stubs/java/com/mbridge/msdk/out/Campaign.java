@@ -0,0 +1,30 @@
+package com.mbridge.msdk.out;
+
+public class Campaign
+{
+    private String appName;
+    private String appDesc;
+    private String adCall;
+    private String iconUrl;
+    private String imageUrl;
+
+    public String getAppName() { return appName; }
+
+    public void setAppName(final String appName) { this.appName = appName; }
+
+    public String getAppDesc() { return appDesc; }
+
+    public void setAppDesc(final String appDesc) { this.appDesc = appDesc; }
+
+    public String getAdCall() { return adCall; }
+
+    public void setAdCall(final String adCall) { this.adCall = adCall; }
+
+    public String getIconUrl() { return iconUrl; }
+
+    public void setIconUrl(final String iconUrl) { this.iconUrl = iconUrl; }
+
+    public String getImageUrl() { return imageUrl; }
+
+    public void setImageUrl(final String imageUrl) { this.imageUrl = imageUrl; }
+}
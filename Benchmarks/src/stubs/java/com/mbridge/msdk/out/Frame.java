@@ -0,0 +1,3 @@
+package com.mbridge.msdk.out;
+
+public class Frame { }
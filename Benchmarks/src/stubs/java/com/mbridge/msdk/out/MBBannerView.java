@@ -0,0 +1,26 @@
+package com.mbridge.msdk.out;
+
+import android.content.Context;
+import android.widget.FrameLayout;
+
+public class MBBannerView
+        extends FrameLayout
+{
+    public MBBannerView(final Context context) { super( context ); }
+
+    public void init(final BannerSize bannerSize, final String placementId, final String unitId) { }
+
+    public void setAllowShowCloseBtn(final boolean allowShowCloseButton) { }
+
+    public void setRefreshTime(final int refreshTimeSeconds) { }
+
+    public void setBannerAdListener(final BannerAdListener listener) { }
+
+    public void load() { }
+
+    public void loadFromBid(final String bidToken) { }
+
+    public String getRequestId() { return null; }
+
+    public void release() { }
+}
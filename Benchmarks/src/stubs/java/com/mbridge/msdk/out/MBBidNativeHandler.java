@@ -0,0 +1,32 @@
+package com.mbridge.msdk.out;
+
+import android.content.Context;
+import android.view.View;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class MBBidNativeHandler
+{
+    public MBBidNativeHandler(final Map<String, Object> properties, final Context context) { }
+
+    public static Map<String, Object> getNativeProperties(final String placementId, final String unitId)
+    {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put( "placement_id", placementId );
+        properties.put( "unit_id", unitId );
+
+        return properties;
+    }
+
+    public void setAdListener(final NativeListener.NativeAdListener listener) { }
+
+    public void bidLoad(final String bidToken) { }
+
+    public void registerView(final View view, final List<View> clickableViews, final Campaign campaign) { }
+
+    public void unregisterView(final View view, final List<View> clickableViews, final Campaign campaign) { }
+
+    public void bidRelease() { }
+}
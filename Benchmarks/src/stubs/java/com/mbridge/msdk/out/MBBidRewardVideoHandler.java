@@ -0,0 +1,20 @@
+package com.mbridge.msdk.out;
+
+import android.content.Context;
+
+public class MBBidRewardVideoHandler
+{
+    public MBBidRewardVideoHandler(final Context context, final String placementId, final String unitId) { }
+
+    public void setRewardVideoListener(final RewardVideoListener listener) { }
+
+    public void playVideoMute(final int muteState) { }
+
+    public void loadFromBid(final String bidToken) { }
+
+    public boolean isBidReady() { return false; }
+
+    public void showFromBid(final String rewardId, final String userId) { }
+
+    public String getRequestId() { return null; }
+}
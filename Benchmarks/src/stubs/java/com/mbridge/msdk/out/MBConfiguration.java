@@ -0,0 +1,6 @@
+package com.mbridge.msdk.out;
+
+public class MBConfiguration
+{
+    public static final String SDK_VERSION = "benchmark";
+}
@@ -0,0 +1,20 @@
+package com.mbridge.msdk.out;
+
+import android.content.Context;
+
+public class MBRewardVideoHandler
+{
+    public MBRewardVideoHandler(final Context context, final String placementId, final String unitId) { }
+
+    public void setRewardVideoListener(final RewardVideoListener listener) { }
+
+    public void playVideoMute(final int muteState) { }
+
+    public void load() { }
+
+    public boolean isReady() { return false; }
+
+    public void show(final String rewardId, final String userId) { }
+
+    public String getRequestId() { return null; }
+}
@@ -0,0 +1,26 @@
+package com.mbridge.msdk.out;
+
+public class MBridgeIds
+{
+    private final String placementId;
+    private final String unitId;
+    private final String bidToken;
+
+    public MBridgeIds(final String placementId, final String unitId) { this( placementId, unitId, "" ); }
+
+    public MBridgeIds(final String placementId, final String unitId, final String bidToken)
+    {
+        this.placementId = placementId;
+        this.unitId = unitId;
+        this.bidToken = bidToken;
+    }
+
+    public String getPlacementId() { return placementId; }
+
+    public String getUnitId() { return unitId; }
+
+    public String getBidToken() { return bidToken; }
+
+    @Override
+    public String toString() { return "MBridgeIds{placementId='" + placementId + "', unitId='" + unitId + "'}"; }
+}
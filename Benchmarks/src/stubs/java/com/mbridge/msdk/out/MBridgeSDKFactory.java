@@ -0,0 +1,10 @@
+package com.mbridge.msdk.out;
+
+import com.mbridge.msdk.MBridgeSDK;
+
+public class MBridgeSDKFactory
+{
+    private static final MBridgeSDK sdk = new MBridgeSDK();
+
+    public static MBridgeSDK getMBridgeSDK() { return sdk; }
+}
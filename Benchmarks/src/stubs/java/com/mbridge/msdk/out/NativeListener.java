@@ -0,0 +1,19 @@
+package com.mbridge.msdk.out;
+
+import java.util.List;
+
+public class NativeListener
+{
+    public interface NativeAdListener
+    {
+        void onAdLoaded(List<Campaign> campaigns, int templates);
+
+        void onAdLoadError(String message);
+
+        void onAdClick(Campaign campaign);
+
+        void onAdFramesLoaded(List<Frame> frames);
+
+        void onLoggingImpression(int adSourceType);
+    }
+}
@@ -0,0 +1,18 @@
+package com.mbridge.msdk.out;
+
+public interface OnMBMediaViewListener
+{
+    void onEnterFullscreen();
+
+    void onExitFullscreen();
+
+    void onStartRedirection(Campaign campaign, String url);
+
+    void onFinishRedirection(Campaign campaign, String url);
+
+    void onRedirectionFailed(Campaign campaign, String url);
+
+    void onVideoAdClicked(Campaign campaign);
+
+    void onVideoStart();
+}
@@ -0,0 +1,21 @@
+package com.mbridge.msdk.out;
+
+public class RewardInfo
+{
+    private final boolean isCompleteView;
+    private final String  rewardName;
+    private final String  rewardAmount;
+
+    public RewardInfo(final boolean isCompleteView, final String rewardName, final String rewardAmount)
+    {
+        this.isCompleteView = isCompleteView;
+        this.rewardName = rewardName;
+        this.rewardAmount = rewardAmount;
+    }
+
+    public boolean isCompleteView() { return isCompleteView; }
+
+    public String getRewardName() { return rewardName; }
+
+    public String getRewardAmount() { return rewardAmount; }
+}
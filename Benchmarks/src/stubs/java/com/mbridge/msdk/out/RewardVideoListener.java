@@ -0,0 +1,22 @@
+package com.mbridge.msdk.out;
+
+public interface RewardVideoListener
+{
+    void onVideoLoadSuccess(MBridgeIds ids);
+
+    void onLoadSuccess(MBridgeIds ids);
+
+    void onVideoLoadFail(MBridgeIds ids, String errorMessage);
+
+    void onAdShow(MBridgeIds ids);
+
+    void onShowFail(MBridgeIds ids, String errorMessage);
+
+    void onVideoAdClicked(MBridgeIds ids);
+
+    void onAdClose(MBridgeIds ids, RewardInfo rewardInfo);
+
+    void onVideoComplete(MBridgeIds ids);
+
+    void onEndcardShow(MBridgeIds ids);
+}
@@ -0,0 +1,14 @@
+package com.mbridge.msdk.widget;
+
+import android.content.Context;
+import android.widget.ImageView;
+
+import com.mbridge.msdk.out.Campaign;
+
+public class MBAdChoice
+        extends ImageView
+{
+    public MBAdChoice(final Context context) { super( context ); }
+
+    public void setCampaign(final Campaign campaign) { }
+}
@@ -0,0 +1,11 @@
+package com.smaato.sdk.banner.ad;
+
+public enum AutoReloadInterval
+{
+    DISABLED,
+    VERY_SHORT,
+    SHORT,
+    DEFAULT,
+    LONG,
+    VERY_LONG
+}
@@ -0,0 +1,9 @@
+package com.smaato.sdk.banner.ad;
+
+public enum BannerAdSize
+{
+    XX_LARGE_320x50,
+    MEDIUM_RECTANGLE_300x250,
+    LEADERBOARD_728x90,
+    SKYSCRAPER_120x600
+}
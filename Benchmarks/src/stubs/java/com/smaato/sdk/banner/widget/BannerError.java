@@ -0,0 +1,12 @@
+package com.smaato.sdk.banner.widget;
+
+public enum BannerError
+{
+    NO_AD_AVAILABLE,
+    INVALID_REQUEST,
+    NETWORK_ERROR,
+    INTERNAL_ERROR,
+    CACHE_LIMIT_REACHED,
+    CREATIVE_RESOURCE_EXPIRED,
+    AD_UNLOADED
+}
@@ -0,0 +1,39 @@
+package com.smaato.sdk.banner.widget;
+
+import android.content.Context;
+import android.widget.FrameLayout;
+
+import com.smaato.sdk.banner.ad.AutoReloadInterval;
+import com.smaato.sdk.banner.ad.BannerAdSize;
+import com.smaato.sdk.core.repository.AdRequestParams;
+
+public class BannerView
+        extends FrameLayout
+{
+    public BannerView(final Context context) { super( context ); }
+
+    public void setAutoReloadInterval(final AutoReloadInterval autoReloadInterval) { }
+
+    public void setEventListener(final EventListener eventListener) { }
+
+    public void loadAd(final String adSpaceId, final BannerAdSize bannerAdSize) { }
+
+    public void loadAd(final String adSpaceId, final BannerAdSize bannerAdSize, final AdRequestParams adRequestParams) { }
+
+    public String getCreativeId() { return null; }
+
+    public void destroy() { }
+
+    public interface EventListener
+    {
+        void onAdLoaded(BannerView bannerView);
+
+        void onAdFailedToLoad(BannerView bannerView, BannerError bannerError);
+
+        void onAdImpression(BannerView bannerView);
+
+        void onAdClicked(BannerView bannerView);
+
+        void onAdTTLExpired(BannerView bannerView);
+    }
+}
@@ -0,0 +1,41 @@
+package com.smaato.sdk.core;
+
+import com.smaato.sdk.core.log.LogLevel;
+
+public class Config
+{
+    private final LogLevel logLevel;
+    private final boolean  httpsOnly;
+
+    private Config(final LogLevel logLevel, final boolean httpsOnly)
+    {
+        this.logLevel = logLevel;
+        this.httpsOnly = httpsOnly;
+    }
+
+    public static ConfigBuilder builder() { return new ConfigBuilder(); }
+
+    public LogLevel getLogLevel() { return logLevel; }
+
+    public boolean isHttpsOnly() { return httpsOnly; }
+
+    public static class ConfigBuilder
+    {
+        private LogLevel logLevel = LogLevel.INFO;
+        private boolean  httpsOnly;
+
+        public ConfigBuilder setLogLevel(final LogLevel logLevel)
+        {
+            this.logLevel = logLevel;
+            return this;
+        }
+
+        public ConfigBuilder setHttpsOnly(final boolean httpsOnly)
+        {
+            this.httpsOnly = httpsOnly;
+            return this;
+        }
+
+        public Config build() { return new Config( logLevel, httpsOnly ); }
+    }
+}
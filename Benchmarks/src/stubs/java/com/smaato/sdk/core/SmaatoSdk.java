@@ -0,0 +1,17 @@
+package com.smaato.sdk.core;
+
+import android.app.Application;
+import android.content.Context;
+
+public class SmaatoSdk
+{
+    public static void init(final Application application, final Config config, final String publisherId) { }
+
+    public static String getVersion() { return "benchmark"; }
+
+    public static String collectSignals(final Context context) { return "benchmark-signal"; }
+
+    public static void setCoppa(final boolean enabled) { }
+
+    public static void setGPSEnabled(final boolean enabled) { }
+}
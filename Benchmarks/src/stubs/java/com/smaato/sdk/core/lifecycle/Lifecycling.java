@@ -0,0 +1,10 @@
+package com.smaato.sdk.core.lifecycle;
+
+import android.app.Activity;
+
+public class Lifecycling
+{
+    private Lifecycling() { }
+
+    public static Lifecycling of(final Activity activity) { return new Lifecycling(); }
+}
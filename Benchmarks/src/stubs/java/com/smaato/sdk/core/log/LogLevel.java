@@ -0,0 +1,9 @@
+package com.smaato.sdk.core.log;
+
+public enum LogLevel
+{
+    DEBUG,
+    INFO,
+    WARNING,
+    ERROR
+}
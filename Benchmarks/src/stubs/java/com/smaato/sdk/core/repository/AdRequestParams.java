@@ -0,0 +1,25 @@
+package com.smaato.sdk.core.repository;
+
+public class AdRequestParams
+{
+    private final String ubUniqueId;
+
+    private AdRequestParams(final String ubUniqueId) { this.ubUniqueId = ubUniqueId; }
+
+    public static Builder builder() { return new Builder(); }
+
+    public String getUBUniqueId() { return ubUniqueId; }
+
+    public static class Builder
+    {
+        private String ubUniqueId;
+
+        public Builder setUBUniqueId(final String ubUniqueId)
+        {
+            this.ubUniqueId = ubUniqueId;
+            return this;
+        }
+
+        public AdRequestParams build() { return new AdRequestParams( ubUniqueId ); }
+    }
+}
@@ -0,0 +1,12 @@
+package com.smaato.sdk.iahb;
+
+public class InAppBid
+{
+    private final String json;
+
+    private InAppBid(final String json) { this.json = json; }
+
+    public static InAppBid create(final String json) { return new InAppBid( json ); }
+
+    public String getJson() { return json; }
+}
@@ -0,0 +1,7 @@
+package com.smaato.sdk.iahb;
+
+public class InAppBiddingException
+        extends Exception
+{
+    public InAppBiddingException(final String message) { super( message ); }
+}
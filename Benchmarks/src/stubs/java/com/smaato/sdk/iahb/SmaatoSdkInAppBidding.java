@@ -0,0 +1,11 @@
+package com.smaato.sdk.iahb;
+
+public class SmaatoSdkInAppBidding
+{
+    public static String saveBid(final InAppBid inAppBid) throws InAppBiddingException
+    {
+        if ( inAppBid.getJson() == null ) throw new InAppBiddingException( "Bid is null" );
+
+        return Integer.toHexString( inAppBid.getJson().hashCode() );
+    }
+}
@@ -0,0 +1,20 @@
+package com.smaato.sdk.interstitial;
+
+public interface EventListener
+{
+    void onAdLoaded(InterstitialAd interstitialAd);
+
+    void onAdFailedToLoad(InterstitialRequestError interstitialRequestError);
+
+    void onAdError(InterstitialAd interstitialAd, InterstitialError interstitialError);
+
+    void onAdOpened(InterstitialAd interstitialAd);
+
+    void onAdClosed(InterstitialAd interstitialAd);
+
+    void onAdClicked(InterstitialAd interstitialAd);
+
+    void onAdImpression(InterstitialAd interstitialAd);
+
+    void onAdTTLExpired(InterstitialAd interstitialAd);
+}
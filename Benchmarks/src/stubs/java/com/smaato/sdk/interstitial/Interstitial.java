@@ -0,0 +1,10 @@
+package com.smaato.sdk.interstitial;
+
+import com.smaato.sdk.core.repository.AdRequestParams;
+
+public class Interstitial
+{
+    public static void loadAd(final String adSpaceId, final EventListener eventListener) { }
+
+    public static void loadAd(final String adSpaceId, final EventListener eventListener, final AdRequestParams adRequestParams) { }
+}
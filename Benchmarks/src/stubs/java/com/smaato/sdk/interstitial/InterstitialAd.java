@@ -0,0 +1,26 @@
+package com.smaato.sdk.interstitial;
+
+import android.app.Activity;
+
+/**
+ * Benchmark stub of a loaded Smaato interstitial. Unlike the SDK class it can be constructed directly, so benchmarks can deliver it to listeners.
+ */
+public class InterstitialAd
+{
+    private final String adSpaceId;
+    private final String creativeId;
+
+    public InterstitialAd(final String adSpaceId, final String creativeId)
+    {
+        this.adSpaceId = adSpaceId;
+        this.creativeId = creativeId;
+    }
+
+    public String getAdSpaceId() { return adSpaceId; }
+
+    public String getCreativeId() { return creativeId; }
+
+    public boolean isAvailableForPresentation() { return true; }
+
+    public void showAd(final Activity activity) { }
+}
@@ -0,0 +1,17 @@
+package com.smaato.sdk.interstitial;
+
+public class InterstitialRequestError
+{
+    private final InterstitialError interstitialError;
+    private final String            adSpaceId;
+
+    public InterstitialRequestError(final InterstitialError interstitialError, final String adSpaceId)
+    {
+        this.interstitialError = interstitialError;
+        this.adSpaceId = adSpaceId;
+    }
+
+    public InterstitialError getInterstitialError() { return interstitialError; }
+
+    public String getAdSpaceId() { return adSpaceId; }
+}
@@ -0,0 +1,21 @@
+package com.smaato.sdk.nativead;
+
+import com.smaato.sdk.core.lifecycle.Lifecycling;
+
+public class NativeAd
+{
+    public static void loadAd(final Lifecycling lifecycling, final NativeAdRequest request, final Listener listener) { }
+
+    public interface Listener
+    {
+        void onAdLoaded(NativeAd nativeAd, NativeAdRenderer renderer);
+
+        void onAdFailedToLoad(NativeAd nativeAd, NativeAdError error);
+
+        void onAdImpressed(NativeAd nativeAd);
+
+        void onAdClicked(NativeAd nativeAd);
+
+        void onTtlExpired(NativeAd nativeAd);
+    }
+}
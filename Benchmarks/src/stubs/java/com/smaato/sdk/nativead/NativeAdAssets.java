@@ -0,0 +1,57 @@
+package com.smaato.sdk.nativead;
+
+import android.graphics.drawable.Drawable;
+import android.net.Uri;
+
+import java.util.List;
+
+/**
+ * Benchmark stub of the assets of a loaded Smaato native ad. Unlike the SDK class it can be constructed directly.
+ */
+public class NativeAdAssets
+{
+    private final String      title;
+    private final String      text;
+    private final String      sponsored;
+    private final String      cta;
+    private final Image       icon;
+    private final List<Image> images;
+
+    public NativeAdAssets(final String title, final String text, final String sponsored, final String cta, final Image icon, final List<Image> images)
+    {
+        this.title = title;
+        this.text = text;
+        this.sponsored = sponsored;
+        this.cta = cta;
+        this.icon = icon;
+        this.images = images;
+    }
+
+    public String title() { return title; }
+
+    public String text() { return text; }
+
+    public String sponsored() { return sponsored; }
+
+    public String cta() { return cta; }
+
+    public Image icon() { return icon; }
+
+    public List<Image> images() { return images; }
+
+    public static class Image
+    {
+        private final Drawable drawable;
+        private final Uri      uri;
+
+        public Image(final Drawable drawable, final Uri uri)
+        {
+            this.drawable = drawable;
+            this.uri = uri;
+        }
+
+        public Drawable drawable() { return drawable; }
+
+        public Uri uri() { return uri; }
+    }
+}
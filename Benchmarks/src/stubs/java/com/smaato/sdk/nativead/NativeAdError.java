@@ -0,0 +1,10 @@
+package com.smaato.sdk.nativead;
+
+public enum NativeAdError
+{
+    NO_AD_AVAILABLE,
+    INVALID_REQUEST,
+    NETWORK_ERROR,
+    INTERNAL_ERROR,
+    CACHE_LIMIT_REACHED
+}
@@ -0,0 +1,16 @@
+package com.smaato.sdk.nativead;
+
+import android.view.View;
+
+public class NativeAdRenderer
+{
+    private final NativeAdAssets assets;
+
+    public NativeAdRenderer(final NativeAdAssets assets) { this.assets = assets; }
+
+    public NativeAdAssets getAssets() { return assets; }
+
+    public void registerForImpression(final View view) { }
+
+    public void registerForClicks(final View view) { }
+}
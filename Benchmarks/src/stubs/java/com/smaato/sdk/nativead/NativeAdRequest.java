@@ -0,0 +1,39 @@
+package com.smaato.sdk.nativead;
+
+public class NativeAdRequest
+{
+    private final String  adSpaceId;
+    private final boolean shouldReturnUrlsForImageAssets;
+
+    private NativeAdRequest(final String adSpaceId, final boolean shouldReturnUrlsForImageAssets)
+    {
+        this.adSpaceId = adSpaceId;
+        this.shouldReturnUrlsForImageAssets = shouldReturnUrlsForImageAssets;
+    }
+
+    public static Builder builder() { return new Builder(); }
+
+    public String adSpaceId() { return adSpaceId; }
+
+    public boolean shouldReturnUrlsForImageAssets() { return shouldReturnUrlsForImageAssets; }
+
+    public static class Builder
+    {
+        private String  adSpaceId;
+        private boolean shouldReturnUrlsForImageAssets;
+
+        public Builder adSpaceId(final String adSpaceId)
+        {
+            this.adSpaceId = adSpaceId;
+            return this;
+        }
+
+        public Builder shouldReturnUrlsForImageAssets(final boolean shouldReturnUrlsForImageAssets)
+        {
+            this.shouldReturnUrlsForImageAssets = shouldReturnUrlsForImageAssets;
+            return this;
+        }
+
+        public NativeAdRequest build() { return new NativeAdRequest( adSpaceId, shouldReturnUrlsForImageAssets ); }
+    }
+}
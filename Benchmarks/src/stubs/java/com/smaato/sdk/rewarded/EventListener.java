@@ -0,0 +1,20 @@
+package com.smaato.sdk.rewarded;
+
+public interface EventListener
+{
+    void onAdLoaded(RewardedInterstitialAd rewardedInterstitialAd);
+
+    void onAdFailedToLoad(RewardedRequestError rewardedRequestError);
+
+    void onAdError(RewardedInterstitialAd rewardedInterstitialAd, RewardedError rewardedError);
+
+    void onAdClosed(RewardedInterstitialAd rewardedInterstitialAd);
+
+    void onAdClicked(RewardedInterstitialAd rewardedInterstitialAd);
+
+    void onAdStarted(RewardedInterstitialAd rewardedInterstitialAd);
+
+    void onAdReward(RewardedInterstitialAd rewardedInterstitialAd);
+
+    void onAdTTLExpired(RewardedInterstitialAd rewardedInterstitialAd);
+}
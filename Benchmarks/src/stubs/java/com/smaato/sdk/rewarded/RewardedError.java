@@ -0,0 +1,11 @@
+package com.smaato.sdk.rewarded;
+
+public enum RewardedError
+{
+    NO_AD_AVAILABLE,
+    INVALID_REQUEST,
+    NETWORK_ERROR,
+    INTERNAL_ERROR,
+    CACHE_LIMIT_REACHED,
+    CREATIVE_RESOURCE_EXPIRED
+}
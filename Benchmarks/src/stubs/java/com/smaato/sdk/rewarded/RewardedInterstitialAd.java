@@ -0,0 +1,24 @@
+package com.smaato.sdk.rewarded;
+
+/**
+ * Benchmark stub of a loaded Smaato rewarded ad. Unlike the SDK class it can be constructed directly, so benchmarks can deliver it to listeners.
+ */
+public class RewardedInterstitialAd
+{
+    private final String adSpaceId;
+    private final String creativeId;
+
+    public RewardedInterstitialAd(final String adSpaceId, final String creativeId)
+    {
+        this.adSpaceId = adSpaceId;
+        this.creativeId = creativeId;
+    }
+
+    public String getAdSpaceId() { return adSpaceId; }
+
+    public String getCreativeId() { return creativeId; }
+
+    public boolean isAvailableForPresentation() { return true; }
+
+    public void showAd() { }
+}
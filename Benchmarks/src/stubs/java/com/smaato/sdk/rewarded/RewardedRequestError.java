@@ -0,0 +1,17 @@
+package com.smaato.sdk.rewarded;
+
+public class RewardedRequestError
+{
+    private final RewardedError rewardedError;
+    private final String        adSpaceId;
+
+    public RewardedRequestError(final RewardedError rewardedError, final String adSpaceId)
+    {
+        this.rewardedError = rewardedError;
+        this.adSpaceId = adSpaceId;
+    }
+
+    public RewardedError getRewardedError() { return rewardedError; }
+
+    public String getAdSpaceId() { return adSpaceId; }
+}
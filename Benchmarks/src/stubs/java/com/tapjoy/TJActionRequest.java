@@ -0,0 +1,12 @@
+package com.tapjoy;
+
+public interface TJActionRequest
+{
+    String getRequestId();
+
+    String getToken();
+
+    void completed();
+
+    void cancelled();
+}
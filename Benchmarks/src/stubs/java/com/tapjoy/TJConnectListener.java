@@ -0,0 +1,8 @@
+package com.tapjoy;
+
+public interface TJConnectListener
+{
+    void onConnectSuccess();
+
+    void onConnectFailure();
+}
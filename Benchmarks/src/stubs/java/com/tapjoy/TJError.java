@@ -0,0 +1,13 @@
+package com.tapjoy;
+
+public class TJError
+{
+    public final int    code;
+    public final String message;
+
+    public TJError(final int code, final String message)
+    {
+        this.code = code;
+        this.message = message;
+    }
+}
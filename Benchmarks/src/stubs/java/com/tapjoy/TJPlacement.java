@@ -0,0 +1,33 @@
+package com.tapjoy;
+
+import java.util.HashMap;
+
+public class TJPlacement
+{
+    private final String              placementName;
+    private final TJPlacementListener listener;
+
+    TJPlacement(final String placementName, final TJPlacementListener listener)
+    {
+        this.placementName = placementName;
+        this.listener = listener;
+    }
+
+    public String getName() { return placementName; }
+
+    public void setMediationName(final String mediationName) { }
+
+    public void setAdapterVersion(final String adapterVersion) { }
+
+    public void setVideoListener(final TJPlacementVideoListener videoListener) { }
+
+    public void setAuctionData(final HashMap<String, String> auctionData) { }
+
+    public void requestContent() { }
+
+    public boolean isContentReady() { return false; }
+
+    public boolean isContentAvailable() { return false; }
+
+    public void showContent() { }
+}
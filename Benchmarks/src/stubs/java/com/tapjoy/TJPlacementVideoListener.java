@@ -0,0 +1,10 @@
+package com.tapjoy;
+
+public interface TJPlacementVideoListener
+{
+    void onVideoStart(TJPlacement placement);
+
+    void onVideoError(TJPlacement placement, String message);
+
+    void onVideoComplete(TJPlacement placement);
+}
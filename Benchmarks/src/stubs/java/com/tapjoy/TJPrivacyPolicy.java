@@ -0,0 +1,12 @@
+package com.tapjoy;
+
+public class TJPrivacyPolicy
+{
+    public void setBelowConsentAge(final boolean isBelowConsentAge) { }
+
+    public void setSubjectToGDPR(final boolean isSubjectToGDPR) { }
+
+    public void setUserConsent(final String userConsent) { }
+
+    public void setUSPrivacy(final String privacy) { }
+}
@@ -0,0 +1,39 @@
+package com.tapjoy;
+
+import android.app.Activity;
+import android.content.Context;
+
+import java.util.Hashtable;
+
+/**
+ * Benchmark stub of the Tapjoy SDK facade.
+ */
+public class Tapjoy
+{
+    private static final TJPrivacyPolicy privacyPolicy = new TJPrivacyPolicy();
+
+    public static String getVersion() { return "benchmark"; }
+
+    public static boolean isConnected() { return true; }
+
+    public static void setDebugEnabled(final boolean enabled) { }
+
+    public static boolean connect(final Context context, final String sdkKey, final Hashtable<String, ?> flags, final TJConnectListener listener)
+    {
+        listener.onConnectSuccess();
+        return true;
+    }
+
+    public static String getUserToken() { return "token"; }
+
+    public static TJPrivacyPolicy getPrivacyPolicy() { return privacyPolicy; }
+
+    public static void optOutAdvertisingID(final Context context, final boolean optOut) { }
+
+    public static void setActivity(final Activity activity) { }
+
+    public static TJPlacement getPlacement(final String placementName, final TJPlacementListener listener)
+    {
+        return new TJPlacement( placementName, listener );
+    }
+}
@@ -0,0 +1,6 @@
+package com.tapjoy;
+
+public class TapjoyConnectFlag
+{
+    public static final String ENABLE_LOGGING = "TJC_OPTION_ENABLE_LOGGING";
+}
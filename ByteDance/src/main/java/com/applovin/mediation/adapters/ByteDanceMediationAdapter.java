@@ -8,7 +8,12 @@ import android.graphics.BitmapFactory;
 import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.os.SystemClock;
 import android.text.TextUtils;
+import android.util.LruCache;
 import android.view.View;
 
 import com.applovin.impl.sdk.utils.BundleUtils;
@@ -63,20 +68,40 @@ import com.bytedance.sdk.openadsdk.api.reward.PAGRewardedAdInteractionListener;
 import com.bytedance.sdk.openadsdk.api.reward.PAGRewardedAdLoadListener;
 import com.bytedance.sdk.openadsdk.api.reward.PAGRewardedRequest;
 
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
 import java.net.URL;
+import java.net.URLConnection;
+import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Callable;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import androidx.annotation.Nullable;
 
@@ -146,7 +171,7 @@ public class ByteDanceMediationAdapter
     private static final AtomicBoolean        initialized                        = new AtomicBoolean();
     private static       InitializationStatus status;
     private static final int                  DEFAULT_IMAGE_TASK_TIMEOUT_SECONDS = 10;
-    private static final ExecutorService      executor                           = Executors.newCachedThreadPool();
+    private static final ExecutorService      executor                           = AdapterExecutor.create();
 
     private PAGInterstitialAd interstitialAd;
     private PAGAppOpenAd      appOpenAd;
@@ -505,20 +530,6 @@ public class ByteDanceMediationAdapter
         }
     }
 
-    private Callable<Drawable> createDrawableTask(final String imageUrl, final Resources resources)
-    {
-        return new Callable<Drawable>()
-        {
-            @Override
-            public Drawable call() throws Exception
-            {
-                InputStream inputStream = new URL( imageUrl ).openStream();
-                Bitmap imageData = BitmapFactory.decodeStream( inputStream );
-                return new BitmapDrawable( resources, imageData );
-            }
-        };
-    }
-
     private static MaxAdapterError toMaxError(final int byteDanceErrorCode, final String byteDanceErrorMessage)
     {
         MaxAdapterError adapterError = MaxAdapterError.UNSPECIFIED;
@@ -909,122 +920,102 @@ public class ByteDanceMediationAdapter
             log( "Native " + adFormat.getLabel() + " ad loaded: " + codeId + ". Preparing assets..." );
 
             final PAGNativeAdData nativeAdData = nativeAdViewAd.getNativeAdData();
-            final ExecutorService executorServiceToUse;
+            final Executor executorToUse;
             if ( AppLovinSdk.VERSION_CODE >= 11000000 )
             {
-                executorServiceToUse = getCachingExecutorService();
+                executorToUse = getCachingExecutorService();
             }
             else
             {
-                executorServiceToUse = executor;
+                executorToUse = executor;
+
+                final long rejectedTaskCount = AdapterExecutor.getRejectedTaskCount();
+                if ( rejectedTaskCount > 0 )
+                {
+                    log( "Adapter executor has rejected " + rejectedTaskCount + " task(s) so far" );
+                }
             }
 
             final Activity activity = activityRef.get();
             final Context context = getContext( activity );
-            executorServiceToUse.execute( new Runnable()
+
+            // Pangle's image resource comes in the form of a URL which needs to be fetched in a non-blocking manner
+            String iconUrl = null;
+            if ( nativeAdData.getIcon() != null && StringUtils.isValidString( nativeAdData.getIcon().getImageUrl() ) )
+            {
+                iconUrl = nativeAdData.getIcon().getImageUrl();
+                log( "Adding native ad icon (" + iconUrl + ") to queue to be fetched" );
+            }
+
+            final int iconSizePx = AppLovinSdkUtils.dpToPx( context, NativeAdImagePipeline.ICON_TARGET_SIZE_DP );
+            final int imageTaskTimeoutSeconds = BundleUtils.getInt( "image_task_timeout_seconds", DEFAULT_IMAGE_TASK_TIMEOUT_SECONDS, serverParameters );
+            NativeAdImagePipeline.loadAssets( iconUrl, iconSizePx, null, 0, imageTaskTimeoutSeconds, context, executorToUse, new NativeAdImagePipeline.AssetsListener()
             {
                 @Override
-                public void run()
+                public void onAssetsLoaded(@Nullable final Drawable iconDrawable, @Nullable final Drawable mainImageDrawable)
                 {
-                    final Resources resources = context.getResources();
+                    final MaxNativeAd.MaxNativeAdImage icon = iconDrawable != null ? new MaxNativeAd.MaxNativeAdImage( iconDrawable ) : null;
 
-                    // Create image fetching tasks to run asynchronously in the background
-                    Future<Drawable> iconDrawableFuture = null;
-                    if ( nativeAdData.getIcon() != null && StringUtils.isValidString( nativeAdData.getIcon().getImageUrl() ) )
+                    // Create MaxNativeAd after images are loaded from remote URLs
+                    log( "Creating native ad with assets" );
+
+                    MaxNativeAd maxNativeAd = new MaxNativeAd.Builder()
+                            .setAdFormat( adFormat )
+                            .setTitle( nativeAdData.getTitle() )
+                            .setBody( nativeAdData.getDescription() )
+                            .setCallToAction( nativeAdData.getButtonText() )
+                            .setIcon( icon )
+                            .setMediaView( nativeAdData.getMediaView() )
+                            .setOptionsView( nativeAdData.getAdLogoView() )
+                            .build();
+
+                    String templateName = BundleUtils.getString( "template", "", serverParameters );
+                    if ( templateName.contains( "vertical" ) && AppLovinSdk.VERSION_CODE < 9140500 )
                     {
-                        final String imageUrl = nativeAdData.getIcon().getImageUrl();
-                        // Pangle's image resource comes in the form of a URL which needs to be fetched in a non-blocking manner
-                        log( "Adding native ad icon (" + imageUrl + ") to queue to be fetched" );
-
-                        iconDrawableFuture = ( AppLovinSdk.VERSION_CODE >= 11000000 )
-                                ? createDrawableFuture( imageUrl, resources )
-                                : executorServiceToUse.submit( createDrawableTask( imageUrl, resources ) );
+                        log( "Vertical native banners are only supported on MAX SDK 9.14.5 and above. Default horizontal native template will be used." );
                     }
 
-                    // Execute and timeout tasks if incomplete within the given time
-                    int imageTaskTimeoutSeconds = BundleUtils.getInt( "image_task_timeout_seconds", DEFAULT_IMAGE_TASK_TIMEOUT_SECONDS, serverParameters );
-                    Drawable iconDrawable = null;
-                    try
+                    MaxNativeAdView maxNativeAdView;
+                    if ( AppLovinSdk.VERSION_CODE >= 11010000 )
                     {
-                        if ( iconDrawableFuture != null )
-                        {
-                            iconDrawable = iconDrawableFuture.get( imageTaskTimeoutSeconds, TimeUnit.SECONDS );
-                        }
+                        maxNativeAdView = NativeAdViewPool.create( maxNativeAd, templateName, context );
                     }
-                    catch ( Throwable th )
+                    else
                     {
-                        e( "Image fetching tasks failed", th );
+                        maxNativeAdView = new MaxNativeAdView( maxNativeAd, templateName, activity );
                     }
 
-                    final MaxNativeAd.MaxNativeAdImage icon = iconDrawable != null ? new MaxNativeAd.MaxNativeAdImage( iconDrawable ) : null;
-
-                    // Create MaxNativeAd after images are loaded from remote URLs
-                    AppLovinSdkUtils.runOnUiThread( new Runnable()
+                    List<View> clickableViews = new ArrayList<>();
+                    if ( AppLovinSdkUtils.isValidString( maxNativeAd.getTitle() ) && maxNativeAdView.getTitleTextView() != null )
                     {
-                        @Override
-                        public void run()
-                        {
-                            log( "Creating native ad with assets" );
-
-                            MaxNativeAd maxNativeAd = new MaxNativeAd.Builder()
-                                    .setAdFormat( adFormat )
-                                    .setTitle( nativeAdData.getTitle() )
-                                    .setBody( nativeAdData.getDescription() )
-                                    .setCallToAction( nativeAdData.getButtonText() )
-                                    .setIcon( icon )
-                                    .setMediaView( nativeAdData.getMediaView() )
-                                    .setOptionsView( nativeAdData.getAdLogoView() )
-                                    .build();
-
-                            String templateName = BundleUtils.getString( "template", "", serverParameters );
-                            if ( templateName.contains( "vertical" ) && AppLovinSdk.VERSION_CODE < 9140500 )
-                            {
-                                log( "Vertical native banners are only supported on MAX SDK 9.14.5 and above. Default horizontal native template will be used." );
-                            }
-
-                            MaxNativeAdView maxNativeAdView;
-                            if ( AppLovinSdk.VERSION_CODE >= 11010000 )
-                            {
-                                maxNativeAdView = new MaxNativeAdView( maxNativeAd, templateName, context );
-                            }
-                            else
-                            {
-                                maxNativeAdView = new MaxNativeAdView( maxNativeAd, templateName, activity );
-                            }
-
-                            List<View> clickableViews = new ArrayList<>();
-                            if ( AppLovinSdkUtils.isValidString( maxNativeAd.getTitle() ) && maxNativeAdView.getTitleTextView() != null )
-                            {
-                                clickableViews.add( maxNativeAdView.getTitleTextView() );
-                            }
-                            if ( AppLovinSdkUtils.isValidString( maxNativeAd.getBody() ) && maxNativeAdView.getBodyTextView() != null )
-                            {
-                                clickableViews.add( maxNativeAdView.getBodyTextView() );
-                            }
-                            if ( maxNativeAd.getIcon() != null && maxNativeAdView.getIconImageView() != null )
-                            {
-                                clickableViews.add( maxNativeAdView.getIconImageView() );
-                            }
-                            final View mediaContentView = ( AppLovinSdk.VERSION_CODE >= 11000000 ) ? maxNativeAdView.getMediaContentViewGroup() : maxNativeAdView.getMediaContentView();
-                            if ( maxNativeAd.getMediaView() != null && mediaContentView != null )
-                            {
-                                clickableViews.add( mediaContentView );
-                            }
+                        clickableViews.add( maxNativeAdView.getTitleTextView() );
+                    }
+                    if ( AppLovinSdkUtils.isValidString( maxNativeAd.getBody() ) && maxNativeAdView.getBodyTextView() != null )
+                    {
+                        clickableViews.add( maxNativeAdView.getBodyTextView() );
+                    }
+                    if ( maxNativeAd.getIcon() != null && maxNativeAdView.getIconImageView() != null )
+                    {
+                        clickableViews.add( maxNativeAdView.getIconImageView() );
+                    }
+                    final View mediaContentView = ( AppLovinSdk.VERSION_CODE >= 11000000 ) ? maxNativeAdView.getMediaContentViewGroup() : maxNativeAdView.getMediaContentView();
+                    if ( maxNativeAd.getMediaView() != null && mediaContentView != null )
+                    {
+                        clickableViews.add( mediaContentView );
+                    }
 
-                            // CTA button is considered a creative view
-                            List<View> creativeViews = new ArrayList<>();
-                            if ( AppLovinSdkUtils.isValidString( maxNativeAd.getCallToAction() ) && maxNativeAdView.getCallToActionButton() != null )
-                            {
-                                creativeViews.add( maxNativeAdView.getCallToActionButton() );
-                            }
+                    // CTA button is considered a creative view
+                    List<View> creativeViews = new ArrayList<>();
+                    if ( AppLovinSdkUtils.isValidString( maxNativeAd.getCallToAction() ) && maxNativeAdView.getCallToActionButton() != null )
+                    {
+                        creativeViews.add( maxNativeAdView.getCallToActionButton() );
+                    }
 
-                            // Here dislikeView is null since it is optional
-                            nativeAdViewAd.registerViewForInteraction( maxNativeAdView, clickableViews, creativeViews, null, NativeAdViewListener.this );
+                    // Here dislikeView is null since it is optional
+                    nativeAdViewAd.registerViewForInteraction( maxNativeAdView, clickableViews, creativeViews, null, NativeAdViewListener.this );
 
-                            log( "Native " + adFormat.getLabel() + " ad fully loaded: " + codeId );
-                            listener.onAdViewAdLoaded( maxNativeAdView );
-                        }
-                    } );
+                    log( "Native " + adFormat.getLabel() + " ad fully loaded: " + codeId );
+                    listener.onAdViewAdLoaded( maxNativeAdView );
                 }
             } );
         }
@@ -1126,62 +1117,38 @@ public class ByteDanceMediationAdapter
                 return;
             }
 
-            final ExecutorService cachingExecutorService = getCachingExecutorService();
-            cachingExecutorService.execute( new Runnable()
+            // Pangle's image resource comes in the form of a URL which needs to be fetched in a non-blocking manner
+            String iconUrl = null;
+            if ( nativeAdData.getIcon() != null && StringUtils.isValidString( nativeAdData.getIcon().getImageUrl() ) )
+            {
+                iconUrl = nativeAdData.getIcon().getImageUrl();
+                log( "Adding native ad icon (" + iconUrl + ") to queue to be fetched" );
+            }
+
+            final int iconSizePx = AppLovinSdkUtils.dpToPx( context, NativeAdImagePipeline.ICON_TARGET_SIZE_DP );
+            final int imageTaskTimeoutSeconds = BundleUtils.getInt( "image_task_timeout_seconds", DEFAULT_IMAGE_TASK_TIMEOUT_SECONDS, serverParameters );
+            NativeAdImagePipeline.loadAssets( iconUrl, iconSizePx, null, 0, imageTaskTimeoutSeconds, context, getCachingExecutorService(), new NativeAdImagePipeline.AssetsListener()
             {
                 @Override
-                public void run()
+                public void onAssetsLoaded(@Nullable final Drawable iconDrawable, @Nullable final Drawable mainImageDrawable)
                 {
-                    // Create image fetching tasks to run asynchronously in the background
-                    Future<Drawable> iconDrawableFuture = null;
-                    if ( nativeAdData.getIcon() != null && StringUtils.isValidString( nativeAdData.getIcon().getImageUrl() ) )
-                    {
-                        final String imageUrl = nativeAdData.getIcon().getImageUrl();
-
-                        // Pangle's image resource comes in the form of a URL which needs to be fetched in a non-blocking manner
-                        log( "Adding native ad icon (" + imageUrl + ") to queue to be fetched" );
-                        iconDrawableFuture = createDrawableFuture( imageUrl, context.getResources() );
-                    }
-
-                    // Execute and timeout tasks if incomplete within the given time
-                    int imageTaskTimeoutSeconds = BundleUtils.getInt( "image_task_timeout_seconds", DEFAULT_IMAGE_TASK_TIMEOUT_SECONDS, serverParameters );
-                    Drawable iconDrawable = null;
-                    try
-                    {
-                        if ( iconDrawableFuture != null )
-                        {
-                            iconDrawable = iconDrawableFuture.get( imageTaskTimeoutSeconds, TimeUnit.SECONDS );
-                        }
-                    }
-                    catch ( Throwable th )
-                    {
-                        e( "Image fetching tasks failed", th );
-                    }
-
                     final MaxNativeAd.MaxNativeAdImage icon = iconDrawable != null ? new MaxNativeAd.MaxNativeAdImage( iconDrawable ) : null;
 
                     // Create MaxNativeAd after images are loaded from remote URLs
-                    AppLovinSdkUtils.runOnUiThread( new Runnable()
-                    {
-                        @Override
-                        public void run()
-                        {
-                            log( "Creating native ad with assets" );
-
-                            MaxNativeAd.Builder builder = new MaxNativeAd.Builder()
-                                    .setAdFormat( MaxAdFormat.NATIVE )
-                                    .setTitle( nativeAdData.getTitle() )
-                                    .setBody( nativeAdData.getDescription() )
-                                    .setCallToAction( nativeAdData.getButtonText() )
-                                    .setIcon( icon )
-                                    .setMediaView( nativeAdData.getMediaView() )
-                                    .setOptionsView( nativeAdData.getAdLogoView() );
-                            MaxNativeAd maxNativeAd = new MaxByteDanceNativeAd( builder );
-
-                            log( "Native ad fully loaded: " + codeId );
-                            listener.onNativeAdLoaded( maxNativeAd, null );
-                        }
-                    } );
+                    log( "Creating native ad with assets" );
+
+                    MaxNativeAd.Builder builder = new MaxNativeAd.Builder()
+                            .setAdFormat( MaxAdFormat.NATIVE )
+                            .setTitle( nativeAdData.getTitle() )
+                            .setBody( nativeAdData.getDescription() )
+                            .setCallToAction( nativeAdData.getButtonText() )
+                            .setIcon( icon )
+                            .setMediaView( nativeAdData.getMediaView() )
+                            .setOptionsView( nativeAdData.getAdLogoView() );
+                    MaxNativeAd maxNativeAd = new MaxByteDanceNativeAd( builder );
+
+                    log( "Native ad fully loaded: " + codeId );
+                    listener.onNativeAdLoaded( maxNativeAd, null );
                 }
             } );
         }
@@ -1288,4 +1255,607 @@ public class ByteDanceMediationAdapter
             nativeAd.registerViewForInteraction( maxNativeAdView, clickableViews, creativeViews, null, nativeAdListener );
         }
     }
+
+    /**
+     * Bounded fallback executor for SDKs that predate {@link MediationAdapterBase#getCachingExecutorService()}. Threads are named, capped and reaped
+     * when idle, and tasks beyond the queue limit are rejected and counted instead of spawning more threads.
+     * <p>
+     * Rejected tasks throw {@link RejectedExecutionException} rather than running on the caller, which may be the main thread, or being dropped
+     * silently, which would leave the submitter waiting forever. Every submitter must handle the exception. The only one today is the native
+     * image pipeline, which fails the affected images right away.
+     */
+    private static class AdapterExecutor
+    {
+        private static final int  MAX_THREAD_COUNT            = Math.max( 2, Math.min( 4, Runtime.getRuntime().availableProcessors() ) );
+        private static final int  MAX_QUEUED_TASK_COUNT       = 32;
+        private static final long IDLE_THREAD_TIMEOUT_SECONDS = 30;
+
+        private static final AtomicInteger threadCount       = new AtomicInteger();
+        private static final AtomicLong    rejectedTaskCount = new AtomicLong();
+
+        static ExecutorService create()
+        {
+            final ThreadFactory threadFactory = new ThreadFactory()
+            {
+                @Override
+                public Thread newThread(final Runnable runnable)
+                {
+                    final Thread thread = new Thread( runnable, "AppLovinSdk:ByteDance-" + threadCount.incrementAndGet() );
+                    thread.setDaemon( true );
+
+                    return thread;
+                }
+            };
+
+            final RejectedExecutionHandler rejectedExecutionHandler = new RejectedExecutionHandler()
+            {
+                @Override
+                public void rejectedExecution(final Runnable runnable, final ThreadPoolExecutor executor)
+                {
+                    final long count = rejectedTaskCount.incrementAndGet();
+                    throw new RejectedExecutionException( "ByteDance adapter executor is saturated, " + count + " task(s) rejected so far" );
+                }
+            };
+
+            final ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor( MAX_THREAD_COUNT, MAX_THREAD_COUNT,
+                                                                                  IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS,
+                                                                                  new LinkedBlockingQueue<Runnable>( MAX_QUEUED_TASK_COUNT ),
+                                                                                  threadFactory,
+                                                                                  rejectedExecutionHandler );
+
+            // Let idle threads die off so the pool does not hold on to threads between bursts
+            threadPoolExecutor.allowCoreThreadTimeOut( true );
+
+            return threadPoolExecutor;
+        }
+
+        static long getRejectedTaskCount()
+        {
+            return rejectedTaskCount.get();
+        }
+    }
+
+    /**
+     * Fetches native ad images through a size-bounded memory LRU of decoded bitmaps, backed by an on-disk cache keyed by the image URL.
+     * Concurrent requests for the same image share a single fetch, and images are downsampled to the size they are rendered at.
+     * <p>
+     * Every adapter bundling this pipeline uses the same disk cache directory and limits, so together they stay within one disk budget. The memory
+     * cache cannot be shared the same way: each adapter has its own, so an app bundling several of them holds one budget per adapter and may decode
+     * the same image in each. The per-adapter budget is kept small for that reason.
+     */
+    private static class NativeAdImagePipeline
+    {
+        private static final int    MEMORY_CACHE_MAX_BYTES_PER_ADAPTER = 1024 * 1024;
+        private static final long   DISK_CACHE_MAX_BYTES               = 10 * 1024 * 1024;
+        private static final String DISK_CACHE_DIRECTORY               = "applovin_native_ad_images";
+
+        static final int ICON_TARGET_SIZE_DP = 80;
+
+        private static final LruCache<String, Bitmap>          memoryCache     = new LruCache<String, Bitmap>( (int) Math.min( MEMORY_CACHE_MAX_BYTES_PER_ADAPTER, Runtime.getRuntime().maxMemory() / 128 ) )
+        {
+            @Override
+            protected int sizeOf(final String key, final Bitmap bitmap)
+            {
+                return bitmap.getByteCount();
+            }
+        };
+        private static final Map<String, List<ImageListener>> pendingFetches  = new HashMap<>();
+        private static final Object                            diskCacheLock   = new Object();
+        private static final Handler                           deadlineHandler = new Handler( Looper.getMainLooper() );
+
+        interface ImageListener
+        {
+            void onImageLoaded(@Nullable Bitmap bitmap);
+        }
+
+        interface AssetsListener
+        {
+            /**
+             * Called on the UI thread once every requested image has completed or the deadline has passed. Images that failed or timed out are {@code null}.
+             */
+            void onAssetsLoaded(@Nullable Drawable icon, @Nullable Drawable mainImage);
+        }
+
+        /**
+         * Fetches the icon and main image in parallel without blocking a thread while waiting on them. Either URL may be {@code null}.
+         */
+        static void loadAssets(@Nullable final String iconUrl,
+                               final int iconSizePx,
+                               @Nullable final String mainImageUrl,
+                               final int mainImageSizePx,
+                               final int timeoutSeconds,
+                               final Context context,
+                               final Executor executor,
+                               final AssetsListener listener)
+        {
+            final AssetAssembly assembly = new AssetAssembly( context.getResources(), listener );
+            deadlineHandler.postDelayed( assembly, TimeUnit.SECONDS.toMillis( timeoutSeconds ) );
+
+            if ( AppLovinSdkUtils.isValidString( iconUrl ) )
+            {
+                load( iconUrl, iconSizePx, timeoutSeconds, context, executor, new ImageListener()
+                {
+                    @Override
+                    public void onImageLoaded(@Nullable final Bitmap bitmap)
+                    {
+                        assembly.onIconLoaded( bitmap );
+                    }
+                } );
+            }
+            else
+            {
+                assembly.onIconLoaded( null );
+            }
+
+            if ( AppLovinSdkUtils.isValidString( mainImageUrl ) )
+            {
+                load( mainImageUrl, mainImageSizePx, timeoutSeconds, context, executor, new ImageListener()
+                {
+                    @Override
+                    public void onImageLoaded(@Nullable final Bitmap bitmap)
+                    {
+                        assembly.onMainImageLoaded( bitmap );
+                    }
+                } );
+            }
+            else
+            {
+                assembly.onMainImageLoaded( null );
+            }
+        }
+
+        /**
+         * Loads the image at the given URL, decoded to at least {@code targetSizePx} on its smaller side. The listener is called on the fetching thread,
+         * or inline if the image is already in memory. A network fetch that takes longer than {@code timeoutSeconds} fails with a {@code null} image.
+         */
+        static void load(final String imageUrl, final int targetSizePx, final int timeoutSeconds, final Context context, final Executor executor, final ImageListener listener)
+        {
+            final String cacheKey = imageUrl + "#" + targetSizePx;
+
+            final Bitmap cachedBitmap = memoryCache.get( cacheKey );
+            if ( cachedBitmap != null )
+            {
+                listener.onImageLoaded( cachedBitmap );
+                return;
+            }
+
+            synchronized ( pendingFetches )
+            {
+                // Coalesce with an in-flight fetch of the same image if there is one
+                final List<ImageListener> pendingListeners = pendingFetches.get( cacheKey );
+                if ( pendingListeners != null )
+                {
+                    pendingListeners.add( listener );
+                    return;
+                }
+
+                final List<ImageListener> listeners = new ArrayList<>( 1 );
+                listeners.add( listener );
+                pendingFetches.put( cacheKey, listeners );
+            }
+
+            try
+            {
+                executor.execute( new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        Bitmap bitmap = null;
+                        try
+                        {
+                            bitmap = decodeSampledBitmap( fetchImageData( imageUrl, TimeUnit.SECONDS.toMillis( timeoutSeconds ), context ), targetSizePx );
+                            if ( bitmap != null )
+                            {
+                                memoryCache.put( cacheKey, bitmap );
+                            }
+                        }
+                        catch ( Throwable ignored )
+                        {
+                            // Failed and timed out images are reported to the listeners as null, which also clears the pending fetch
+                        }
+
+                        notifyListeners( cacheKey, bitmap );
+                    }
+                } );
+            }
+            catch ( RejectedExecutionException ignored )
+            {
+                notifyListeners( cacheKey, null );
+            }
+        }
+
+        private static void notifyListeners(final String cacheKey, @Nullable final Bitmap bitmap)
+        {
+            final List<ImageListener> listeners;
+            synchronized ( pendingFetches )
+            {
+                listeners = pendingFetches.remove( cacheKey );
+            }
+
+            if ( listeners == null ) return;
+
+            for ( final ImageListener listener : listeners )
+            {
+                listener.onImageLoaded( bitmap );
+            }
+        }
+
+        private static byte[] fetchImageData(final String imageUrl, final long timeoutMillis, final Context context) throws IOException
+        {
+            final File cacheFile = new File( getDiskCacheDirectory( context ), toCacheFileName( imageUrl ) );
+            if ( cacheFile.exists() )
+            {
+                try
+                {
+                    final byte[] imageData = readFully( new FileInputStream( cacheFile ), Long.MAX_VALUE );
+                    cacheFile.setLastModified( System.currentTimeMillis() );
+
+                    return imageData;
+                }
+                catch ( IOException ignored )
+                {
+                    // The file may have been evicted concurrently - fall back to the network
+                }
+            }
+
+            // Not every URL is served over HTTP - e.g. file and content URLs
+            final URLConnection connection = new URL( imageUrl ).openConnection();
+            connection.setConnectTimeout( (int) timeoutMillis );
+            connection.setReadTimeout( (int) timeoutMillis );
+
+            final byte[] imageData;
+            try
+            {
+                // The read timeout only bounds each read, so also cap the whole download
+                imageData = readFully( connection.getInputStream(), SystemClock.elapsedRealtime() + timeoutMillis );
+            }
+            finally
+            {
+                if ( connection instanceof HttpURLConnection )
+                {
+                    ( (HttpURLConnection) connection ).disconnect();
+                }
+            }
+
+            // Only cache downloads, and only if they are images - anything else would fail to decode on every later read of the file
+            if ( connection instanceof HttpURLConnection && isImage( imageData ) )
+            {
+                writeToDiskCache( cacheFile, imageData );
+            }
+
+            return imageData;
+        }
+
+        private static void writeToDiskCache(final File cacheFile, final byte[] imageData)
+        {
+            synchronized ( diskCacheLock )
+            {
+                // Other adapters may write to the shared directory concurrently, so each write goes through its own temp file
+                File tempFile = null;
+                FileOutputStream outputStream = null;
+                try
+                {
+                    tempFile = File.createTempFile( cacheFile.getName(), ".tmp", cacheFile.getParentFile() );
+                    outputStream = new FileOutputStream( tempFile );
+                    outputStream.write( imageData );
+                    outputStream.close();
+                    outputStream = null;
+
+                    if ( !tempFile.renameTo( cacheFile ) )
+                    {
+                        tempFile.delete();
+                        return;
+                    }
+                }
+                catch ( IOException ignored )
+                {
+                    if ( tempFile != null )
+                    {
+                        tempFile.delete();
+                    }
+
+                    return;
+                }
+                finally
+                {
+                    closeQuietly( outputStream );
+                }
+
+                trimDiskCache( cacheFile.getParentFile() );
+            }
+        }
+
+        private static void trimDiskCache(final File directory)
+        {
+            final File[] files = directory.listFiles();
+            if ( files == null ) return;
+
+            long totalBytes = 0;
+            for ( final File file : files )
+            {
+                totalBytes += file.length();
+            }
+
+            if ( totalBytes <= DISK_CACHE_MAX_BYTES ) return;
+
+            // Evict the least recently used files first
+            Arrays.sort( files, new Comparator<File>()
+            {
+                @Override
+                public int compare(final File file1, final File file2)
+                {
+                    return Long.compare( file1.lastModified(), file2.lastModified() );
+                }
+            } );
+
+            for ( final File file : files )
+            {
+                if ( totalBytes <= DISK_CACHE_MAX_BYTES ) break;
+
+                final long fileBytes = file.length();
+                if ( file.delete() )
+                {
+                    totalBytes -= fileBytes;
+                }
+            }
+        }
+
+        private static boolean isImage(final byte[] imageData)
+        {
+            final BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inJustDecodeBounds = true;
+            BitmapFactory.decodeByteArray( imageData, 0, imageData.length, options );
+
+            return options.outWidth > 0 && options.outHeight > 0;
+        }
+
+        private static Bitmap decodeSampledBitmap(final byte[] imageData, final int targetSizePx)
+        {
+            final BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inJustDecodeBounds = true;
+            BitmapFactory.decodeByteArray( imageData, 0, imageData.length, options );
+
+            int sampleSize = 1;
+            if ( targetSizePx > 0 )
+            {
+                while ( options.outWidth / ( sampleSize * 2 ) >= targetSizePx && options.outHeight / ( sampleSize * 2 ) >= targetSizePx )
+                {
+                    sampleSize *= 2;
+                }
+            }
+
+            options.inJustDecodeBounds = false;
+            options.inSampleSize = sampleSize;
+
+            return BitmapFactory.decodeByteArray( imageData, 0, imageData.length, options );
+        }
+
+        private static File getDiskCacheDirectory(final Context context)
+        {
+            final File directory = new File( context.getCacheDir(), DISK_CACHE_DIRECTORY );
+            if ( !directory.exists() )
+            {
+                directory.mkdirs();
+            }
+
+            return directory;
+        }
+
+        private static String toCacheFileName(final String imageUrl)
+        {
+            try
+            {
+                final byte[] digest = MessageDigest.getInstance( "SHA-1" ).digest( imageUrl.getBytes( "UTF-8" ) );
+                final StringBuilder fileName = new StringBuilder( digest.length * 2 );
+                for ( final byte b : digest )
+                {
+                    fileName.append( String.format( "%02x", b ) );
+                }
+
+                return fileName.toString();
+            }
+            catch ( Exception ignored )
+            {
+                return Integer.toHexString( imageUrl.hashCode() );
+            }
+        }
+
+        private static byte[] readFully(final InputStream inputStream, final long deadlineMillis) throws IOException
+        {
+            try
+            {
+                final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                final byte[] buffer = new byte[8192];
+                int bytesRead;
+                while ( ( bytesRead = inputStream.read( buffer ) ) != -1 )
+                {
+                    if ( SystemClock.elapsedRealtime() > deadlineMillis ) throw new SocketTimeoutException( "Image download timed out" );
+
+                    outputStream.write( buffer, 0, bytesRead );
+                }
+
+                return outputStream.toByteArray();
+            }
+            finally
+            {
+                closeQuietly( inputStream );
+            }
+        }
+
+        private static void closeQuietly(final Closeable closeable)
+        {
+            if ( closeable == null ) return;
+
+            try
+            {
+                closeable.close();
+            }
+            catch ( IOException ignored )
+            {
+                // Nothing to do if closing fails
+            }
+        }
+
+        /**
+         * Collects the images for a single native ad and completes once they have all loaded, or when run by the deadline handler.
+         */
+        private static class AssetAssembly
+                implements Runnable
+        {
+            private final Resources      resources;
+            private final AssetsListener listener;
+            private final AtomicInteger  pendingImageCount = new AtomicInteger( 2 );
+            private final AtomicBoolean  completed         = new AtomicBoolean();
+
+            private volatile Drawable icon;
+            private volatile Drawable mainImage;
+
+            AssetAssembly(final Resources resources, final AssetsListener listener)
+            {
+                this.resources = resources;
+                this.listener = listener;
+            }
+
+            void onIconLoaded(@Nullable final Bitmap bitmap)
+            {
+                icon = ( bitmap != null ) ? new BitmapDrawable( resources, bitmap ) : null;
+                onImageCompleted();
+            }
+
+            void onMainImageLoaded(@Nullable final Bitmap bitmap)
+            {
+                mainImage = ( bitmap != null ) ? new BitmapDrawable( resources, bitmap ) : null;
+                onImageCompleted();
+            }
+
+            @Override
+            public void run()
+            {
+                complete();
+            }
+
+            private void onImageCompleted()
+            {
+                if ( pendingImageCount.decrementAndGet() == 0 )
+                {
+                    deadlineHandler.removeCallbacks( this );
+                    complete();
+                }
+            }
+
+            private void complete()
+            {
+                if ( !completed.compareAndSet( false, true ) ) return;
+
+                final Drawable icon = this.icon;
+                final Drawable mainImage = this.mainImage;
+                AppLovinSdkUtils.runOnUiThread( new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        listener.onAssetsLoaded( icon, mainImage );
+                    }
+                } );
+            }
+        }
+    }
+
+    /**
+     * Pool of native banner template views keyed by template name, so an auto-refreshing native banner binds its ad into a ready view instead of
+     * inflating the template layout while it loads. The template views need the main looper, so they are still inflated on the main thread - an idle
+     * handler only moves that work out of the load path. Pooled views are freshly inflated and never taken back from a shown ad, so no network click
+     * or impression tracking carries over.
+     * <p>
+     * Binding an ad after inflation needs {@code MaxNativeAdView(String, Context)} and {@code MaxNativeAdView.renderCustomNativeAdView(MaxNativeAd)}.
+     * They are not part of the adapter API and not every SDK version has them, so they are looked up reflectively. Without them, and off the main
+     * thread, a view is created per load as before.
+     */
+    private static class NativeAdViewPool
+    {
+        private static final Constructor<MaxNativeAdView> templateConstructor;
+        private static final Method                       renderMethod;
+
+        // Only accessed on the main thread
+        private static final Map<String, MaxNativeAdView> pooledViews       = new HashMap<>();
+        private static final Set<String>                  pendingInflations = new HashSet<>();
+
+        static
+        {
+            Constructor<MaxNativeAdView> constructor = null;
+            Method method = null;
+            try
+            {
+                constructor = MaxNativeAdView.class.getConstructor( String.class, Context.class );
+                method = MaxNativeAdView.class.getMethod( "renderCustomNativeAdView", MaxNativeAd.class );
+            }
+            catch ( Throwable ignored )
+            {
+                constructor = null;
+                method = null;
+            }
+
+            templateConstructor = constructor;
+            renderMethod = method;
+        }
+
+        static MaxNativeAdView create(final MaxNativeAd maxNativeAd, final String templateName, final Context context)
+        {
+            // Only pool views of the application context so pooled views never hold on to an activity
+            if ( renderMethod != null && context == context.getApplicationContext() && Looper.myLooper() == Looper.getMainLooper() )
+            {
+                final MaxNativeAdView pooledView = pooledViews.remove( templateName );
+
+                // Inflate the view for the next load once the main thread is idle
+                scheduleInflation( templateName, context );
+
+                if ( pooledView != null && render( pooledView, maxNativeAd ) ) return pooledView;
+            }
+
+            return new MaxNativeAdView( maxNativeAd, templateName, context );
+        }
+
+        private static boolean render(final MaxNativeAdView maxNativeAdView, final MaxNativeAd maxNativeAd)
+        {
+            try
+            {
+                renderMethod.invoke( maxNativeAdView, maxNativeAd );
+                return true;
+            }
+            catch ( Throwable th )
+            {
+                return false;
+            }
+        }
+
+        private static void scheduleInflation(final String templateName, final Context context)
+        {
+            if ( !pendingInflations.add( templateName ) ) return;
+
+            // Only called on the main thread, so this is the main looper's queue
+            Looper.myQueue().addIdleHandler( new MessageQueue.IdleHandler()
+            {
+                @Override
+                public boolean queueIdle()
+                {
+                    pendingInflations.remove( templateName );
+
+                    if ( !pooledViews.containsKey( templateName ) )
+                    {
+                        try
+                        {
+                            pooledViews.put( templateName, templateConstructor.newInstance( templateName, context ) );
+                        }
+                        catch ( Throwable ignored )
+                        {
+                            // Fall back to inflating the template on the next load
+                        }
+                    }
+
+                    return false;
+                }
+            } );
+        }
+    }
 }
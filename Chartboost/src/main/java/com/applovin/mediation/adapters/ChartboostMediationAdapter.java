@@ -4,7 +4,9 @@ import android.app.Activity;
 import android.content.Context;
 import android.os.Build;
 import android.os.Bundle;
+import android.os.SystemClock;
 import android.text.TextUtils;
+import android.view.View;
 
 import com.applovin.mediation.MaxAdFormat;
 import com.applovin.mediation.MaxReward;
@@ -49,6 +51,8 @@ import com.chartboost.sdk.privacy.model.DataUseConsent;
 import com.chartboost.sdk.privacy.model.GDPR;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import androidx.annotation.NonNull;
@@ -267,7 +271,7 @@ public class ChartboostMediationAdapter
         {
             log( "Ad is available already" );
             listener.onAdViewAdLoaded( adView );
-            showAdViewDelayed( listener );
+            showAdViewWhenAttached( listener );
         }
         else if ( Build.VERSION.SDK_INT > Build.VERSION_CODES.LOLLIPOP )
         {
@@ -317,8 +321,7 @@ public class ChartboostMediationAdapter
         try
         {
             // Use reflection because compiled adapters have trouble fetching `boolean` from old SDKs and `Boolean` from new SDKs (above 9.14.0)
-            Class<?> parametersClass = parameters.getClass();
-            Method privacyMethod = parametersClass.getMethod( privacySetting );
+            Method privacyMethod = PrivacySettingAccessors.get( parameters.getClass(), privacySetting );
             return (Boolean) privacyMethod.invoke( parameters );
         }
         catch ( Exception exception )
@@ -441,17 +444,17 @@ public class ChartboostMediationAdapter
         return new MaxAdapterError( adapterError, chartboostError.getCode().getErrorCode(), chartboostError.toString() );
     }
 
-    private void showAdViewDelayed(final MaxAdViewAdapterListener listener)
+    private void showAdViewWhenAttached(final MaxAdViewAdapterListener listener)
     {
-        // Chartboost requires manual show after caching ad views. Delay to allow enough time for attaching to parent.
-        AppLovinSdkUtils.runOnUiThreadDelayed( new Runnable()
+        // Chartboost requires manual show after caching ad views, which only works once the ad view is attached to its parent
+        AppLovinSdkUtils.runOnUiThread( new Runnable()
         {
             @Override
             public void run()
             {
                 if ( adView != null )
                 {
-                    adView.show();
+                    new AdViewShowTrigger( adView, listener ).start();
                 }
                 else
                 {
@@ -459,7 +462,7 @@ public class ChartboostMediationAdapter
                     listener.onAdViewAdDisplayFailed( new MaxAdapterError( -4205, "Ad Display Failed" ) );
                 }
             }
-        }, 500 );
+        } );
     }
 
     //endregion
@@ -701,7 +704,7 @@ public class ChartboostMediationAdapter
                 listener.onAdViewAdLoaded( adView );
             }
 
-            showAdViewDelayed( listener );
+            showAdViewWhenAttached( listener );
         }
 
         @Override
@@ -759,4 +762,107 @@ public class ChartboostMediationAdapter
             }
         }
     }
+
+    /**
+     * updateConsentStatus() reads all three privacy settings on every load, so the accessors are resolved once per parameters class and reused
+     * across loads.
+     */
+    private static class PrivacySettingAccessors
+    {
+        private static final ConcurrentHashMap<Class<?>, Map<String, Method>> accessors = new ConcurrentHashMap<>();
+
+        static Method get(final Class<?> parametersClass, final String privacySetting) throws NoSuchMethodException
+        {
+            Map<String, Method> classAccessors = accessors.get( parametersClass );
+            if ( classAccessors == null )
+            {
+                classAccessors = new ConcurrentHashMap<>();
+
+                final Map<String, Method> existingAccessors = accessors.putIfAbsent( parametersClass, classAccessors );
+                if ( existingAccessors != null )
+                {
+                    classAccessors = existingAccessors;
+                }
+            }
+
+            Method accessor = classAccessors.get( privacySetting );
+            if ( accessor == null )
+            {
+                // Racing lookups resolve the same method, so the last write winning is harmless
+                accessor = parametersClass.getMethod( privacySetting );
+                classAccessors.put( privacySetting, accessor );
+            }
+
+            return accessor;
+        }
+    }
+
+    /**
+     * Shows a cached ad view as soon as it is attached to a window, or after {@link #SHOW_FALLBACK_TIMEOUT_MILLIS} if it is not attached by then,
+     * and logs how long the show waited after the load.
+     */
+    private class AdViewShowTrigger
+            implements View.OnAttachStateChangeListener, Runnable
+    {
+        private static final long SHOW_FALLBACK_TIMEOUT_MILLIS = 500;
+
+        private final Banner                   banner;
+        private final MaxAdViewAdapterListener listener;
+        private final long                     showRequestedTimeMillis = SystemClock.elapsedRealtime();
+
+        private boolean isTriggered;
+
+        private AdViewShowTrigger(final Banner banner, final MaxAdViewAdapterListener listener)
+        {
+            this.banner = banner;
+            this.listener = listener;
+        }
+
+        void start()
+        {
+            if ( banner.getWindowToken() != null )
+            {
+                show( "already attached" );
+                return;
+            }
+
+            banner.addOnAttachStateChangeListener( this );
+            AppLovinSdkUtils.runOnUiThreadDelayed( this, SHOW_FALLBACK_TIMEOUT_MILLIS );
+        }
+
+        @Override
+        public void onViewAttachedToWindow(final View view)
+        {
+            show( "attached" );
+        }
+
+        @Override
+        public void onViewDetachedFromWindow(final View view) { }
+
+        @Override
+        public void run()
+        {
+            show( "fallback timeout" );
+        }
+
+        private void show(final String trigger)
+        {
+            // Whichever of attach and the fallback timeout comes first shows the ad
+            if ( isTriggered ) return;
+
+            isTriggered = true;
+            banner.removeOnAttachStateChangeListener( this );
+
+            if ( adView == null )
+            {
+                log( "Ad load failed: Chartboost Banner AdView is not ready." );
+                listener.onAdViewAdDisplayFailed( new MaxAdapterError( -4205, "Ad Display Failed" ) );
+
+                return;
+            }
+
+            log( "Showing ad view " + ( SystemClock.elapsedRealtime() - showRequestedTimeMillis ) + "ms after load (" + trigger + ")" );
+            banner.show();
+        }
+    }
 }
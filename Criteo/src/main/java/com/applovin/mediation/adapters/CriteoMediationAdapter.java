@@ -3,9 +3,17 @@ package com.applovin.mediation.adapters;
 import android.app.Activity;
 import android.app.Application;
 import android.content.Context;
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.text.TextUtils;
+import android.util.LruCache;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.FrameLayout;
@@ -49,11 +57,30 @@ import com.criteo.publisher.model.BannerAdUnit;
 import com.criteo.publisher.model.InterstitialAdUnit;
 import com.criteo.publisher.model.NativeAdUnit;
 
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Method;
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
 import java.net.URL;
-import java.util.concurrent.Future;
+import java.net.URLConnection;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -472,37 +499,39 @@ public class CriteoMediationAdapter
                 return;
             }
 
-            getCachingExecutorService().execute( new Runnable()
+            final int iconSizePx = AppLovinSdkUtils.dpToPx( context, NativeAdImagePipeline.ICON_TARGET_SIZE_DP );
+            final int mediaSizePx = context.getResources().getDisplayMetrics().widthPixels;
+            final int imageTaskTimeoutSeconds = BundleUtils.getInt( "image_task_timeout_seconds", 10, serverParameters );
+            final String iconUrlString = ( iconUrl != null ) ? iconUrl.toString() : null;
+
+            NativeAdImagePipeline.loadAssets( iconUrlString, iconSizePx, mediaUrl.toString(), mediaSizePx, imageTaskTimeoutSeconds, context, getCachingExecutorService(), new NativeAdImagePipeline.AssetsListener()
             {
                 @Override
-                public void run()
+                public void onAssetsLoaded(@Nullable final Drawable icon, @Nullable final Drawable media)
                 {
-                    final Drawable icon = getImageDrawable( iconUrl, context );
-                    final Drawable media = getImageDrawable( mediaUrl, context );
-
-                    runOnUiThread( new Runnable()
+                    if ( media == null )
                     {
-                        @Override
-                        public void run()
-                        {
-                            final MaxNativeAd.MaxNativeAdImage iconImage = new MaxNativeAd.MaxNativeAdImage( icon );
-                            final ImageView mediaView = new ImageView( getApplicationContext() );
-                            mediaView.setImageDrawable( media );
-
-                            final MaxNativeAd.Builder builder = new MaxNativeAd.Builder()
-                                    .setAdFormat( MaxAdFormat.NATIVE )
-                                    .setIcon( iconImage )
-                                    .setTitle( ad.getTitle() )
-                                    .setAdvertiser( ad.getAdvertiserDescription() )
-                                    .setBody( ad.getDescription() )
-                                    .setMediaView( mediaView )
-                                    .setCallToAction( ad.getCallToAction() );
-                            final MaxNativeAd maxNativeAd = new MaxCriteoNativeAd( builder );
-
-                            log( "Native ad loaded: " + placementId );
-                            listener.onNativeAdLoaded( maxNativeAd, null );
-                        }
-                    } );
+                        e( "Failed to fetch native ad image URL (" + mediaUrl + ")" );
+                    }
+
+                    log( "Native ad image data retrieved" );
+
+                    final MaxNativeAd.MaxNativeAdImage iconImage = new MaxNativeAd.MaxNativeAdImage( icon );
+                    final ImageView mediaView = new ImageView( getApplicationContext() );
+                    mediaView.setImageDrawable( media );
+
+                    final MaxNativeAd.Builder builder = new MaxNativeAd.Builder()
+                            .setAdFormat( MaxAdFormat.NATIVE )
+                            .setIcon( iconImage )
+                            .setTitle( ad.getTitle() )
+                            .setAdvertiser( ad.getAdvertiserDescription() )
+                            .setBody( ad.getDescription() )
+                            .setMediaView( mediaView )
+                            .setCallToAction( ad.getCallToAction() );
+                    final MaxNativeAd maxNativeAd = new MaxCriteoNativeAd( builder );
+
+                    log( "Native ad loaded: " + placementId );
+                    listener.onNativeAdLoaded( maxNativeAd, null );
                 }
             } );
         }
@@ -575,25 +604,6 @@ public class CriteoMediationAdapter
 
             return url instanceof URL ? (URL) url : null;
         }
-
-        private Drawable getImageDrawable(final URL url, final Context context)
-        {
-            Drawable iconDrawable = null;
-            final Future<Drawable> iconDrawableFuture = createDrawableFuture( url.toString(), context.getResources() );
-            final int imageTaskTimeoutSeconds = BundleUtils.getInt( "image_task_timeout_seconds", 10, serverParameters );
-
-            try
-            {
-                iconDrawable = iconDrawableFuture.get( imageTaskTimeoutSeconds, TimeUnit.SECONDS );
-            }
-            catch ( Throwable th )
-            {
-                e( "Failed to fetch native ad image URL (" + url + ") with error: ", th );
-            }
-
-            log( "Native ad image data retrieved" );
-            return iconDrawable;
-        }
     }
 
     private class MaxCriteoNativeAd
@@ -621,4 +631,451 @@ public class CriteoMediationAdapter
             nativeAdView.addView( renderedView );
         }
     }
+
+    /**
+     * Fetches native ad images through a size-bounded memory LRU of decoded bitmaps, backed by an on-disk cache keyed by the image URL.
+     * Concurrent requests for the same image share a single fetch, and images are downsampled to the size they are rendered at.
+     * <p>
+     * Every adapter bundling this pipeline uses the same disk cache directory and limits, so together they stay within one disk budget. The memory
+     * cache cannot be shared the same way: each adapter has its own, so an app bundling several of them holds one budget per adapter and may decode
+     * the same image in each. The per-adapter budget is kept small for that reason.
+     */
+    private static class NativeAdImagePipeline
+    {
+        private static final int    MEMORY_CACHE_MAX_BYTES_PER_ADAPTER = 1024 * 1024;
+        private static final long   DISK_CACHE_MAX_BYTES               = 10 * 1024 * 1024;
+        private static final String DISK_CACHE_DIRECTORY               = "applovin_native_ad_images";
+
+        static final int ICON_TARGET_SIZE_DP = 80;
+
+        private static final LruCache<String, Bitmap>          memoryCache     = new LruCache<String, Bitmap>( (int) Math.min( MEMORY_CACHE_MAX_BYTES_PER_ADAPTER, Runtime.getRuntime().maxMemory() / 128 ) )
+        {
+            @Override
+            protected int sizeOf(final String key, final Bitmap bitmap)
+            {
+                return bitmap.getByteCount();
+            }
+        };
+        private static final Map<String, List<ImageListener>> pendingFetches  = new HashMap<>();
+        private static final Object                            diskCacheLock   = new Object();
+        private static final Handler                           deadlineHandler = new Handler( Looper.getMainLooper() );
+
+        interface ImageListener
+        {
+            void onImageLoaded(@Nullable Bitmap bitmap);
+        }
+
+        interface AssetsListener
+        {
+            /**
+             * Called on the UI thread once every requested image has completed or the deadline has passed. Images that failed or timed out are {@code null}.
+             */
+            void onAssetsLoaded(@Nullable Drawable icon, @Nullable Drawable mainImage);
+        }
+
+        /**
+         * Fetches the icon and main image in parallel without blocking a thread while waiting on them. Either URL may be {@code null}.
+         */
+        static void loadAssets(@Nullable final String iconUrl,
+                               final int iconSizePx,
+                               @Nullable final String mainImageUrl,
+                               final int mainImageSizePx,
+                               final int timeoutSeconds,
+                               final Context context,
+                               final Executor executor,
+                               final AssetsListener listener)
+        {
+            final AssetAssembly assembly = new AssetAssembly( context.getResources(), listener );
+            deadlineHandler.postDelayed( assembly, TimeUnit.SECONDS.toMillis( timeoutSeconds ) );
+
+            if ( AppLovinSdkUtils.isValidString( iconUrl ) )
+            {
+                load( iconUrl, iconSizePx, timeoutSeconds, context, executor, new ImageListener()
+                {
+                    @Override
+                    public void onImageLoaded(@Nullable final Bitmap bitmap)
+                    {
+                        assembly.onIconLoaded( bitmap );
+                    }
+                } );
+            }
+            else
+            {
+                assembly.onIconLoaded( null );
+            }
+
+            if ( AppLovinSdkUtils.isValidString( mainImageUrl ) )
+            {
+                load( mainImageUrl, mainImageSizePx, timeoutSeconds, context, executor, new ImageListener()
+                {
+                    @Override
+                    public void onImageLoaded(@Nullable final Bitmap bitmap)
+                    {
+                        assembly.onMainImageLoaded( bitmap );
+                    }
+                } );
+            }
+            else
+            {
+                assembly.onMainImageLoaded( null );
+            }
+        }
+
+        /**
+         * Loads the image at the given URL, decoded to at least {@code targetSizePx} on its smaller side. The listener is called on the fetching thread,
+         * or inline if the image is already in memory. A network fetch that takes longer than {@code timeoutSeconds} fails with a {@code null} image.
+         */
+        static void load(final String imageUrl, final int targetSizePx, final int timeoutSeconds, final Context context, final Executor executor, final ImageListener listener)
+        {
+            final String cacheKey = imageUrl + "#" + targetSizePx;
+
+            final Bitmap cachedBitmap = memoryCache.get( cacheKey );
+            if ( cachedBitmap != null )
+            {
+                listener.onImageLoaded( cachedBitmap );
+                return;
+            }
+
+            synchronized ( pendingFetches )
+            {
+                // Coalesce with an in-flight fetch of the same image if there is one
+                final List<ImageListener> pendingListeners = pendingFetches.get( cacheKey );
+                if ( pendingListeners != null )
+                {
+                    pendingListeners.add( listener );
+                    return;
+                }
+
+                final List<ImageListener> listeners = new ArrayList<>( 1 );
+                listeners.add( listener );
+                pendingFetches.put( cacheKey, listeners );
+            }
+
+            try
+            {
+                executor.execute( new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        Bitmap bitmap = null;
+                        try
+                        {
+                            bitmap = decodeSampledBitmap( fetchImageData( imageUrl, TimeUnit.SECONDS.toMillis( timeoutSeconds ), context ), targetSizePx );
+                            if ( bitmap != null )
+                            {
+                                memoryCache.put( cacheKey, bitmap );
+                            }
+                        }
+                        catch ( Throwable ignored )
+                        {
+                            // Failed and timed out images are reported to the listeners as null, which also clears the pending fetch
+                        }
+
+                        notifyListeners( cacheKey, bitmap );
+                    }
+                } );
+            }
+            catch ( RejectedExecutionException ignored )
+            {
+                notifyListeners( cacheKey, null );
+            }
+        }
+
+        private static void notifyListeners(final String cacheKey, @Nullable final Bitmap bitmap)
+        {
+            final List<ImageListener> listeners;
+            synchronized ( pendingFetches )
+            {
+                listeners = pendingFetches.remove( cacheKey );
+            }
+
+            if ( listeners == null ) return;
+
+            for ( final ImageListener listener : listeners )
+            {
+                listener.onImageLoaded( bitmap );
+            }
+        }
+
+        private static byte[] fetchImageData(final String imageUrl, final long timeoutMillis, final Context context) throws IOException
+        {
+            final File cacheFile = new File( getDiskCacheDirectory( context ), toCacheFileName( imageUrl ) );
+            if ( cacheFile.exists() )
+            {
+                try
+                {
+                    final byte[] imageData = readFully( new FileInputStream( cacheFile ), Long.MAX_VALUE );
+                    cacheFile.setLastModified( System.currentTimeMillis() );
+
+                    return imageData;
+                }
+                catch ( IOException ignored )
+                {
+                    // The file may have been evicted concurrently - fall back to the network
+                }
+            }
+
+            // Not every URL is served over HTTP - e.g. file and content URLs
+            final URLConnection connection = new URL( imageUrl ).openConnection();
+            connection.setConnectTimeout( (int) timeoutMillis );
+            connection.setReadTimeout( (int) timeoutMillis );
+
+            final byte[] imageData;
+            try
+            {
+                // The read timeout only bounds each read, so also cap the whole download
+                imageData = readFully( connection.getInputStream(), SystemClock.elapsedRealtime() + timeoutMillis );
+            }
+            finally
+            {
+                if ( connection instanceof HttpURLConnection )
+                {
+                    ( (HttpURLConnection) connection ).disconnect();
+                }
+            }
+
+            // Only cache downloads, and only if they are images - anything else would fail to decode on every later read of the file
+            if ( connection instanceof HttpURLConnection && isImage( imageData ) )
+            {
+                writeToDiskCache( cacheFile, imageData );
+            }
+
+            return imageData;
+        }
+
+        private static void writeToDiskCache(final File cacheFile, final byte[] imageData)
+        {
+            synchronized ( diskCacheLock )
+            {
+                // Other adapters may write to the shared directory concurrently, so each write goes through its own temp file
+                File tempFile = null;
+                FileOutputStream outputStream = null;
+                try
+                {
+                    tempFile = File.createTempFile( cacheFile.getName(), ".tmp", cacheFile.getParentFile() );
+                    outputStream = new FileOutputStream( tempFile );
+                    outputStream.write( imageData );
+                    outputStream.close();
+                    outputStream = null;
+
+                    if ( !tempFile.renameTo( cacheFile ) )
+                    {
+                        tempFile.delete();
+                        return;
+                    }
+                }
+                catch ( IOException ignored )
+                {
+                    if ( tempFile != null )
+                    {
+                        tempFile.delete();
+                    }
+
+                    return;
+                }
+                finally
+                {
+                    closeQuietly( outputStream );
+                }
+
+                trimDiskCache( cacheFile.getParentFile() );
+            }
+        }
+
+        private static void trimDiskCache(final File directory)
+        {
+            final File[] files = directory.listFiles();
+            if ( files == null ) return;
+
+            long totalBytes = 0;
+            for ( final File file : files )
+            {
+                totalBytes += file.length();
+            }
+
+            if ( totalBytes <= DISK_CACHE_MAX_BYTES ) return;
+
+            // Evict the least recently used files first
+            Arrays.sort( files, new Comparator<File>()
+            {
+                @Override
+                public int compare(final File file1, final File file2)
+                {
+                    return Long.compare( file1.lastModified(), file2.lastModified() );
+                }
+            } );
+
+            for ( final File file : files )
+            {
+                if ( totalBytes <= DISK_CACHE_MAX_BYTES ) break;
+
+                final long fileBytes = file.length();
+                if ( file.delete() )
+                {
+                    totalBytes -= fileBytes;
+                }
+            }
+        }
+
+        private static boolean isImage(final byte[] imageData)
+        {
+            final BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inJustDecodeBounds = true;
+            BitmapFactory.decodeByteArray( imageData, 0, imageData.length, options );
+
+            return options.outWidth > 0 && options.outHeight > 0;
+        }
+
+        private static Bitmap decodeSampledBitmap(final byte[] imageData, final int targetSizePx)
+        {
+            final BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inJustDecodeBounds = true;
+            BitmapFactory.decodeByteArray( imageData, 0, imageData.length, options );
+
+            int sampleSize = 1;
+            if ( targetSizePx > 0 )
+            {
+                while ( options.outWidth / ( sampleSize * 2 ) >= targetSizePx && options.outHeight / ( sampleSize * 2 ) >= targetSizePx )
+                {
+                    sampleSize *= 2;
+                }
+            }
+
+            options.inJustDecodeBounds = false;
+            options.inSampleSize = sampleSize;
+
+            return BitmapFactory.decodeByteArray( imageData, 0, imageData.length, options );
+        }
+
+        private static File getDiskCacheDirectory(final Context context)
+        {
+            final File directory = new File( context.getCacheDir(), DISK_CACHE_DIRECTORY );
+            if ( !directory.exists() )
+            {
+                directory.mkdirs();
+            }
+
+            return directory;
+        }
+
+        private static String toCacheFileName(final String imageUrl)
+        {
+            try
+            {
+                final byte[] digest = MessageDigest.getInstance( "SHA-1" ).digest( imageUrl.getBytes( "UTF-8" ) );
+                final StringBuilder fileName = new StringBuilder( digest.length * 2 );
+                for ( final byte b : digest )
+                {
+                    fileName.append( String.format( "%02x", b ) );
+                }
+
+                return fileName.toString();
+            }
+            catch ( Exception ignored )
+            {
+                return Integer.toHexString( imageUrl.hashCode() );
+            }
+        }
+
+        private static byte[] readFully(final InputStream inputStream, final long deadlineMillis) throws IOException
+        {
+            try
+            {
+                final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                final byte[] buffer = new byte[8192];
+                int bytesRead;
+                while ( ( bytesRead = inputStream.read( buffer ) ) != -1 )
+                {
+                    if ( SystemClock.elapsedRealtime() > deadlineMillis ) throw new SocketTimeoutException( "Image download timed out" );
+
+                    outputStream.write( buffer, 0, bytesRead );
+                }
+
+                return outputStream.toByteArray();
+            }
+            finally
+            {
+                closeQuietly( inputStream );
+            }
+        }
+
+        private static void closeQuietly(final Closeable closeable)
+        {
+            if ( closeable == null ) return;
+
+            try
+            {
+                closeable.close();
+            }
+            catch ( IOException ignored )
+            {
+                // Nothing to do if closing fails
+            }
+        }
+
+        /**
+         * Collects the images for a single native ad and completes once they have all loaded, or when run by the deadline handler.
+         */
+        private static class AssetAssembly
+                implements Runnable
+        {
+            private final Resources      resources;
+            private final AssetsListener listener;
+            private final AtomicInteger  pendingImageCount = new AtomicInteger( 2 );
+            private final AtomicBoolean  completed         = new AtomicBoolean();
+
+            private volatile Drawable icon;
+            private volatile Drawable mainImage;
+
+            AssetAssembly(final Resources resources, final AssetsListener listener)
+            {
+                this.resources = resources;
+                this.listener = listener;
+            }
+
+            void onIconLoaded(@Nullable final Bitmap bitmap)
+            {
+                icon = ( bitmap != null ) ? new BitmapDrawable( resources, bitmap ) : null;
+                onImageCompleted();
+            }
+
+            void onMainImageLoaded(@Nullable final Bitmap bitmap)
+            {
+                mainImage = ( bitmap != null ) ? new BitmapDrawable( resources, bitmap ) : null;
+                onImageCompleted();
+            }
+
+            @Override
+            public void run()
+            {
+                complete();
+            }
+
+            private void onImageCompleted()
+            {
+                if ( pendingImageCount.decrementAndGet() == 0 )
+                {
+                    deadlineHandler.removeCallbacks( this );
+                    complete();
+                }
+            }
+
+            private void complete()
+            {
+                if ( !completed.compareAndSet( false, true ) ) return;
+
+                final Drawable icon = this.icon;
+                final Drawable mainImage = this.mainImage;
+                AppLovinSdkUtils.runOnUiThread( new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        listener.onAssetsLoaded( icon, mainImage );
+                    }
+                } );
+            }
+        }
+    }
 }
@@ -2,10 +2,20 @@ package com.applovin.mediation.adapters;
 
 import android.app.Activity;
 import android.content.Context;
+import android.content.SharedPreferences;
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
 import android.net.Uri;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.os.SystemClock;
 import android.text.TextUtils;
+import android.util.LruCache;
 import android.view.View;
 import android.widget.ImageView;
 
@@ -53,14 +63,34 @@ import com.facebook.ads.NativeBannerAd;
 import com.facebook.ads.RewardedVideoAd;
 import com.facebook.ads.RewardedVideoAdExtendedListener;
 
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.concurrent.Future;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import androidx.annotation.Nullable;
 
@@ -74,7 +104,8 @@ public class FacebookMediationAdapter
         extends MediationAdapterBase
         implements MaxInterstitialAdapter, MaxRewardedInterstitialAdapter, MaxRewardedAdapter, MaxAdViewAdapter, MaxSignalProvider /* MaxNativeAdAdapter */
 {
-    private static final AtomicBoolean INITIALIZED = new AtomicBoolean();
+    private static final long          DEFAULT_SIGNAL_CACHE_TTL_SECONDS = 60;
+    private static final AtomicBoolean INITIALIZED                      = new AtomicBoolean();
 
     private static InitializationStatus sStatus;
 
@@ -105,7 +136,9 @@ public class FacebookMediationAdapter
         {
             sStatus = InitializationStatus.INITIALIZING;
 
-            final List<String> placementIds = parameters.getServerParameters().getStringArrayList( "placement_ids" );
+            final Context context = getContext( activity );
+            final Bundle serverParameters = parameters.getServerParameters();
+            final List<String> allPlacementIds = serverParameters.getStringArrayList( "placement_ids" );
             final AudienceNetworkAds.InitListener initListener = new AudienceNetworkAds.InitListener()
             {
                 @Override
@@ -133,13 +166,36 @@ public class FacebookMediationAdapter
                 AdSettings.setDebugBuild( true );
             }
 
-            log( "Initializing Facebook SDK with placements: " + placementIds );
+            // Tiered initialization: only warm up the most used placements, Audience Network warms up the others on their first load
+            final int initPlacementLimit = serverParameters.getInt( "init_placement_limit", 0 );
+            if ( initPlacementLimit > 0 && allPlacementIds != null && allPlacementIds.size() > initPlacementLimit )
+            {
+                // Wait for the persisted counts off the main thread, then initialize on it as usual
+                PlacementUsage.load( context, getCachingExecutorService(), new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        runOnUiThread( new Runnable()
+                        {
+                            @Override
+                            public void run()
+                            {
+                                final List<String> placementIds = PlacementUsage.selectInitPlacementIds( allPlacementIds, initPlacementLimit );
+                                log( "Initializing Facebook SDK with " + placementIds.size() + " of " + allPlacementIds.size() + " placements: " + placementIds );
+
+                                initializeSdk( placementIds, initListener, context );
+                            }
+                        } );
+                    }
+                } );
+            }
+            else
+            {
+                log( "Initializing Facebook SDK with placements: " + allPlacementIds );
 
-            AudienceNetworkAds.buildInitSettings( getContext( activity ) )
-                    .withMediationService( getMediationIdentifier() )
-                    .withPlacementIds( placementIds )
-                    .withInitListener( initListener )
-                    .initialize();
+                initializeSdk( allPlacementIds, initListener, context );
+            }
         }
         else
         {
@@ -149,6 +205,15 @@ public class FacebookMediationAdapter
         }
     }
 
+    private void initializeSdk(final List<String> placementIds, final AudienceNetworkAds.InitListener initListener, final Context context)
+    {
+        AudienceNetworkAds.buildInitSettings( context )
+                .withMediationService( getMediationIdentifier() )
+                .withPlacementIds( placementIds )
+                .withInitListener( initListener )
+                .initialize();
+    }
+
     @Override
     public String getSdkVersion()
     {
@@ -210,11 +275,70 @@ public class FacebookMediationAdapter
 
         updateAdSettings( parameters );
 
+        final Context context = getContext( activity );
+        final Bundle serverParameters = parameters.getServerParameters();
+        if ( !serverParameters.getBoolean( "enable_signal_cache", false ) )
+        {
+            // Must be ran on bg thread
+            String signal = BidderTokenProvider.getBidderToken( context );
+            callback.onSignalCollected( signal );
+
+            return;
+        }
+
+        final long maxAgeMillis = TimeUnit.SECONDS.toMillis( serverParameters.getLong( "signal_cache_ttl_sec", DEFAULT_SIGNAL_CACHE_TTL_SECONDS ) );
+        final String cachedSignal = BidderTokenCache.get( maxAgeMillis );
+        if ( cachedSignal != null )
+        {
+            log( "Signal collection successful from cache" );
+            callback.onSignalCollected( cachedSignal );
+
+            // Generate the next token ahead of time so the following auction does not wait on Audience Network
+            refreshBidderToken( context );
+            return;
+        }
+
         // Must be ran on bg thread
-        String signal = BidderTokenProvider.getBidderToken( getContext( activity ) );
+        final int generation = BidderTokenCache.getGeneration();
+        String signal = BidderTokenProvider.getBidderToken( context );
+        BidderTokenCache.put( signal, generation );
         callback.onSignalCollected( signal );
     }
 
+    private void refreshBidderToken(final Context context)
+    {
+        if ( !BidderTokenCache.startRefresh() ) return;
+
+        final int generation = BidderTokenCache.getGeneration();
+        try
+        {
+            getCachingExecutorService().execute( new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        BidderTokenCache.put( BidderTokenProvider.getBidderToken( context ), generation );
+                    }
+                    catch ( Throwable th )
+                    {
+                        e( "Failed to refresh bidder token", th );
+                    }
+                    finally
+                    {
+                        BidderTokenCache.finishRefresh();
+                    }
+                }
+            } );
+        }
+        catch ( Throwable th )
+        {
+            e( "Failed to schedule bidder token refresh", th );
+            BidderTokenCache.finishRefresh();
+        }
+    }
+
     @Override
     public void loadInterstitialAd(final MaxAdapterResponseParameters parameters, final Activity activity, final MaxInterstitialAdapterListener listener)
     {
@@ -223,6 +347,7 @@ public class FacebookMediationAdapter
         log( "Loading interstitial ad: " + placementId + "..." );
 
         updateAdSettings( parameters );
+        PlacementUsage.record( placementId, getContext( activity ), getCachingExecutorService() );
 
         mInterstitialAd = new InterstitialAd( activity.getApplicationContext(), placementId );
         InterstitialAd.InterstitialAdLoadConfigBuilder adLoadConfigBuilder = mInterstitialAd.buildLoadAdConfig().withAdListener( new InterstitialAdListener( listener ) );
@@ -273,6 +398,7 @@ public class FacebookMediationAdapter
         log( "Loading rewarded interstitial: " + placementId + "..." );
 
         updateAdSettings( parameters );
+        PlacementUsage.record( placementId, getContext( activity ), getCachingExecutorService() );
 
         mRewardedInterAd = new RewardedVideoAd( activity.getApplicationContext(), placementId );
         RewardedVideoAd.RewardedVideoAdLoadConfigBuilder adLoadConfigBuilder = mRewardedInterAd.buildLoadAdConfig()
@@ -415,6 +541,7 @@ public class FacebookMediationAdapter
         log( "Loading rewarded: " + placementId + "..." );
 
         updateAdSettings( parameters );
+        PlacementUsage.record( placementId, getContext( activity ), getCachingExecutorService() );
 
         mRewardedVideoAd = new RewardedVideoAd( activity.getApplicationContext(), placementId );
         RewardedVideoAd.RewardedVideoAdLoadConfigBuilder adLoadConfigBuilder = mRewardedVideoAd.buildLoadAdConfig().withAdListener( new RewardedAdListener( listener ) );
@@ -468,6 +595,7 @@ public class FacebookMediationAdapter
         log( "Loading" + ( isNative ? " native " : " " ) + adFormat.getLabel() + " ad: " + placementId + "..." );
 
         updateAdSettings( parameters );
+        PlacementUsage.record( placementId, getContext( activity ), getCachingExecutorService() );
 
         // NOTE: FB native is no longer supported in banners but is kept in for backwards compatibility for existing users.
         if ( isNative )
@@ -497,6 +625,7 @@ public class FacebookMediationAdapter
         log( "Loading native " + ( isNativeBanner ? "banner " : "" ) + "ad: " + placementId + "..." );
 
         updateAdSettings( parameters );
+        PlacementUsage.record( placementId, getContext( activity ), getCachingExecutorService() );
 
         final Context context = getContext( activity );
 
@@ -556,15 +685,18 @@ public class FacebookMediationAdapter
             AdSettings.setMixedAudience( isAgeRestrictedUser );
         }
 
+        List<String> testDeviceList = null;
         final String testDevicesString = serverParameters.getString( "test_device_ids", null );
         if ( !TextUtils.isEmpty( testDevicesString ) )
         {
-            final List<String> testDeviceList = Arrays.asList( testDevicesString.split( "," ) );
+            testDeviceList = Arrays.asList( testDevicesString.split( "," ) );
             AdSettings.addTestDevices( testDeviceList );
         }
 
         // Update mediation service
         AdSettings.setMediationService( getMediationIdentifier() );
+
+        BidderTokenCache.onAdSettingsApplied( isAgeRestrictedUser, testDeviceList );
     }
 
     private Boolean getPrivacySetting(final String privacySetting, final MaxAdapterParameters parameters)
@@ -649,7 +781,7 @@ public class FacebookMediationAdapter
     {
         if ( AppLovinSdk.VERSION_CODE >= 11_01_00_00 )
         {
-            return new MaxNativeAdView( maxNativeAd, templateName, getApplicationContext() );
+            return NativeAdViewPool.create( maxNativeAd, templateName, getApplicationContext() );
         }
         else
         {
@@ -1129,33 +1261,20 @@ public class FacebookMediationAdapter
                     else if ( icon != null )
                     {
                         // Meta Audience Network's icon image resource might be a URL that needs to be fetched async on a background thread
-                        getCachingExecutorService().execute( new Runnable()
+                        String iconUrl = null;
+                        if ( isValidString( icon.getUrl() ) )
+                        {
+                            iconUrl = icon.getUrl();
+                            log( "Adding native ad icon (" + iconUrl + ") to queue to be fetched" );
+                        }
+
+                        final int iconSizePx = AppLovinSdkUtils.dpToPx( context, NativeAdImagePipeline.ICON_TARGET_SIZE_DP );
+                        final int imageTaskTimeoutSeconds = BundleUtils.getInt( "image_task_timeout_seconds", 10, serverParameters );
+                        NativeAdImagePipeline.loadAssets( iconUrl, iconSizePx, null, 0, imageTaskTimeoutSeconds, context, getCachingExecutorService(), new NativeAdImagePipeline.AssetsListener()
                         {
                             @Override
-                            public void run()
+                            public void onAssetsLoaded(@Nullable final Drawable iconDrawable, @Nullable final Drawable mainImageDrawable)
                             {
-                                Drawable iconDrawable = null;
-
-                                if ( isValidString( icon.getUrl() ) )
-                                {
-                                    log( "Adding native ad icon (" + icon.getUrl() + ") to queue to be fetched" );
-
-                                    final Future<Drawable> iconDrawableFuture = createDrawableFuture( icon.getUrl(), context.getResources() );
-                                    final int imageTaskTimeoutSeconds = BundleUtils.getInt( "image_task_timeout_seconds", 10, serverParameters );
-
-                                    try
-                                    {
-                                        if ( iconDrawableFuture != null )
-                                        {
-                                            iconDrawable = iconDrawableFuture.get( imageTaskTimeoutSeconds, TimeUnit.SECONDS );
-                                        }
-                                    }
-                                    catch ( Throwable th )
-                                    {
-                                        e( "Image fetching tasks failed", th );
-                                    }
-                                }
-
                                 handleNativeAdLoaded( nativeAd, iconDrawable, mediaView, context );
                             }
                         } );
@@ -1323,4 +1442,877 @@ public class FacebookMediationAdapter
             } );
         }
     }
+
+    /**
+     * Fetches native ad images through a size-bounded memory LRU of decoded bitmaps, backed by an on-disk cache keyed by the image URL.
+     * Concurrent requests for the same image share a single fetch, and images are downsampled to the size they are rendered at.
+     * <p>
+     * Every adapter bundling this pipeline uses the same disk cache directory and limits, so together they stay within one disk budget. The memory
+     * cache cannot be shared the same way: each adapter has its own, so an app bundling several of them holds one budget per adapter and may decode
+     * the same image in each. The per-adapter budget is kept small for that reason.
+     */
+    private static class NativeAdImagePipeline
+    {
+        private static final int    MEMORY_CACHE_MAX_BYTES_PER_ADAPTER = 1024 * 1024;
+        private static final long   DISK_CACHE_MAX_BYTES               = 10 * 1024 * 1024;
+        private static final String DISK_CACHE_DIRECTORY               = "applovin_native_ad_images";
+
+        static final int ICON_TARGET_SIZE_DP = 80;
+
+        private static final LruCache<String, Bitmap>          memoryCache     = new LruCache<String, Bitmap>( (int) Math.min( MEMORY_CACHE_MAX_BYTES_PER_ADAPTER, Runtime.getRuntime().maxMemory() / 128 ) )
+        {
+            @Override
+            protected int sizeOf(final String key, final Bitmap bitmap)
+            {
+                return bitmap.getByteCount();
+            }
+        };
+        private static final Map<String, List<ImageListener>> pendingFetches  = new HashMap<>();
+        private static final Object                            diskCacheLock   = new Object();
+        private static final Handler                           deadlineHandler = new Handler( Looper.getMainLooper() );
+
+        interface ImageListener
+        {
+            void onImageLoaded(@Nullable Bitmap bitmap);
+        }
+
+        interface AssetsListener
+        {
+            /**
+             * Called on the UI thread once every requested image has completed or the deadline has passed. Images that failed or timed out are {@code null}.
+             */
+            void onAssetsLoaded(@Nullable Drawable icon, @Nullable Drawable mainImage);
+        }
+
+        /**
+         * Fetches the icon and main image in parallel without blocking a thread while waiting on them. Either URL may be {@code null}.
+         */
+        static void loadAssets(@Nullable final String iconUrl,
+                               final int iconSizePx,
+                               @Nullable final String mainImageUrl,
+                               final int mainImageSizePx,
+                               final int timeoutSeconds,
+                               final Context context,
+                               final Executor executor,
+                               final AssetsListener listener)
+        {
+            final AssetAssembly assembly = new AssetAssembly( context.getResources(), listener );
+            deadlineHandler.postDelayed( assembly, TimeUnit.SECONDS.toMillis( timeoutSeconds ) );
+
+            if ( AppLovinSdkUtils.isValidString( iconUrl ) )
+            {
+                load( iconUrl, iconSizePx, timeoutSeconds, context, executor, new ImageListener()
+                {
+                    @Override
+                    public void onImageLoaded(@Nullable final Bitmap bitmap)
+                    {
+                        assembly.onIconLoaded( bitmap );
+                    }
+                } );
+            }
+            else
+            {
+                assembly.onIconLoaded( null );
+            }
+
+            if ( AppLovinSdkUtils.isValidString( mainImageUrl ) )
+            {
+                load( mainImageUrl, mainImageSizePx, timeoutSeconds, context, executor, new ImageListener()
+                {
+                    @Override
+                    public void onImageLoaded(@Nullable final Bitmap bitmap)
+                    {
+                        assembly.onMainImageLoaded( bitmap );
+                    }
+                } );
+            }
+            else
+            {
+                assembly.onMainImageLoaded( null );
+            }
+        }
+
+        /**
+         * Loads the image at the given URL, decoded to at least {@code targetSizePx} on its smaller side. The listener is called on the fetching thread,
+         * or inline if the image is already in memory. A network fetch that takes longer than {@code timeoutSeconds} fails with a {@code null} image.
+         */
+        static void load(final String imageUrl, final int targetSizePx, final int timeoutSeconds, final Context context, final Executor executor, final ImageListener listener)
+        {
+            final String cacheKey = imageUrl + "#" + targetSizePx;
+
+            final Bitmap cachedBitmap = memoryCache.get( cacheKey );
+            if ( cachedBitmap != null )
+            {
+                listener.onImageLoaded( cachedBitmap );
+                return;
+            }
+
+            synchronized ( pendingFetches )
+            {
+                // Coalesce with an in-flight fetch of the same image if there is one
+                final List<ImageListener> pendingListeners = pendingFetches.get( cacheKey );
+                if ( pendingListeners != null )
+                {
+                    pendingListeners.add( listener );
+                    return;
+                }
+
+                final List<ImageListener> listeners = new ArrayList<>( 1 );
+                listeners.add( listener );
+                pendingFetches.put( cacheKey, listeners );
+            }
+
+            try
+            {
+                executor.execute( new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        Bitmap bitmap = null;
+                        try
+                        {
+                            bitmap = decodeSampledBitmap( fetchImageData( imageUrl, TimeUnit.SECONDS.toMillis( timeoutSeconds ), context ), targetSizePx );
+                            if ( bitmap != null )
+                            {
+                                memoryCache.put( cacheKey, bitmap );
+                            }
+                        }
+                        catch ( Throwable ignored )
+                        {
+                            // Failed and timed out images are reported to the listeners as null, which also clears the pending fetch
+                        }
+
+                        notifyListeners( cacheKey, bitmap );
+                    }
+                } );
+            }
+            catch ( RejectedExecutionException ignored )
+            {
+                notifyListeners( cacheKey, null );
+            }
+        }
+
+        private static void notifyListeners(final String cacheKey, @Nullable final Bitmap bitmap)
+        {
+            final List<ImageListener> listeners;
+            synchronized ( pendingFetches )
+            {
+                listeners = pendingFetches.remove( cacheKey );
+            }
+
+            if ( listeners == null ) return;
+
+            for ( final ImageListener listener : listeners )
+            {
+                listener.onImageLoaded( bitmap );
+            }
+        }
+
+        private static byte[] fetchImageData(final String imageUrl, final long timeoutMillis, final Context context) throws IOException
+        {
+            final File cacheFile = new File( getDiskCacheDirectory( context ), toCacheFileName( imageUrl ) );
+            if ( cacheFile.exists() )
+            {
+                try
+                {
+                    final byte[] imageData = readFully( new FileInputStream( cacheFile ), Long.MAX_VALUE );
+                    cacheFile.setLastModified( System.currentTimeMillis() );
+
+                    return imageData;
+                }
+                catch ( IOException ignored )
+                {
+                    // The file may have been evicted concurrently - fall back to the network
+                }
+            }
+
+            // Not every URL is served over HTTP - e.g. file and content URLs
+            final URLConnection connection = new URL( imageUrl ).openConnection();
+            connection.setConnectTimeout( (int) timeoutMillis );
+            connection.setReadTimeout( (int) timeoutMillis );
+
+            final byte[] imageData;
+            try
+            {
+                // The read timeout only bounds each read, so also cap the whole download
+                imageData = readFully( connection.getInputStream(), SystemClock.elapsedRealtime() + timeoutMillis );
+            }
+            finally
+            {
+                if ( connection instanceof HttpURLConnection )
+                {
+                    ( (HttpURLConnection) connection ).disconnect();
+                }
+            }
+
+            // Only cache downloads, and only if they are images - anything else would fail to decode on every later read of the file
+            if ( connection instanceof HttpURLConnection && isImage( imageData ) )
+            {
+                writeToDiskCache( cacheFile, imageData );
+            }
+
+            return imageData;
+        }
+
+        private static void writeToDiskCache(final File cacheFile, final byte[] imageData)
+        {
+            synchronized ( diskCacheLock )
+            {
+                // Other adapters may write to the shared directory concurrently, so each write goes through its own temp file
+                File tempFile = null;
+                FileOutputStream outputStream = null;
+                try
+                {
+                    tempFile = File.createTempFile( cacheFile.getName(), ".tmp", cacheFile.getParentFile() );
+                    outputStream = new FileOutputStream( tempFile );
+                    outputStream.write( imageData );
+                    outputStream.close();
+                    outputStream = null;
+
+                    if ( !tempFile.renameTo( cacheFile ) )
+                    {
+                        tempFile.delete();
+                        return;
+                    }
+                }
+                catch ( IOException ignored )
+                {
+                    if ( tempFile != null )
+                    {
+                        tempFile.delete();
+                    }
+
+                    return;
+                }
+                finally
+                {
+                    closeQuietly( outputStream );
+                }
+
+                trimDiskCache( cacheFile.getParentFile() );
+            }
+        }
+
+        private static void trimDiskCache(final File directory)
+        {
+            final File[] files = directory.listFiles();
+            if ( files == null ) return;
+
+            long totalBytes = 0;
+            for ( final File file : files )
+            {
+                totalBytes += file.length();
+            }
+
+            if ( totalBytes <= DISK_CACHE_MAX_BYTES ) return;
+
+            // Evict the least recently used files first
+            Arrays.sort( files, new Comparator<File>()
+            {
+                @Override
+                public int compare(final File file1, final File file2)
+                {
+                    return Long.compare( file1.lastModified(), file2.lastModified() );
+                }
+            } );
+
+            for ( final File file : files )
+            {
+                if ( totalBytes <= DISK_CACHE_MAX_BYTES ) break;
+
+                final long fileBytes = file.length();
+                if ( file.delete() )
+                {
+                    totalBytes -= fileBytes;
+                }
+            }
+        }
+
+        private static boolean isImage(final byte[] imageData)
+        {
+            final BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inJustDecodeBounds = true;
+            BitmapFactory.decodeByteArray( imageData, 0, imageData.length, options );
+
+            return options.outWidth > 0 && options.outHeight > 0;
+        }
+
+        private static Bitmap decodeSampledBitmap(final byte[] imageData, final int targetSizePx)
+        {
+            final BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inJustDecodeBounds = true;
+            BitmapFactory.decodeByteArray( imageData, 0, imageData.length, options );
+
+            int sampleSize = 1;
+            if ( targetSizePx > 0 )
+            {
+                while ( options.outWidth / ( sampleSize * 2 ) >= targetSizePx && options.outHeight / ( sampleSize * 2 ) >= targetSizePx )
+                {
+                    sampleSize *= 2;
+                }
+            }
+
+            options.inJustDecodeBounds = false;
+            options.inSampleSize = sampleSize;
+
+            return BitmapFactory.decodeByteArray( imageData, 0, imageData.length, options );
+        }
+
+        private static File getDiskCacheDirectory(final Context context)
+        {
+            final File directory = new File( context.getCacheDir(), DISK_CACHE_DIRECTORY );
+            if ( !directory.exists() )
+            {
+                directory.mkdirs();
+            }
+
+            return directory;
+        }
+
+        private static String toCacheFileName(final String imageUrl)
+        {
+            try
+            {
+                final byte[] digest = MessageDigest.getInstance( "SHA-1" ).digest( imageUrl.getBytes( "UTF-8" ) );
+                final StringBuilder fileName = new StringBuilder( digest.length * 2 );
+                for ( final byte b : digest )
+                {
+                    fileName.append( String.format( "%02x", b ) );
+                }
+
+                return fileName.toString();
+            }
+            catch ( Exception ignored )
+            {
+                return Integer.toHexString( imageUrl.hashCode() );
+            }
+        }
+
+        private static byte[] readFully(final InputStream inputStream, final long deadlineMillis) throws IOException
+        {
+            try
+            {
+                final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                final byte[] buffer = new byte[8192];
+                int bytesRead;
+                while ( ( bytesRead = inputStream.read( buffer ) ) != -1 )
+                {
+                    if ( SystemClock.elapsedRealtime() > deadlineMillis ) throw new SocketTimeoutException( "Image download timed out" );
+
+                    outputStream.write( buffer, 0, bytesRead );
+                }
+
+                return outputStream.toByteArray();
+            }
+            finally
+            {
+                closeQuietly( inputStream );
+            }
+        }
+
+        private static void closeQuietly(final Closeable closeable)
+        {
+            if ( closeable == null ) return;
+
+            try
+            {
+                closeable.close();
+            }
+            catch ( IOException ignored )
+            {
+                // Nothing to do if closing fails
+            }
+        }
+
+        /**
+         * Collects the images for a single native ad and completes once they have all loaded, or when run by the deadline handler.
+         */
+        private static class AssetAssembly
+                implements Runnable
+        {
+            private final Resources      resources;
+            private final AssetsListener listener;
+            private final AtomicInteger  pendingImageCount = new AtomicInteger( 2 );
+            private final AtomicBoolean  completed         = new AtomicBoolean();
+
+            private volatile Drawable icon;
+            private volatile Drawable mainImage;
+
+            AssetAssembly(final Resources resources, final AssetsListener listener)
+            {
+                this.resources = resources;
+                this.listener = listener;
+            }
+
+            void onIconLoaded(@Nullable final Bitmap bitmap)
+            {
+                icon = ( bitmap != null ) ? new BitmapDrawable( resources, bitmap ) : null;
+                onImageCompleted();
+            }
+
+            void onMainImageLoaded(@Nullable final Bitmap bitmap)
+            {
+                mainImage = ( bitmap != null ) ? new BitmapDrawable( resources, bitmap ) : null;
+                onImageCompleted();
+            }
+
+            @Override
+            public void run()
+            {
+                complete();
+            }
+
+            private void onImageCompleted()
+            {
+                if ( pendingImageCount.decrementAndGet() == 0 )
+                {
+                    deadlineHandler.removeCallbacks( this );
+                    complete();
+                }
+            }
+
+            private void complete()
+            {
+                if ( !completed.compareAndSet( false, true ) ) return;
+
+                final Drawable icon = this.icon;
+                final Drawable mainImage = this.mainImage;
+                AppLovinSdkUtils.runOnUiThread( new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        listener.onAssetsLoaded( icon, mainImage );
+                    }
+                } );
+            }
+        }
+    }
+
+    /**
+     * Holds the most recent Audience Network bidder token so signal collection can return it immediately while the next one is generated in
+     * the background. Tokens older than the staleness budget, or generated before a token-affecting ad setting last changed, are never served.
+     */
+    private static class BidderTokenCache
+    {
+        private static final Object        lock         = new Object();
+        private static final AtomicBoolean isRefreshing = new AtomicBoolean();
+
+        private static final Set<String> appliedTestDeviceIds = new HashSet<>();
+
+        private static String  token;
+        private static long    tokenTimeMillis;
+        private static int     generation;
+        private static Boolean appliedMixedAudience;
+
+        @Nullable
+        static String get(final long maxAgeMillis)
+        {
+            synchronized ( lock )
+            {
+                if ( token == null || SystemClock.elapsedRealtime() - tokenTimeMillis > maxAgeMillis ) return null;
+
+                return token;
+            }
+        }
+
+        static int getGeneration()
+        {
+            synchronized ( lock )
+            {
+                return generation;
+            }
+        }
+
+        /**
+         * Stores a token unless a token-affecting ad setting changed since its generation started.
+         */
+        static void put(final String newToken, final int tokenGeneration)
+        {
+            if ( TextUtils.isEmpty( newToken ) ) return;
+
+            synchronized ( lock )
+            {
+                if ( tokenGeneration != generation ) return;
+
+                token = newToken;
+                tokenTimeMillis = SystemClock.elapsedRealtime();
+            }
+        }
+
+        /**
+         * Invalidates the cached token when a setting that goes into it changed. Video autoplay does not affect the token, and settings an ad unit
+         * leaves unset keep their previous value in the SDK - test devices are only ever added - so neither counts as a change.
+         */
+        static void onAdSettingsApplied(@Nullable final Boolean mixedAudience, @Nullable final List<String> testDeviceIds)
+        {
+            synchronized ( lock )
+            {
+                boolean changed = false;
+
+                if ( mixedAudience != null && !mixedAudience.equals( appliedMixedAudience ) )
+                {
+                    appliedMixedAudience = mixedAudience;
+                    changed = true;
+                }
+
+                if ( testDeviceIds != null && appliedTestDeviceIds.addAll( testDeviceIds ) )
+                {
+                    changed = true;
+                }
+
+                if ( !changed ) return;
+
+                token = null;
+                generation++;
+            }
+        }
+
+        static boolean startRefresh()
+        {
+            return isRefreshing.compareAndSet( false, true );
+        }
+
+        static void finishRefresh()
+        {
+            isRefreshing.set( false );
+        }
+    }
+
+    /**
+     * Tracks how often each placement is loaded, persisted across sessions, so tiered initialization can warm up the most used placements only.
+     * Counts are halved at the start of each session so recent usage outweighs old usage.
+     * <p>
+     * The persisted counts are read and written on the given executor, so initialization waits for the read instead of blocking the main thread
+     * on it. Loads before the read finishes only count towards this session, which is merged in afterwards.
+     */
+    private static class PlacementUsage
+    {
+        private static final String  PREFERENCES_NAME         = "com.applovin.mediation.adapters.facebook.placement_usage";
+        private static final int     MAX_PERSISTED_PLACEMENTS = 200;
+        private static final long    PERSIST_INTERVAL_MILLIS  = TimeUnit.SECONDS.toMillis( 30 );
+        private static final Handler persistHandler           = new Handler( Looper.getMainLooper() );
+
+        private static final Map<String, Integer> usageCounts     = new HashMap<>();
+        private static final List<Runnable>       loadedCallbacks = new ArrayList<>();
+
+        private static boolean isLoadStarted;
+        private static boolean isLoaded;
+        private static boolean isPersistScheduled;
+        private static long    lastPersistTimeMillis;
+
+        /**
+         * Starts reading the persisted counts in the background, if not already started.
+         *
+         * @param loadedCallback Run once the counts are read, on the executor - or right away, if they already are or cannot be read.
+         */
+        static void load(final Context context, final Executor executor, @Nullable final Runnable loadedCallback)
+        {
+            synchronized ( PlacementUsage.class )
+            {
+                if ( !isLoaded )
+                {
+                    if ( loadedCallback != null )
+                    {
+                        loadedCallbacks.add( loadedCallback );
+                    }
+
+                    if ( isLoadStarted ) return;
+
+                    isLoadStarted = true;
+                }
+            }
+
+            if ( isLoaded() )
+            {
+                if ( loadedCallback != null )
+                {
+                    loadedCallback.run();
+                }
+
+                return;
+            }
+
+            try
+            {
+                executor.execute( new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        Map<String, ?> persistedCounts;
+                        try
+                        {
+                            persistedCounts = getSharedPreferences( context ).getAll();
+                        }
+                        catch ( Throwable th )
+                        {
+                            persistedCounts = Collections.emptyMap();
+                        }
+
+                        onLoaded( persistedCounts, context, executor );
+                    }
+                } );
+            }
+            catch ( RejectedExecutionException ignored )
+            {
+                // Fall back to the server order rather than holding up initialization
+                onLoaded( Collections.<String, Object>emptyMap(), context, executor );
+            }
+        }
+
+        /**
+         * @return The {@code limit} most used placements, keeping the server order among equally used ones, or {@code placementIds} itself if
+         * tiered initialization is off or not needed. Without persisted counts, the first {@code limit} placements in server order.
+         */
+        static synchronized List<String> selectInitPlacementIds(@Nullable final List<String> placementIds, final int limit)
+        {
+            if ( placementIds == null || limit <= 0 || placementIds.size() <= limit ) return placementIds;
+
+            final List<String> sortedPlacementIds = new ArrayList<>( placementIds );
+            if ( isLoaded )
+            {
+                Collections.sort( sortedPlacementIds, new Comparator<String>()
+                {
+                    @Override
+                    public int compare(final String placementId1, final String placementId2)
+                    {
+                        return getUsageCount( placementId2 ) - getUsageCount( placementId1 );
+                    }
+                } );
+            }
+
+            return new ArrayList<>( sortedPlacementIds.subList( 0, limit ) );
+        }
+
+        static synchronized void record(final String placementId, final Context context, final Executor executor)
+        {
+            if ( TextUtils.isEmpty( placementId ) ) return;
+
+            load( context, executor, null );
+            usageCounts.put( placementId, getUsageCount( placementId ) + 1 );
+
+            // Persisting before the read finishes would overwrite the previous sessions, so the read schedules it instead
+            if ( isLoaded )
+            {
+                schedulePersist( context, executor );
+            }
+        }
+
+        private static void onLoaded(final Map<String, ?> persistedCounts, final Context context, final Executor executor)
+        {
+            final List<Runnable> callbacks;
+            synchronized ( PlacementUsage.class )
+            {
+                for ( final Map.Entry<String, ?> entry : persistedCounts.entrySet() )
+                {
+                    if ( entry.getValue() instanceof Integer )
+                    {
+                        final int count = (Integer) entry.getValue();
+                        usageCounts.put( entry.getKey(), count - count / 2 + getUsageCount( entry.getKey() ) );
+                    }
+                }
+
+                isLoaded = true;
+
+                if ( !usageCounts.isEmpty() )
+                {
+                    schedulePersist( context, executor );
+                }
+
+                callbacks = new ArrayList<>( loadedCallbacks );
+                loadedCallbacks.clear();
+            }
+
+            for ( final Runnable callback : callbacks )
+            {
+                callback.run();
+            }
+        }
+
+        private static synchronized boolean isLoaded()
+        {
+            return isLoaded;
+        }
+
+        /**
+         * Coalesces all changes within the persist interval into one write, made on the executor.
+         */
+        private static void schedulePersist(final Context context, final Executor executor)
+        {
+            if ( isPersistScheduled ) return;
+
+            isPersistScheduled = true;
+
+            final long delayMillis = ( lastPersistTimeMillis != 0 ) ? lastPersistTimeMillis + PERSIST_INTERVAL_MILLIS - SystemClock.elapsedRealtime() : 0;
+            persistHandler.postDelayed( new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        executor.execute( new Runnable()
+                        {
+                            @Override
+                            public void run()
+                            {
+                                persist( context );
+                            }
+                        } );
+                    }
+                    catch ( RejectedExecutionException ignored )
+                    {
+                        persist( context );
+                    }
+                }
+            }, Math.max( delayMillis, 0 ) );
+        }
+
+        private static int getUsageCount(final String placementId)
+        {
+            final Integer count = usageCounts.get( placementId );
+            return ( count != null ) ? count : 0;
+        }
+
+        private static void persist(final Context context)
+        {
+            final Map<String, Integer> persistedCounts;
+            synchronized ( PlacementUsage.class )
+            {
+                isPersistScheduled = false;
+                lastPersistTimeMillis = SystemClock.elapsedRealtime();
+
+                final List<Map.Entry<String, Integer>> entries = new ArrayList<>( usageCounts.entrySet() );
+                if ( entries.size() > MAX_PERSISTED_PLACEMENTS )
+                {
+                    Collections.sort( entries, new Comparator<Map.Entry<String, Integer>>()
+                    {
+                        @Override
+                        public int compare(final Map.Entry<String, Integer> entry1, final Map.Entry<String, Integer> entry2)
+                        {
+                            return entry2.getValue() - entry1.getValue();
+                        }
+                    } );
+
+                    for ( final Map.Entry<String, Integer> entry : entries.subList( MAX_PERSISTED_PLACEMENTS, entries.size() ) )
+                    {
+                        usageCounts.remove( entry.getKey() );
+                    }
+                }
+
+                persistedCounts = new HashMap<>( usageCounts );
+            }
+
+            final SharedPreferences.Editor editor = getSharedPreferences( context ).edit().clear();
+            for ( final Map.Entry<String, Integer> entry : persistedCounts.entrySet() )
+            {
+                editor.putInt( entry.getKey(), entry.getValue() );
+            }
+            editor.apply();
+        }
+
+        private static SharedPreferences getSharedPreferences(final Context context)
+        {
+            return context.getSharedPreferences( PREFERENCES_NAME, Context.MODE_PRIVATE );
+        }
+    }
+
+    /**
+     * Pool of native banner template views keyed by template name, so an auto-refreshing native banner binds its ad into a ready view instead of
+     * inflating the template layout while it loads. The template views need the main looper, so they are still inflated on the main thread - an idle
+     * handler only moves that work out of the load path. Pooled views are freshly inflated and never taken back from a shown ad, so no network click
+     * or impression tracking carries over.
+     * <p>
+     * Binding an ad after inflation needs {@code MaxNativeAdView(String, Context)} and {@code MaxNativeAdView.renderCustomNativeAdView(MaxNativeAd)}.
+     * They are not part of the adapter API and not every SDK version has them, so they are looked up reflectively. Without them, and off the main
+     * thread, a view is created per load as before.
+     */
+    private static class NativeAdViewPool
+    {
+        private static final Constructor<MaxNativeAdView> templateConstructor;
+        private static final Method                       renderMethod;
+
+        // Only accessed on the main thread
+        private static final Map<String, MaxNativeAdView> pooledViews       = new HashMap<>();
+        private static final Set<String>                  pendingInflations = new HashSet<>();
+
+        static
+        {
+            Constructor<MaxNativeAdView> constructor = null;
+            Method method = null;
+            try
+            {
+                constructor = MaxNativeAdView.class.getConstructor( String.class, Context.class );
+                method = MaxNativeAdView.class.getMethod( "renderCustomNativeAdView", MaxNativeAd.class );
+            }
+            catch ( Throwable ignored )
+            {
+                constructor = null;
+                method = null;
+            }
+
+            templateConstructor = constructor;
+            renderMethod = method;
+        }
+
+        static MaxNativeAdView create(final MaxNativeAd maxNativeAd, final String templateName, final Context context)
+        {
+            // Only pool views of the application context so pooled views never hold on to an activity
+            if ( renderMethod != null && context == context.getApplicationContext() && Looper.myLooper() == Looper.getMainLooper() )
+            {
+                final MaxNativeAdView pooledView = pooledViews.remove( templateName );
+
+                // Inflate the view for the next load once the main thread is idle
+                scheduleInflation( templateName, context );
+
+                if ( pooledView != null && render( pooledView, maxNativeAd ) ) return pooledView;
+            }
+
+            return new MaxNativeAdView( maxNativeAd, templateName, context );
+        }
+
+        private static boolean render(final MaxNativeAdView maxNativeAdView, final MaxNativeAd maxNativeAd)
+        {
+            try
+            {
+                renderMethod.invoke( maxNativeAdView, maxNativeAd );
+                return true;
+            }
+            catch ( Throwable th )
+            {
+                return false;
+            }
+        }
+
+        private static void scheduleInflation(final String templateName, final Context context)
+        {
+            if ( !pendingInflations.add( templateName ) ) return;
+
+            // Only called on the main thread, so this is the main looper's queue
+            Looper.myQueue().addIdleHandler( new MessageQueue.IdleHandler()
+            {
+                @Override
+                public boolean queueIdle()
+                {
+                    pendingInflations.remove( templateName );
+
+                    if ( !pooledViews.containsKey( templateName ) )
+                    {
+                        try
+                        {
+                            pooledViews.put( templateName, templateConstructor.newInstance( templateName, context ) );
+                        }
+                        catch ( Throwable ignored )
+                        {
+                            // Fall back to inflating the template on the next load
+                        }
+                    }
+
+                    return false;
+                }
+            } );
+        }
+    }
 }
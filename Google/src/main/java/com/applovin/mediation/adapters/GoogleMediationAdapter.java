@@ -3,8 +3,14 @@ package com.applovin.mediation.adapters;
 import android.annotation.SuppressLint;
 import android.app.Activity;
 import android.content.Context;
+import android.content.SharedPreferences;
+import android.content.res.Configuration;
+import android.content.res.Resources;
 import android.graphics.drawable.Drawable;
 import android.os.Bundle;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.os.SystemClock;
 import android.preference.PreferenceManager;
 import android.text.TextUtils;
 import android.util.DisplayMetrics;
@@ -73,11 +79,19 @@ import com.google.android.gms.ads.rewardedinterstitial.RewardedInterstitialAd;
 import com.google.android.gms.ads.rewardedinterstitial.RewardedInterstitialAdLoadCallback;
 
 import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -93,7 +107,8 @@ public class GoogleMediationAdapter
         extends MediationAdapterBase
         implements MaxSignalProvider, MaxInterstitialAdapter, MaxRewardedInterstitialAdapter, MaxRewardedAdapter, MaxAdViewAdapter /* MaxNativeAdAdapter */
 {
-    private static final AtomicBoolean        initialized = new AtomicBoolean();
+    private static final long                 DEFAULT_SIGNAL_CACHE_TTL_SECONDS = 60;
+    private static final AtomicBoolean        initialized                      = new AtomicBoolean();
     private static       InitializationStatus status;
 
     private InterstitialAd         interstitialAd;
@@ -233,13 +248,46 @@ public class GoogleMediationAdapter
     @Override
     public void collectSignal(final MaxAdapterSignalCollectionParameters parameters, final Activity activity, final MaxSignalCollectionListener callback)
     {
+        // The request configuration is global SDK state, so it is only applied here on the calling thread and never from a background refresh
         setRequestConfiguration( parameters );
 
-        Context context = getContext( activity );
+        final Context context = getContext( activity );
+        final MaxAdFormat adFormat = parameters.getAdFormat();
+        final AdFormat googleAdFormat = toAdFormat( adFormat, parameters );
+        final AdRequest adRequest = createAdRequestWithParameters( true, adFormat, parameters, context );
+
+        final Bundle serverParameters = parameters.getServerParameters();
+        if ( !serverParameters.getBoolean( "enable_signal_cache", false ) )
+        {
+            generateSignal( googleAdFormat, adRequest, context, callback );
+            return;
+        }
+
+        final String privacyState = getPrivacyState( parameters );
+        SignalCache.updatePrivacyState( privacyState );
+
+        // Key on the format the signal is generated for - native ad view ads get a native signal - and on the bidder, which sets the query type
+        final String cacheKey = googleAdFormat + ":" + BundleUtils.getString( "bidder", "", serverParameters ) + ":" + privacyState;
+        final long ttlMillis = TimeUnit.SECONDS.toMillis( serverParameters.getLong( "signal_cache_ttl_sec", DEFAULT_SIGNAL_CACHE_TTL_SECONDS ) );
+
+        final String cachedSignal = SignalCache.take( cacheKey, ttlMillis );
+        if ( cachedSignal != null )
+        {
+            log( "Signal collection successful from cache" );
+            callback.onSignalCollected( cachedSignal );
+        }
+        else
+        {
+            generateSignal( googleAdFormat, adRequest, context, callback );
+        }
 
-        AdRequest adRequest = createAdRequestWithParameters( true, parameters.getAdFormat(), parameters, context );
+        // Pre-warm the next signal so the following auction does not pay for generating it
+        refreshSignal( cacheKey, googleAdFormat, adRequest, context );
+    }
 
-        QueryInfo.generate( context, toAdFormat( parameters ), adRequest, new QueryInfoGenerationCallback()
+    private void generateSignal(final AdFormat adFormat, final AdRequest adRequest, final Context context, final MaxSignalCollectionListener callback)
+    {
+        QueryInfo.generate( context, adFormat, adRequest, new QueryInfoGenerationCallback()
         {
             @Override
             public void onSuccess(@NonNull final QueryInfo queryInfo)
@@ -674,13 +722,7 @@ public class GoogleMediationAdapter
         {
             if ( isAdaptiveBanner )
             {
-                WindowManager windowManager = (WindowManager) context.getSystemService( Context.WINDOW_SERVICE );
-                Display display = windowManager.getDefaultDisplay();
-                DisplayMetrics outMetrics = new DisplayMetrics();
-                display.getMetrics( outMetrics );
-                int screenWidthDp = AppLovinSdkUtils.pxToDp( context, outMetrics.widthPixels );
-
-                return AdSize.getCurrentOrientationAnchoredAdaptiveBannerAdSize( context, screenWidthDp );
+                return AdaptiveBannerAdSizeCache.get( context );
             }
             else
             {
@@ -697,9 +739,8 @@ public class GoogleMediationAdapter
         }
     }
 
-    private AdFormat toAdFormat(final MaxAdapterSignalCollectionParameters parameters)
+    private AdFormat toAdFormat(final MaxAdFormat adFormat, final MaxAdapterParameters parameters)
     {
-        MaxAdFormat adFormat = parameters.getAdFormat();
         boolean isNative = parameters.getServerParameters().getBoolean( "is_native" ) || adFormat == MaxAdFormat.NATIVE;
         if ( isNative )
         {
@@ -729,24 +770,10 @@ public class GoogleMediationAdapter
 
     private void setRequestConfiguration(final MaxAdapterParameters parameters)
     {
-        RequestConfiguration.Builder requestConfigurationBuilder = MobileAds.getRequestConfiguration().toBuilder();
-
         Boolean isAgeRestrictedUser = getPrivacySetting( "isAgeRestrictedUser", parameters );
-        if ( isAgeRestrictedUser != null )
-        {
-            int ageRestrictedUserTag = isAgeRestrictedUser ? RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_TRUE : RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_FALSE;
-            requestConfigurationBuilder.setTagForChildDirectedTreatment( ageRestrictedUserTag );
-        }
+        String testDevicesString = parameters.getServerParameters().getString( "test_device_ids", null );
 
-        Bundle serverParameters = parameters.getServerParameters();
-        String testDevicesString = serverParameters.getString( "test_device_ids", null );
-        if ( !TextUtils.isEmpty( testDevicesString ) )
-        {
-            String[] testDeviceList = testDevicesString.split( "," );
-            requestConfigurationBuilder.setTestDeviceIds( Arrays.asList( testDeviceList ) );
-        }
-
-        MobileAds.setRequestConfiguration( requestConfigurationBuilder.build() );
+        RequestConfigurationCache.apply( isAgeRestrictedUser, testDevicesString );
     }
 
     @SuppressLint("ApplySharedPref")
@@ -819,10 +846,15 @@ public class GoogleMediationAdapter
             {
                 networkExtras.putInt( "rdp", 1 ); // Restrict data processing - https://developers.google.com/admob/android/ccpa
 
-                PreferenceManager.getDefaultSharedPreferences( context )
-                        .edit()
-                        .putInt( "gad_rdp", 1 )
-                        .commit();
+                final int skippedWriteCount = RestrictedDataProcessingWriter.persist( context );
+                if ( skippedWriteCount == 0 )
+                {
+                    log( "Persisted restricted data processing flag" );
+                }
+                else if ( RestrictedDataProcessingWriter.shouldLogSkippedWrites( skippedWriteCount ) )
+                {
+                    log( "Skipped " + skippedWriteCount + " redundant restricted data processing flag writes" );
+                }
             }
         }
 
@@ -867,8 +899,7 @@ public class GoogleMediationAdapter
         try
         {
             // Use reflection because compiled adapters have trouble fetching `boolean` from old SDKs and `Boolean` from new SDKs (above 9.14.0)
-            Class<?> parametersClass = parameters.getClass();
-            Method privacyMethod = parametersClass.getMethod( privacySetting );
+            Method privacyMethod = PrivacySettingAccessors.get( parameters.getClass(), privacySetting );
             return (Boolean) privacyMethod.invoke( parameters );
         }
         catch ( Exception exception )
@@ -878,6 +909,36 @@ public class GoogleMediationAdapter
         }
     }
 
+    /**
+     * Generates the next signal for the given key in the background, from the request built on the calling thread for the current one.
+     */
+    private void refreshSignal(final String cacheKey, final AdFormat adFormat, final AdRequest adRequest, final Context context)
+    {
+        if ( !SignalCache.startRefresh( cacheKey ) ) return;
+
+        try
+        {
+            getCachingExecutorService().execute( new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    generateSignal( adFormat, adRequest, context, new SignalCacheListener( cacheKey ) );
+                }
+            } );
+        }
+        catch ( Throwable th )
+        {
+            e( "Failed to schedule signal refresh", th );
+            SignalCache.finishRefresh( cacheKey );
+        }
+    }
+
+    private String getPrivacyState(final MaxAdapterParameters parameters)
+    {
+        return getPrivacySetting( "hasUserConsent", parameters ) + ":" + getPrivacySetting( "isAgeRestrictedUser", parameters ) + ":" + getPrivacySetting( "isDoNotSell", parameters );
+    }
+
     /**
      * Update the global mute state for AdMob - must be done _before_ ad load to restrict inventory which requires playing with volume.
      */
@@ -1306,7 +1367,7 @@ public class GoogleMediationAdapter
                     {
                         if ( AppLovinSdk.VERSION_CODE >= 11010000 )
                         {
-                            maxNativeAdView = new MaxNativeAdView( maxNativeAd, templateName, context );
+                            maxNativeAdView = NativeAdViewPool.create( maxNativeAd, templateName, context );
                         }
                         else
                         {
@@ -1573,4 +1634,354 @@ public class GoogleMediationAdapter
             nativeAdView.setNativeAd( nativeAd );
         }
     }
+
+    private class SignalCacheListener
+            implements MaxSignalCollectionListener
+    {
+        private final String cacheKey;
+
+        private SignalCacheListener(final String cacheKey)
+        {
+            this.cacheKey = cacheKey;
+        }
+
+        @Override
+        public void onSignalCollected(final String signal)
+        {
+            SignalCache.put( cacheKey, signal );
+            SignalCache.finishRefresh( cacheKey );
+        }
+
+        @Override
+        public void onSignalCollectionFailed(final String errorMessage)
+        {
+            SignalCache.finishRefresh( cacheKey );
+        }
+    }
+
+    /**
+     * Opt-in cache of bidding signals keyed by Google ad format, bidder and privacy state. After each collection the next signal is generated in the
+     * background from the same request, and each one is handed to a single auction. The whole cache is dropped as soon as the privacy state changes.
+     * There is no pre-warm at initialization, as the initialization parameters do not carry the server parameters signal requests are built from.
+     */
+    private static class SignalCache
+    {
+        private static final Map<String, CachedSignal> cachedSignals    = new ConcurrentHashMap<>();
+        private static final Set<String>               refreshingKeys   = Collections.newSetFromMap( new ConcurrentHashMap<String, Boolean>() );
+        private static final Object                    privacyStateLock = new Object();
+
+        private static String privacyState;
+
+        static void updatePrivacyState(final String currentPrivacyState)
+        {
+            synchronized ( privacyStateLock )
+            {
+                if ( !currentPrivacyState.equals( privacyState ) )
+                {
+                    privacyState = currentPrivacyState;
+                    cachedSignals.clear();
+                }
+            }
+        }
+
+        /**
+         * Removes and returns the cached signal for the given key, so no signal is used in more than one auction.
+         */
+        @Nullable
+        static String take(final String key, final long ttlMillis)
+        {
+            final CachedSignal cachedSignal = cachedSignals.remove( key );
+            if ( cachedSignal == null ) return null;
+
+            if ( SystemClock.elapsedRealtime() - cachedSignal.createdAtMillis > ttlMillis ) return null;
+
+            return cachedSignal.signal;
+        }
+
+        static void put(final String key, @Nullable final String signal)
+        {
+            if ( TextUtils.isEmpty( signal ) ) return;
+
+            cachedSignals.put( key, new CachedSignal( signal, SystemClock.elapsedRealtime() ) );
+        }
+
+        /**
+         * @return {@code true} if the caller should refresh the signal for the given key, {@code false} if a refresh is already in flight.
+         */
+        static boolean startRefresh(final String key)
+        {
+            return refreshingKeys.add( key );
+        }
+
+        static void finishRefresh(final String key)
+        {
+            refreshingKeys.remove( key );
+        }
+
+        private static class CachedSignal
+        {
+            private final String signal;
+            private final long   createdAtMillis;
+
+            private CachedSignal(final String signal, final long createdAtMillis)
+            {
+                this.signal = signal;
+                this.createdAtMillis = createdAtMillis;
+            }
+        }
+    }
+
+    /**
+     * Signal collection reads every privacy setting for the signal cache key and again while building the request, and loads read them too, so the
+     * accessors are resolved once per parameters class and reused across requests.
+     */
+    private static class PrivacySettingAccessors
+    {
+        private static final ConcurrentHashMap<Class<?>, Map<String, Method>> accessors = new ConcurrentHashMap<>();
+
+        static Method get(final Class<?> parametersClass, final String privacySetting) throws NoSuchMethodException
+        {
+            Map<String, Method> classAccessors = accessors.get( parametersClass );
+            if ( classAccessors == null )
+            {
+                classAccessors = new ConcurrentHashMap<>();
+
+                final Map<String, Method> existingAccessors = accessors.putIfAbsent( parametersClass, classAccessors );
+                if ( existingAccessors != null )
+                {
+                    classAccessors = existingAccessors;
+                }
+            }
+
+            Method accessor = classAccessors.get( privacySetting );
+            if ( accessor == null )
+            {
+                // Racing lookups resolve the same method, so the last write winning is harmless
+                accessor = parametersClass.getMethod( privacySetting );
+                classAccessors.put( privacySetting, accessor );
+            }
+
+            return accessor;
+        }
+    }
+
+    /**
+     * Persists Google's "gad_rdp" restricted data processing flag only when the stored value differs, and asynchronously, so CCPA opted-out users
+     * do not pay a synchronous disk write on every ad request.
+     */
+    private static class RestrictedDataProcessingWriter
+    {
+        private static final String KEY_RESTRICTED_DATA_PROCESSING = "gad_rdp";
+
+        private static final AtomicInteger skippedWriteCount = new AtomicInteger();
+
+        /**
+         * @return {@code 0} if the flag was written, otherwise the number of redundant writes skipped so far.
+         */
+        static int persist(final Context context)
+        {
+            // Default shared preferences are cached in memory after the first load, so this read does not hit the disk
+            final SharedPreferences sharedPreferences = PreferenceManager.getDefaultSharedPreferences( context );
+            if ( sharedPreferences.getInt( KEY_RESTRICTED_DATA_PROCESSING, 0 ) == 1 )
+            {
+                return skippedWriteCount.incrementAndGet();
+            }
+
+            sharedPreferences.edit()
+                    .putInt( KEY_RESTRICTED_DATA_PROCESSING, 1 )
+                    .apply();
+
+            return 0;
+        }
+
+        /**
+         * Throttles the skip log to powers of two, since the skip path runs on every ad request for opted-out users.
+         */
+        static boolean shouldLogSkippedWrites(final int skippedWriteCount)
+        {
+            return Integer.bitCount( skippedWriteCount ) == 1;
+        }
+    }
+
+    /**
+     * Applies the global request configuration, skipping the rebuild when it already matches - e.g. on banner refreshes with unchanged
+     * consent and server parameters. The current configuration is compared rather than a remembered one, so changes made by the publisher are kept.
+     */
+    private static class RequestConfigurationCache
+    {
+        private static String       parsedTestDevicesString;
+        private static List<String> parsedTestDeviceIds;
+
+        static synchronized void apply(final Boolean isAgeRestrictedUser, final String testDevicesString)
+        {
+            final RequestConfiguration requestConfiguration = MobileAds.getRequestConfiguration();
+
+            final int ageRestrictedUserTag;
+            if ( isAgeRestrictedUser != null )
+            {
+                ageRestrictedUserTag = isAgeRestrictedUser ? RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_TRUE : RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_FALSE;
+            }
+            else
+            {
+                ageRestrictedUserTag = requestConfiguration.getTagForChildDirectedTreatment();
+            }
+
+            final List<String> testDeviceIds = !TextUtils.isEmpty( testDevicesString ) ? parseTestDeviceIds( testDevicesString ) : requestConfiguration.getTestDeviceIds();
+
+            if ( ageRestrictedUserTag == requestConfiguration.getTagForChildDirectedTreatment() && testDeviceIds.equals( requestConfiguration.getTestDeviceIds() ) ) return;
+
+            MobileAds.setRequestConfiguration( requestConfiguration.toBuilder()
+                                                       .setTagForChildDirectedTreatment( ageRestrictedUserTag )
+                                                       .setTestDeviceIds( testDeviceIds )
+                                                       .build() );
+        }
+
+        private static List<String> parseTestDeviceIds(final String testDevicesString)
+        {
+            if ( !testDevicesString.equals( parsedTestDevicesString ) )
+            {
+                parsedTestDeviceIds = Collections.unmodifiableList( Arrays.asList( testDevicesString.split( "," ) ) );
+                parsedTestDevicesString = testDevicesString;
+            }
+
+            return parsedTestDeviceIds;
+        }
+    }
+
+    /**
+     * Caches the anchored adaptive banner size for the current display configuration, so auto-refreshing banners only compute it again after a
+     * rotation, resize or density change.
+     */
+    private static class AdaptiveBannerAdSizeCache
+    {
+        private static int    orientation;
+        private static int    screenWidthDp;
+        private static int    screenHeightDp;
+        private static float  density;
+        private static AdSize adSize;
+
+        static synchronized AdSize get(final Context context)
+        {
+            final Resources resources = context.getResources();
+            final Configuration configuration = resources.getConfiguration();
+            final float currentDensity = resources.getDisplayMetrics().density;
+
+            final boolean isConfigurationUnchanged = orientation == configuration.orientation && screenWidthDp == configuration.screenWidthDp && screenHeightDp == configuration.screenHeightDp && density == currentDensity;
+            if ( adSize != null && isConfigurationUnchanged )
+            {
+                return adSize;
+            }
+
+            WindowManager windowManager = (WindowManager) context.getSystemService( Context.WINDOW_SERVICE );
+            Display display = windowManager.getDefaultDisplay();
+            DisplayMetrics outMetrics = new DisplayMetrics();
+            display.getMetrics( outMetrics );
+            int adWidthDp = AppLovinSdkUtils.pxToDp( context, outMetrics.widthPixels );
+
+            adSize = AdSize.getCurrentOrientationAnchoredAdaptiveBannerAdSize( context, adWidthDp );
+            orientation = configuration.orientation;
+            screenWidthDp = configuration.screenWidthDp;
+            screenHeightDp = configuration.screenHeightDp;
+            density = currentDensity;
+
+            return adSize;
+        }
+    }
+
+    /**
+     * Pool of native banner template views keyed by template name, so an auto-refreshing native banner binds its ad into a ready view instead of
+     * inflating the template layout while it loads. The template views need the main looper, so they are still inflated on the main thread - an idle
+     * handler only moves that work out of the load path. Pooled views are freshly inflated and never taken back from a shown ad, so no network click
+     * or impression tracking carries over.
+     * <p>
+     * Binding an ad after inflation needs {@code MaxNativeAdView(String, Context)} and {@code MaxNativeAdView.renderCustomNativeAdView(MaxNativeAd)}.
+     * They are not part of the adapter API and not every SDK version has them, so they are looked up reflectively. Without them, and off the main
+     * thread, a view is created per load as before.
+     */
+    private static class NativeAdViewPool
+    {
+        private static final Constructor<MaxNativeAdView> templateConstructor;
+        private static final Method                       renderMethod;
+
+        // Only accessed on the main thread
+        private static final Map<String, MaxNativeAdView> pooledViews       = new HashMap<>();
+        private static final Set<String>                  pendingInflations = new HashSet<>();
+
+        static
+        {
+            Constructor<MaxNativeAdView> constructor = null;
+            Method method = null;
+            try
+            {
+                constructor = MaxNativeAdView.class.getConstructor( String.class, Context.class );
+                method = MaxNativeAdView.class.getMethod( "renderCustomNativeAdView", MaxNativeAd.class );
+            }
+            catch ( Throwable ignored )
+            {
+                constructor = null;
+                method = null;
+            }
+
+            templateConstructor = constructor;
+            renderMethod = method;
+        }
+
+        static MaxNativeAdView create(final MaxNativeAd maxNativeAd, final String templateName, final Context context)
+        {
+            // Only pool views of the application context so pooled views never hold on to an activity
+            if ( renderMethod != null && context == context.getApplicationContext() && Looper.myLooper() == Looper.getMainLooper() )
+            {
+                final MaxNativeAdView pooledView = pooledViews.remove( templateName );
+
+                // Inflate the view for the next load once the main thread is idle
+                scheduleInflation( templateName, context );
+
+                if ( pooledView != null && render( pooledView, maxNativeAd ) ) return pooledView;
+            }
+
+            return new MaxNativeAdView( maxNativeAd, templateName, context );
+        }
+
+        private static boolean render(final MaxNativeAdView maxNativeAdView, final MaxNativeAd maxNativeAd)
+        {
+            try
+            {
+                renderMethod.invoke( maxNativeAdView, maxNativeAd );
+                return true;
+            }
+            catch ( Throwable th )
+            {
+                return false;
+            }
+        }
+
+        private static void scheduleInflation(final String templateName, final Context context)
+        {
+            if ( !pendingInflations.add( templateName ) ) return;
+
+            // Only called on the main thread, so this is the main looper's queue
+            Looper.myQueue().addIdleHandler( new MessageQueue.IdleHandler()
+            {
+                @Override
+                public boolean queueIdle()
+                {
+                    pendingInflations.remove( templateName );
+
+                    if ( !pooledViews.containsKey( templateName ) )
+                    {
+                        try
+                        {
+                            pooledViews.put( templateName, templateConstructor.newInstance( templateName, context ) );
+                        }
+                        catch ( Throwable ignored )
+                        {
+                            // Fall back to inflating the template on the next load
+                        }
+                    }
+
+                    return false;
+                }
+            } );
+        }
+    }
 }
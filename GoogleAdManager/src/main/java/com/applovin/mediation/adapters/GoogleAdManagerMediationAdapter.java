@@ -3,8 +3,13 @@ package com.applovin.mediation.adapters;
 import android.annotation.SuppressLint;
 import android.app.Activity;
 import android.content.Context;
+import android.content.SharedPreferences;
+import android.content.res.Configuration;
+import android.content.res.Resources;
 import android.graphics.drawable.Drawable;
 import android.os.Bundle;
+import android.os.Looper;
+import android.os.MessageQueue;
 import android.preference.PreferenceManager;
 import android.text.TextUtils;
 import android.util.DisplayMetrics;
@@ -66,11 +71,18 @@ import com.google.android.gms.ads.rewardedinterstitial.RewardedInterstitialAd;
 import com.google.android.gms.ads.rewardedinterstitial.RewardedInterstitialAdLoadCallback;
 
 import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -592,13 +604,7 @@ public class GoogleAdManagerMediationAdapter
         {
             if ( isAdaptiveBanner )
             {
-                WindowManager windowManager = (WindowManager) context.getSystemService( Context.WINDOW_SERVICE );
-                Display display = windowManager.getDefaultDisplay();
-                DisplayMetrics outMetrics = new DisplayMetrics();
-                display.getMetrics( outMetrics );
-                int screenWidthDp = AppLovinSdkUtils.pxToDp( context, outMetrics.widthPixels );
-
-                return AdSize.getCurrentOrientationAnchoredAdaptiveBannerAdSize( context, screenWidthDp );
+                return AdaptiveBannerAdSizeCache.get( context );
             }
             else
             {
@@ -617,24 +623,10 @@ public class GoogleAdManagerMediationAdapter
 
     private void setRequestConfiguration(final MaxAdapterParameters parameters)
     {
-        RequestConfiguration.Builder requestConfigurationBuilder = MobileAds.getRequestConfiguration().toBuilder();
-
         Boolean isAgeRestrictedUser = getPrivacySetting( "isAgeRestrictedUser", parameters );
-        if ( isAgeRestrictedUser != null )
-        {
-            int ageRestrictedUserTag = isAgeRestrictedUser ? RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_TRUE : RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_FALSE;
-            requestConfigurationBuilder.setTagForChildDirectedTreatment( ageRestrictedUserTag );
-        }
-
-        Bundle serverParameters = parameters.getServerParameters();
-        String testDevicesString = serverParameters.getString( "test_device_ids", null );
-        if ( !TextUtils.isEmpty( testDevicesString ) )
-        {
-            String[] testDeviceList = testDevicesString.split( "," );
-            requestConfigurationBuilder.setTestDeviceIds( Arrays.asList( testDeviceList ) );
-        }
+        String testDevicesString = parameters.getServerParameters().getString( "test_device_ids", null );
 
-        MobileAds.setRequestConfiguration( requestConfigurationBuilder.build() );
+        RequestConfigurationCache.apply( isAgeRestrictedUser, testDevicesString );
     }
 
     private AdManagerAdRequest createAdRequestWithParameters(final MaxAdapterParameters parameters, final Context context)
@@ -672,10 +664,15 @@ public class GoogleAdManagerMediationAdapter
             {
                 networkExtras.putInt( "rdp", 1 ); // Restrict data processing - https://developers.google.com/admob/android/ccpa
 
-                PreferenceManager.getDefaultSharedPreferences( context )
-                        .edit()
-                        .putInt( "gad_rdp", 1 )
-                        .commit();
+                final int skippedWriteCount = RestrictedDataProcessingWriter.persist( context );
+                if ( skippedWriteCount == 0 )
+                {
+                    log( "Persisted restricted data processing flag" );
+                }
+                else if ( RestrictedDataProcessingWriter.shouldLogSkippedWrites( skippedWriteCount ) )
+                {
+                    log( "Skipped " + skippedWriteCount + " redundant restricted data processing flag writes" );
+                }
             }
         }
 
@@ -750,8 +747,7 @@ public class GoogleAdManagerMediationAdapter
         try
         {
             // Use reflection because compiled adapters have trouble fetching `boolean` from old SDKs and `Boolean` from new SDKs (above 9.14.0)
-            Class<?> parametersClass = parameters.getClass();
-            Method privacyMethod = parametersClass.getMethod( privacySetting );
+            Method privacyMethod = PrivacySettingAccessors.get( parameters.getClass(), privacySetting );
             return (Boolean) privacyMethod.invoke( parameters );
         }
         catch ( Exception exception )
@@ -1189,7 +1185,7 @@ public class GoogleAdManagerMediationAdapter
                     {
                         if ( AppLovinSdk.VERSION_CODE >= 11010000 )
                         {
-                            maxNativeAdView = new MaxNativeAdView( maxNativeAd, templateName, context );
+                            maxNativeAdView = NativeAdViewPool.create( maxNativeAd, templateName, context );
                         }
                         else
                         {
@@ -1456,4 +1452,258 @@ public class GoogleAdManagerMediationAdapter
             nativeAdView.setNativeAd( nativeAd );
         }
     }
+
+    /**
+     * Every load reads the age-restricted, consent and do-not-sell settings to build its request configuration and ad request, so the accessors are
+     * resolved once per parameters class and reused across loads.
+     */
+    private static class PrivacySettingAccessors
+    {
+        private static final ConcurrentHashMap<Class<?>, Map<String, Method>> accessors = new ConcurrentHashMap<>();
+
+        static Method get(final Class<?> parametersClass, final String privacySetting) throws NoSuchMethodException
+        {
+            Map<String, Method> classAccessors = accessors.get( parametersClass );
+            if ( classAccessors == null )
+            {
+                classAccessors = new ConcurrentHashMap<>();
+
+                final Map<String, Method> existingAccessors = accessors.putIfAbsent( parametersClass, classAccessors );
+                if ( existingAccessors != null )
+                {
+                    classAccessors = existingAccessors;
+                }
+            }
+
+            Method accessor = classAccessors.get( privacySetting );
+            if ( accessor == null )
+            {
+                // Racing lookups resolve the same method, so the last write winning is harmless
+                accessor = parametersClass.getMethod( privacySetting );
+                classAccessors.put( privacySetting, accessor );
+            }
+
+            return accessor;
+        }
+    }
+
+    /**
+     * Persists Google's "gad_rdp" restricted data processing flag only when the stored value differs, and asynchronously, so CCPA opted-out users
+     * do not pay a synchronous disk write on every ad request.
+     */
+    private static class RestrictedDataProcessingWriter
+    {
+        private static final String KEY_RESTRICTED_DATA_PROCESSING = "gad_rdp";
+
+        private static final AtomicInteger skippedWriteCount = new AtomicInteger();
+
+        /**
+         * @return {@code 0} if the flag was written, otherwise the number of redundant writes skipped so far.
+         */
+        static int persist(final Context context)
+        {
+            // Default shared preferences are cached in memory after the first load, so this read does not hit the disk
+            final SharedPreferences sharedPreferences = PreferenceManager.getDefaultSharedPreferences( context );
+            if ( sharedPreferences.getInt( KEY_RESTRICTED_DATA_PROCESSING, 0 ) == 1 )
+            {
+                return skippedWriteCount.incrementAndGet();
+            }
+
+            sharedPreferences.edit()
+                    .putInt( KEY_RESTRICTED_DATA_PROCESSING, 1 )
+                    .apply();
+
+            return 0;
+        }
+
+        /**
+         * Throttles the skip log to powers of two, since the skip path runs on every ad request for opted-out users.
+         */
+        static boolean shouldLogSkippedWrites(final int skippedWriteCount)
+        {
+            return Integer.bitCount( skippedWriteCount ) == 1;
+        }
+    }
+
+    /**
+     * Applies the global request configuration, skipping the rebuild when it already matches - e.g. on banner refreshes with unchanged
+     * consent and server parameters. The current configuration is compared rather than a remembered one, so changes made by the publisher are kept.
+     */
+    private static class RequestConfigurationCache
+    {
+        private static String       parsedTestDevicesString;
+        private static List<String> parsedTestDeviceIds;
+
+        static synchronized void apply(final Boolean isAgeRestrictedUser, final String testDevicesString)
+        {
+            final RequestConfiguration requestConfiguration = MobileAds.getRequestConfiguration();
+
+            final int ageRestrictedUserTag;
+            if ( isAgeRestrictedUser != null )
+            {
+                ageRestrictedUserTag = isAgeRestrictedUser ? RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_TRUE : RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_FALSE;
+            }
+            else
+            {
+                ageRestrictedUserTag = requestConfiguration.getTagForChildDirectedTreatment();
+            }
+
+            final List<String> testDeviceIds = !TextUtils.isEmpty( testDevicesString ) ? parseTestDeviceIds( testDevicesString ) : requestConfiguration.getTestDeviceIds();
+
+            if ( ageRestrictedUserTag == requestConfiguration.getTagForChildDirectedTreatment() && testDeviceIds.equals( requestConfiguration.getTestDeviceIds() ) ) return;
+
+            MobileAds.setRequestConfiguration( requestConfiguration.toBuilder()
+                                                       .setTagForChildDirectedTreatment( ageRestrictedUserTag )
+                                                       .setTestDeviceIds( testDeviceIds )
+                                                       .build() );
+        }
+
+        private static List<String> parseTestDeviceIds(final String testDevicesString)
+        {
+            if ( !testDevicesString.equals( parsedTestDevicesString ) )
+            {
+                parsedTestDeviceIds = Collections.unmodifiableList( Arrays.asList( testDevicesString.split( "," ) ) );
+                parsedTestDevicesString = testDevicesString;
+            }
+
+            return parsedTestDeviceIds;
+        }
+    }
+
+    /**
+     * Caches the anchored adaptive banner size for the current display configuration, so auto-refreshing banners only compute it again after a
+     * rotation, resize or density change.
+     */
+    private static class AdaptiveBannerAdSizeCache
+    {
+        private static int    orientation;
+        private static int    screenWidthDp;
+        private static int    screenHeightDp;
+        private static float  density;
+        private static AdSize adSize;
+
+        static synchronized AdSize get(final Context context)
+        {
+            final Resources resources = context.getResources();
+            final Configuration configuration = resources.getConfiguration();
+            final float currentDensity = resources.getDisplayMetrics().density;
+
+            final boolean isConfigurationUnchanged = orientation == configuration.orientation && screenWidthDp == configuration.screenWidthDp && screenHeightDp == configuration.screenHeightDp && density == currentDensity;
+            if ( adSize != null && isConfigurationUnchanged )
+            {
+                return adSize;
+            }
+
+            WindowManager windowManager = (WindowManager) context.getSystemService( Context.WINDOW_SERVICE );
+            Display display = windowManager.getDefaultDisplay();
+            DisplayMetrics outMetrics = new DisplayMetrics();
+            display.getMetrics( outMetrics );
+            int adWidthDp = AppLovinSdkUtils.pxToDp( context, outMetrics.widthPixels );
+
+            adSize = AdSize.getCurrentOrientationAnchoredAdaptiveBannerAdSize( context, adWidthDp );
+            orientation = configuration.orientation;
+            screenWidthDp = configuration.screenWidthDp;
+            screenHeightDp = configuration.screenHeightDp;
+            density = currentDensity;
+
+            return adSize;
+        }
+    }
+
+    /**
+     * Pool of native banner template views keyed by template name, so an auto-refreshing native banner binds its ad into a ready view instead of
+     * inflating the template layout while it loads. The template views need the main looper, so they are still inflated on the main thread - an idle
+     * handler only moves that work out of the load path. Pooled views are freshly inflated and never taken back from a shown ad, so no network click
+     * or impression tracking carries over.
+     * <p>
+     * Binding an ad after inflation needs {@code MaxNativeAdView(String, Context)} and {@code MaxNativeAdView.renderCustomNativeAdView(MaxNativeAd)}.
+     * They are not part of the adapter API and not every SDK version has them, so they are looked up reflectively. Without them, and off the main
+     * thread, a view is created per load as before.
+     */
+    private static class NativeAdViewPool
+    {
+        private static final Constructor<MaxNativeAdView> templateConstructor;
+        private static final Method                       renderMethod;
+
+        // Only accessed on the main thread
+        private static final Map<String, MaxNativeAdView> pooledViews       = new HashMap<>();
+        private static final Set<String>                  pendingInflations = new HashSet<>();
+
+        static
+        {
+            Constructor<MaxNativeAdView> constructor = null;
+            Method method = null;
+            try
+            {
+                constructor = MaxNativeAdView.class.getConstructor( String.class, Context.class );
+                method = MaxNativeAdView.class.getMethod( "renderCustomNativeAdView", MaxNativeAd.class );
+            }
+            catch ( Throwable ignored )
+            {
+                constructor = null;
+                method = null;
+            }
+
+            templateConstructor = constructor;
+            renderMethod = method;
+        }
+
+        static MaxNativeAdView create(final MaxNativeAd maxNativeAd, final String templateName, final Context context)
+        {
+            // Only pool views of the application context so pooled views never hold on to an activity
+            if ( renderMethod != null && context == context.getApplicationContext() && Looper.myLooper() == Looper.getMainLooper() )
+            {
+                final MaxNativeAdView pooledView = pooledViews.remove( templateName );
+
+                // Inflate the view for the next load once the main thread is idle
+                scheduleInflation( templateName, context );
+
+                if ( pooledView != null && render( pooledView, maxNativeAd ) ) return pooledView;
+            }
+
+            return new MaxNativeAdView( maxNativeAd, templateName, context );
+        }
+
+        private static boolean render(final MaxNativeAdView maxNativeAdView, final MaxNativeAd maxNativeAd)
+        {
+            try
+            {
+                renderMethod.invoke( maxNativeAdView, maxNativeAd );
+                return true;
+            }
+            catch ( Throwable th )
+            {
+                return false;
+            }
+        }
+
+        private static void scheduleInflation(final String templateName, final Context context)
+        {
+            if ( !pendingInflations.add( templateName ) ) return;
+
+            // Only called on the main thread, so this is the main looper's queue
+            Looper.myQueue().addIdleHandler( new MessageQueue.IdleHandler()
+            {
+                @Override
+                public boolean queueIdle()
+                {
+                    pendingInflations.remove( templateName );
+
+                    if ( !pooledViews.containsKey( templateName ) )
+                    {
+                        try
+                        {
+                            pooledViews.put( templateName, templateConstructor.newInstance( templateName, context ) );
+                        }
+                        catch ( Throwable ignored )
+                        {
+                            // Fall back to inflating the template on the next load
+                        }
+                    }
+
+                    return false;
+                }
+            } );
+        }
+    }
 }
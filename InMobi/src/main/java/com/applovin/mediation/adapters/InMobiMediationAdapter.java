@@ -2,10 +2,18 @@ package com.applovin.mediation.adapters;
 
 import android.app.Activity;
 import android.content.Context;
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.text.TextUtils;
 import android.util.DisplayMetrics;
+import android.util.LruCache;
 import android.view.Display;
 import android.view.Gravity;
 import android.view.View;
@@ -51,12 +59,33 @@ import com.inmobi.sdk.SdkInitializationListener;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Method;
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Future;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -71,7 +100,8 @@ public class InMobiMediationAdapter
     private static final String KEY_PARTNER_GDPR_CONSENT = "partner_gdpr_consent_available";
     private static final String KEY_PARTNER_GDPR_APPLIES = "partner_gdpr_applies";
 
-    private static final int DEFAULT_IMAGE_TASK_TIMEOUT_SECONDS = 5;
+    private static final int  DEFAULT_IMAGE_TASK_TIMEOUT_SECONDS = 5;
+    private static final long DEFAULT_SIGNAL_CACHE_TTL_SECONDS   = 60;
 
     private static final AtomicBoolean        INITIALIZED = new AtomicBoolean();
     private static       InitializationStatus status;
@@ -98,6 +128,41 @@ public class InMobiMediationAdapter
 
     @Override
     public void collectSignal(final MaxAdapterSignalCollectionParameters parameters, final Activity activity, final MaxSignalCollectionListener callback)
+    {
+        // Privacy is global SDK state, so it is only applied here on the calling thread and never from a background refresh
+        updateAgeRestrictedUser( parameters );
+        updatePartnerGDPRConsent( parameters );
+
+        final Bundle serverParameters = parameters.getServerParameters();
+        if ( !serverParameters.getBoolean( "enable_signal_cache", false ) )
+        {
+            generateSignal( parameters, activity, callback );
+            return;
+        }
+
+        final String privacyState = getPrivacyState( parameters );
+        SignalCache.updatePrivacyState( privacyState );
+
+        final MaxAdFormat adFormat = parameters.getAdFormat();
+        final String cacheKey = ( adFormat != null ? adFormat.getLabel() : "" ) + ":" + privacyState;
+        final long ttlMillis = TimeUnit.SECONDS.toMillis( serverParameters.getLong( "signal_cache_ttl_sec", DEFAULT_SIGNAL_CACHE_TTL_SECONDS ) );
+
+        final String cachedSignal = SignalCache.take( cacheKey, ttlMillis );
+        if ( cachedSignal != null )
+        {
+            log( "Signal collection successful from cache" );
+            callback.onSignalCollected( cachedSignal );
+        }
+        else
+        {
+            generateSignal( parameters, activity, callback );
+        }
+
+        // Pre-warm the next signal so the following auction does not pay for generating it
+        refreshSignal( cacheKey, parameters, activity );
+    }
+
+    private void generateSignal(final MaxAdapterParameters parameters, @Nullable final Activity activity, final MaxSignalCollectionListener callback)
     {
         if ( !InMobiSdk.isSDKInitialized() )
         {
@@ -105,9 +170,6 @@ public class InMobiMediationAdapter
             return;
         }
 
-        updateAgeRestrictedUser( parameters );
-        InMobiSdk.setPartnerGDPRConsent( getConsentJSONObject( parameters ) );
-
         String signal = InMobiSdk.getToken( getExtras( parameters ), null );
         callback.onSignalCollected( signal );
     }
@@ -146,7 +208,7 @@ public class InMobiMediationAdapter
             updateAgeRestrictedUser( parameters );
 
             JSONObject consentObject = getConsentJSONObject( parameters );
-            InMobiSdk.init( context, accountId, consentObject, new SdkInitializationListener()
+            PrivacyStateCache.initializeSdk( context, accountId, consentObject, new SdkInitializationListener()
             {
                 @Override
                 public void onInitializationComplete(@Nullable final Error error)
@@ -164,6 +226,8 @@ public class InMobiMediationAdapter
 
                         status = InitializationStatus.INITIALIZED_SUCCESS;
                         onCompletionListener.onCompletion( status, null );
+
+                        prewarmSignals( parameters, activity );
                     }
                 }
             } );
@@ -205,7 +269,7 @@ public class InMobiMediationAdapter
         adView.setListener( new AdViewListener( listener ) );
 
         // Update GDPR states
-        InMobiSdk.setPartnerGDPRConsent( getConsentJSONObject( parameters ) );
+        updatePartnerGDPRConsent( parameters );
 
         DisplayMetrics displayMetrics = new DisplayMetrics();
         WindowManager windowManager = (WindowManager) context.getSystemService( Context.WINDOW_SERVICE );
@@ -366,7 +430,7 @@ public class InMobiMediationAdapter
         log( "Loading " + ( isBiddingAd ? "bidding " : "" ) + "native ad for placement: " + placementId + "..." );
 
         // Update GDPR states
-        InMobiSdk.setPartnerGDPRConsent( getConsentJSONObject( parameters ) );
+        updatePartnerGDPRConsent( parameters );
 
         final Context context = getContext( activity );
         nativeAd = new InMobiNative( context,
@@ -395,7 +459,7 @@ public class InMobiMediationAdapter
         interstitial.setExtras( getExtras( parameters ) );
 
         // Update GDPR states
-        InMobiSdk.setPartnerGDPRConsent( getConsentJSONObject( parameters ) );
+        updatePartnerGDPRConsent( parameters );
 
         return interstitial;
     }
@@ -416,21 +480,27 @@ public class InMobiMediationAdapter
 
     private JSONObject getConsentJSONObject(MaxAdapterParameters parameters)
     {
-        JSONObject consentObject = new JSONObject();
+        final AppLovinSdkConfiguration.ConsentDialogState consentDialogState = getWrappingSdk().getConfiguration().getConsentDialogState();
+        final Boolean hasUserConsent = ( consentDialogState == AppLovinSdkConfiguration.ConsentDialogState.APPLIES ) ? getPrivacySetting( "hasUserConsent", parameters ) : null;
+
+        final String consentFingerprint = consentDialogState + ":" + hasUserConsent;
+        JSONObject consentObject = PrivacyStateCache.getConsentObject( consentFingerprint );
+        if ( consentObject != null ) return consentObject;
+
+        consentObject = new JSONObject();
 
         try
         {
-            if ( getWrappingSdk().getConfiguration().getConsentDialogState() == AppLovinSdkConfiguration.ConsentDialogState.APPLIES )
+            if ( consentDialogState == AppLovinSdkConfiguration.ConsentDialogState.APPLIES )
             {
                 consentObject.put( KEY_PARTNER_GDPR_APPLIES, 1 );
 
-                Boolean hasUserConsent = getPrivacySetting( "hasUserConsent", parameters );
                 if ( hasUserConsent != null )
                 {
                     consentObject.put( KEY_PARTNER_GDPR_CONSENT, hasUserConsent );
                 }
             }
-            else if ( getWrappingSdk().getConfiguration().getConsentDialogState() == AppLovinSdkConfiguration.ConsentDialogState.DOES_NOT_APPLY )
+            else if ( consentDialogState == AppLovinSdkConfiguration.ConsentDialogState.DOES_NOT_APPLY )
             {
                 consentObject.put( KEY_PARTNER_GDPR_APPLIES, 0 );
             }
@@ -440,16 +510,23 @@ public class InMobiMediationAdapter
             log( "Failed to create consent JSON object", ex );
         }
 
+        PrivacyStateCache.putConsentObject( consentFingerprint, consentObject );
+
         return consentObject;
     }
 
+    private void updatePartnerGDPRConsent(final MaxAdapterParameters parameters)
+    {
+        PrivacyStateCache.applyConsent( getConsentJSONObject( parameters ) );
+    }
+
     private void updateAgeRestrictedUser(final MaxAdapterParameters parameters)
     {
         // NOTE: Only for family apps and not related to COPPA
         Boolean isAgeRestrictedUser = getPrivacySetting( "isAgeRestrictedUser", parameters );
         if ( isAgeRestrictedUser != null )
         {
-            InMobiSdk.setIsAgeRestricted( isAgeRestrictedUser );
+            PrivacyStateCache.applyAgeRestrictedUser( isAgeRestrictedUser );
         }
     }
 
@@ -461,17 +538,8 @@ public class InMobiMediationAdapter
 
     private Map<String, String> getExtras(MaxAdapterParameters parameters)
     {
-        Map<String, String> extras = new HashMap<>( 3 );
-        extras.put( "tp", "c_applovin" );
-        extras.put( "tp-ver", AppLovinSdk.VERSION );
-
         Boolean isAgeRestrictedUser = getPrivacySetting( "isAgeRestrictedUser", parameters );
-        if ( isAgeRestrictedUser != null )
-        {
-            extras.put( "coppa", isAgeRestrictedUser ? "1" : "0" );
-        }
-
-        return extras;
+        return PrivacyStateCache.getExtras( isAgeRestrictedUser );
     }
 
     private Boolean getPrivacySetting(final String privacySetting, final MaxAdapterParameters parameters)
@@ -479,8 +547,7 @@ public class InMobiMediationAdapter
         try
         {
             // Use reflection because compiled adapters have trouble fetching `boolean` from old SDKs and `Boolean` from new SDKs (above 9.14.0)
-            Class<?> parametersClass = parameters.getClass();
-            Method privacyMethod = parametersClass.getMethod( privacySetting );
+            Method privacyMethod = PrivacySettingAccessors.get( parameters.getClass(), privacySetting );
             return (Boolean) privacyMethod.invoke( parameters );
         }
         catch ( Exception exception )
@@ -490,6 +557,51 @@ public class InMobiMediationAdapter
         }
     }
 
+    private void refreshSignal(final String cacheKey, final MaxAdapterParameters parameters, @Nullable final Activity activity)
+    {
+        if ( !SignalCache.startRefresh( cacheKey ) ) return;
+
+        try
+        {
+            getCachingExecutorService().execute( new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    generateSignal( parameters, activity, new SignalCacheListener( cacheKey ) );
+                }
+            } );
+        }
+        catch ( Throwable th )
+        {
+            e( "Failed to schedule signal refresh", th );
+            SignalCache.finishRefresh( cacheKey );
+        }
+    }
+
+    /**
+     * Generates signals for the formats the first auctions are most likely to need, so a cold start does not pay for generating them. The token only
+     * depends on the privacy settings, which initialization has already applied, so it matches what signal collection would generate.
+     */
+    private void prewarmSignals(final MaxAdapterParameters parameters, @Nullable final Activity activity)
+    {
+        final Bundle serverParameters = parameters.getServerParameters();
+        if ( !serverParameters.getBoolean( "enable_signal_cache", false ) ) return;
+
+        final String privacyState = getPrivacyState( parameters );
+        SignalCache.updatePrivacyState( privacyState );
+
+        for ( final MaxAdFormat adFormat : SignalCache.getPrewarmAdFormats( serverParameters ) )
+        {
+            refreshSignal( adFormat.getLabel() + ":" + privacyState, parameters, activity );
+        }
+    }
+
+    private String getPrivacyState(final MaxAdapterParameters parameters)
+    {
+        return getPrivacySetting( "hasUserConsent", parameters ) + ":" + getPrivacySetting( "isAgeRestrictedUser", parameters ) + ":" + getPrivacySetting( "isDoNotSell", parameters );
+    }
+
     private static MaxAdapterError toMaxError(InMobiAdRequestStatus inMobiError)
     {
         final InMobiAdRequestStatus.StatusCode inMobiErrorCode = inMobiError.getStatusCode();
@@ -863,27 +975,22 @@ public class InMobiMediationAdapter
 
             log( "Native ad loaded: " + placementId );
 
-            getCachingExecutorService().execute( new Runnable()
+            final String iconUrl = inMobiNative.getAdIconUrl();
+            if ( AppLovinSdkUtils.isValidString( iconUrl ) )
+            {
+                log( "Adding native ad icon (" + iconUrl + ") to queue to be fetched" );
+            }
+
+            final int iconSizePx = AppLovinSdkUtils.dpToPx( context, NativeAdImagePipeline.ICON_TARGET_SIZE_DP );
+            final int imageTaskTimeoutSeconds = BundleUtils.getInt( "image_task_timeout_seconds", DEFAULT_IMAGE_TASK_TIMEOUT_SECONDS, serverParameters );
+            NativeAdImagePipeline.loadAssets( iconUrl, iconSizePx, null, 0, imageTaskTimeoutSeconds, context, getCachingExecutorService(), new NativeAdImagePipeline.AssetsListener()
             {
                 @Override
-                public void run()
+                public void onAssetsLoaded(@Nullable final Drawable iconDrawable, @Nullable final Drawable mainImageDrawable)
                 {
-                    Drawable iconDrawable = null;
-
-                    if ( AppLovinSdkUtils.isValidString( inMobiNative.getAdIconUrl() ) )
+                    if ( iconDrawable == null && AppLovinSdkUtils.isValidString( iconUrl ) )
                     {
-                        log( "Adding native ad icon (" + inMobiNative.getAdIconUrl() + ") to queue to be fetched" );
-
-                        final Future<Drawable> iconDrawableFuture = createDrawableFuture( inMobiNative.getAdIconUrl(), context.getResources() );
-                        try
-                        {
-                            final int imageTaskTimeoutSeconds = BundleUtils.getInt( "image_task_timeout_seconds", DEFAULT_IMAGE_TASK_TIMEOUT_SECONDS, serverParameters );
-                            iconDrawable = iconDrawableFuture.get( imageTaskTimeoutSeconds, TimeUnit.SECONDS );
-                        }
-                        catch ( Throwable th )
-                        {
-                            e( "Failed to fetch icon image from URL: " + inMobiNative.getAdIconUrl(), th );
-                        }
+                        e( "Failed to fetch icon image from URL: " + iconUrl );
                     }
 
                     handleNativeAdLoaded( nativeAd, adMetaInfo, iconDrawable, context );
@@ -1049,4 +1156,706 @@ public class InMobiMediationAdapter
             } );
         }
     }
+
+    /**
+     * Fetches native ad images through a size-bounded memory LRU of decoded bitmaps, backed by an on-disk cache keyed by the image URL.
+     * Concurrent requests for the same image share a single fetch, and images are downsampled to the size they are rendered at.
+     * <p>
+     * Every adapter bundling this pipeline uses the same disk cache directory and limits, so together they stay within one disk budget. The memory
+     * cache cannot be shared the same way: each adapter has its own, so an app bundling several of them holds one budget per adapter and may decode
+     * the same image in each. The per-adapter budget is kept small for that reason.
+     */
+    private static class NativeAdImagePipeline
+    {
+        private static final int    MEMORY_CACHE_MAX_BYTES_PER_ADAPTER = 1024 * 1024;
+        private static final long   DISK_CACHE_MAX_BYTES               = 10 * 1024 * 1024;
+        private static final String DISK_CACHE_DIRECTORY               = "applovin_native_ad_images";
+
+        static final int ICON_TARGET_SIZE_DP = 80;
+
+        private static final LruCache<String, Bitmap>          memoryCache     = new LruCache<String, Bitmap>( (int) Math.min( MEMORY_CACHE_MAX_BYTES_PER_ADAPTER, Runtime.getRuntime().maxMemory() / 128 ) )
+        {
+            @Override
+            protected int sizeOf(final String key, final Bitmap bitmap)
+            {
+                return bitmap.getByteCount();
+            }
+        };
+        private static final Map<String, List<ImageListener>> pendingFetches  = new HashMap<>();
+        private static final Object                            diskCacheLock   = new Object();
+        private static final Handler                           deadlineHandler = new Handler( Looper.getMainLooper() );
+
+        interface ImageListener
+        {
+            void onImageLoaded(@Nullable Bitmap bitmap);
+        }
+
+        interface AssetsListener
+        {
+            /**
+             * Called on the UI thread once every requested image has completed or the deadline has passed. Images that failed or timed out are {@code null}.
+             */
+            void onAssetsLoaded(@Nullable Drawable icon, @Nullable Drawable mainImage);
+        }
+
+        /**
+         * Fetches the icon and main image in parallel without blocking a thread while waiting on them. Either URL may be {@code null}.
+         */
+        static void loadAssets(@Nullable final String iconUrl,
+                               final int iconSizePx,
+                               @Nullable final String mainImageUrl,
+                               final int mainImageSizePx,
+                               final int timeoutSeconds,
+                               final Context context,
+                               final Executor executor,
+                               final AssetsListener listener)
+        {
+            final AssetAssembly assembly = new AssetAssembly( context.getResources(), listener );
+            deadlineHandler.postDelayed( assembly, TimeUnit.SECONDS.toMillis( timeoutSeconds ) );
+
+            if ( AppLovinSdkUtils.isValidString( iconUrl ) )
+            {
+                load( iconUrl, iconSizePx, timeoutSeconds, context, executor, new ImageListener()
+                {
+                    @Override
+                    public void onImageLoaded(@Nullable final Bitmap bitmap)
+                    {
+                        assembly.onIconLoaded( bitmap );
+                    }
+                } );
+            }
+            else
+            {
+                assembly.onIconLoaded( null );
+            }
+
+            if ( AppLovinSdkUtils.isValidString( mainImageUrl ) )
+            {
+                load( mainImageUrl, mainImageSizePx, timeoutSeconds, context, executor, new ImageListener()
+                {
+                    @Override
+                    public void onImageLoaded(@Nullable final Bitmap bitmap)
+                    {
+                        assembly.onMainImageLoaded( bitmap );
+                    }
+                } );
+            }
+            else
+            {
+                assembly.onMainImageLoaded( null );
+            }
+        }
+
+        /**
+         * Loads the image at the given URL, decoded to at least {@code targetSizePx} on its smaller side. The listener is called on the fetching thread,
+         * or inline if the image is already in memory. A network fetch that takes longer than {@code timeoutSeconds} fails with a {@code null} image.
+         */
+        static void load(final String imageUrl, final int targetSizePx, final int timeoutSeconds, final Context context, final Executor executor, final ImageListener listener)
+        {
+            final String cacheKey = imageUrl + "#" + targetSizePx;
+
+            final Bitmap cachedBitmap = memoryCache.get( cacheKey );
+            if ( cachedBitmap != null )
+            {
+                listener.onImageLoaded( cachedBitmap );
+                return;
+            }
+
+            synchronized ( pendingFetches )
+            {
+                // Coalesce with an in-flight fetch of the same image if there is one
+                final List<ImageListener> pendingListeners = pendingFetches.get( cacheKey );
+                if ( pendingListeners != null )
+                {
+                    pendingListeners.add( listener );
+                    return;
+                }
+
+                final List<ImageListener> listeners = new ArrayList<>( 1 );
+                listeners.add( listener );
+                pendingFetches.put( cacheKey, listeners );
+            }
+
+            try
+            {
+                executor.execute( new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        Bitmap bitmap = null;
+                        try
+                        {
+                            bitmap = decodeSampledBitmap( fetchImageData( imageUrl, TimeUnit.SECONDS.toMillis( timeoutSeconds ), context ), targetSizePx );
+                            if ( bitmap != null )
+                            {
+                                memoryCache.put( cacheKey, bitmap );
+                            }
+                        }
+                        catch ( Throwable ignored )
+                        {
+                            // Failed and timed out images are reported to the listeners as null, which also clears the pending fetch
+                        }
+
+                        notifyListeners( cacheKey, bitmap );
+                    }
+                } );
+            }
+            catch ( RejectedExecutionException ignored )
+            {
+                notifyListeners( cacheKey, null );
+            }
+        }
+
+        private static void notifyListeners(final String cacheKey, @Nullable final Bitmap bitmap)
+        {
+            final List<ImageListener> listeners;
+            synchronized ( pendingFetches )
+            {
+                listeners = pendingFetches.remove( cacheKey );
+            }
+
+            if ( listeners == null ) return;
+
+            for ( final ImageListener listener : listeners )
+            {
+                listener.onImageLoaded( bitmap );
+            }
+        }
+
+        private static byte[] fetchImageData(final String imageUrl, final long timeoutMillis, final Context context) throws IOException
+        {
+            final File cacheFile = new File( getDiskCacheDirectory( context ), toCacheFileName( imageUrl ) );
+            if ( cacheFile.exists() )
+            {
+                try
+                {
+                    final byte[] imageData = readFully( new FileInputStream( cacheFile ), Long.MAX_VALUE );
+                    cacheFile.setLastModified( System.currentTimeMillis() );
+
+                    return imageData;
+                }
+                catch ( IOException ignored )
+                {
+                    // The file may have been evicted concurrently - fall back to the network
+                }
+            }
+
+            // Not every URL is served over HTTP - e.g. file and content URLs
+            final URLConnection connection = new URL( imageUrl ).openConnection();
+            connection.setConnectTimeout( (int) timeoutMillis );
+            connection.setReadTimeout( (int) timeoutMillis );
+
+            final byte[] imageData;
+            try
+            {
+                // The read timeout only bounds each read, so also cap the whole download
+                imageData = readFully( connection.getInputStream(), SystemClock.elapsedRealtime() + timeoutMillis );
+            }
+            finally
+            {
+                if ( connection instanceof HttpURLConnection )
+                {
+                    ( (HttpURLConnection) connection ).disconnect();
+                }
+            }
+
+            // Only cache downloads, and only if they are images - anything else would fail to decode on every later read of the file
+            if ( connection instanceof HttpURLConnection && isImage( imageData ) )
+            {
+                writeToDiskCache( cacheFile, imageData );
+            }
+
+            return imageData;
+        }
+
+        private static void writeToDiskCache(final File cacheFile, final byte[] imageData)
+        {
+            synchronized ( diskCacheLock )
+            {
+                // Other adapters may write to the shared directory concurrently, so each write goes through its own temp file
+                File tempFile = null;
+                FileOutputStream outputStream = null;
+                try
+                {
+                    tempFile = File.createTempFile( cacheFile.getName(), ".tmp", cacheFile.getParentFile() );
+                    outputStream = new FileOutputStream( tempFile );
+                    outputStream.write( imageData );
+                    outputStream.close();
+                    outputStream = null;
+
+                    if ( !tempFile.renameTo( cacheFile ) )
+                    {
+                        tempFile.delete();
+                        return;
+                    }
+                }
+                catch ( IOException ignored )
+                {
+                    if ( tempFile != null )
+                    {
+                        tempFile.delete();
+                    }
+
+                    return;
+                }
+                finally
+                {
+                    closeQuietly( outputStream );
+                }
+
+                trimDiskCache( cacheFile.getParentFile() );
+            }
+        }
+
+        private static void trimDiskCache(final File directory)
+        {
+            final File[] files = directory.listFiles();
+            if ( files == null ) return;
+
+            long totalBytes = 0;
+            for ( final File file : files )
+            {
+                totalBytes += file.length();
+            }
+
+            if ( totalBytes <= DISK_CACHE_MAX_BYTES ) return;
+
+            // Evict the least recently used files first
+            Arrays.sort( files, new Comparator<File>()
+            {
+                @Override
+                public int compare(final File file1, final File file2)
+                {
+                    return Long.compare( file1.lastModified(), file2.lastModified() );
+                }
+            } );
+
+            for ( final File file : files )
+            {
+                if ( totalBytes <= DISK_CACHE_MAX_BYTES ) break;
+
+                final long fileBytes = file.length();
+                if ( file.delete() )
+                {
+                    totalBytes -= fileBytes;
+                }
+            }
+        }
+
+        private static boolean isImage(final byte[] imageData)
+        {
+            final BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inJustDecodeBounds = true;
+            BitmapFactory.decodeByteArray( imageData, 0, imageData.length, options );
+
+            return options.outWidth > 0 && options.outHeight > 0;
+        }
+
+        private static Bitmap decodeSampledBitmap(final byte[] imageData, final int targetSizePx)
+        {
+            final BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inJustDecodeBounds = true;
+            BitmapFactory.decodeByteArray( imageData, 0, imageData.length, options );
+
+            int sampleSize = 1;
+            if ( targetSizePx > 0 )
+            {
+                while ( options.outWidth / ( sampleSize * 2 ) >= targetSizePx && options.outHeight / ( sampleSize * 2 ) >= targetSizePx )
+                {
+                    sampleSize *= 2;
+                }
+            }
+
+            options.inJustDecodeBounds = false;
+            options.inSampleSize = sampleSize;
+
+            return BitmapFactory.decodeByteArray( imageData, 0, imageData.length, options );
+        }
+
+        private static File getDiskCacheDirectory(final Context context)
+        {
+            final File directory = new File( context.getCacheDir(), DISK_CACHE_DIRECTORY );
+            if ( !directory.exists() )
+            {
+                directory.mkdirs();
+            }
+
+            return directory;
+        }
+
+        private static String toCacheFileName(final String imageUrl)
+        {
+            try
+            {
+                final byte[] digest = MessageDigest.getInstance( "SHA-1" ).digest( imageUrl.getBytes( "UTF-8" ) );
+                final StringBuilder fileName = new StringBuilder( digest.length * 2 );
+                for ( final byte b : digest )
+                {
+                    fileName.append( String.format( "%02x", b ) );
+                }
+
+                return fileName.toString();
+            }
+            catch ( Exception ignored )
+            {
+                return Integer.toHexString( imageUrl.hashCode() );
+            }
+        }
+
+        private static byte[] readFully(final InputStream inputStream, final long deadlineMillis) throws IOException
+        {
+            try
+            {
+                final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                final byte[] buffer = new byte[8192];
+                int bytesRead;
+                while ( ( bytesRead = inputStream.read( buffer ) ) != -1 )
+                {
+                    if ( SystemClock.elapsedRealtime() > deadlineMillis ) throw new SocketTimeoutException( "Image download timed out" );
+
+                    outputStream.write( buffer, 0, bytesRead );
+                }
+
+                return outputStream.toByteArray();
+            }
+            finally
+            {
+                closeQuietly( inputStream );
+            }
+        }
+
+        private static void closeQuietly(final Closeable closeable)
+        {
+            if ( closeable == null ) return;
+
+            try
+            {
+                closeable.close();
+            }
+            catch ( IOException ignored )
+            {
+                // Nothing to do if closing fails
+            }
+        }
+
+        /**
+         * Collects the images for a single native ad and completes once they have all loaded, or when run by the deadline handler.
+         */
+        private static class AssetAssembly
+                implements Runnable
+        {
+            private final Resources      resources;
+            private final AssetsListener listener;
+            private final AtomicInteger  pendingImageCount = new AtomicInteger( 2 );
+            private final AtomicBoolean  completed         = new AtomicBoolean();
+
+            private volatile Drawable icon;
+            private volatile Drawable mainImage;
+
+            AssetAssembly(final Resources resources, final AssetsListener listener)
+            {
+                this.resources = resources;
+                this.listener = listener;
+            }
+
+            void onIconLoaded(@Nullable final Bitmap bitmap)
+            {
+                icon = ( bitmap != null ) ? new BitmapDrawable( resources, bitmap ) : null;
+                onImageCompleted();
+            }
+
+            void onMainImageLoaded(@Nullable final Bitmap bitmap)
+            {
+                mainImage = ( bitmap != null ) ? new BitmapDrawable( resources, bitmap ) : null;
+                onImageCompleted();
+            }
+
+            @Override
+            public void run()
+            {
+                complete();
+            }
+
+            private void onImageCompleted()
+            {
+                if ( pendingImageCount.decrementAndGet() == 0 )
+                {
+                    deadlineHandler.removeCallbacks( this );
+                    complete();
+                }
+            }
+
+            private void complete()
+            {
+                if ( !completed.compareAndSet( false, true ) ) return;
+
+                final Drawable icon = this.icon;
+                final Drawable mainImage = this.mainImage;
+                AppLovinSdkUtils.runOnUiThread( new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        listener.onAssetsLoaded( icon, mainImage );
+                    }
+                } );
+            }
+        }
+    }
+
+    private class SignalCacheListener
+            implements MaxSignalCollectionListener
+    {
+        private final String cacheKey;
+
+        private SignalCacheListener(final String cacheKey)
+        {
+            this.cacheKey = cacheKey;
+        }
+
+        @Override
+        public void onSignalCollected(final String signal)
+        {
+            SignalCache.put( cacheKey, signal );
+            SignalCache.finishRefresh( cacheKey );
+        }
+
+        @Override
+        public void onSignalCollectionFailed(final String errorMessage)
+        {
+            SignalCache.finishRefresh( cacheKey );
+        }
+    }
+
+    /**
+     * Opt-in cache of bidding signals keyed by ad format and privacy state. Signals are generated in the background, starting at initialization,
+     * and each one is handed to a single auction before the next is generated. The whole cache is dropped as soon as the privacy state changes.
+     */
+    private static class SignalCache
+    {
+        private static final MaxAdFormat[] PREWARM_AD_FORMATS      = { MaxAdFormat.BANNER, MaxAdFormat.INTERSTITIAL, MaxAdFormat.REWARDED };
+        private static final MaxAdFormat[] CONFIGURABLE_AD_FORMATS = { MaxAdFormat.BANNER, MaxAdFormat.LEADER, MaxAdFormat.MREC, MaxAdFormat.INTERSTITIAL, MaxAdFormat.REWARDED };
+
+        private static final Map<String, CachedSignal> cachedSignals    = new ConcurrentHashMap<>();
+        private static final Set<String>               refreshingKeys   = Collections.newSetFromMap( new ConcurrentHashMap<String, Boolean>() );
+        private static final Object                    privacyStateLock = new Object();
+
+        private static String privacyState;
+
+        static void updatePrivacyState(final String currentPrivacyState)
+        {
+            synchronized ( privacyStateLock )
+            {
+                if ( !currentPrivacyState.equals( privacyState ) )
+                {
+                    privacyState = currentPrivacyState;
+                    cachedSignals.clear();
+                }
+            }
+        }
+
+        /**
+         * Removes and returns the cached signal for the given key, so no signal is used in more than one auction.
+         */
+        @Nullable
+        static String take(final String key, final long ttlMillis)
+        {
+            final CachedSignal cachedSignal = cachedSignals.remove( key );
+            if ( cachedSignal == null ) return null;
+
+            if ( SystemClock.elapsedRealtime() - cachedSignal.createdAtMillis > ttlMillis ) return null;
+
+            return cachedSignal.signal;
+        }
+
+        static void put(final String key, @Nullable final String signal)
+        {
+            if ( TextUtils.isEmpty( signal ) ) return;
+
+            cachedSignals.put( key, new CachedSignal( signal, SystemClock.elapsedRealtime() ) );
+        }
+
+        /**
+         * @return {@code true} if the caller should refresh the signal for the given key, {@code false} if a refresh is already in flight.
+         */
+        static boolean startRefresh(final String key)
+        {
+            return refreshingKeys.add( key );
+        }
+
+        static void finishRefresh(final String key)
+        {
+            refreshingKeys.remove( key );
+        }
+
+        /**
+         * @return the formats listed by label in the {@code signal_cache_prewarm_formats} server parameter, or banner, interstitial and rewarded if it is not set.
+         */
+        static List<MaxAdFormat> getPrewarmAdFormats(final Bundle serverParameters)
+        {
+            final String formatLabels = serverParameters.getString( "signal_cache_prewarm_formats" );
+            if ( formatLabels == null ) return Arrays.asList( PREWARM_AD_FORMATS );
+
+            final List<MaxAdFormat> adFormats = new ArrayList<>();
+            for ( final String formatLabel : formatLabels.split( "," ) )
+            {
+                for ( final MaxAdFormat adFormat : CONFIGURABLE_AD_FORMATS )
+                {
+                    if ( adFormat.getLabel().equalsIgnoreCase( formatLabel.trim() ) )
+                    {
+                        adFormats.add( adFormat );
+                    }
+                }
+            }
+
+            return adFormats;
+        }
+
+        private static class CachedSignal
+        {
+            private final String signal;
+            private final long   createdAtMillis;
+
+            private CachedSignal(final String signal, final long createdAtMillis)
+            {
+                this.signal = signal;
+                this.createdAtMillis = createdAtMillis;
+            }
+        }
+    }
+
+    /**
+     * Signal collection reads every privacy setting for the signal cache key and again for the consent object and extras, and loads read them too, so
+     * the accessors are resolved once per parameters class and reused across requests.
+     */
+    private static class PrivacySettingAccessors
+    {
+        private static final ConcurrentHashMap<Class<?>, Map<String, Method>> accessors = new ConcurrentHashMap<>();
+
+        static Method get(final Class<?> parametersClass, final String privacySetting) throws NoSuchMethodException
+        {
+            Map<String, Method> classAccessors = accessors.get( parametersClass );
+            if ( classAccessors == null )
+            {
+                classAccessors = new ConcurrentHashMap<>();
+
+                final Map<String, Method> existingAccessors = accessors.putIfAbsent( parametersClass, classAccessors );
+                if ( existingAccessors != null )
+                {
+                    classAccessors = existingAccessors;
+                }
+            }
+
+            Method accessor = classAccessors.get( privacySetting );
+            if ( accessor == null )
+            {
+                // Racing lookups resolve the same method, so the last write winning is harmless
+                accessor = parametersClass.getMethod( privacySetting );
+                classAccessors.put( privacySetting, accessor );
+            }
+
+            return accessor;
+        }
+    }
+
+    /**
+     * Remembers the consent JSON object and extras built for the current privacy state, and what was last pushed into the InMobi SDK, so the
+     * objects are only rebuilt and the SDK only updated when the GDPR or age-restricted state actually changes. Signal collection runs on a
+     * background thread while loads run on the main thread, so each check and its SDK update happen under one lock.
+     */
+    private static class PrivacyStateCache
+    {
+        // One map per age-restricted state is shared across requests, so the SDK is only handed read-only views of them
+        private static final Map<String, String> extras                 = createExtras( null );
+        private static final Map<String, String> ageRestrictedExtras    = createExtras( true );
+        private static final Map<String, String> notAgeRestrictedExtras = createExtras( false );
+        private static final Object              lock                   = new Object();
+
+        private static volatile CachedConsentObject cachedConsentObject;
+
+        private static JSONObject appliedConsentObject;
+        private static Boolean    appliedAgeRestrictedUser;
+
+        static Map<String, String> getExtras(@Nullable final Boolean isAgeRestrictedUser)
+        {
+            if ( isAgeRestrictedUser == null ) return extras;
+
+            return isAgeRestrictedUser ? ageRestrictedExtras : notAgeRestrictedExtras;
+        }
+
+        @Nullable
+        static JSONObject getConsentObject(final String consentFingerprint)
+        {
+            final CachedConsentObject cachedConsentObject = PrivacyStateCache.cachedConsentObject;
+            if ( cachedConsentObject == null || !cachedConsentObject.fingerprint.equals( consentFingerprint ) ) return null;
+
+            return cachedConsentObject.consentObject;
+        }
+
+        static void putConsentObject(final String consentFingerprint, final JSONObject consentObject)
+        {
+            cachedConsentObject = new CachedConsentObject( consentFingerprint, consentObject );
+        }
+
+        static void initializeSdk(final Context context, final String accountId, final JSONObject consentObject, final SdkInitializationListener listener)
+        {
+            synchronized ( lock )
+            {
+                appliedConsentObject = consentObject;
+            }
+
+            // Initialization can take a while, so it runs outside the lock rather than blocking privacy updates from other threads
+            InMobiSdk.init( context, accountId, consentObject, listener );
+        }
+
+        static void applyConsent(final JSONObject consentObject)
+        {
+            synchronized ( lock )
+            {
+                // Unchanged consent resolves to the same cached instance
+                if ( consentObject == appliedConsentObject ) return;
+
+                InMobiSdk.setPartnerGDPRConsent( consentObject );
+                appliedConsentObject = consentObject;
+            }
+        }
+
+        static void applyAgeRestrictedUser(final boolean isAgeRestrictedUser)
+        {
+            synchronized ( lock )
+            {
+                if ( appliedAgeRestrictedUser != null && appliedAgeRestrictedUser == isAgeRestrictedUser ) return;
+
+                InMobiSdk.setIsAgeRestricted( isAgeRestrictedUser );
+                appliedAgeRestrictedUser = isAgeRestrictedUser;
+            }
+        }
+
+        private static Map<String, String> createExtras(@Nullable final Boolean isAgeRestrictedUser)
+        {
+            final Map<String, String> extras = new HashMap<>( 3 );
+            extras.put( "tp", "c_applovin" );
+            extras.put( "tp-ver", AppLovinSdk.VERSION );
+
+            if ( isAgeRestrictedUser != null )
+            {
+                extras.put( "coppa", isAgeRestrictedUser ? "1" : "0" );
+            }
+
+            return Collections.unmodifiableMap( extras );
+        }
+
+        private static class CachedConsentObject
+        {
+            private final String     fingerprint;
+            private final JSONObject consentObject;
+
+            private CachedConsentObject(final String fingerprint, final JSONObject consentObject)
+            {
+                this.fingerprint = fingerprint;
+                this.consentObject = consentObject;
+            }
+        }
+    }
 }
@@ -24,7 +24,10 @@ import com.ironsource.mediationsdk.utils.IronSourceUtils;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 public class IronSourceMediationAdapter
@@ -285,7 +288,8 @@ public class IronSourceMediationAdapter
             extends MediationAdapterRouter
             implements ISDemandOnlyInterstitialListener, ISDemandOnlyRewardedVideoListener
     {
-        private boolean hasGrantedReward;
+        // Placements whose current show has granted a reward, so concurrent rewarded ads on different placements do not share reward state
+        private final Set<String> rewardGrantedPlacementIds = Collections.newSetFromMap( new ConcurrentHashMap<String, Boolean>() );
 
         void initialize(final MaxAdapterInitializationParameters parameters, final Activity activity, final OnCompletionListener onCompletionListener) { }
 
@@ -338,6 +342,8 @@ public class IronSourceMediationAdapter
             log( "Rewarded ad shown for instance ID: " + instanceId );
 
             final String routerPlacementId = IronSourceRouter.getRewardedVideoRouterIdentifier( instanceId );
+            rewardGrantedPlacementIds.remove( routerPlacementId );
+
             onAdDisplayed( routerPlacementId );
             onRewardedAdVideoStarted( routerPlacementId );
         }
@@ -346,15 +352,13 @@ public class IronSourceMediationAdapter
         public void onRewardedVideoAdClosed(final String instanceId)
         {
             final String routerPlacementId = IronSourceRouter.getRewardedVideoRouterIdentifier( instanceId );
+            final boolean hasGrantedReward = rewardGrantedPlacementIds.remove( routerPlacementId );
             if ( hasGrantedReward || shouldAlwaysRewardUser( routerPlacementId ) )
             {
                 MaxReward reward = getReward( routerPlacementId );
 
                 log( "Rewarded  ad rewarded user with reward: " + reward + " for instance ID: " + instanceId );
                 onUserRewarded( routerPlacementId, reward );
-
-                // clear hasGrantedReward
-                hasGrantedReward = false;
             }
 
             log( "Rewarded ad hidden for instance ID: " + instanceId );
@@ -379,9 +383,11 @@ public class IronSourceMediationAdapter
         public void onRewardedVideoAdRewarded(final String instanceId)
         {
             log( "Rewarded ad granted reward for instance ID: " + instanceId );
-            onRewardedAdVideoCompleted( IronSourceRouter.getRewardedVideoRouterIdentifier( instanceId ) );
 
-            hasGrantedReward = true;
+            final String routerPlacementId = IronSourceRouter.getRewardedVideoRouterIdentifier( instanceId );
+            onRewardedAdVideoCompleted( routerPlacementId );
+
+            rewardGrantedPlacementIds.add( routerPlacementId );
         }
 
         @Override
@@ -5,8 +5,11 @@ import android.content.Context;
 import android.graphics.Bitmap;
 import android.graphics.drawable.BitmapDrawable;
 import android.os.Bundle;
+import android.os.Looper;
+import android.os.MessageQueue;
 import android.text.TextUtils;
 import android.util.DisplayMetrics;
+import android.util.LruCache;
 import android.view.View;
 
 import com.applovin.impl.sdk.utils.BundleUtils;
@@ -44,11 +47,20 @@ import com.five_corp.ad.NeedChildDirectedTreatment;
 import com.five_corp.ad.NeedGdprNonPersonalizedAdsTreatment;
 
 import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import androidx.annotation.Nullable;
+
 public class LineMediationAdapter
         extends MediationAdapterBase
         implements MaxInterstitialAdapter, MaxRewardedAdapter, MaxAdViewAdapter /* MaxNativeAdAdapter */
@@ -753,16 +765,18 @@ public class LineMediationAdapter
 
         private void renderCustomNativeBanner(final String slotId, final Activity activity)
         {
+            final int iconSizePx = AppLovinSdkUtils.dpToPx( getApplicationContext(), NativeAdIconCache.ICON_TARGET_SIZE_DP );
+
             nativeAd.loadIconImageAsync( new FiveAdNative.LoadImageCallback()
             {
                 @Override
                 public void onImageLoad(final Bitmap bitmap)
                 {
-                    // Ensure UI rendering is done on UI thread
-                    AppLovinSdkUtils.runOnUiThread( new Runnable()
+                    // Scale the icon off the main thread - it is handed back on the UI thread, where UI rendering must be done
+                    NativeAdIconCache.prepare( bitmap, iconSizePx, getCachingExecutorService(), new NativeAdIconCache.IconListener()
                     {
                         @Override
-                        public void run()
+                        public void onIconPrepared(@Nullable final Bitmap icon)
                         {
                             FiveAdNative nativeAd = LineMediationAdapter.this.nativeAd;
                             if ( nativeAd == null )
@@ -776,7 +790,7 @@ public class LineMediationAdapter
                                     .setTitle( nativeAd.getAdTitle() )
                                     .setBody( nativeAd.getDescriptionText() )
                                     .setCallToAction( nativeAd.getButtonText() )
-                                    .setIcon( new MaxNativeAd.MaxNativeAdImage( new BitmapDrawable( activity.getResources(), bitmap ) ) )
+                                    .setIcon( new MaxNativeAd.MaxNativeAdImage( new BitmapDrawable( activity.getResources(), icon ) ) )
                                     .setMediaView( nativeAd.getAdMainView() )
                                     .build();
 
@@ -800,7 +814,7 @@ public class LineMediationAdapter
 
                                 if ( AppLovinSdk.VERSION_CODE >= 11010000 )
                                 {
-                                    maxNativeAdView = new MaxNativeAdView( maxNativeAd, verticalTemplateName, getApplicationContext() );
+                                    maxNativeAdView = NativeAdViewPool.create( maxNativeAd, verticalTemplateName, getApplicationContext() );
                                 }
                                 else
                                 {
@@ -811,7 +825,7 @@ public class LineMediationAdapter
                             {
                                 if ( AppLovinSdk.VERSION_CODE >= 11010000 )
                                 {
-                                    maxNativeAdView = new MaxNativeAdView( maxNativeAd, templateName, getApplicationContext() );
+                                    maxNativeAdView = NativeAdViewPool.create( maxNativeAd, templateName, getApplicationContext() );
                                 }
                                 else
                                 {
@@ -899,30 +913,40 @@ public class LineMediationAdapter
                 return;
             }
 
+            final int iconSizePx = AppLovinSdkUtils.dpToPx( activity, NativeAdIconCache.ICON_TARGET_SIZE_DP );
+
             loadedNativeAd.loadIconImageAsync( new FiveAdNative.LoadImageCallback()
             {
                 @Override
                 public void onImageLoad(final Bitmap bitmap)
                 {
-                    FiveAdNative nativeAd = LineMediationAdapter.this.nativeAd;
-                    if ( nativeAd == null )
+                    // Scale the icon off the main thread - it is handed back on the UI thread
+                    NativeAdIconCache.prepare( bitmap, iconSizePx, getCachingExecutorService(), new NativeAdIconCache.IconListener()
                     {
-                        log( "Native ad destroyed before assets finished load for slot id: " + ad.getSlotId() );
-                        return;
-                    }
+                        @Override
+                        public void onIconPrepared(@Nullable final Bitmap icon)
+                        {
+                            FiveAdNative nativeAd = LineMediationAdapter.this.nativeAd;
+                            if ( nativeAd == null )
+                            {
+                                log( "Native ad destroyed before assets finished load for slot id: " + ad.getSlotId() );
+                                return;
+                            }
+
+                            MaxNativeAd.Builder builder = new MaxNativeAd.Builder()
+                                    .setAdFormat( MaxAdFormat.NATIVE )
+                                    .setTitle( nativeAd.getAdTitle() )
+                                    .setBody( nativeAd.getDescriptionText() )
+                                    .setCallToAction( nativeAd.getButtonText() )
+                                    .setAdvertiser( nativeAd.getAdvertiserName() )
+                                    .setIcon( new MaxNativeAd.MaxNativeAdImage( new BitmapDrawable( activity.getResources(), icon ) ) )
+                                    .setMediaView( nativeAd.getAdMainView() )
+                                    .setAdvertiser( nativeAd.getAdvertiserName() );
+                            MaxNativeAd maxNativeAd = new MaxLineNativeAd( builder );
 
-                    MaxNativeAd.Builder builder = new MaxNativeAd.Builder()
-                            .setAdFormat( MaxAdFormat.NATIVE )
-                            .setTitle( nativeAd.getAdTitle() )
-                            .setBody( nativeAd.getDescriptionText() )
-                            .setCallToAction( nativeAd.getButtonText() )
-                            .setAdvertiser( nativeAd.getAdvertiserName() )
-                            .setIcon( new MaxNativeAd.MaxNativeAdImage( new BitmapDrawable( activity.getResources(), bitmap ) ) )
-                            .setMediaView( nativeAd.getAdMainView() )
-                            .setAdvertiser( nativeAd.getAdvertiserName() );
-                    MaxNativeAd maxNativeAd = new MaxLineNativeAd( builder );
-
-                    listener.onNativeAdLoaded( maxNativeAd, null );
+                            listener.onNativeAdLoaded( maxNativeAd, null );
+                        }
+                    } );
                 }
             } );
         }
@@ -1054,4 +1078,227 @@ public class LineMediationAdapter
             nativeAd.registerViews( maxNativeAdView, maxNativeAdView.getIconImageView(), clickableViews );
         }
     }
+
+    /**
+     * Pool of native banner template views keyed by template name, so an auto-refreshing native banner binds its ad into a ready view instead of
+     * inflating the template layout while it loads. The template views need the main looper, so they are still inflated on the main thread - an idle
+     * handler only moves that work out of the load path. Pooled views are freshly inflated and never taken back from a shown ad, so no network click
+     * or impression tracking carries over.
+     * <p>
+     * Binding an ad after inflation needs {@code MaxNativeAdView(String, Context)} and {@code MaxNativeAdView.renderCustomNativeAdView(MaxNativeAd)}.
+     * They are not part of the adapter API and not every SDK version has them, so they are looked up reflectively. Without them, and off the main
+     * thread, a view is created per load as before.
+     */
+    private static class NativeAdViewPool
+    {
+        private static final Constructor<MaxNativeAdView> templateConstructor;
+        private static final Method                       renderMethod;
+
+        // Only accessed on the main thread
+        private static final Map<String, MaxNativeAdView> pooledViews       = new HashMap<>();
+        private static final Set<String>                  pendingInflations = new HashSet<>();
+
+        static
+        {
+            Constructor<MaxNativeAdView> constructor = null;
+            Method method = null;
+            try
+            {
+                constructor = MaxNativeAdView.class.getConstructor( String.class, Context.class );
+                method = MaxNativeAdView.class.getMethod( "renderCustomNativeAdView", MaxNativeAd.class );
+            }
+            catch ( Throwable ignored )
+            {
+                constructor = null;
+                method = null;
+            }
+
+            templateConstructor = constructor;
+            renderMethod = method;
+        }
+
+        static MaxNativeAdView create(final MaxNativeAd maxNativeAd, final String templateName, final Context context)
+        {
+            // Only pool views of the application context so pooled views never hold on to an activity
+            if ( renderMethod != null && context == context.getApplicationContext() && Looper.myLooper() == Looper.getMainLooper() )
+            {
+                final MaxNativeAdView pooledView = pooledViews.remove( templateName );
+
+                // Inflate the view for the next load once the main thread is idle
+                scheduleInflation( templateName, context );
+
+                if ( pooledView != null && render( pooledView, maxNativeAd ) ) return pooledView;
+            }
+
+            return new MaxNativeAdView( maxNativeAd, templateName, context );
+        }
+
+        private static boolean render(final MaxNativeAdView maxNativeAdView, final MaxNativeAd maxNativeAd)
+        {
+            try
+            {
+                renderMethod.invoke( maxNativeAdView, maxNativeAd );
+                return true;
+            }
+            catch ( Throwable th )
+            {
+                return false;
+            }
+        }
+
+        private static void scheduleInflation(final String templateName, final Context context)
+        {
+            if ( !pendingInflations.add( templateName ) ) return;
+
+            // Only called on the main thread, so this is the main looper's queue
+            Looper.myQueue().addIdleHandler( new MessageQueue.IdleHandler()
+            {
+                @Override
+                public boolean queueIdle()
+                {
+                    pendingInflations.remove( templateName );
+
+                    if ( !pooledViews.containsKey( templateName ) )
+                    {
+                        try
+                        {
+                            pooledViews.put( templateName, templateConstructor.newInstance( templateName, context ) );
+                        }
+                        catch ( Throwable ignored )
+                        {
+                            // Fall back to inflating the template on the next load
+                        }
+                    }
+
+                    return false;
+                }
+            } );
+        }
+    }
+
+    /**
+     * Scales Line native ad icons down to the size they are rendered at off the main thread, and keeps the scaled icons in a size-bounded
+     * memory LRU so serving the same creative again reuses the prepared icon. Five does not expose a creative id and decodes a new bitmap for
+     * every ad, so entries are keyed on the source pixels, hashed on the executor, rather than on the bitmap instance.
+     */
+    private static class NativeAdIconCache
+    {
+        private static final int MEMORY_CACHE_MAX_BYTES = 2 * 1024 * 1024;
+
+        private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+        private static final long FNV_PRIME        = 0x100000001b3L;
+
+        static final int ICON_TARGET_SIZE_DP = 80;
+
+        private static final LruCache<String, Bitmap> memoryCache = new LruCache<String, Bitmap>( (int) Math.min( MEMORY_CACHE_MAX_BYTES, Runtime.getRuntime().maxMemory() / 64 ) )
+        {
+            @Override
+            protected int sizeOf(final String key, final Bitmap icon)
+            {
+                return icon.getByteCount();
+            }
+        };
+
+        interface IconListener
+        {
+            /**
+             * Called on the UI thread with the icon scaled to the target size, or {@code null} if the ad has no icon.
+             */
+            void onIconPrepared(@Nullable Bitmap icon);
+        }
+
+        static void prepare(@Nullable final Bitmap bitmap, final int targetSizePx, final Executor executor, final IconListener listener)
+        {
+            if ( bitmap == null )
+            {
+                deliver( null, listener );
+                return;
+            }
+
+            final Runnable scaleTask = new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    final Bitmap icon = getScaledIcon( bitmap, targetSizePx );
+
+                    // Upload the bitmap to the GPU ahead of its first draw
+                    icon.prepareToDraw();
+
+                    deliver( icon, listener );
+                }
+            };
+
+            try
+            {
+                executor.execute( scaleTask );
+            }
+            catch ( RejectedExecutionException ex )
+            {
+                deliver( bitmap, listener );
+            }
+        }
+
+        private static Bitmap getScaledIcon(final Bitmap bitmap, final int targetSizePx)
+        {
+            // Icons already at or below the target size are used as is - the source bitmap belongs to Five, so there is nothing to hash or cache
+            if ( targetSizePx <= 0 || Math.min( bitmap.getWidth(), bitmap.getHeight() ) <= targetSizePx ) return bitmap;
+
+            final String cacheKey = getCacheKey( bitmap, targetSizePx );
+            Bitmap icon = memoryCache.get( cacheKey );
+            if ( icon == null )
+            {
+                icon = scale( bitmap, targetSizePx );
+                memoryCache.put( cacheKey, icon );
+            }
+
+            return icon;
+        }
+
+        /**
+         * Builds a key from the source dimensions, config and a 64-bit FNV-1a hash of its pixels. Hashing reads the pixels one row at a time,
+         * which costs less than the filtered scale it saves and avoids copying the whole bitmap.
+         */
+        private static String getCacheKey(final Bitmap bitmap, final int targetSizePx)
+        {
+            final int width = bitmap.getWidth();
+            final int height = bitmap.getHeight();
+            final int[] row = new int[width];
+
+            long hash = FNV_OFFSET_BASIS;
+            for ( int y = 0; y < height; y++ )
+            {
+                bitmap.getPixels( row, 0, width, 0, y, width, 1 );
+                for ( final int pixel : row )
+                {
+                    hash = ( hash ^ pixel ) * FNV_PRIME;
+                }
+            }
+
+            return width + "x" + height + ":" + bitmap.getConfig() + ":" + Long.toHexString( hash ) + "@" + targetSizePx;
+        }
+
+        private static Bitmap scale(final Bitmap bitmap, final int targetSizePx)
+        {
+            final int width = bitmap.getWidth();
+            final int height = bitmap.getHeight();
+            final int smallerSide = Math.min( width, height );
+
+            // Scale the smaller side down to the target size, keeping the aspect ratio
+            final float scale = (float) targetSizePx / smallerSide;
+            return Bitmap.createScaledBitmap( bitmap, Math.max( 1, Math.round( width * scale ) ), Math.max( 1, Math.round( height * scale ) ), true );
+        }
+
+        private static void deliver(@Nullable final Bitmap icon, final IconListener listener)
+        {
+            AppLovinSdkUtils.runOnUiThread( new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    listener.onIconPrepared( icon );
+                }
+            } );
+        }
+    }
 }
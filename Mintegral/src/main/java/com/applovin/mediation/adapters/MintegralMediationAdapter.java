@@ -2,10 +2,18 @@ package com.applovin.mediation.adapters;
 
 import android.app.Activity;
 import android.content.Context;
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
 import android.net.Uri;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.text.TextUtils;
+import android.util.LruCache;
 import android.view.View;
 
 import com.applovin.impl.sdk.utils.BundleUtils;
@@ -53,14 +61,33 @@ import com.mbridge.msdk.out.RewardInfo;
 import com.mbridge.msdk.out.RewardVideoListener;
 import com.mbridge.msdk.widget.MBAdChoice;
 
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Method;
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Future;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import androidx.annotation.Nullable;
 
 public class MintegralMediationAdapter
         extends MediationAdapterBase
@@ -100,19 +127,51 @@ public class MintegralMediationAdapter
     private final static String EXCEPTION_APP_ID_EMPTY            = "EXCEPTION_APP_ID_EMPTY"; // appID is empty
     private final static String EXCEPTION_APP_NOT_FOUND           = "EXCEPTION_APP_NOT_FOUND"; // Can not find the appId
 
+    // NOTE: Mostly substring rules since Mintegral prepends the message with `data load failed, errorMsg is `... - earlier rules take precedence
+    private static final ErrorMessageClassifier errorMessageClassifier = new ErrorMessageClassifier()
+            .addExactMatch( NOT_INITIALIZED, MaxAdapterError.NOT_INITIALIZED )
+            .addSubstringMatch( EXCEPTION_IV_RECALLNET_INVALIDATE, MaxAdapterError.NOT_INITIALIZED )
+            .addSubstringMatch( NO_FILL_1, MaxAdapterError.NO_FILL )
+            .addSubstringMatch( NO_FILL_2, MaxAdapterError.NO_FILL )
+            .addSubstringMatch( NO_FILL_3, MaxAdapterError.NO_FILL )
+            .addSubstringMatch( NO_FILL_4, MaxAdapterError.NO_FILL )
+            .addSubstringMatch( NO_FILL_5, MaxAdapterError.NO_FILL )
+            .addSubstringMatch( EXCEPTION_RETURN_EMPTY, MaxAdapterError.NO_FILL )
+            .addExactMatchIgnoreCase( NETWORK_ERROR, MaxAdapterError.NO_CONNECTION )
+            .addSubstringMatch( NETWORK_IO_ERROR, MaxAdapterError.NO_CONNECTION )
+            .addExactMatchIgnoreCase( BAD_REQUEST, MaxAdapterError.BAD_REQUEST )
+            .addExactMatchIgnoreCase( TIMEOUT, MaxAdapterError.TIMEOUT )
+            .addSubstringMatch( EXCEPTION_TIMEOUT, MaxAdapterError.TIMEOUT )
+            .addSubstringMatch( EXCEPTION_SIGN_ERROR, MaxAdapterError.INVALID_CONFIGURATION )
+            .addSubstringMatch( EXCEPTION_UNIT_NOT_FOUND, MaxAdapterError.INVALID_CONFIGURATION )
+            .addSubstringMatch( EXCEPTION_UNIT_ID_EMPTY, MaxAdapterError.INVALID_CONFIGURATION )
+            .addSubstringMatch( EXCEPTION_UNIT_NOT_FOUND_IN_APP, MaxAdapterError.INVALID_CONFIGURATION )
+            .addSubstringMatch( EXCEPTION_UNIT_ADTYPE_ERROR, MaxAdapterError.INVALID_CONFIGURATION )
+            .addSubstringMatch( EXCEPTION_APP_ID_EMPTY, MaxAdapterError.INVALID_CONFIGURATION )
+            .addSubstringMatch( EXCEPTION_APP_NOT_FOUND, MaxAdapterError.INVALID_CONFIGURATION )
+            .addSubstringMatch( UNIT_ID_EMPTY, MaxAdapterError.INVALID_CONFIGURATION )
+            .compile();
+
     private static String sSdkVersion;
 
     private static final int DEFAULT_IMAGE_TASK_TIMEOUT_SECONDS = 5; // Mintegral ad load timeout is 10s, so this is 5s.
 
     // Mintegral suggested we keep a map of unit id -> handler to prevent re-creation / high error rates - https://app.asana.com/0/573104092700345/1166998599374502
-    private static final Map<String, MBInterstitialVideoHandler>    mbInterstitialVideoHandlers    = new HashMap<>();
-    private static final Map<String, MBBidInterstitialVideoHandler> mbBidInterstitialVideoHandlers = new HashMap<>();
-    private static final Map<String, MBRewardVideoHandler>          mbRewardVideoHandlers          = new HashMap<>();
-    private static final Map<String, MBBidRewardVideoHandler>       mbBidRewardVideoHandlers       = new HashMap<>();
+    private static final HandlerRegistry<MBInterstitialVideoHandler>    mbInterstitialVideoHandlers    = new HandlerRegistry<>();
+    private static final HandlerRegistry<MBBidInterstitialVideoHandler> mbBidInterstitialVideoHandlers = new HandlerRegistry<>();
+    private static final HandlerRegistry<MBRewardVideoHandler>          mbRewardVideoHandlers          = new HandlerRegistry<>();
+    private static final HandlerRegistry<MBBidRewardVideoHandler>       mbBidRewardVideoHandlers       = new HandlerRegistry<>();
+
+    // Adapters whose full-screen ad is on screen, keyed by unit id, so the router can release their handler once the ad closes or fails to show
+    private static final Map<String, MintegralMediationAdapter> showingAdapters = new ConcurrentHashMap<>();
 
     // Used by the mediation adapter router
     private String mbUnitId;
 
+    // The full-screen handler registration this adapter currently holds, released once the ad closes or fails to show, or the adapter is destroyed
+    private HandlerRegistry<?> acquiredHandlerRegistry;
+    private String             acquiredHandlerUnitId;
+
     // Supports video, interactive, and banner ad formats
     private MBInterstitialVideoHandler    mbInterstitialVideoHandler;
     private MBBidInterstitialVideoHandler mbBidInterstitialVideoHandler;
@@ -195,6 +254,13 @@ public class MintegralMediationAdapter
     @Override
     public void onDestroy()
     {
+        if ( mbUnitId != null )
+        {
+            showingAdapters.remove( mbUnitId, this );
+        }
+
+        releaseHandler();
+
         if ( mbInterstitialVideoHandler != null )
         {
             mbInterstitialVideoHandler.setInterstitialVideoListener( null );
@@ -263,15 +329,18 @@ public class MintegralMediationAdapter
         {
             log( "Loading bidding interstitial ad for unit id: " + mbUnitId + " and placement id: " + placementId + "..." );
 
-            if ( mbBidInterstitialVideoHandlers.containsKey( mbUnitId ) )
-            {
-                mbBidInterstitialVideoHandler = mbBidInterstitialVideoHandlers.get( mbUnitId );
-            }
-            else
+            releaseHandler();
+
+            mbBidInterstitialVideoHandler = mbBidInterstitialVideoHandlers.acquire( mbUnitId, new HandlerRegistry.Factory<MBBidInterstitialVideoHandler>()
             {
-                mbBidInterstitialVideoHandler = new MBBidInterstitialVideoHandler( activity, placementId, mbUnitId );
-                mbBidInterstitialVideoHandlers.put( mbUnitId, mbBidInterstitialVideoHandler );
-            }
+                @Override
+                public MBBidInterstitialVideoHandler create()
+                {
+                    return new MBBidInterstitialVideoHandler( activity, placementId, mbUnitId );
+                }
+            } );
+            acquiredHandlerRegistry = mbBidInterstitialVideoHandlers;
+            acquiredHandlerUnitId = mbUnitId;
 
             mbBidInterstitialVideoHandler.setInterstitialVideoListener( router.getInterstitialListener() );
 
@@ -304,15 +373,18 @@ public class MintegralMediationAdapter
         {
             log( "Loading mediated interstitial ad for unit id: " + mbUnitId + " and placement id: " + placementId + "..." );
 
-            if ( mbInterstitialVideoHandlers.containsKey( mbUnitId ) )
-            {
-                mbInterstitialVideoHandler = mbInterstitialVideoHandlers.get( mbUnitId );
-            }
-            else
+            releaseHandler();
+
+            mbInterstitialVideoHandler = mbInterstitialVideoHandlers.acquire( mbUnitId, new HandlerRegistry.Factory<MBInterstitialVideoHandler>()
             {
-                mbInterstitialVideoHandler = new MBInterstitialVideoHandler( activity, placementId, mbUnitId );
-                mbInterstitialVideoHandlers.put( mbUnitId, mbInterstitialVideoHandler );
-            }
+                @Override
+                public MBInterstitialVideoHandler create()
+                {
+                    return new MBInterstitialVideoHandler( activity, placementId, mbUnitId );
+                }
+            } );
+            acquiredHandlerRegistry = mbInterstitialVideoHandlers;
+            acquiredHandlerUnitId = mbUnitId;
 
             mbInterstitialVideoHandler.setInterstitialVideoListener( router.getInterstitialListener() );
 
@@ -351,11 +423,13 @@ public class MintegralMediationAdapter
         if ( mbBidInterstitialVideoHandler != null && mbBidInterstitialVideoHandler.isBidReady() )
         {
             log( "Showing bidding interstitial..." );
+            showingAdapters.put( mbUnitId, this );
             mbBidInterstitialVideoHandler.showFromBid();
         }
         else if ( mbInterstitialVideoHandler != null && mbInterstitialVideoHandler.isReady() )
         {
             log( "Showing mediated interstitial..." );
+            showingAdapters.put( mbUnitId, this );
             mbInterstitialVideoHandler.show();
         }
         else
@@ -383,15 +457,18 @@ public class MintegralMediationAdapter
         {
             log( "Loading bidding rewarded ad for unit id: " + mbUnitId + " and placement id: " + placementId + "..." );
 
-            if ( mbBidRewardVideoHandlers.containsKey( mbUnitId ) )
-            {
-                mbBidRewardVideoHandler = mbBidRewardVideoHandlers.get( mbUnitId );
-            }
-            else
+            releaseHandler();
+
+            mbBidRewardVideoHandler = mbBidRewardVideoHandlers.acquire( mbUnitId, new HandlerRegistry.Factory<MBBidRewardVideoHandler>()
             {
-                mbBidRewardVideoHandler = new MBBidRewardVideoHandler( activity, placementId, mbUnitId );
-                mbBidRewardVideoHandlers.put( mbUnitId, mbBidRewardVideoHandler );
-            }
+                @Override
+                public MBBidRewardVideoHandler create()
+                {
+                    return new MBBidRewardVideoHandler( activity, placementId, mbUnitId );
+                }
+            } );
+            acquiredHandlerRegistry = mbBidRewardVideoHandlers;
+            acquiredHandlerUnitId = mbUnitId;
 
             mbBidRewardVideoHandler.setRewardVideoListener( router.getRewardedListener() );
 
@@ -424,15 +501,18 @@ public class MintegralMediationAdapter
         {
             log( "Loading mediated rewarded ad for unit id: " + mbUnitId + " and placement id: " + placementId + "..." );
 
-            if ( mbRewardVideoHandlers.containsKey( mbUnitId ) )
-            {
-                mbRewardVideoHandler = mbRewardVideoHandlers.get( mbUnitId );
-            }
-            else
+            releaseHandler();
+
+            mbRewardVideoHandler = mbRewardVideoHandlers.acquire( mbUnitId, new HandlerRegistry.Factory<MBRewardVideoHandler>()
             {
-                mbRewardVideoHandler = new MBRewardVideoHandler( activity, placementId, mbUnitId );
-                mbRewardVideoHandlers.put( mbUnitId, mbRewardVideoHandler );
-            }
+                @Override
+                public MBRewardVideoHandler create()
+                {
+                    return new MBRewardVideoHandler( activity, placementId, mbUnitId );
+                }
+            } );
+            acquiredHandlerRegistry = mbRewardVideoHandlers;
+            acquiredHandlerUnitId = mbUnitId;
 
             mbRewardVideoHandler.setRewardVideoListener( router.getRewardedListener() );
 
@@ -478,11 +558,13 @@ public class MintegralMediationAdapter
         if ( mbBidRewardVideoHandler != null && mbBidRewardVideoHandler.isBidReady() )
         {
             log( "Showing bidding rewarded ad..." );
+            showingAdapters.put( mbUnitId, this );
             mbBidRewardVideoHandler.showFromBid( rewardId, userId );
         }
         else if ( mbRewardVideoHandler != null && mbRewardVideoHandler.isReady() )
         {
             log( "Showing mediated rewarded ad..." );
+            showingAdapters.put( mbUnitId, this );
             mbRewardVideoHandler.show( rewardId, userId );
         }
         else
@@ -626,39 +708,7 @@ public class MintegralMediationAdapter
 
     private static MaxAdapterError toMaxError(final String mintegralError)
     {
-        // Note: we are using `contains()` in some cases b/c Mintegral prepends the message with `data load failed, errorMsg is `...
-
-        final MaxAdapterError adapterError;
-        if ( NOT_INITIALIZED.equals( mintegralError ) || mintegralError.contains( EXCEPTION_IV_RECALLNET_INVALIDATE ) )
-        {
-            adapterError = MaxAdapterError.NOT_INITIALIZED;
-        }
-        else if ( mintegralError.contains( NO_FILL_1 ) || mintegralError.contains( NO_FILL_2 )
-                || mintegralError.contains( NO_FILL_3 ) || mintegralError.contains( NO_FILL_4 )
-                || mintegralError.contains( NO_FILL_5 ) || mintegralError.contains( EXCEPTION_RETURN_EMPTY ) )
-        {
-            adapterError = MaxAdapterError.NO_FILL;
-        }
-        else if ( NETWORK_ERROR.equalsIgnoreCase( mintegralError ) || mintegralError.contains( NETWORK_IO_ERROR ) )
-        {
-            adapterError = MaxAdapterError.NO_CONNECTION;
-        }
-        else if ( BAD_REQUEST.equalsIgnoreCase( mintegralError ) )
-        {
-            adapterError = MaxAdapterError.BAD_REQUEST;
-        }
-        else if ( TIMEOUT.equalsIgnoreCase( mintegralError ) || mintegralError.contains( EXCEPTION_TIMEOUT ) )
-        {
-            adapterError = MaxAdapterError.TIMEOUT;
-        }
-        else if ( mintegralError.contains( EXCEPTION_SIGN_ERROR ) || mintegralError.contains( EXCEPTION_UNIT_NOT_FOUND ) || mintegralError.contains( EXCEPTION_UNIT_ID_EMPTY ) || mintegralError.contains( EXCEPTION_UNIT_NOT_FOUND_IN_APP ) || mintegralError.contains( EXCEPTION_UNIT_ADTYPE_ERROR ) || mintegralError.contains( EXCEPTION_APP_ID_EMPTY ) || mintegralError.contains( EXCEPTION_APP_NOT_FOUND ) || mintegralError.contains( UNIT_ID_EMPTY ) )
-        {
-            adapterError = MaxAdapterError.INVALID_CONFIGURATION;
-        }
-        else
-        {
-            adapterError = MaxAdapterError.UNSPECIFIED;
-        }
+        final MaxAdapterError adapterError = errorMessageClassifier.classify( mintegralError );
 
         return new MaxAdapterError( adapterError.getErrorCode(), adapterError.getErrorMessage(), 0, mintegralError );
     }
@@ -669,6 +719,25 @@ public class MintegralMediationAdapter
         return ( activity != null ) ? activity.getApplicationContext() : getApplicationContext();
     }
 
+    private static void releaseShownHandler(final String unitId)
+    {
+        final MintegralMediationAdapter adapter = showingAdapters.remove( unitId );
+        if ( adapter != null )
+        {
+            adapter.releaseHandler();
+        }
+    }
+
+    private synchronized void releaseHandler()
+    {
+        if ( acquiredHandlerRegistry != null )
+        {
+            acquiredHandlerRegistry.release( acquiredHandlerUnitId );
+            acquiredHandlerRegistry = null;
+            acquiredHandlerUnitId = null;
+        }
+    }
+
     private BannerSize toBannerSize(final MaxAdFormat adFormat)
     {
         if ( adFormat == MaxAdFormat.BANNER || adFormat == MaxAdFormat.LEADER )
@@ -701,12 +770,12 @@ public class MintegralMediationAdapter
                 MBInterstitialVideoHandler mbInterstitialVideoHandler = MintegralMediationAdapter.mbInterstitialVideoHandlers.get( unitId );
                 MBBidInterstitialVideoHandler mbBidInterstitialVideoHandler = MintegralMediationAdapter.mbBidInterstitialVideoHandlers.get( unitId );
 
-                String requestId;
+                String requestId = null;
                 if ( mbBidInterstitialVideoHandler != null )
                 {
                     requestId = mbBidInterstitialVideoHandler.getRequestId();
                 }
-                else
+                else if ( mbInterstitialVideoHandler != null )
                 {
                     requestId = mbInterstitialVideoHandler.getRequestId();
                 }
@@ -751,6 +820,7 @@ public class MintegralMediationAdapter
             {
                 MaxAdapterError adapterError = new MaxAdapterError( -4205, "Ad Display Failed", 0, errorMsg );
                 log( "Interstitial failed to show: " + adapterError );
+                releaseShownHandler( mBridgeIds.getUnitId() );
                 onAdDisplayFailed( mBridgeIds.getUnitId(), adapterError );
             }
 
@@ -765,6 +835,7 @@ public class MintegralMediationAdapter
             public void onAdClose(final MBridgeIds mBridgeIds, RewardInfo rewardInfo)
             {
                 log( "Interstitial hidden" );
+                releaseShownHandler( mBridgeIds.getUnitId() );
                 onAdHidden( mBridgeIds.getUnitId() );
             }
 
@@ -799,12 +870,12 @@ public class MintegralMediationAdapter
                 MBRewardVideoHandler mbRewardVideoHandler = MintegralMediationAdapter.mbRewardVideoHandlers.get( unitId );
                 MBBidRewardVideoHandler mbBidRewardVideoHandler = MintegralMediationAdapter.mbBidRewardVideoHandlers.get( unitId );
 
-                String requestId;
+                String requestId = null;
                 if ( mbBidRewardVideoHandler != null )
                 {
                     requestId = mbBidRewardVideoHandler.getRequestId();
                 }
-                else
+                else if ( mbRewardVideoHandler != null )
                 {
                     requestId = mbRewardVideoHandler.getRequestId();
                 }
@@ -852,6 +923,7 @@ public class MintegralMediationAdapter
             {
                 MaxAdapterError adapterError = new MaxAdapterError( -4205, "Ad Display Failed", 0, errorMsg );
                 log( "Rewarded ad failed to show: " + adapterError );
+                releaseShownHandler( mBridgeIds.getUnitId() );
                 onAdDisplayFailed( mBridgeIds.getUnitId(), adapterError );
             }
 
@@ -878,6 +950,7 @@ public class MintegralMediationAdapter
                     onUserRewarded( unitId, getReward( unitId ) );
                 }
 
+                releaseShownHandler( unitId );
                 onAdHidden( unitId );
             }
 
@@ -1037,65 +1110,53 @@ public class MintegralMediationAdapter
 
         private void processNativeAd(final Campaign campaign)
         {
-            getCachingExecutorService().submit( new Runnable()
+            final String iconUrl = campaign.getIconUrl();
+            final String mainImageUrl = campaign.getImageUrl();
+
+            final int iconSizePx = AppLovinSdkUtils.dpToPx( context, NativeAdImagePipeline.ICON_TARGET_SIZE_DP );
+            final int imageTaskTimeoutSeconds = BundleUtils.getInt( "image_task_timeout_seconds", DEFAULT_IMAGE_TASK_TIMEOUT_SECONDS, parameters.getServerParameters() );
+
+            // The main image is rendered from its URI by the SDK, so only the icon needs to be fetched
+            NativeAdImagePipeline.loadAssets( iconUrl, iconSizePx, null, 0, imageTaskTimeoutSeconds, context, getCachingExecutorService(), new NativeAdImagePipeline.AssetsListener()
             {
                 @Override
-                public void run()
+                public void onAssetsLoaded(@Nullable final Drawable iconDrawable, @Nullable final Drawable mainImageDrawable)
                 {
-                    final String iconUrl = campaign.getIconUrl();
-                    final String mainImageUrl = campaign.getImageUrl();
-                    final Future<Drawable> iconDrawableFuture = createDrawableFuture( iconUrl, context.getResources() );
-
                     MaxNativeAd.MaxNativeAdImage iconImage = null;
-                    Uri uri = Uri.parse( mainImageUrl );
-                    final MaxNativeAd.MaxNativeAdImage mainImage = new MaxNativeAd.MaxNativeAdImage( uri );
-
-                    try
+                    if ( iconDrawable != null )
                     {
-                        final int imageTaskTimeoutSeconds = BundleUtils.getInt( "image_task_timeout_seconds", DEFAULT_IMAGE_TASK_TIMEOUT_SECONDS, parameters.getServerParameters() );
-                        final Drawable iconDrawable = iconDrawableFuture.get( imageTaskTimeoutSeconds, TimeUnit.SECONDS );
-
-                        if ( iconDrawable != null )
-                        {
-                            iconImage = new MaxNativeAd.MaxNativeAdImage( iconDrawable );
-                        }
+                        iconImage = new MaxNativeAd.MaxNativeAdImage( iconDrawable );
                     }
-                    catch ( Throwable th )
+                    else
                     {
-                        log( "Failed to fetch icon image from URL: " + iconUrl, th );
+                        log( "Failed to fetch icon image from URL: " + iconUrl );
                     }
 
-                    // `iconImage` must be final to be used inside the Runnable.
-                    final MaxNativeAd.MaxNativeAdImage finalIconImage = iconImage;
-                    AppLovinSdkUtils.runOnUiThread( new Runnable()
+                    Uri uri = Uri.parse( mainImageUrl );
+                    final MaxNativeAd.MaxNativeAdImage mainImage = new MaxNativeAd.MaxNativeAdImage( uri );
+
+                    final MBMediaView mediaView = new MBMediaView( context );
+                    mediaView.setNativeAd( campaign );
+                    mediaView.setOnMediaViewListener( NativeAdListener.this );
+
+                    final MBAdChoice adChoiceView = new MBAdChoice( context );
+                    adChoiceView.setCampaign( campaign );
+
+                    MaxNativeAd.Builder builder = new MaxNativeAd.Builder()
+                            .setAdFormat( MaxAdFormat.NATIVE )
+                            .setTitle( campaign.getAppName() )
+                            .setBody( campaign.getAppDesc() )
+                            .setCallToAction( campaign.getAdCall() )
+                            .setIcon( iconImage )
+                            .setMediaView( mediaView )
+                            .setOptionsView( adChoiceView );
+                    if ( AppLovinSdk.VERSION_CODE >= 11_04_03_99 )
                     {
-                        @Override
-                        public void run()
-                        {
-                            final MBMediaView mediaView = new MBMediaView( context );
-                            mediaView.setNativeAd( campaign );
-                            mediaView.setOnMediaViewListener( NativeAdListener.this );
-
-                            final MBAdChoice adChoiceView = new MBAdChoice( context );
-                            adChoiceView.setCampaign( campaign );
-
-                            MaxNativeAd.Builder builder = new MaxNativeAd.Builder()
-                                    .setAdFormat( MaxAdFormat.NATIVE )
-                                    .setTitle( campaign.getAppName() )
-                                    .setBody( campaign.getAppDesc() )
-                                    .setCallToAction( campaign.getAdCall() )
-                                    .setIcon( finalIconImage )
-                                    .setMediaView( mediaView )
-                                    .setOptionsView( adChoiceView );
-                            if ( AppLovinSdk.VERSION_CODE >= 11_04_03_99 )
-                            {
-                                builder.setMainImage( mainImage );
-                            }
+                        builder.setMainImage( mainImage );
+                    }
 
-                            final MaxNativeAd maxNativeAd = new MaxMintegralNativeAd( builder );
-                            listener.onNativeAdLoaded( maxNativeAd, null );
-                        }
-                    } );
+                    final MaxNativeAd maxNativeAd = new MaxMintegralNativeAd( builder );
+                    listener.onNativeAdLoaded( maxNativeAd, null );
                 }
             } );
         }
@@ -1146,4 +1207,722 @@ public class MintegralMediationAdapter
             MintegralMediationAdapter.this.clickableViews = clickableViews;
         }
     }
+
+    /**
+     * Maps Mintegral error messages to {@link MaxAdapterError}s in a single pass over the message. Substring rules are compiled once into an
+     * Aho-Corasick automaton, and when several rules match, the one added first wins - the same precedence as a chain of {@code if} checks.
+     */
+    private static class ErrorMessageClassifier
+    {
+        private final List<String>          exactMessages           = new ArrayList<>();
+        private final List<Boolean>         exactMessagesIgnoreCase = new ArrayList<>();
+        private final List<Integer>         exactRuleIndices        = new ArrayList<>();
+        private final List<String>          substrings              = new ArrayList<>();
+        private final List<Integer>         substringRuleIndices    = new ArrayList<>();
+        private final List<MaxAdapterError> ruleErrors              = new ArrayList<>();
+
+        // Compiled automaton: characters are remapped to a compact alphabet, and each state records the best rule matched on reaching it
+        private int[]   charClasses;
+        private int[][] transitions;
+        private int[]   stateRuleIndices;
+
+        ErrorMessageClassifier addExactMatch(final String message, final MaxAdapterError error)
+        {
+            return addExactMatch( message, false, error );
+        }
+
+        ErrorMessageClassifier addExactMatchIgnoreCase(final String message, final MaxAdapterError error)
+        {
+            return addExactMatch( message, true, error );
+        }
+
+        ErrorMessageClassifier addSubstringMatch(final String substring, final MaxAdapterError error)
+        {
+            substrings.add( substring );
+            substringRuleIndices.add( ruleErrors.size() );
+            ruleErrors.add( error );
+
+            return this;
+        }
+
+        ErrorMessageClassifier compile()
+        {
+            // Build the compact alphabet - class 0 is every character that appears in no substring
+            int maxChar = 0;
+            for ( final String substring : substrings )
+            {
+                for ( int i = 0; i < substring.length(); i++ )
+                {
+                    maxChar = Math.max( maxChar, substring.charAt( i ) );
+                }
+            }
+
+            charClasses = new int[maxChar + 1];
+            int classCount = 1;
+            for ( final String substring : substrings )
+            {
+                for ( int i = 0; i < substring.length(); i++ )
+                {
+                    final char c = substring.charAt( i );
+                    if ( charClasses[c] == 0 )
+                    {
+                        charClasses[c] = classCount++;
+                    }
+                }
+            }
+
+            // Build the trie
+            final List<int[]> gotoTable = new ArrayList<>();
+            final List<Integer> ruleIndices = new ArrayList<>();
+            gotoTable.add( newTransitionRow( classCount ) );
+            ruleIndices.add( Integer.MAX_VALUE );
+
+            for ( int i = 0; i < substrings.size(); i++ )
+            {
+                final String substring = substrings.get( i );
+
+                int state = 0;
+                for ( int j = 0; j < substring.length(); j++ )
+                {
+                    final int charClass = charClasses[substring.charAt( j )];
+                    if ( gotoTable.get( state )[charClass] == -1 )
+                    {
+                        gotoTable.get( state )[charClass] = gotoTable.size();
+                        gotoTable.add( newTransitionRow( classCount ) );
+                        ruleIndices.add( Integer.MAX_VALUE );
+                    }
+
+                    state = gotoTable.get( state )[charClass];
+                }
+
+                ruleIndices.set( state, Math.min( ruleIndices.get( state ), substringRuleIndices.get( i ) ) );
+            }
+
+            // Turn the trie into a DFA breadth-first, following failure links so matching never backtracks
+            transitions = gotoTable.toArray( new int[gotoTable.size()][] );
+            stateRuleIndices = new int[transitions.length];
+            final int[] failureStates = new int[transitions.length];
+            final int[] queue = new int[transitions.length];
+            int head = 0;
+            int tail = 0;
+
+            stateRuleIndices[0] = ruleIndices.get( 0 );
+            for ( int charClass = 0; charClass < classCount; charClass++ )
+            {
+                final int nextState = transitions[0][charClass];
+                if ( nextState == -1 )
+                {
+                    transitions[0][charClass] = 0;
+                }
+                else
+                {
+                    failureStates[nextState] = 0;
+                    queue[tail++] = nextState;
+                }
+            }
+
+            while ( head < tail )
+            {
+                final int state = queue[head++];
+                stateRuleIndices[state] = Math.min( ruleIndices.get( state ), stateRuleIndices[failureStates[state]] );
+
+                for ( int charClass = 0; charClass < classCount; charClass++ )
+                {
+                    final int nextState = transitions[state][charClass];
+                    if ( nextState == -1 )
+                    {
+                        transitions[state][charClass] = transitions[failureStates[state]][charClass];
+                    }
+                    else
+                    {
+                        failureStates[nextState] = transitions[failureStates[state]][charClass];
+                        queue[tail++] = nextState;
+                    }
+                }
+            }
+
+            return this;
+        }
+
+        MaxAdapterError classify(@Nullable final String message)
+        {
+            if ( message == null ) return MaxAdapterError.UNSPECIFIED;
+
+            int bestRuleIndex = Integer.MAX_VALUE;
+            for ( int i = 0; i < exactMessages.size(); i++ )
+            {
+                final String exactMessage = exactMessages.get( i );
+                final boolean isMatch = exactMessagesIgnoreCase.get( i ) ? exactMessage.equalsIgnoreCase( message ) : exactMessage.equals( message );
+                if ( isMatch )
+                {
+                    bestRuleIndex = Math.min( bestRuleIndex, exactRuleIndices.get( i ) );
+                }
+            }
+
+            int state = 0;
+            for ( int i = 0; i < message.length() && bestRuleIndex > 0; i++ )
+            {
+                final char c = message.charAt( i );
+                state = transitions[state][( c < charClasses.length ) ? charClasses[c] : 0];
+                bestRuleIndex = Math.min( bestRuleIndex, stateRuleIndices[state] );
+            }
+
+            return ( bestRuleIndex != Integer.MAX_VALUE ) ? ruleErrors.get( bestRuleIndex ) : MaxAdapterError.UNSPECIFIED;
+        }
+
+        private ErrorMessageClassifier addExactMatch(final String message, final boolean ignoreCase, final MaxAdapterError error)
+        {
+            exactMessages.add( message );
+            exactMessagesIgnoreCase.add( ignoreCase );
+            exactRuleIndices.add( ruleErrors.size() );
+            ruleErrors.add( error );
+
+            return this;
+        }
+
+        private static int[] newTransitionRow(final int classCount)
+        {
+            final int[] row = new int[classCount];
+            Arrays.fill( row, -1 );
+
+            return row;
+        }
+    }
+
+    /**
+     * Full-screen handlers keyed by unit id. Handlers are reused across loads of the same unit, counted while adapters hold them, and once more
+     * than {@link #MAX_IDLE_HANDLERS} are idle the least recently released one is evicted.
+     */
+    private static class HandlerRegistry<T>
+    {
+        private static final int MAX_IDLE_HANDLERS = 8;
+
+        interface Factory<T>
+        {
+            T create();
+        }
+
+        private final Map<String, Registration<T>> registrations = new ConcurrentHashMap<>();
+
+        @Nullable
+        T get(final String unitId)
+        {
+            final Registration<T> registration = registrations.get( unitId );
+            return ( registration != null ) ? registration.handler : null;
+        }
+
+        synchronized T acquire(final String unitId, final Factory<T> factory)
+        {
+            Registration<T> registration = registrations.get( unitId );
+            if ( registration == null )
+            {
+                registration = new Registration<>( factory.create() );
+                registrations.put( unitId, registration );
+            }
+
+            registration.holderCount++;
+
+            return registration.handler;
+        }
+
+        synchronized void release(final String unitId)
+        {
+            final Registration<T> registration = registrations.get( unitId );
+            if ( registration == null || registration.holderCount == 0 ) return;
+
+            registration.holderCount--;
+            registration.lastReleasedMillis = SystemClock.elapsedRealtime();
+
+            if ( registration.holderCount == 0 )
+            {
+                evictIdleHandlerIfNeeded();
+            }
+        }
+
+        private void evictIdleHandlerIfNeeded()
+        {
+            int idleCount = 0;
+            String leastRecentlyReleasedUnitId = null;
+            long leastRecentlyReleasedMillis = Long.MAX_VALUE;
+
+            for ( final Map.Entry<String, Registration<T>> entry : registrations.entrySet() )
+            {
+                final Registration<T> registration = entry.getValue();
+                if ( registration.holderCount > 0 ) continue;
+
+                idleCount++;
+                if ( registration.lastReleasedMillis < leastRecentlyReleasedMillis )
+                {
+                    leastRecentlyReleasedUnitId = entry.getKey();
+                    leastRecentlyReleasedMillis = registration.lastReleasedMillis;
+                }
+            }
+
+            // Each release idles at most one handler, so evicting one keeps the registry bounded
+            if ( idleCount > MAX_IDLE_HANDLERS )
+            {
+                registrations.remove( leastRecentlyReleasedUnitId );
+            }
+        }
+
+        private static class Registration<T>
+        {
+            private final T handler;
+
+            private int  holderCount;
+            private long lastReleasedMillis;
+
+            private Registration(final T handler)
+            {
+                this.handler = handler;
+            }
+        }
+    }
+
+    /**
+     * Fetches native ad images through a size-bounded memory LRU of decoded bitmaps, backed by an on-disk cache keyed by the image URL.
+     * Concurrent requests for the same image share a single fetch, and images are downsampled to the size they are rendered at.
+     * <p>
+     * Every adapter bundling this pipeline uses the same disk cache directory and limits, so together they stay within one disk budget. The memory
+     * cache cannot be shared the same way: each adapter has its own, so an app bundling several of them holds one budget per adapter and may decode
+     * the same image in each. The per-adapter budget is kept small for that reason.
+     */
+    private static class NativeAdImagePipeline
+    {
+        private static final int    MEMORY_CACHE_MAX_BYTES_PER_ADAPTER = 1024 * 1024;
+        private static final long   DISK_CACHE_MAX_BYTES               = 10 * 1024 * 1024;
+        private static final String DISK_CACHE_DIRECTORY               = "applovin_native_ad_images";
+
+        static final int ICON_TARGET_SIZE_DP = 80;
+
+        private static final LruCache<String, Bitmap>          memoryCache     = new LruCache<String, Bitmap>( (int) Math.min( MEMORY_CACHE_MAX_BYTES_PER_ADAPTER, Runtime.getRuntime().maxMemory() / 128 ) )
+        {
+            @Override
+            protected int sizeOf(final String key, final Bitmap bitmap)
+            {
+                return bitmap.getByteCount();
+            }
+        };
+        private static final Map<String, List<ImageListener>> pendingFetches  = new HashMap<>();
+        private static final Object                            diskCacheLock   = new Object();
+        private static final Handler                           deadlineHandler = new Handler( Looper.getMainLooper() );
+
+        interface ImageListener
+        {
+            void onImageLoaded(@Nullable Bitmap bitmap);
+        }
+
+        interface AssetsListener
+        {
+            /**
+             * Called on the UI thread once every requested image has completed or the deadline has passed. Images that failed or timed out are {@code null}.
+             */
+            void onAssetsLoaded(@Nullable Drawable icon, @Nullable Drawable mainImage);
+        }
+
+        /**
+         * Fetches the icon and main image in parallel without blocking a thread while waiting on them. Either URL may be {@code null}.
+         */
+        static void loadAssets(@Nullable final String iconUrl,
+                               final int iconSizePx,
+                               @Nullable final String mainImageUrl,
+                               final int mainImageSizePx,
+                               final int timeoutSeconds,
+                               final Context context,
+                               final Executor executor,
+                               final AssetsListener listener)
+        {
+            final AssetAssembly assembly = new AssetAssembly( context.getResources(), listener );
+            deadlineHandler.postDelayed( assembly, TimeUnit.SECONDS.toMillis( timeoutSeconds ) );
+
+            if ( AppLovinSdkUtils.isValidString( iconUrl ) )
+            {
+                load( iconUrl, iconSizePx, timeoutSeconds, context, executor, new ImageListener()
+                {
+                    @Override
+                    public void onImageLoaded(@Nullable final Bitmap bitmap)
+                    {
+                        assembly.onIconLoaded( bitmap );
+                    }
+                } );
+            }
+            else
+            {
+                assembly.onIconLoaded( null );
+            }
+
+            if ( AppLovinSdkUtils.isValidString( mainImageUrl ) )
+            {
+                load( mainImageUrl, mainImageSizePx, timeoutSeconds, context, executor, new ImageListener()
+                {
+                    @Override
+                    public void onImageLoaded(@Nullable final Bitmap bitmap)
+                    {
+                        assembly.onMainImageLoaded( bitmap );
+                    }
+                } );
+            }
+            else
+            {
+                assembly.onMainImageLoaded( null );
+            }
+        }
+
+        /**
+         * Loads the image at the given URL, decoded to at least {@code targetSizePx} on its smaller side. The listener is called on the fetching thread,
+         * or inline if the image is already in memory. A network fetch that takes longer than {@code timeoutSeconds} fails with a {@code null} image.
+         */
+        static void load(final String imageUrl, final int targetSizePx, final int timeoutSeconds, final Context context, final Executor executor, final ImageListener listener)
+        {
+            final String cacheKey = imageUrl + "#" + targetSizePx;
+
+            final Bitmap cachedBitmap = memoryCache.get( cacheKey );
+            if ( cachedBitmap != null )
+            {
+                listener.onImageLoaded( cachedBitmap );
+                return;
+            }
+
+            synchronized ( pendingFetches )
+            {
+                // Coalesce with an in-flight fetch of the same image if there is one
+                final List<ImageListener> pendingListeners = pendingFetches.get( cacheKey );
+                if ( pendingListeners != null )
+                {
+                    pendingListeners.add( listener );
+                    return;
+                }
+
+                final List<ImageListener> listeners = new ArrayList<>( 1 );
+                listeners.add( listener );
+                pendingFetches.put( cacheKey, listeners );
+            }
+
+            try
+            {
+                executor.execute( new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        Bitmap bitmap = null;
+                        try
+                        {
+                            bitmap = decodeSampledBitmap( fetchImageData( imageUrl, TimeUnit.SECONDS.toMillis( timeoutSeconds ), context ), targetSizePx );
+                            if ( bitmap != null )
+                            {
+                                memoryCache.put( cacheKey, bitmap );
+                            }
+                        }
+                        catch ( Throwable ignored )
+                        {
+                            // Failed and timed out images are reported to the listeners as null, which also clears the pending fetch
+                        }
+
+                        notifyListeners( cacheKey, bitmap );
+                    }
+                } );
+            }
+            catch ( RejectedExecutionException ignored )
+            {
+                notifyListeners( cacheKey, null );
+            }
+        }
+
+        private static void notifyListeners(final String cacheKey, @Nullable final Bitmap bitmap)
+        {
+            final List<ImageListener> listeners;
+            synchronized ( pendingFetches )
+            {
+                listeners = pendingFetches.remove( cacheKey );
+            }
+
+            if ( listeners == null ) return;
+
+            for ( final ImageListener listener : listeners )
+            {
+                listener.onImageLoaded( bitmap );
+            }
+        }
+
+        private static byte[] fetchImageData(final String imageUrl, final long timeoutMillis, final Context context) throws IOException
+        {
+            final File cacheFile = new File( getDiskCacheDirectory( context ), toCacheFileName( imageUrl ) );
+            if ( cacheFile.exists() )
+            {
+                try
+                {
+                    final byte[] imageData = readFully( new FileInputStream( cacheFile ), Long.MAX_VALUE );
+                    cacheFile.setLastModified( System.currentTimeMillis() );
+
+                    return imageData;
+                }
+                catch ( IOException ignored )
+                {
+                    // The file may have been evicted concurrently - fall back to the network
+                }
+            }
+
+            // Not every URL is served over HTTP - e.g. file and content URLs
+            final URLConnection connection = new URL( imageUrl ).openConnection();
+            connection.setConnectTimeout( (int) timeoutMillis );
+            connection.setReadTimeout( (int) timeoutMillis );
+
+            final byte[] imageData;
+            try
+            {
+                // The read timeout only bounds each read, so also cap the whole download
+                imageData = readFully( connection.getInputStream(), SystemClock.elapsedRealtime() + timeoutMillis );
+            }
+            finally
+            {
+                if ( connection instanceof HttpURLConnection )
+                {
+                    ( (HttpURLConnection) connection ).disconnect();
+                }
+            }
+
+            // Only cache downloads, and only if they are images - anything else would fail to decode on every later read of the file
+            if ( connection instanceof HttpURLConnection && isImage( imageData ) )
+            {
+                writeToDiskCache( cacheFile, imageData );
+            }
+
+            return imageData;
+        }
+
+        private static void writeToDiskCache(final File cacheFile, final byte[] imageData)
+        {
+            synchronized ( diskCacheLock )
+            {
+                // Other adapters may write to the shared directory concurrently, so each write goes through its own temp file
+                File tempFile = null;
+                FileOutputStream outputStream = null;
+                try
+                {
+                    tempFile = File.createTempFile( cacheFile.getName(), ".tmp", cacheFile.getParentFile() );
+                    outputStream = new FileOutputStream( tempFile );
+                    outputStream.write( imageData );
+                    outputStream.close();
+                    outputStream = null;
+
+                    if ( !tempFile.renameTo( cacheFile ) )
+                    {
+                        tempFile.delete();
+                        return;
+                    }
+                }
+                catch ( IOException ignored )
+                {
+                    if ( tempFile != null )
+                    {
+                        tempFile.delete();
+                    }
+
+                    return;
+                }
+                finally
+                {
+                    closeQuietly( outputStream );
+                }
+
+                trimDiskCache( cacheFile.getParentFile() );
+            }
+        }
+
+        private static void trimDiskCache(final File directory)
+        {
+            final File[] files = directory.listFiles();
+            if ( files == null ) return;
+
+            long totalBytes = 0;
+            for ( final File file : files )
+            {
+                totalBytes += file.length();
+            }
+
+            if ( totalBytes <= DISK_CACHE_MAX_BYTES ) return;
+
+            // Evict the least recently used files first
+            Arrays.sort( files, new Comparator<File>()
+            {
+                @Override
+                public int compare(final File file1, final File file2)
+                {
+                    return Long.compare( file1.lastModified(), file2.lastModified() );
+                }
+            } );
+
+            for ( final File file : files )
+            {
+                if ( totalBytes <= DISK_CACHE_MAX_BYTES ) break;
+
+                final long fileBytes = file.length();
+                if ( file.delete() )
+                {
+                    totalBytes -= fileBytes;
+                }
+            }
+        }
+
+        private static boolean isImage(final byte[] imageData)
+        {
+            final BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inJustDecodeBounds = true;
+            BitmapFactory.decodeByteArray( imageData, 0, imageData.length, options );
+
+            return options.outWidth > 0 && options.outHeight > 0;
+        }
+
+        private static Bitmap decodeSampledBitmap(final byte[] imageData, final int targetSizePx)
+        {
+            final BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inJustDecodeBounds = true;
+            BitmapFactory.decodeByteArray( imageData, 0, imageData.length, options );
+
+            int sampleSize = 1;
+            if ( targetSizePx > 0 )
+            {
+                while ( options.outWidth / ( sampleSize * 2 ) >= targetSizePx && options.outHeight / ( sampleSize * 2 ) >= targetSizePx )
+                {
+                    sampleSize *= 2;
+                }
+            }
+
+            options.inJustDecodeBounds = false;
+            options.inSampleSize = sampleSize;
+
+            return BitmapFactory.decodeByteArray( imageData, 0, imageData.length, options );
+        }
+
+        private static File getDiskCacheDirectory(final Context context)
+        {
+            final File directory = new File( context.getCacheDir(), DISK_CACHE_DIRECTORY );
+            if ( !directory.exists() )
+            {
+                directory.mkdirs();
+            }
+
+            return directory;
+        }
+
+        private static String toCacheFileName(final String imageUrl)
+        {
+            try
+            {
+                final byte[] digest = MessageDigest.getInstance( "SHA-1" ).digest( imageUrl.getBytes( "UTF-8" ) );
+                final StringBuilder fileName = new StringBuilder( digest.length * 2 );
+                for ( final byte b : digest )
+                {
+                    fileName.append( String.format( "%02x", b ) );
+                }
+
+                return fileName.toString();
+            }
+            catch ( Exception ignored )
+            {
+                return Integer.toHexString( imageUrl.hashCode() );
+            }
+        }
+
+        private static byte[] readFully(final InputStream inputStream, final long deadlineMillis) throws IOException
+        {
+            try
+            {
+                final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                final byte[] buffer = new byte[8192];
+                int bytesRead;
+                while ( ( bytesRead = inputStream.read( buffer ) ) != -1 )
+                {
+                    if ( SystemClock.elapsedRealtime() > deadlineMillis ) throw new SocketTimeoutException( "Image download timed out" );
+
+                    outputStream.write( buffer, 0, bytesRead );
+                }
+
+                return outputStream.toByteArray();
+            }
+            finally
+            {
+                closeQuietly( inputStream );
+            }
+        }
+
+        private static void closeQuietly(final Closeable closeable)
+        {
+            if ( closeable == null ) return;
+
+            try
+            {
+                closeable.close();
+            }
+            catch ( IOException ignored )
+            {
+                // Nothing to do if closing fails
+            }
+        }
+
+        /**
+         * Collects the images for a single native ad and completes once they have all loaded, or when run by the deadline handler.
+         */
+        private static class AssetAssembly
+                implements Runnable
+        {
+            private final Resources      resources;
+            private final AssetsListener listener;
+            private final AtomicInteger  pendingImageCount = new AtomicInteger( 2 );
+            private final AtomicBoolean  completed         = new AtomicBoolean();
+
+            private volatile Drawable icon;
+            private volatile Drawable mainImage;
+
+            AssetAssembly(final Resources resources, final AssetsListener listener)
+            {
+                this.resources = resources;
+                this.listener = listener;
+            }
+
+            void onIconLoaded(@Nullable final Bitmap bitmap)
+            {
+                icon = ( bitmap != null ) ? new BitmapDrawable( resources, bitmap ) : null;
+                onImageCompleted();
+            }
+
+            void onMainImageLoaded(@Nullable final Bitmap bitmap)
+            {
+                mainImage = ( bitmap != null ) ? new BitmapDrawable( resources, bitmap ) : null;
+                onImageCompleted();
+            }
+
+            @Override
+            public void run()
+            {
+                complete();
+            }
+
+            private void onImageCompleted()
+            {
+                if ( pendingImageCount.decrementAndGet() == 0 )
+                {
+                    deadlineHandler.removeCallbacks( this );
+                    complete();
+                }
+            }
+
+            private void complete()
+            {
+                if ( !completed.compareAndSet( false, true ) ) return;
+
+                final Drawable icon = this.icon;
+                final Drawable mainImage = this.mainImage;
+                AppLovinSdkUtils.runOnUiThread( new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        listener.onAssetsLoaded( icon, mainImage );
+                    }
+                } );
+            }
+        }
+    }
 }
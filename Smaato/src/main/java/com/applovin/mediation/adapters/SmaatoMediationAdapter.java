@@ -4,6 +4,7 @@ import android.app.Activity;
 import android.app.Application;
 import android.content.Context;
 import android.os.Bundle;
+import android.os.SystemClock;
 import android.text.TextUtils;
 import android.widget.ImageView;
 
@@ -55,11 +56,22 @@ import com.smaato.sdk.rewarded.RewardedInterstitialAd;
 import com.smaato.sdk.rewarded.RewardedRequestError;
 
 import java.lang.reflect.Method;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 /**
  * Created by Christopher Cong on March 11 2019
@@ -703,35 +715,99 @@ public class SmaatoMediationAdapter
             extends MediationAdapterRouter
             implements com.smaato.sdk.interstitial.EventListener, com.smaato.sdk.rewarded.EventListener
     {
-        // Interstitial
-        private final Map<String, InterstitialAd> interstitialAds     = new HashMap<>();
-        private final Object                      interstitialAdsLock = new Object();
+        private static final long EXPIRED_AD_SWEEP_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis( 30 );
 
-        // Rewarded
-        private final Map<String, RewardedInterstitialAd> rewardedAds     = new HashMap<>();
-        private final Object                              rewardedAdsLock = new Object();
+        private final AdRegistry<InterstitialAd>         interstitialAds = new AdRegistry<>();
+        private final AdRegistry<RewardedInterstitialAd> rewardedAds     = new AdRegistry<>();
 
-        private boolean hasGrantedReward;
+        private final ScheduledExecutorService expiredAdSweepExecutor  = createExpiredAdSweepExecutor();
+        private final AtomicBoolean            expiredAdSweepScheduled = new AtomicBoolean();
+
+        // Placements whose current show has granted a reward, so concurrent rewarded ads on different placements do not share reward state
+        private final Set<String> rewardGrantedPlacementIds = Collections.newSetFromMap( new ConcurrentHashMap<String, Boolean>() );
 
         @Override
         void initialize(final MaxAdapterInitializationParameters parameters, final Activity activity, final OnCompletionListener onCompletionListener) {}
 
         public InterstitialAd getInterstitialAd(final String placementId)
         {
-            synchronized ( interstitialAdsLock )
-            {
-                return interstitialAds.get( placementId );
-            }
+            return interstitialAds.get( placementId );
         }
 
         public RewardedInterstitialAd getRewardedAd(final String placementId)
         {
-            synchronized ( rewardedAdsLock )
+            return rewardedAds.get( placementId );
+        }
+
+        int getLiveAdCount()
+        {
+            return interstitialAds.getLiveAdCount() + rewardedAds.getLiveAdCount();
+        }
+
+        int getExpiredAdCount()
+        {
+            return interstitialAds.getExpiredAdCount() + rewardedAds.getExpiredAdCount();
+        }
+
+        private void scheduleExpiredAdSweep()
+        {
+            if ( !expiredAdSweepScheduled.compareAndSet( false, true ) ) return;
+
+            try
             {
-                return rewardedAds.get( placementId );
+                expiredAdSweepExecutor.schedule( new Runnable()
+                {
+                    @Override
+                    public void run()
+                    {
+                        // Clear the flag first so ads stored while this sweep runs schedule their own sweep
+                        expiredAdSweepScheduled.set( false );
+
+                        final long nowMillis = SystemClock.elapsedRealtime();
+                        logSweptAds( "interstitial", interstitialAds.sweep( nowMillis ) );
+                        logSweptAds( "rewarded", rewardedAds.sweep( nowMillis ) );
+
+                        if ( getLiveAdCount() > 0 )
+                        {
+                            scheduleExpiredAdSweep();
+                        }
+                    }
+                }, EXPIRED_AD_SWEEP_INTERVAL_MILLIS, TimeUnit.MILLISECONDS );
+            }
+            catch ( RejectedExecutionException ex )
+            {
+                expiredAdSweepScheduled.set( false );
             }
         }
 
+        private void logSweptAds(final String adType, final List<String> placementIds)
+        {
+            if ( placementIds.isEmpty() ) return;
+
+            log( "Evicted " + adType + " ads that never reported their TTL expired for placements: " + placementIds + " - live: " + getLiveAdCount() + ", expired: " + getExpiredAdCount() );
+        }
+
+        private static ScheduledExecutorService createExpiredAdSweepExecutor()
+        {
+            final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor( 1, new ThreadFactory()
+            {
+                @Override
+                public Thread newThread(@NonNull final Runnable runnable)
+                {
+                    final Thread thread = new Thread( runnable, "AppLovinSdk:Smaato-ExpiredAdSweep" );
+                    thread.setDaemon( true );
+
+                    return thread;
+                }
+            } );
+
+            // Let the sweep thread die while no ads are loaded
+            executor.setKeepAliveTime( 30, TimeUnit.SECONDS );
+            executor.allowCoreThreadTimeOut( true );
+
+            return executor;
+        }
+
         //region Interstitial listener
 
         @Override
@@ -739,10 +815,8 @@ public class SmaatoMediationAdapter
         {
             final String placementId = interstitialAd.getAdSpaceId();
 
-            synchronized ( interstitialAdsLock )
-            {
-                interstitialAds.put( placementId, interstitialAd );
-            }
+            interstitialAds.put( placementId, interstitialAd );
+            scheduleExpiredAdSweep();
 
             log( "Interstitial loaded for placement: " + placementId + "..." );
             onAdLoaded( placementId, interstitialAd.getCreativeId() );
@@ -767,10 +841,7 @@ public class SmaatoMediationAdapter
             {
                 final String placementId = interstitialAd.getAdSpaceId();
 
-                synchronized ( interstitialAdsLock )
-                {
-                    interstitialAds.remove( placementId );
-                }
+                interstitialAds.remove( placementId );
 
                 MaxAdapterError adapterError = new MaxAdapterError( -4205, "Ad Display Failed", interstitialError.ordinal(), interstitialError.name() );
                 onAdDisplayFailed( placementId, adapterError );
@@ -783,10 +854,7 @@ public class SmaatoMediationAdapter
             final String placementId = interstitialAd.getAdSpaceId();
 
             // Allow the next rewarded ad to load
-            synchronized ( interstitialAdsLock )
-            {
-                interstitialAds.remove( placementId );
-            }
+            interstitialAds.remove( placementId );
 
             log( "Interstitial displayed" );
             onAdDisplayed( placementId );
@@ -814,10 +882,7 @@ public class SmaatoMediationAdapter
         {
             log( "Interstitial expired" );
 
-            synchronized ( interstitialAdsLock )
-            {
-                interstitialAds.remove( interstitialAd.getAdSpaceId() );
-            }
+            interstitialAds.expire( interstitialAd.getAdSpaceId(), interstitialAd );
         }
 
         private static MaxAdapterError toMaxError(final InterstitialError smaatoInterstitialError)
@@ -858,10 +923,8 @@ public class SmaatoMediationAdapter
         {
             final String placementId = rewardedInterstitialAd.getAdSpaceId();
 
-            synchronized ( rewardedAdsLock )
-            {
-                rewardedAds.put( placementId, rewardedInterstitialAd );
-            }
+            rewardedAds.put( placementId, rewardedInterstitialAd );
+            scheduleExpiredAdSweep();
 
             log( "Rewarded ad loaded for placement: " + placementId + "..." );
             onAdLoaded( placementId, rewardedInterstitialAd.getCreativeId() );
@@ -885,10 +948,7 @@ public class SmaatoMediationAdapter
             {
                 final String placementId = rewardedInterstitialAd.getAdSpaceId();
 
-                synchronized ( rewardedAdsLock )
-                {
-                    rewardedAds.remove( placementId );
-                }
+                rewardedAds.remove( placementId );
 
                 MaxAdapterError adapterError = new MaxAdapterError( -4205, "Ad Display Failed", rewardedError.ordinal(), rewardedError.name() );
                 onAdDisplayFailed( placementId, adapterError );
@@ -901,10 +961,8 @@ public class SmaatoMediationAdapter
             final String placementId = rewardedInterstitialAd.getAdSpaceId();
 
             // Allow the next rewarded ad to load
-            synchronized ( rewardedAdsLock )
-            {
-                rewardedAds.remove( placementId );
-            }
+            rewardedAds.remove( placementId );
+            rewardGrantedPlacementIds.remove( placementId );
 
             log( "Rewarded ad displayed" );
             onAdDisplayed( placementId );
@@ -922,9 +980,11 @@ public class SmaatoMediationAdapter
         public void onAdReward(final RewardedInterstitialAd rewardedInterstitialAd)
         {
             log( "Rewarded ad video completed" );
-            onRewardedAdVideoCompleted( rewardedInterstitialAd.getAdSpaceId() );
 
-            hasGrantedReward = true;
+            final String placementId = rewardedInterstitialAd.getAdSpaceId();
+            onRewardedAdVideoCompleted( placementId );
+
+            rewardGrantedPlacementIds.add( placementId );
         }
 
         @Override
@@ -932,6 +992,7 @@ public class SmaatoMediationAdapter
         {
             final String placementId = rewardedInterstitialAd.getAdSpaceId();
 
+            final boolean hasGrantedReward = rewardGrantedPlacementIds.remove( placementId );
             if ( hasGrantedReward || shouldAlwaysRewardUser( placementId ) )
             {
                 final MaxReward reward = getReward( placementId );
@@ -948,10 +1009,7 @@ public class SmaatoMediationAdapter
         {
             log( "Rewarded ad expired" );
 
-            synchronized ( rewardedAdsLock )
-            {
-                rewardedAds.remove( rewardedInterstitialAd.getAdSpaceId() );
-            }
+            rewardedAds.expire( rewardedInterstitialAd.getAdSpaceId(), rewardedInterstitialAd );
         }
 
         private void onAdLoaded(final String placementId, final String creativeId)
@@ -1000,4 +1058,89 @@ public class SmaatoMediationAdapter
     }
 
     //endregion
+
+    /**
+     * Lock-free registry of loaded fullscreen ads by placement, tracking when each ad was loaded. Ads leave it when shown or failed to show, when Smaato
+     * reports their TTL expired, or when a sweep finds them older than {@link #MAX_AD_AGE_MILLIS} - in case the expiry callback never comes. The sweep
+     * runs on a background thread, so it goes by age only and never calls into the ads.
+     */
+    private static class AdRegistry<T>
+    {
+        private static final long MAX_AD_AGE_MILLIS = TimeUnit.HOURS.toMillis( 1 );
+
+        private final Map<String, LoadedAd<T>> ads            = new ConcurrentHashMap<>();
+        private final AtomicInteger            expiredAdCount = new AtomicInteger();
+
+        @Nullable
+        T get(final String placementId)
+        {
+            final LoadedAd<T> loadedAd = ads.get( placementId );
+            return ( loadedAd != null ) ? loadedAd.ad : null;
+        }
+
+        void put(final String placementId, final T ad)
+        {
+            ads.put( placementId, new LoadedAd<>( ad, SystemClock.elapsedRealtime() ) );
+        }
+
+        void remove(final String placementId)
+        {
+            ads.remove( placementId );
+        }
+
+        /**
+         * Removes the given ad, unless a newer ad has been loaded for its placement since.
+         */
+        void expire(final String placementId, final T ad)
+        {
+            final LoadedAd<T> loadedAd = ads.get( placementId );
+            if ( loadedAd != null && loadedAd.ad == ad && ads.remove( placementId, loadedAd ) )
+            {
+                expiredAdCount.incrementAndGet();
+            }
+        }
+
+        /**
+         * @return The placements whose ads were evicted.
+         */
+        List<String> sweep(final long nowMillis)
+        {
+            final List<String> sweptPlacementIds = new ArrayList<>();
+            for ( final Map.Entry<String, LoadedAd<T>> entry : ads.entrySet() )
+            {
+                final LoadedAd<T> loadedAd = entry.getValue();
+                if ( nowMillis - loadedAd.loadTimeMillis < MAX_AD_AGE_MILLIS ) continue;
+
+                if ( ads.remove( entry.getKey(), loadedAd ) )
+                {
+                    expiredAdCount.incrementAndGet();
+                    sweptPlacementIds.add( entry.getKey() );
+                }
+            }
+
+            return sweptPlacementIds;
+        }
+
+        int getLiveAdCount()
+        {
+            return ads.size();
+        }
+
+        int getExpiredAdCount()
+        {
+            return expiredAdCount.get();
+        }
+
+        private static class LoadedAd<T>
+        {
+            private final T    ad;
+            private final long loadTimeMillis;
+
+            private LoadedAd(final T ad, final long loadTimeMillis)
+            {
+                this.ad = ad;
+                this.loadTimeMillis = loadTimeMillis;
+            }
+        }
+    }
 }
@@ -30,12 +30,14 @@ import com.tapjoy.TJPrivacyPolicy;
 import com.tapjoy.Tapjoy;
 import com.tapjoy.TapjoyConnectFlag;
 
+import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Created by Thomas So on October 20 2018
@@ -275,8 +277,7 @@ public class TapjoyMediationAdapter
         try
         {
             // Use reflection because compiled adapters have trouble fetching `boolean` from old SDKs and `Boolean` from new SDKs (above 9.14.0)
-            Class<?> parametersClass = parameters.getClass();
-            Method privacyMethod = parametersClass.getMethod( privacySetting );
+            Method privacyMethod = PrivacySettingAccessors.get( parameters.getClass(), privacySetting );
             return (Boolean) privacyMethod.invoke( parameters );
         }
         catch ( Exception exception )
@@ -301,9 +302,7 @@ public class TapjoyMediationAdapter
         {
             try
             {
-                JSONObject auctionData = new JSONObject( parameters.getBidResponse() );
-                Map<String, String> auctionDataMap = AppLovinSdkUtils.toMap( auctionData );
-                placement.setAuctionData( (HashMap) auctionDataMap );
+                placement.setAuctionData( AuctionDataParser.parse( parameters.getBidResponse() ) );
             }
             catch ( Throwable th )
             {
@@ -542,4 +541,290 @@ public class TapjoyMediationAdapter
             hasGrantedReward = true;
         }
     }
+
+    /**
+     * updateConsentAndActivity() reads all three privacy settings on every load and show, so the accessors are resolved once per parameters class
+     * and reused across requests.
+     */
+    private static class PrivacySettingAccessors
+    {
+        private static final ConcurrentHashMap<Class<?>, Map<String, Method>> accessors = new ConcurrentHashMap<>();
+
+        static Method get(final Class<?> parametersClass, final String privacySetting) throws NoSuchMethodException
+        {
+            Map<String, Method> classAccessors = accessors.get( parametersClass );
+            if ( classAccessors == null )
+            {
+                classAccessors = new ConcurrentHashMap<>();
+
+                final Map<String, Method> existingAccessors = accessors.putIfAbsent( parametersClass, classAccessors );
+                if ( existingAccessors != null )
+                {
+                    classAccessors = existingAccessors;
+                }
+            }
+
+            Method accessor = classAccessors.get( privacySetting );
+            if ( accessor == null )
+            {
+                // Racing lookups resolve the same method, so the last write winning is harmless
+                accessor = parametersClass.getMethod( privacySetting );
+                classAccessors.put( privacySetting, accessor );
+            }
+
+            return accessor;
+        }
+    }
+
+    /**
+     * Decodes Tapjoy's bid response - a flat JSON object of auction values - straight into the auction data map in a single pass, without building
+     * an intermediate {@link JSONObject}. Anything the fast path does not handle exactly like {@link JSONObject} (nested values, {@code null},
+     * lenient syntax, unusual numbers) falls back to the {@link JSONObject} path, so the resulting map and errors are unchanged.
+     */
+    private static class AuctionDataParser
+    {
+        private final String json;
+        private final int    length;
+        private       int    position;
+
+        private AuctionDataParser(final String json)
+        {
+            this.json = json;
+            this.length = json.length();
+        }
+
+        @SuppressWarnings("unchecked")
+        static HashMap<String, String> parse(final String json) throws JSONException
+        {
+            final HashMap<String, String> auctionData = new AuctionDataParser( json ).parseFlatObject();
+            if ( auctionData != null ) return auctionData;
+
+            return (HashMap<String, String>) AppLovinSdkUtils.toMap( new JSONObject( json ) );
+        }
+
+        /**
+         * @return The decoded values, or {@code null} if the payload needs the {@link JSONObject} fallback.
+         */
+        private HashMap<String, String> parseFlatObject()
+        {
+            skipWhitespace();
+            if ( !consume( '{' ) ) return null;
+
+            final HashMap<String, String> values = new HashMap<>();
+
+            skipWhitespace();
+            if ( consume( '}' ) ) return isAtEnd() ? values : null;
+
+            while ( true )
+            {
+                skipWhitespace();
+                final String key = readString();
+                if ( key == null ) return null;
+
+                skipWhitespace();
+                if ( !consume( ':' ) ) return null;
+
+                skipWhitespace();
+                final String value = readValue();
+                if ( value == null ) return null;
+
+                values.put( key, value );
+
+                skipWhitespace();
+                if ( consume( '}' ) ) return isAtEnd() ? values : null;
+                if ( !consume( ',' ) ) return null;
+            }
+        }
+
+        private String readValue()
+        {
+            if ( position >= length ) return null;
+
+            final char c = json.charAt( position );
+            if ( c == '"' )
+            {
+                return readString();
+            }
+            else if ( c == '-' || ( c >= '0' && c <= '9' ) )
+            {
+                return readNumber();
+            }
+            else if ( json.startsWith( "true", position ) )
+            {
+                position += 4;
+                return "true";
+            }
+            else if ( json.startsWith( "false", position ) )
+            {
+                position += 5;
+                return "false";
+            }
+
+            // Nested objects and arrays, `null` and unquoted literals
+            return null;
+        }
+
+        private String readString()
+        {
+            if ( !consume( '"' ) ) return null;
+
+            final int start = position;
+            while ( position < length )
+            {
+                final char c = json.charAt( position );
+                if ( c == '"' )
+                {
+                    return json.substring( start, position++ );
+                }
+                else if ( c == '\\' )
+                {
+                    return readEscapedString( start );
+                }
+
+                position++;
+            }
+
+            return null;
+        }
+
+        private String readEscapedString(final int start)
+        {
+            final StringBuilder builder = new StringBuilder( position - start + 16 );
+            builder.append( json, start, position );
+
+            while ( position < length )
+            {
+                final char c = json.charAt( position++ );
+                if ( c == '"' ) return builder.toString();
+
+                if ( c != '\\' )
+                {
+                    builder.append( c );
+                    continue;
+                }
+
+                if ( position >= length ) return null;
+
+                final char escaped = json.charAt( position++ );
+                switch ( escaped )
+                {
+                    case '"':
+                    case '\\':
+                    case '/':
+                        builder.append( escaped );
+                        break;
+                    case 'b':
+                        builder.append( '\b' );
+                        break;
+                    case 'f':
+                        builder.append( '\f' );
+                        break;
+                    case 'n':
+                        builder.append( '\n' );
+                        break;
+                    case 'r':
+                        builder.append( '\r' );
+                        break;
+                    case 't':
+                        builder.append( '\t' );
+                        break;
+                    case 'u':
+                        if ( position + 4 > length ) return null;
+
+                        try
+                        {
+                            builder.append( (char) Integer.parseInt( json.substring( position, position + 4 ), 16 ) );
+                        }
+                        catch ( NumberFormatException ignored )
+                        {
+                            return null;
+                        }
+
+                        position += 4;
+                        break;
+                    default:
+                        return null;
+                }
+            }
+
+            return null;
+        }
+
+        private String readNumber()
+        {
+            final int start = position;
+            boolean isDecimal = false;
+            while ( position < length )
+            {
+                final char c = json.charAt( position );
+                if ( c == '.' || c == 'e' || c == 'E' )
+                {
+                    isDecimal = true;
+                }
+                else if ( c != '-' && c != '+' && ( c < '0' || c > '9' ) )
+                {
+                    break;
+                }
+
+                position++;
+            }
+
+            final String literal = json.substring( start, position );
+
+            // Match how JSONObject stringifies numbers: decimals go through Double, integers keep their digits. Leading zeros are parsed as octal
+            // and "-0" as 0 by JSONObject, so those fall back.
+            if ( isDecimal )
+            {
+                try
+                {
+                    final double value = Double.parseDouble( literal );
+                    return ( Double.isNaN( value ) || Double.isInfinite( value ) ) ? null : String.valueOf( value );
+                }
+                catch ( NumberFormatException ignored )
+                {
+                    return null;
+                }
+            }
+
+            final int firstDigit = literal.startsWith( "-" ) ? 1 : 0;
+            if ( literal.length() == firstDigit || literal.length() - firstDigit > 18 ) return null;
+            if ( literal.charAt( firstDigit ) == '0' && ( literal.length() > firstDigit + 1 || firstDigit == 1 ) ) return null;
+
+            for ( int i = firstDigit; i < literal.length(); i++ )
+            {
+                final char c = literal.charAt( i );
+                if ( c < '0' || c > '9' ) return null;
+            }
+
+            return literal;
+        }
+
+        private void skipWhitespace()
+        {
+            while ( position < length )
+            {
+                final char c = json.charAt( position );
+                if ( c != ' ' && c != '\t' && c != '\n' && c != '\r' ) return;
+
+                position++;
+            }
+        }
+
+        private boolean consume(final char expected)
+        {
+            if ( position < length && json.charAt( position ) == expected )
+            {
+                position++;
+                return true;
+            }
+
+            return false;
+        }
+
+        private boolean isAtEnd()
+        {
+            skipWhitespace();
+            return position == length;
+        }
+    }
 }
@@ -3,6 +3,8 @@ package com.applovin.mediation.adapters;
 import android.app.Activity;
 import android.content.Context;
 import android.os.Bundle;
+import android.os.SystemClock;
+import android.text.TextUtils;
 
 import com.applovin.mediation.MaxAdFormat;
 import com.applovin.mediation.adapter.MaxAdViewAdapter;
@@ -37,9 +39,19 @@ import com.unity3d.services.banners.BannerView;
 import com.unity3d.services.banners.UnityBannerSize;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import androidx.annotation.Nullable;
+
 /**
  * This is a mediation adapterWrapper for the Unity Ads SDK
  */
@@ -47,7 +59,8 @@ public class UnityAdsMediationAdapter
         extends MediationAdapterBase
         implements MaxSignalProvider, MaxInterstitialAdapter, MaxRewardedAdapter, MaxAdViewAdapter
 {
-    private static final AtomicBoolean        initialized = new AtomicBoolean();
+    private static final long                 DEFAULT_SIGNAL_CACHE_TTL_SECONDS = 60;
+    private static final AtomicBoolean        initialized                      = new AtomicBoolean();
     private static       InitializationStatus initializationStatus;
 
     private String     biddingAdId;
@@ -86,6 +99,8 @@ public class UnityAdsMediationAdapter
                     log( "UnityAds SDK initialized" );
                     initializationStatus = InitializationStatus.INITIALIZED_SUCCESS;
                     onCompletionListener.onCompletion( InitializationStatus.INITIALIZED_SUCCESS, null );
+
+                    prewarmSignals( parameters, activity );
                 }
 
                 @Override
@@ -129,9 +144,41 @@ public class UnityAdsMediationAdapter
     @Override
     public void collectSignal(final MaxAdapterSignalCollectionParameters parameters, final Activity activity, final MaxSignalCollectionListener callback)
     {
-        log( "Collecting signal..." );
+        // Privacy is global SDK state, so it is only applied here on the calling thread and never from a background refresh
+        updatePrivacyConsent( parameters, getContext( activity ) );
 
-        updatePrivacyConsent( parameters, activity.getApplicationContext() );
+        final Bundle serverParameters = parameters.getServerParameters();
+        if ( !serverParameters.getBoolean( "enable_signal_cache", false ) )
+        {
+            generateSignal( parameters, activity, callback );
+            return;
+        }
+
+        final String privacyState = getPrivacyState( parameters );
+        SignalCache.updatePrivacyState( privacyState );
+
+        final MaxAdFormat adFormat = parameters.getAdFormat();
+        final String cacheKey = ( adFormat != null ? adFormat.getLabel() : "" ) + ":" + privacyState;
+        final long ttlMillis = TimeUnit.SECONDS.toMillis( serverParameters.getLong( "signal_cache_ttl_sec", DEFAULT_SIGNAL_CACHE_TTL_SECONDS ) );
+
+        final String cachedSignal = SignalCache.take( cacheKey, ttlMillis );
+        if ( cachedSignal != null )
+        {
+            log( "Signal collection successful from cache" );
+            callback.onSignalCollected( cachedSignal );
+        }
+        else
+        {
+            generateSignal( parameters, activity, callback );
+        }
+
+        // Pre-warm the next signal so the following auction does not pay for generating it
+        refreshSignal( cacheKey, parameters, activity );
+    }
+
+    private void generateSignal(final MaxAdapterParameters parameters, @Nullable final Activity activity, final MaxSignalCollectionListener callback)
+    {
+        log( "Collecting signal..." );
 
         UnityAds.getToken( new IUnityAdsTokenListener()
         {
@@ -507,8 +554,7 @@ public class UnityAdsMediationAdapter
         try
         {
             // Use reflection because compiled adapters have trouble fetching `boolean` from old SDKs and `Boolean` from new SDKs (above 9.14.0)
-            Class<?> parametersClass = parameters.getClass();
-            Method privacyMethod = parametersClass.getMethod( privacySetting );
+            Method privacyMethod = PrivacySettingAccessors.get( parameters.getClass(), privacySetting );
             return (Boolean) privacyMethod.invoke( parameters );
         }
         catch ( Exception exception )
@@ -518,9 +564,209 @@ public class UnityAdsMediationAdapter
         }
     }
 
+    private void refreshSignal(final String cacheKey, final MaxAdapterParameters parameters, @Nullable final Activity activity)
+    {
+        if ( !SignalCache.startRefresh( cacheKey ) ) return;
+
+        try
+        {
+            getCachingExecutorService().execute( new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    generateSignal( parameters, activity, new SignalCacheListener( cacheKey ) );
+                }
+            } );
+        }
+        catch ( Throwable th )
+        {
+            e( "Failed to schedule signal refresh", th );
+            SignalCache.finishRefresh( cacheKey );
+        }
+    }
+
+    /**
+     * Generates signals for the formats the first auctions are most likely to need, so a cold start does not pay for generating them. The token only
+     * depends on the privacy settings, which initialization has already applied, so it matches what signal collection would generate.
+     */
+    private void prewarmSignals(final MaxAdapterParameters parameters, @Nullable final Activity activity)
+    {
+        final Bundle serverParameters = parameters.getServerParameters();
+        if ( !serverParameters.getBoolean( "enable_signal_cache", false ) ) return;
+
+        final String privacyState = getPrivacyState( parameters );
+        SignalCache.updatePrivacyState( privacyState );
+
+        for ( final MaxAdFormat adFormat : SignalCache.getPrewarmAdFormats( serverParameters ) )
+        {
+            refreshSignal( adFormat.getLabel() + ":" + privacyState, parameters, activity );
+        }
+    }
+
+    private String getPrivacyState(final MaxAdapterParameters parameters)
+    {
+        return getPrivacySetting( "hasUserConsent", parameters ) + ":" + getPrivacySetting( "isAgeRestrictedUser", parameters ) + ":" + getPrivacySetting( "isDoNotSell", parameters );
+    }
+
     private Context getContext(Activity activity)
     {
         // NOTE: `activity` can only be null in 11.1.0+, and `getApplicationContext()` is introduced in 11.1.0
         return ( activity != null ) ? activity.getApplicationContext() : getApplicationContext();
     }
+
+    private class SignalCacheListener
+            implements MaxSignalCollectionListener
+    {
+        private final String cacheKey;
+
+        private SignalCacheListener(final String cacheKey)
+        {
+            this.cacheKey = cacheKey;
+        }
+
+        @Override
+        public void onSignalCollected(final String signal)
+        {
+            SignalCache.put( cacheKey, signal );
+            SignalCache.finishRefresh( cacheKey );
+        }
+
+        @Override
+        public void onSignalCollectionFailed(final String errorMessage)
+        {
+            SignalCache.finishRefresh( cacheKey );
+        }
+    }
+
+    /**
+     * Opt-in cache of bidding signals keyed by ad format and privacy state. Signals are generated in the background, starting at initialization,
+     * and each one is handed to a single auction before the next is generated. The whole cache is dropped as soon as the privacy state changes.
+     */
+    private static class SignalCache
+    {
+        private static final MaxAdFormat[] PREWARM_AD_FORMATS      = { MaxAdFormat.BANNER, MaxAdFormat.INTERSTITIAL, MaxAdFormat.REWARDED };
+        private static final MaxAdFormat[] CONFIGURABLE_AD_FORMATS = { MaxAdFormat.BANNER, MaxAdFormat.LEADER, MaxAdFormat.MREC, MaxAdFormat.INTERSTITIAL, MaxAdFormat.REWARDED };
+
+        private static final Map<String, CachedSignal> cachedSignals    = new ConcurrentHashMap<>();
+        private static final Set<String>               refreshingKeys   = Collections.newSetFromMap( new ConcurrentHashMap<String, Boolean>() );
+        private static final Object                    privacyStateLock = new Object();
+
+        private static String privacyState;
+
+        static void updatePrivacyState(final String currentPrivacyState)
+        {
+            synchronized ( privacyStateLock )
+            {
+                if ( !currentPrivacyState.equals( privacyState ) )
+                {
+                    privacyState = currentPrivacyState;
+                    cachedSignals.clear();
+                }
+            }
+        }
+
+        /**
+         * Removes and returns the cached signal for the given key, so no signal is used in more than one auction.
+         */
+        @Nullable
+        static String take(final String key, final long ttlMillis)
+        {
+            final CachedSignal cachedSignal = cachedSignals.remove( key );
+            if ( cachedSignal == null ) return null;
+
+            if ( SystemClock.elapsedRealtime() - cachedSignal.createdAtMillis > ttlMillis ) return null;
+
+            return cachedSignal.signal;
+        }
+
+        static void put(final String key, @Nullable final String signal)
+        {
+            if ( TextUtils.isEmpty( signal ) ) return;
+
+            cachedSignals.put( key, new CachedSignal( signal, SystemClock.elapsedRealtime() ) );
+        }
+
+        /**
+         * @return {@code true} if the caller should refresh the signal for the given key, {@code false} if a refresh is already in flight.
+         */
+        static boolean startRefresh(final String key)
+        {
+            return refreshingKeys.add( key );
+        }
+
+        static void finishRefresh(final String key)
+        {
+            refreshingKeys.remove( key );
+        }
+
+        /**
+         * @return the formats listed by label in the {@code signal_cache_prewarm_formats} server parameter, or banner, interstitial and rewarded if it is not set.
+         */
+        static List<MaxAdFormat> getPrewarmAdFormats(final Bundle serverParameters)
+        {
+            final String formatLabels = serverParameters.getString( "signal_cache_prewarm_formats" );
+            if ( formatLabels == null ) return Arrays.asList( PREWARM_AD_FORMATS );
+
+            final List<MaxAdFormat> adFormats = new ArrayList<>();
+            for ( final String formatLabel : formatLabels.split( "," ) )
+            {
+                for ( final MaxAdFormat adFormat : CONFIGURABLE_AD_FORMATS )
+                {
+                    if ( adFormat.getLabel().equalsIgnoreCase( formatLabel.trim() ) )
+                    {
+                        adFormats.add( adFormat );
+                    }
+                }
+            }
+
+            return adFormats;
+        }
+
+        private static class CachedSignal
+        {
+            private final String signal;
+            private final long   createdAtMillis;
+
+            private CachedSignal(final String signal, final long createdAtMillis)
+            {
+                this.signal = signal;
+                this.createdAtMillis = createdAtMillis;
+            }
+        }
+    }
+
+    /**
+     * Signal collection reads every privacy setting for the signal cache key and again for the privacy metadata, and loads read them too, so the
+     * accessors are resolved once per parameters class and reused across requests.
+     */
+    private static class PrivacySettingAccessors
+    {
+        private static final ConcurrentHashMap<Class<?>, Map<String, Method>> accessors = new ConcurrentHashMap<>();
+
+        static Method get(final Class<?> parametersClass, final String privacySetting) throws NoSuchMethodException
+        {
+            Map<String, Method> classAccessors = accessors.get( parametersClass );
+            if ( classAccessors == null )
+            {
+                classAccessors = new ConcurrentHashMap<>();
+
+                final Map<String, Method> existingAccessors = accessors.putIfAbsent( parametersClass, classAccessors );
+                if ( existingAccessors != null )
+                {
+                    classAccessors = existingAccessors;
+                }
+            }
+
+            Method accessor = classAccessors.get( privacySetting );
+            if ( accessor == null )
+            {
+                // Racing lookups resolve the same method, so the last write winning is harmless
+                accessor = parametersClass.getMethod( privacySetting );
+                classAccessors.put( privacySetting, accessor );
+            }
+
+            return accessor;
+        }
+    }
 }
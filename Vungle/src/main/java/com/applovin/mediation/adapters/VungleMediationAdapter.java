@@ -3,6 +3,7 @@ package com.applovin.mediation.adapters;
 import android.app.Activity;
 import android.content.Context;
 import android.os.Bundle;
+import android.os.SystemClock;
 import android.view.Gravity;
 
 import com.applovin.mediation.MaxAdFormat;
@@ -38,7 +39,16 @@ import com.vungle.warren.VungleSettings;
 import com.vungle.warren.error.VungleException;
 
 import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class VungleMediationAdapter
         extends MediationAdapterBase
@@ -81,6 +91,8 @@ public class VungleMediationAdapter
                 {
                     log( "Vungle SDK initialized" );
 
+                    PlacementIndex.refresh();
+
                     status = InitializationStatus.INITIALIZED_SUCCESS;
                     onCompletionListener.onCompletion( status, null );
                 }
@@ -367,15 +379,8 @@ public class VungleMediationAdapter
         }
 
         final PlayAdCallback playAdCallback = new AdViewAdListener( adFormatLabel, listener );
-        final BannerAdConfig adConfig = new BannerAdConfig();
         AdConfig.AdSize adSize = vungleAdSize( adFormat );
-        adConfig.setAdSize( adSize );
-
-        Bundle serverParameters = parameters.getServerParameters();
-        if ( serverParameters.containsKey( "is_muted" ) )
-        {
-            adConfig.setMuted( serverParameters.getBoolean( "is_muted" ) );
-        }
+        final BannerAdConfig adConfig = AdConfigCache.getBannerAdConfigValues( adSize, parameters.getServerParameters() ).newBannerAdConfig();
 
         if ( isBiddingAd )
         {
@@ -461,7 +466,7 @@ public class VungleMediationAdapter
 
     private void loadFullscreenAd(final MaxAdapterResponseParameters parameters, final LoadAdCallback loadAdCallback)
     {
-        AdConfig adConfig = createAdConfig( parameters.getServerParameters() );
+        AdConfig adConfig = AdConfigCache.getAdConfigValues( parameters.getServerParameters() ).newAdConfig();
         String bidResponse = parameters.getBidResponse();
         String placementId = parameters.getThirdPartyAdPlacementId();
 
@@ -477,7 +482,7 @@ public class VungleMediationAdapter
 
     private void showFullscreenAd(final MaxAdapterResponseParameters parameters, final PlayAdCallback adListener)
     {
-        AdConfig adConfig = createAdConfig( parameters.getServerParameters() );
+        AdConfig adConfig = AdConfigCache.getAdConfigValues( parameters.getServerParameters() ).newAdConfig();
         String bidResponse = parameters.getBidResponse();
         String placementId = parameters.getThirdPartyAdPlacementId();
 
@@ -491,31 +496,18 @@ public class VungleMediationAdapter
         }
     }
 
-    private AdConfig createAdConfig(final Bundle serverParameters)
+    private boolean isValidPlacement(final MaxAdapterResponseParameters parameters)
     {
-        final AdConfig config = new AdConfig();
-        if ( serverParameters.containsKey( "ordinal" ) )
-        {
-            config.setOrdinal( serverParameters.getInt( "ordinal" ) );
-        }
+        if ( parameters.isTesting() ) return true;
 
-        if ( serverParameters.containsKey( "immersive_mode" ) )
-        {
-            config.setImmersiveMode( serverParameters.getBoolean( "immersive_mode" ) );
-        }
+        final String placementId = parameters.getThirdPartyAdPlacementId();
+        if ( PlacementIndex.contains( placementId ) ) return true;
 
-        // Overwritten by `mute_state` setting, unless `mute_state` is disabled
-        if ( serverParameters.containsKey( "is_muted" ) ) // Introduced in 9.10.0
-        {
-            config.setMuted( serverParameters.getBoolean( "is_muted" ) );
-        }
+        // Not in the index - confirm with the SDK in case its placements changed since the last refresh
+        final boolean isValid = PlacementIndex.containsRefreshingFromSdk( placementId );
+        log( "Placement " + placementId + " validated with Vungle SDK (" + PlacementIndex.getSdkFallbackCount() + " fallbacks so far)" );
 
-        return config;
-    }
-
-    private boolean isValidPlacement(final MaxAdapterResponseParameters parameters)
-    {
-        return Vungle.getValidPlacements().contains( parameters.getThirdPartyAdPlacementId() ) || parameters.isTesting();
+        return isValid;
     }
 
     private void updateUserPrivacySettings(final MaxAdapterParameters parameters)
@@ -546,8 +538,7 @@ public class VungleMediationAdapter
         try
         {
             // Use reflection because compiled adapters have trouble fetching `boolean` from old SDKs and `Boolean` from new SDKs (above 9.14.0)
-            Class<?> parametersClass = parameters.getClass();
-            Method privacyMethod = parametersClass.getMethod( privacySetting );
+            Method privacyMethod = PrivacySettingAccessors.get( parameters.getClass(), privacySetting );
             return (Boolean) privacyMethod.invoke( parameters );
         }
         catch ( Exception exception )
@@ -921,4 +912,220 @@ public class VungleMediationAdapter
             // Deprecated callback
         }
     }
+
+    /**
+     * updateUserPrivacySettings() reads the consent and do-not-sell settings on every load and signal collection, so the accessors are resolved once
+     * per parameters class and reused across requests.
+     */
+    private static class PrivacySettingAccessors
+    {
+        private static final ConcurrentHashMap<Class<?>, Map<String, Method>> accessors = new ConcurrentHashMap<>();
+
+        static Method get(final Class<?> parametersClass, final String privacySetting) throws NoSuchMethodException
+        {
+            Map<String, Method> classAccessors = accessors.get( parametersClass );
+            if ( classAccessors == null )
+            {
+                classAccessors = new ConcurrentHashMap<>();
+
+                final Map<String, Method> existingAccessors = accessors.putIfAbsent( parametersClass, classAccessors );
+                if ( existingAccessors != null )
+                {
+                    classAccessors = existingAccessors;
+                }
+            }
+
+            Method accessor = classAccessors.get( privacySetting );
+            if ( accessor == null )
+            {
+                // Racing lookups resolve the same method, so the last write winning is harmless
+                accessor = parametersClass.getMethod( privacySetting );
+                classAccessors.put( privacySetting, accessor );
+            }
+
+            return accessor;
+        }
+    }
+
+    /**
+     * Hashed copy of Vungle's valid placements, so load validation does not go through the SDK's placement collection each time. It is refreshed
+     * when the SDK initializes, when it goes stale, and whenever a placement is missing from it but known to the SDK.
+     */
+    private static class PlacementIndex
+    {
+        private static final long REFRESH_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis( 5 );
+
+        private static final AtomicInteger sdkFallbackCount = new AtomicInteger();
+
+        private static volatile Set<String> placementIds = Collections.emptySet();
+        private static volatile long        refreshTimeMillis;
+
+        static void refresh()
+        {
+            final Collection<String> validPlacements = Vungle.getValidPlacements();
+            placementIds = ( validPlacements != null ) ? new HashSet<>( validPlacements ) : Collections.<String>emptySet();
+            refreshTimeMillis = SystemClock.elapsedRealtime();
+        }
+
+        static boolean contains(final String placementId)
+        {
+            if ( SystemClock.elapsedRealtime() - refreshTimeMillis > REFRESH_INTERVAL_MILLIS )
+            {
+                refresh();
+            }
+
+            return placementIds.contains( placementId );
+        }
+
+        static boolean containsRefreshingFromSdk(final String placementId)
+        {
+            sdkFallbackCount.incrementAndGet();
+
+            final Collection<String> validPlacements = Vungle.getValidPlacements();
+            final boolean isValid = validPlacements != null && validPlacements.contains( placementId );
+            if ( isValid )
+            {
+                refresh();
+            }
+
+            return isValid;
+        }
+
+        static int getSdkFallbackCount()
+        {
+            return sdkFallbackCount.get();
+        }
+    }
+
+    /**
+     * Caches the values read from server parameters, so a load and its show - which share an ordinal - and ad view refreshes skip decoding the
+     * bundle into a config again. Only immutable snapshots are cached: the SDK's configs are mutable, so every call builds a fresh one from them.
+     */
+    private static class AdConfigCache
+    {
+        // Enough for the load and show of a few ads in flight - the ordinal changes with every fullscreen ad
+        private static final int MAX_ENTRIES = 8;
+
+        // Whether a boolean server parameter is absent, false or true
+        private static final int UNSET = 0;
+        private static final int FALSE = 1;
+        private static final int TRUE  = 2;
+
+        private static final Map<Long, AdConfigValues> adConfigValues       = new LruMap();
+        private static final Map<Long, AdConfigValues> bannerAdConfigValues = new LruMap();
+
+        static AdConfigValues getAdConfigValues(final Bundle serverParameters)
+        {
+            final boolean hasOrdinal = serverParameters.containsKey( "ordinal" );
+            final int ordinal = hasOrdinal ? serverParameters.getInt( "ordinal" ) : 0;
+            final int immersiveMode = getBooleanState( "immersive_mode", serverParameters );
+            final int isMuted = getBooleanState( "is_muted", serverParameters );
+            final long key = ( (long) ordinal << 8 ) | ( hasOrdinal ? 1 << 4 : 0 ) | ( immersiveMode << 2 ) | isMuted;
+
+            synchronized ( adConfigValues )
+            {
+                AdConfigValues values = adConfigValues.get( key );
+                if ( values == null )
+                {
+                    values = new AdConfigValues( hasOrdinal, ordinal, immersiveMode, isMuted, null );
+                    adConfigValues.put( key, values );
+                }
+
+                return values;
+            }
+        }
+
+        static AdConfigValues getBannerAdConfigValues(final AdConfig.AdSize adSize, final Bundle serverParameters)
+        {
+            final int isMuted = getBooleanState( "is_muted", serverParameters );
+            final long key = ( (long) adSize.ordinal() << 2 ) | isMuted;
+
+            synchronized ( bannerAdConfigValues )
+            {
+                AdConfigValues values = bannerAdConfigValues.get( key );
+                if ( values == null )
+                {
+                    values = new AdConfigValues( false, 0, UNSET, isMuted, adSize );
+                    bannerAdConfigValues.put( key, values );
+                }
+
+                return values;
+            }
+        }
+
+        private static int getBooleanState(final String key, final Bundle serverParameters)
+        {
+            if ( !serverParameters.containsKey( key ) ) return UNSET;
+
+            return serverParameters.getBoolean( key ) ? TRUE : FALSE;
+        }
+
+        private static class AdConfigValues
+        {
+            private final boolean         hasOrdinal;
+            private final int             ordinal;
+            private final int             immersiveMode;
+            private final int             isMuted;
+            private final AdConfig.AdSize adSize;
+
+            AdConfigValues(final boolean hasOrdinal, final int ordinal, final int immersiveMode, final int isMuted, final AdConfig.AdSize adSize)
+            {
+                this.hasOrdinal = hasOrdinal;
+                this.ordinal = ordinal;
+                this.immersiveMode = immersiveMode;
+                this.isMuted = isMuted;
+                this.adSize = adSize;
+            }
+
+            AdConfig newAdConfig()
+            {
+                final AdConfig config = new AdConfig();
+                if ( hasOrdinal )
+                {
+                    config.setOrdinal( ordinal );
+                }
+
+                if ( immersiveMode != UNSET )
+                {
+                    config.setImmersiveMode( immersiveMode == TRUE );
+                }
+
+                // Overwritten by `mute_state` setting, unless `mute_state` is disabled
+                if ( isMuted != UNSET ) // Introduced in 9.10.0
+                {
+                    config.setMuted( isMuted == TRUE );
+                }
+
+                return config;
+            }
+
+            BannerAdConfig newBannerAdConfig()
+            {
+                final BannerAdConfig config = new BannerAdConfig();
+                config.setAdSize( adSize );
+
+                if ( isMuted != UNSET )
+                {
+                    config.setMuted( isMuted == TRUE );
+                }
+
+                return config;
+            }
+        }
+
+        private static class LruMap
+                extends LinkedHashMap<Long, AdConfigValues>
+        {
+            LruMap()
+            {
+                super( MAX_ENTRIES, 0.75f, true );
+            }
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, AdConfigValues> eldest)
+            {
+                return size() > MAX_ENTRIES;
+            }
+        }
+    }
 }